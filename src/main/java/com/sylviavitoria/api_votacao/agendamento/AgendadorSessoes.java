@@ -0,0 +1,274 @@
+package com.sylviavitoria.api_votacao.agendamento;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sylviavitoria.api_votacao.cache.ContagemVotosCache;
+import com.sylviavitoria.api_votacao.cache.RegistroSessoes;
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
+import com.sylviavitoria.api_votacao.cache.VotantesCache;
+import com.sylviavitoria.api_votacao.dto.FinalizacaoSessoesResponse;
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
+import com.sylviavitoria.api_votacao.enums.StatusPauta;
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
+import com.sylviavitoria.api_votacao.interfaces.IPainelAssembleia;
+import com.sylviavitoria.api_votacao.model.Resultado;
+import com.sylviavitoria.api_votacao.model.SessaoVotacao;
+import com.sylviavitoria.api_votacao.repository.ContagemVotosJdbcRepository;
+import com.sylviavitoria.api_votacao.repository.ResultadoRepository;
+import com.sylviavitoria.api_votacao.repository.SessaoVotacaoJdbcRepository;
+import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
+import com.sylviavitoria.api_votacao.transacao.Transacoes;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Agenda as transições de status das sessões (FECHADA → ABERTA na abertura e ABERTA → FINALIZADA
+ * no fechamento) em uma {@link RodaTemporizacao}, avançada por uma thread dedicada. Cada sessão
+ * tem um único prazo vigente; agendar de novo (ex.: {@code atualizarPeriodo}) descarta o anterior.
+ * Na inicialização, as sessões que expiraram com a aplicação parada são finalizadas em lote e a
+ * roda é reconstruída a partir das sessões FECHADA e ABERTA restantes.
+ */
+@Slf4j
+@Component
+public class AgendadorSessoes implements SmartLifecycle {
+
+    private static final long ESPERA_RETENTATIVA_MS = 5_000;
+
+    private final SessaoVotacaoRepository sessaoVotacaoRepository;
+    private final SessaoVotacaoJdbcRepository sessaoVotacaoJdbcRepository;
+    private final ResultadoRepository resultadoRepository;
+    private final ContagemVotosJdbcRepository contagemVotosRepository;
+    private final ContagemVotosCache contagemVotosCache;
+    private final RegistroSessoes registroSessoes;
+    private final VotantesCache votantesCache;
+    private final VersoesPautas versoesPautas;
+    private final IPainelAssembleia painelAssembleia;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean habilitado;
+    private final boolean varreduraInicial;
+    private final int baldes;
+    private final long tickMs;
+    private final long margemFinalizacaoMs;
+
+    private final Queue<Agendamento> recebidos = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean executando;
+    private Thread relogio;
+
+    public AgendadorSessoes(SessaoVotacaoRepository sessaoVotacaoRepository,
+            SessaoVotacaoJdbcRepository sessaoVotacaoJdbcRepository, ResultadoRepository resultadoRepository,
+            ContagemVotosJdbcRepository contagemVotosRepository, ContagemVotosCache contagemVotosCache,
+            RegistroSessoes registroSessoes, VotantesCache votantesCache, VersoesPautas versoesPautas,
+            IPainelAssembleia painelAssembleia, TransactionTemplate transactionTemplate,
+            @Value("${votacao.agendador-sessoes.habilitado:true}") boolean habilitado,
+            @Value("${votacao.agendador-sessoes.varredura-inicial:true}") boolean varreduraInicial,
+            @Value("${votacao.agendador-sessoes.baldes:512}") int baldes,
+            @Value("${votacao.agendador-sessoes.tick-ms:100}") long tickMs,
+            @Value("${votacao.agendador-sessoes.margem-finalizacao-ms:500}") long margemFinalizacaoMs) {
+        this.sessaoVotacaoRepository = sessaoVotacaoRepository;
+        this.sessaoVotacaoJdbcRepository = sessaoVotacaoJdbcRepository;
+        this.resultadoRepository = resultadoRepository;
+        this.contagemVotosRepository = contagemVotosRepository;
+        this.contagemVotosCache = contagemVotosCache;
+        this.registroSessoes = registroSessoes;
+        this.votantesCache = votantesCache;
+        this.versoesPautas = versoesPautas;
+        this.painelAssembleia = painelAssembleia;
+        this.transactionTemplate = transactionTemplate;
+        this.habilitado = habilitado;
+        this.varreduraInicial = varreduraInicial;
+        this.baldes = baldes;
+        this.tickMs = tickMs;
+        this.margemFinalizacaoMs = margemFinalizacaoMs;
+    }
+
+    /**
+     * Agenda a próxima transição da sessão após o commit da transação corrente.
+     */
+    public void agendar(SessaoVotacao sessao) {
+        Long sessaoId = sessao.getId();
+        LocalDateTime proxima = proximaTransicao(sessao);
+        if (proxima == null) {
+            return;
+        }
+        long prazo = prazoMs(sessao, proxima);
+        Transacoes.aposCommit(() -> recebidos.add(new Agendamento(sessaoId, prazo)));
+    }
+
+    /**
+     * Finaliza em lote, com instruções set-based, todas as sessões cujo fechamento já passou,
+     * gravando o resultado de cada pauta em {@code tb_resultados}.
+     */
+    public FinalizacaoSessoesResponse finalizarExpiradas() {
+        LocalDateTime limite = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(margemFinalizacaoMs));
+        long inicio = System.nanoTime();
+        List<Long> pautaIds = transactionTemplate.execute(status -> sessaoVotacaoJdbcRepository.finalizarExpiradas(limite, LocalDateTime.now()));
+        long duracaoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+        int finalizadas = pautaIds != null ? pautaIds.size() : 0;
+        if (finalizadas > 0) {
+            registroSessoes.encerrar(pautaIds);
+            pautaIds.forEach(contagemVotosCache::remover);
+            pautaIds.forEach(votantesCache::remover);
+            versoesPautas.encerrar(pautaIds);
+            painelAssembleia.encerrar(pautaIds);
+        }
+
+        log.info("Finalização em lote: {} sessões expiradas finalizadas em {} ms", finalizadas, duracaoMs);
+        return FinalizacaoSessoesResponse.builder()
+                .sessoesFinalizadas(finalizadas)
+                .limite(limite)
+                .duracaoMs(duracaoMs)
+                .build();
+    }
+
+    @Override
+    public void start() {
+        if (varreduraInicial) {
+            try {
+                finalizarExpiradas();
+            } catch (RuntimeException e) {
+                log.error("Erro na finalização em lote de sessões expiradas: {}", e.getMessage());
+            }
+        }
+        if (!habilitado) {
+            return;
+        }
+        List<SessaoVotacao> pendentes = new ArrayList<>(sessaoVotacaoRepository.findByStatus(StatusSessao.FECHADA));
+        pendentes.addAll(sessaoVotacaoRepository.findByStatus(StatusSessao.ABERTA));
+        pendentes.forEach(this::agendar);
+
+        executando = true;
+        relogio = new Thread(this::executar, "sessoes-agendador");
+        relogio.setDaemon(true);
+        relogio.start();
+        log.info("Agendador de sessões iniciado com {} sessões pendentes", pendentes.size());
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+        if (relogio == null) {
+            return;
+        }
+        LockSupport.unpark(relogio);
+        try {
+            relogio.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        relogio = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return relogio != null;
+    }
+
+    void executar() {
+        RodaTemporizacao<Agendamento> roda = new RodaTemporizacao<>(baldes, tickMs, System.currentTimeMillis());
+        Map<Long, Long> vigentes = new HashMap<>();
+        List<Agendamento> vencidos = new ArrayList<>();
+
+        while (executando) {
+            Agendamento recebido;
+            while ((recebido = recebidos.poll()) != null) {
+                vigentes.put(recebido.sessaoId(), recebido.prazoMs());
+                roda.agendar(recebido.prazoMs(), recebido);
+            }
+
+            roda.avancar(System.currentTimeMillis(), vencidos::add);
+            for (Agendamento vencido : vencidos) {
+                if (vigentes.remove(vencido.sessaoId(), vencido.prazoMs())) {
+                    atualizarStatus(vencido.sessaoId());
+                }
+            }
+            vencidos.clear();
+
+            long espera = roda.proximoTickMs() - System.currentTimeMillis();
+            if (espera > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(espera));
+            }
+        }
+    }
+
+    void atualizarStatus(Long sessaoId) {
+        try {
+            SessaoVotacao proxima = transactionTemplate.execute(status -> sessaoVotacaoRepository.buscarTravada(sessaoId)
+                    .filter(sessao -> sessao.getStatus() != StatusSessao.FINALIZADA)
+                    .map(this::aplicarTransicao)
+                    .orElse(null));
+            if (proxima != null) {
+                agendar(proxima);
+            }
+        } catch (RuntimeException e) {
+            log.error("Erro ao atualizar status da sessão ID: {}: {}", sessaoId, e.getMessage());
+            recebidos.add(new Agendamento(sessaoId, System.currentTimeMillis() + ESPERA_RETENTATIVA_MS));
+        }
+    }
+
+    private SessaoVotacao aplicarTransicao(SessaoVotacao sessao) {
+        LocalDateTime agora = LocalDateTime.now();
+        versoesPautas.alterar(sessao.getPauta().getId());
+
+        if (agora.isAfter(sessao.getDataFechamento().plusNanos(TimeUnit.MILLISECONDS.toNanos(margemFinalizacaoMs)))) {
+            // Mesma soma dos contadores que a finalização em lote usa, lida nesta transação.
+            VotacaoResumoDTO resumo = contagemVotosRepository.contabilizarVotosPorPauta(sessao.getPauta().getId());
+            long votosSim = resumo.getTotalVotosSim();
+            long votosNao = resumo.getTotalVotosNao();
+
+            sessao.setStatus(StatusSessao.FINALIZADA);
+            sessao.getPauta().setStatus(StatusPauta.resultado(votosSim, votosNao));
+            resultadoRepository.save(Resultado.de(sessao.getPauta(), votosSim, votosNao, agora));
+            registroSessoes.encerrar(List.of(sessao.getPauta().getId()));
+            contagemVotosCache.remover(sessao.getPauta().getId());
+            votantesCache.remover(sessao.getPauta().getId());
+            versoesPautas.encerrar(List.of(sessao.getPauta().getId()));
+            painelAssembleia.encerrar(List.of(sessao.getPauta().getId()));
+            log.info("Sessão ID: {} finalizada. Resultado da votação - SIM: {}, NÃO: {}, Status: {}",
+                    sessao.getId(), votosSim, votosNao, sessao.getPauta().getStatus());
+            return null;
+        }
+
+        if (!agora.isBefore(sessao.getDataAbertura()) && sessao.getStatus() != StatusSessao.ABERTA) {
+            sessao.setStatus(StatusSessao.ABERTA);
+            sessao.getPauta().setStatus(StatusPauta.EM_VOTACAO);
+            log.info("Sessão ID: {} aberta", sessao.getId());
+        }
+        return sessao;
+    }
+
+    private LocalDateTime proximaTransicao(SessaoVotacao sessao) {
+        if (sessao.getStatus() == StatusSessao.FINALIZADA) {
+            return null;
+        }
+        if (sessao.getStatus() == StatusSessao.FECHADA && LocalDateTime.now().isBefore(sessao.getDataAbertura())) {
+            return sessao.getDataAbertura();
+        }
+        return sessao.getDataFechamento();
+    }
+
+    private long prazoMs(SessaoVotacao sessao, LocalDateTime transicao) {
+        long prazo = transicao.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                + (transicao.getNano() % 1_000_000 != 0 ? 1 : 0);
+        // A finalização exige agora > fechamento (+ margem para gravações em andamento).
+        return transicao.equals(sessao.getDataFechamento()) ? prazo + margemFinalizacaoMs + 1 : prazo;
+    }
+
+    private record Agendamento(Long sessaoId, long prazoMs) {
+    }
+}
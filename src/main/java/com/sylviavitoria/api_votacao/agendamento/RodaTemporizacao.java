@@ -0,0 +1,74 @@
+package com.sylviavitoria.api_votacao.agendamento;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Roda de temporização com hash (hashed timing wheel): o tempo é dividido em ticks de duração fixa
+ * e cada item vai para o balde {@code tick % baldes}, então agendar e avançar custam O(1) por item
+ * independentemente de quantos estão agendados. Itens nunca disparam antes do prazo e disparam no
+ * máximo um tick depois. Não é thread-safe: deve ser usada por uma única thread.
+ */
+public final class RodaTemporizacao<T> {
+
+    private final List<Entrada<T>>[] baldes;
+    private final int mascara;
+    private final long duracaoTickMs;
+    private final long inicioMs;
+    private long tick;
+    private int tamanho;
+
+    @SuppressWarnings("unchecked")
+    public RodaTemporizacao(int quantidadeBaldes, long duracaoTickMs, long inicioMs) {
+        if (Integer.bitCount(quantidadeBaldes) != 1) {
+            throw new IllegalArgumentException("Quantidade de baldes deve ser potência de 2: " + quantidadeBaldes);
+        }
+        if (duracaoTickMs <= 0) {
+            throw new IllegalArgumentException("Duração do tick deve ser positiva: " + duracaoTickMs);
+        }
+        this.baldes = new List[quantidadeBaldes];
+        for (int i = 0; i < quantidadeBaldes; i++) {
+            baldes[i] = new ArrayList<>();
+        }
+        this.mascara = quantidadeBaldes - 1;
+        this.duracaoTickMs = duracaoTickMs;
+        this.inicioMs = inicioMs;
+    }
+
+    public void agendar(long prazoMs, T item) {
+        long tickPrazo = Math.max(Math.ceilDiv(prazoMs - inicioMs, duracaoTickMs), tick);
+        baldes[(int) (tickPrazo & mascara)].add(new Entrada<>(tickPrazo, item));
+        tamanho++;
+    }
+
+    /**
+     * Processa todos os ticks iniciados até {@code agoraMs}, entregando os itens vencidos.
+     */
+    public void avancar(long agoraMs, Consumer<T> vencidos) {
+        while (inicioMs + tick * duracaoTickMs <= agoraMs) {
+            Iterator<Entrada<T>> entradas = baldes[(int) (tick & mascara)].iterator();
+            while (entradas.hasNext()) {
+                Entrada<T> entrada = entradas.next();
+                if (entrada.tick() <= tick) {
+                    entradas.remove();
+                    tamanho--;
+                    vencidos.accept(entrada.item());
+                }
+            }
+            tick++;
+        }
+    }
+
+    public long proximoTickMs() {
+        return inicioMs + tick * duracaoTickMs;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    private record Entrada<T>(long tick, T item) {
+    }
+}
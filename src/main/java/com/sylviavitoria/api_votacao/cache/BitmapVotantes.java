@@ -0,0 +1,142 @@
+package com.sylviavitoria.api_votacao.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conjunto compacto de IDs de associados no formato do Roaring Bitmap: o ID é dividido em
+ * uma chave alta (bits 16+) e uma parte baixa de 16 bits. Cada chave alta aponta para um bloco
+ * que guarda as partes baixas em um array ordenado enquanto é esparso (até 4096 valores) e em
+ * um bitmap de 65536 bits quando fica denso.
+ */
+public class BitmapVotantes {
+
+    private static final int LIMITE_ARRAY = 4096;
+
+    private final Map<Long, Bloco> blocos = new ConcurrentHashMap<>();
+
+    public boolean contem(long associadoId) {
+        Bloco bloco = blocos.get(associadoId >>> 16);
+        return bloco != null && bloco.contem(baixo(associadoId));
+    }
+
+    public boolean adicionar(long associadoId) {
+        return blocos.computeIfAbsent(associadoId >>> 16, chave -> new Bloco()).adicionar(baixo(associadoId));
+    }
+
+    public boolean remover(long associadoId) {
+        Bloco bloco = blocos.get(associadoId >>> 16);
+        return bloco != null && bloco.remover(baixo(associadoId));
+    }
+
+    public long tamanho() {
+        return blocos.values().stream().mapToLong(Bloco::tamanho).sum();
+    }
+
+    public long bytesEstimados() {
+        return blocos.values().stream().mapToLong(Bloco::bytesEstimados).sum();
+    }
+
+    private static char baixo(long associadoId) {
+        return (char) (associadoId & 0xFFFF);
+    }
+
+    private static final class Bloco {
+        private char[] valores = new char[4];
+        private long[] bits;
+        private int tamanho;
+
+        synchronized boolean contem(char valor) {
+            if (bits != null) {
+                return (bits[valor >>> 6] & (1L << valor)) != 0;
+            }
+            return Arrays.binarySearch(valores, 0, tamanho, valor) >= 0;
+        }
+
+        synchronized boolean adicionar(char valor) {
+            if (bits != null) {
+                long anterior = bits[valor >>> 6];
+                bits[valor >>> 6] = anterior | (1L << valor);
+                if (anterior == bits[valor >>> 6]) {
+                    return false;
+                }
+                tamanho++;
+                return true;
+            }
+
+            int posicao = Arrays.binarySearch(valores, 0, tamanho, valor);
+            if (posicao >= 0) {
+                return false;
+            }
+            if (tamanho >= LIMITE_ARRAY) {
+                converterParaBitmap();
+                return adicionar(valor);
+            }
+
+            posicao = -posicao - 1;
+            if (tamanho == valores.length) {
+                valores = Arrays.copyOf(valores, Math.min(valores.length * 2, LIMITE_ARRAY));
+            }
+            System.arraycopy(valores, posicao, valores, posicao + 1, tamanho - posicao);
+            valores[posicao] = valor;
+            tamanho++;
+            return true;
+        }
+
+        synchronized boolean remover(char valor) {
+            if (bits != null) {
+                long anterior = bits[valor >>> 6];
+                bits[valor >>> 6] = anterior & ~(1L << valor);
+                if (anterior == bits[valor >>> 6]) {
+                    return false;
+                }
+                tamanho--;
+                if (tamanho <= LIMITE_ARRAY / 2) {
+                    converterParaArray();
+                }
+                return true;
+            }
+
+            int posicao = Arrays.binarySearch(valores, 0, tamanho, valor);
+            if (posicao < 0) {
+                return false;
+            }
+            System.arraycopy(valores, posicao + 1, valores, posicao, tamanho - posicao - 1);
+            tamanho--;
+            return true;
+        }
+
+        synchronized int tamanho() {
+            return tamanho;
+        }
+
+        synchronized long bytesEstimados() {
+            return bits != null ? bits.length * 8L : valores.length * 2L;
+        }
+
+        private void converterParaBitmap() {
+            bits = new long[1024];
+            for (int i = 0; i < tamanho; i++) {
+                char valor = valores[i];
+                bits[valor >>> 6] |= 1L << valor;
+            }
+            valores = null;
+        }
+
+        private void converterParaArray() {
+            char[] novos = new char[Math.max(tamanho, 4)];
+            int posicao = 0;
+            for (int palavra = 0; palavra < bits.length; palavra++) {
+                long restante = bits[palavra];
+                while (restante != 0) {
+                    int bit = Long.numberOfTrailingZeros(restante);
+                    novos[posicao++] = (char) ((palavra << 6) | bit);
+                    restante &= restante - 1;
+                }
+            }
+            valores = novos;
+            bits = null;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.sylviavitoria.api_votacao.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.repository.ContagemVotosJdbcRepository;
+import com.sylviavitoria.api_votacao.transacao.Transacoes;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Placar de votos SIM/NAO por pauta, lido de {@code tb_votos_contagem}. As alterações gravadas nos
+ * contadores pela {@link com.sylviavitoria.api_votacao.ingestao.ApuracaoVotos} só são aplicadas ao
+ * placar em memória após o commit. O placar usa {@link LongAdder} (striped) para que votos
+ * simultâneos na mesma pauta não disputem a mesma linha de cache. Só ficam em memória as pautas com sessão agendada ou aberta; as
+ * demais são lidas do banco a cada consulta e o placar é descartado quando a sessão é finalizada.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContagemVotosCache {
+
+    private final ContagemVotosJdbcRepository contagemVotosRepository;
+    private final RegistroSessoes registroSessoes;
+    private final VersoesPautas versoesPautas;
+
+    private final Map<Long, Placar> placares = new ConcurrentHashMap<>();
+    private final Map<Long, VotacaoResumoDTO> divergencias = new ConcurrentHashMap<>();
+
+    public VotacaoResumoDTO obter(Long pautaId) {
+        if (pautaId == null) {
+            return new VotacaoResumoDTO(0L, 0L);
+        }
+        Placar placar = placares.get(pautaId);
+        if (placar != null) {
+            return placar.resumo();
+        }
+        if (registroSessoes.janela(pautaId) == null) {
+            return contagemVotosRepository.contabilizarVotosPorPauta(pautaId);
+        }
+        return placares.computeIfAbsent(pautaId, this::carregar).resumo();
+    }
+
+    /**
+     * Totais de várias pautas; as que ainda não estão em memória são lidas em uma única consulta.
+     */
+    public Map<Long, VotacaoResumoDTO> obterTodos(Collection<Long> pautaIds) {
+        Map<Long, VotacaoResumoDTO> totais = new HashMap<>();
+        List<Long> ausentes = new ArrayList<>();
+        for (Long pautaId : pautaIds) {
+            Placar placar = placares.get(pautaId);
+            if (placar != null) {
+                totais.put(pautaId, placar.resumo());
+            } else {
+                ausentes.add(pautaId);
+            }
+        }
+        if (ausentes.isEmpty()) {
+            return totais;
+        }
+
+        Map<Long, VotacaoResumoDTO> banco = contagemVotosRepository.contabilizarVotosPorPautas(ausentes);
+        for (Long pautaId : ausentes) {
+            Placar carregado = Placar.de(banco.get(pautaId));
+            Placar placar = registroSessoes.janela(pautaId) != null
+                    ? placares.computeIfAbsent(pautaId, id -> carregado)
+                    : carregado;
+            totais.put(pautaId, placar.resumo());
+        }
+        return totais;
+    }
+
+    public long obterVotosSim(Long pautaId) {
+        return obter(pautaId).getTotalVotosSim();
+    }
+
+    public long obterVotosNao(Long pautaId) {
+        return obter(pautaId).getTotalVotosNao();
+    }
+
+    public void inicializar(Long pautaId) {
+        placares.put(pautaId, carregar(pautaId));
+        divergencias.remove(pautaId);
+    }
+
+    public void registrar(Long pautaId, OpcaoVoto opcao) {
+        Transacoes.aposCommit(() -> aplicar(pautaId, placar -> placar.incrementar(opcao)));
+        versoesPautas.alterar(pautaId);
+    }
+
+    public void adicionar(Long pautaId, long votosSim, long votosNao) {
+        Transacoes.aposCommit(() -> aplicar(pautaId, placar -> {
+            placar.sim.add(votosSim);
+            placar.nao.add(votosNao);
+        }));
+        versoesPautas.alterar(pautaId);
+    }
+
+    /**
+     * Descarta o placar após o commit da transação corrente (sessão finalizada ou pauta excluída).
+     */
+    public void remover(Long pautaId) {
+        Transacoes.aposCommit(() -> {
+            placares.remove(pautaId);
+            divergencias.remove(pautaId);
+        });
+    }
+
+    public int tamanho() {
+        return placares.size();
+    }
+
+    @Scheduled(fixedDelayString = "${votacao.apuracao.verificacao-consistencia-ms:60000}",
+            initialDelayString = "${votacao.apuracao.verificacao-consistencia-ms:60000}")
+    public void verificarConsistencia() {
+        placares.forEach((pautaId, placar) -> {
+            if (registroSessoes.janela(pautaId) == null) {
+                // Sessão finalizada ou pauta excluída: o placar não é mais consultado.
+                placares.remove(pautaId, placar);
+                divergencias.remove(pautaId);
+                return;
+            }
+            VotacaoResumoDTO antes = placar.resumo();
+            VotacaoResumoDTO banco = contagemVotosRepository.contabilizarVotosPorPauta(pautaId);
+            VotacaoResumoDTO depois = placar.resumo();
+
+            if (!iguais(antes, depois)) {
+                return;
+            }
+            if (iguais(antes, banco)) {
+                divergencias.remove(pautaId);
+                return;
+            }
+
+            VotacaoResumoDTO anterior = divergencias.put(pautaId, antes);
+            if (anterior != null && iguais(anterior, antes)) {
+                log.warn("Contagem em memória divergente para pauta ID: {} - memória SIM: {}, NÃO: {} / banco SIM: {}, NÃO: {}",
+                        pautaId, antes.getTotalVotosSim(), antes.getTotalVotosNao(),
+                        banco.getTotalVotosSim(), banco.getTotalVotosNao());
+                placares.replace(pautaId, placar, Placar.de(banco));
+                divergencias.remove(pautaId);
+                versoesPautas.alterar(pautaId);
+            }
+        });
+    }
+
+    /**
+     * Aplica a alteração ao placar em memória. {@code computeIfPresent} espera uma carga em andamento
+     * da mesma pauta terminar, em vez de descartar a alteração como faria um {@code get}; sem placar,
+     * a próxima carga já lê o valor confirmado no banco.
+     */
+    private void aplicar(Long pautaId, Consumer<Placar> alteracao) {
+        placares.computeIfPresent(pautaId, (id, placar) -> {
+            alteracao.accept(placar);
+            return placar;
+        });
+    }
+
+    private Placar carregar(Long pautaId) {
+        return Placar.de(contagemVotosRepository.contabilizarVotosPorPauta(pautaId));
+    }
+
+    private static boolean iguais(VotacaoResumoDTO a, VotacaoResumoDTO b) {
+        return a.getTotalVotosSim().equals(b.getTotalVotosSim())
+                && a.getTotalVotosNao().equals(b.getTotalVotosNao());
+    }
+
+    private static final class Placar {
+        private final LongAdder sim = new LongAdder();
+        private final LongAdder nao = new LongAdder();
+
+        static Placar de(VotacaoResumoDTO resumo) {
+            Placar placar = new Placar();
+            if (resumo != null) {
+                placar.sim.add(resumo.getTotalVotosSim() != null ? resumo.getTotalVotosSim() : 0L);
+                placar.nao.add(resumo.getTotalVotosNao() != null ? resumo.getTotalVotosNao() : 0L);
+            }
+            return placar;
+        }
+
+        void incrementar(OpcaoVoto opcao) {
+            (opcao == OpcaoVoto.SIM ? sim : nao).increment();
+        }
+
+        VotacaoResumoDTO resumo() {
+            return new VotacaoResumoDTO(sim.sum(), nao.sum());
+        }
+    }
+}
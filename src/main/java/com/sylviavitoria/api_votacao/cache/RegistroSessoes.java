@@ -0,0 +1,343 @@
+package com.sylviavitoria.api_votacao.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
+import com.sylviavitoria.api_votacao.exception.BusinessException;
+import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
+import com.sylviavitoria.api_votacao.model.SessaoVotacao;
+import com.sylviavitoria.api_votacao.repository.PautaRepository;
+import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
+import com.sylviavitoria.api_votacao.transacao.Transacoes;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Registro em memória das janelas de votação das sessões agendadas ou abertas, com chaves
+ * {@code long} e abertura e fechamento em epoch millis. A tabela é imutável (endereçamento aberto)
+ * e substituída a cada escrita, então a verificação da janela no registro do voto não usa lock nem
+ * consulta o banco. Sessões finalizadas saem da tabela; elas e as pautas sem sessão ficam em um
+ * cache negativo limitado, para que consultas repetidas a essas pautas também não vão ao banco.
+ * Janelas e entradas negativas valem por {@code votacao.registro-sessoes.validade-ms} e depois são
+ * relidas do banco, para enxergar sessões abertas, alteradas ou finalizadas por outra instância.
+ */
+@Component
+@RequiredArgsConstructor
+public class RegistroSessoes {
+
+    /** Ao atingir o limite o cache negativo é esvaziado; as pautas voltam a ser consultadas no banco. */
+    static final int MAXIMO_INATIVAS = 65_536;
+
+    private final SessaoVotacaoRepository sessaoVotacaoRepository;
+    private final PautaRepository pautaRepository;
+
+    @Value("${votacao.registro-sessoes.validade-ms:5000}")
+    private long validadeMs = 5_000;
+
+    private final Object escrita = new Object();
+    private volatile Tabela tabela = Tabela.VAZIA;
+    private final Map<Long, Inativa> inativas = new ConcurrentHashMap<>();
+    private long geracao;
+
+    /**
+     * Indica se a pauta tem sessão, ativa ou já finalizada.
+     */
+    public boolean existe(long pautaId) {
+        return situacao(pautaId) != Situacao.SEM_SESSAO;
+    }
+
+    /**
+     * Indica se a sessão da pauta já foi finalizada, isto é, se o resultado já está em
+     * {@code tb_resultados} (gravado na mesma transação que finaliza a sessão).
+     */
+    public boolean encerrada(long pautaId) {
+        return situacao(pautaId) == Situacao.ENCERRADA;
+    }
+
+    public boolean estaAberta(long pautaId) {
+        return estaAberta(pautaId, System.currentTimeMillis());
+    }
+
+    public boolean estaAberta(long pautaId, long agora) {
+        Tabela atual = comJanela(pautaId);
+        return atual != null && atual.aberta(atual.posicao(pautaId), agora);
+    }
+
+    /**
+     * Janela de votação da pauta em epoch millis, ou {@code null} se a pauta não tiver sessão
+     * agendada ou aberta.
+     */
+    public Janela janela(long pautaId) {
+        Tabela atual = comJanela(pautaId);
+        if (atual == null) {
+            return null;
+        }
+        int posicao = atual.posicao(pautaId);
+        return new Janela(atual.aberturas[posicao], atual.fechamentos[posicao]);
+    }
+
+    /**
+     * Quantidade de pautas com janela carregada em memória.
+     */
+    public int tamanho() {
+        return tabela.tamanho;
+    }
+
+    public void verificarAberta(long pautaId) {
+        if (estaAberta(pautaId)) {
+            return;
+        }
+        if (existe(pautaId)) {
+            throw new BusinessException("Sessão de votação não está aberta");
+        }
+        if (!pautaRepository.existsById(pautaId)) {
+            throw new EntityNotFoundException("Pauta não encontrada");
+        }
+        throw new BusinessException("Não existe sessão de votação para esta pauta");
+    }
+
+    public void registrar(SessaoVotacao sessao) {
+        long pautaId = sessao.getPauta().getId();
+        long abertura = paraEpochMilli(sessao.getDataAbertura());
+        long fechamento = paraEpochMilli(sessao.getDataFechamento());
+        Transacoes.aposCommit(() -> {
+            synchronized (escrita) {
+                geracao++;
+                tabela = tabela.com(pautaId, abertura, fechamento, System.currentTimeMillis() + validadeMs);
+                inativas.remove(pautaId);
+            }
+        });
+    }
+
+    /**
+     * Retira da tabela as sessões finalizadas, após o commit da finalização.
+     */
+    public void encerrar(Collection<Long> pautaIds) {
+        if (pautaIds.isEmpty()) {
+            return;
+        }
+        Set<Long> encerradas = new HashSet<>(pautaIds);
+        Transacoes.aposCommit(() -> {
+            synchronized (escrita) {
+                geracao++;
+                tabela = tabela.sem(encerradas);
+                encerradas.forEach(pautaId -> marcarInativa(pautaId, Situacao.ENCERRADA));
+            }
+        });
+    }
+
+    /**
+     * Esquece a pauta (ex.: pauta excluída); a próxima consulta vai ao banco.
+     */
+    public void remover(long pautaId) {
+        Transacoes.aposCommit(() -> {
+            synchronized (escrita) {
+                geracao++;
+                tabela = tabela.sem(Set.of(pautaId));
+                inativas.remove(pautaId);
+            }
+        });
+    }
+
+    private Situacao situacao(long pautaId) {
+        Tabela atual = tabela;
+        int posicao = atual.posicao(pautaId);
+        if (posicao >= 0 && atual.valida(posicao, System.currentTimeMillis())) {
+            return Situacao.ATIVA;
+        }
+        Situacao inativa = posicao < 0 ? inativa(pautaId) : null;
+        return inativa != null ? inativa : carregar(pautaId).situacao();
+    }
+
+    /**
+     * Tabela com a janela válida da pauta, relida do banco se ausente ou vencida, ou {@code null}
+     * se a pauta não tiver sessão agendada ou aberta.
+     */
+    private Tabela comJanela(long pautaId) {
+        Tabela atual = tabela;
+        int posicao = atual.posicao(pautaId);
+        if (posicao >= 0 && atual.valida(posicao, System.currentTimeMillis())) {
+            return atual;
+        }
+        if (posicao < 0 && inativa(pautaId) != null) {
+            return null;
+        }
+        atual = carregar(pautaId).tabela();
+        return atual.posicao(pautaId) >= 0 ? atual : null;
+    }
+
+    private Situacao inativa(long pautaId) {
+        Inativa inativa = inativas.get(pautaId);
+        if (inativa == null) {
+            return null;
+        }
+        if (inativa.validade() <= System.currentTimeMillis()) {
+            inativas.remove(pautaId, inativa);
+            return null;
+        }
+        return inativa.situacao();
+    }
+
+    private Carga carregar(long pautaId) {
+        long geracaoLida;
+        synchronized (escrita) {
+            geracaoLida = geracao;
+        }
+
+        Optional<SessaoVotacao> sessao = sessaoVotacaoRepository.findByPautaId(pautaId);
+        if (sessao.isEmpty() || sessao.get().getStatus() == StatusSessao.FINALIZADA) {
+            Situacao situacao = sessao.isEmpty() ? Situacao.SEM_SESSAO : Situacao.ENCERRADA;
+            synchronized (escrita) {
+                if (geracao == geracaoLida) {
+                    // A janela pode ter vencido na tabela depois de finalizada em outra instância.
+                    tabela = tabela.sem(Set.of(pautaId));
+                    marcarInativa(pautaId, situacao);
+                }
+            }
+            return new Carga(Tabela.VAZIA, situacao);
+        }
+        long abertura = paraEpochMilli(sessao.get().getDataAbertura());
+        long fechamento = paraEpochMilli(sessao.get().getDataFechamento());
+        long validade = System.currentTimeMillis() + validadeMs;
+
+        synchronized (escrita) {
+            if (geracao == geracaoLida) {
+                tabela = tabela.com(pautaId, abertura, fechamento, validade);
+                return new Carga(tabela, Situacao.ATIVA);
+            }
+        }
+        return new Carga(Tabela.VAZIA.com(pautaId, abertura, fechamento, validade), Situacao.ATIVA);
+    }
+
+    private void marcarInativa(long pautaId, Situacao situacao) {
+        if (inativas.size() >= MAXIMO_INATIVAS) {
+            inativas.clear();
+        }
+        inativas.put(pautaId, new Inativa(situacao, System.currentTimeMillis() + validadeMs));
+    }
+
+    private static long paraEpochMilli(LocalDateTime dataHora) {
+        return dataHora.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private enum Situacao {
+        ATIVA, ENCERRADA, SEM_SESSAO
+    }
+
+    private record Carga(Tabela tabela, Situacao situacao) {
+    }
+
+    private record Inativa(Situacao situacao, long validade) {
+    }
+
+    public record Janela(long abertura, long fechamento) {
+    }
+
+    private static final class Tabela {
+        private static final int CAPACIDADE_MINIMA = 16;
+        private static final Tabela VAZIA = new Tabela(CAPACIDADE_MINIMA);
+
+        private final long[] chaves;
+        private final long[] aberturas;
+        private final long[] fechamentos;
+        private final long[] validades;
+        private int tamanho;
+
+        private Tabela(int capacidade) {
+            chaves = new long[capacidade];
+            aberturas = new long[capacidade];
+            fechamentos = new long[capacidade];
+            validades = new long[capacidade];
+        }
+
+        int posicao(long chave) {
+            if (chave == 0) {
+                return -1;
+            }
+            int mascara = chaves.length - 1;
+            for (int i = espalhar(chave) & mascara; chaves[i] != 0; i = (i + 1) & mascara) {
+                if (chaves[i] == chave) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        boolean aberta(int posicao, long agora) {
+            return agora >= aberturas[posicao] && agora <= fechamentos[posicao];
+        }
+
+        boolean valida(int posicao, long agora) {
+            return agora < validades[posicao];
+        }
+
+        Tabela com(long chave, long abertura, long fechamento, long validade) {
+            if (chave == 0) {
+                return this;
+            }
+            Tabela nova = new Tabela(capacidadePara(tamanho + 1));
+            copiarPara(nova, chave);
+            nova.inserir(chave, abertura, fechamento, validade);
+            return nova;
+        }
+
+        Tabela sem(Set<Long> removidas) {
+            int presentes = 0;
+            for (Long chave : removidas) {
+                if (posicao(chave) >= 0) {
+                    presentes++;
+                }
+            }
+            if (presentes == 0) {
+                return this;
+            }
+            Tabela nova = new Tabela(capacidadePara(tamanho - presentes));
+            for (int i = 0; i < chaves.length; i++) {
+                if (chaves[i] != 0 && !removidas.contains(chaves[i])) {
+                    nova.inserir(chaves[i], aberturas[i], fechamentos[i], validades[i]);
+                }
+            }
+            return nova;
+        }
+
+        private void copiarPara(Tabela nova, long ignorada) {
+            for (int i = 0; i < chaves.length; i++) {
+                if (chaves[i] != 0 && chaves[i] != ignorada) {
+                    nova.inserir(chaves[i], aberturas[i], fechamentos[i], validades[i]);
+                }
+            }
+        }
+
+        private void inserir(long chave, long abertura, long fechamento, long validade) {
+            int mascara = chaves.length - 1;
+            int i = espalhar(chave) & mascara;
+            while (chaves[i] != 0) {
+                i = (i + 1) & mascara;
+            }
+            chaves[i] = chave;
+            aberturas[i] = abertura;
+            fechamentos[i] = fechamento;
+            validades[i] = validade;
+            tamanho++;
+        }
+
+        private static int capacidadePara(int tamanho) {
+            return Math.max(CAPACIDADE_MINIMA, Integer.highestOneBit(Math.max(tamanho, 1) * 2) * 2);
+        }
+
+        private static int espalhar(long chave) {
+            long h = chave * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.sylviavitoria.api_votacao.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.sylviavitoria.api_votacao.transacao.Transacoes;
+
+/**
+ * Versão em memória de cada pauta, usada como ETag nas consultas de pauta e de resultado. A versão
+ * é incrementada após o commit de toda escrita que altera essas respostas e combinada com a fase da
+ * sessão no momento da leitura, já que o status exibido muda com o horário sem nenhuma escrita. Só
+ * as pautas com sessão agendada ou aberta têm versão própria; as demais mudam raramente e usam a
+ * versão geral. O identificador da instância invalida as ETags emitidas antes de um reinício.
+ */
+@Component
+public class VersoesPautas {
+
+    private final RegistroSessoes registroSessoes;
+    private final long margemFinalizacaoMs;
+    private final long maxAgeAoVivoSegundos;
+    private final long maxAgeEncerradaSegundos;
+
+    private final String instancia = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong geral = new AtomicLong();
+    private final Map<Long, AtomicLong> versoes = new ConcurrentHashMap<>();
+
+    public VersoesPautas(RegistroSessoes registroSessoes,
+            @Value("${votacao.agendador-sessoes.margem-finalizacao-ms:500}") long margemFinalizacaoMs,
+            @Value("${votacao.cache-http.max-age-ao-vivo-segundos:1}") long maxAgeAoVivoSegundos,
+            @Value("${votacao.cache-http.max-age-encerrada-segundos:86400}") long maxAgeEncerradaSegundos) {
+        this.registroSessoes = registroSessoes;
+        this.margemFinalizacaoMs = margemFinalizacaoMs;
+        this.maxAgeAoVivoSegundos = maxAgeAoVivoSegundos;
+        this.maxAgeEncerradaSegundos = maxAgeEncerradaSegundos;
+    }
+
+    /**
+     * ETag e validade das respostas da pauta agora. Só consulta o banco quando a pauta ainda não
+     * está no {@link RegistroSessoes} (nem como pauta sem sessão ativa).
+     */
+    public Versao obter(long pautaId) {
+        long agora = System.currentTimeMillis();
+        RegistroSessoes.Janela janela = registroSessoes.janela(pautaId);
+
+        Fase fase;
+        long proximaTransicao;
+        boolean finalizada = false;
+        if (janela == null) {
+            finalizada = registroSessoes.encerrada(pautaId);
+            fase = finalizada ? Fase.ENCERRADA : Fase.SEM_SESSAO;
+            proximaTransicao = agora;
+        } else if (agora < janela.abertura()) {
+            fase = Fase.AGENDADA;
+            proximaTransicao = janela.abertura();
+        } else if (agora <= janela.fechamento()) {
+            fase = Fase.ABERTA;
+            proximaTransicao = janela.fechamento() + 1;
+        } else if (agora <= janela.fechamento() + margemFinalizacaoMs) {
+            // Votos aceitos até o fechamento ainda podem estar sendo gravados.
+            fase = Fase.APURANDO;
+            proximaTransicao = janela.fechamento() + margemFinalizacaoMs + 1;
+        } else {
+            // Fechada, mas o resultado ainda não foi gravado pelo agendador.
+            fase = Fase.ENCERRADA;
+            proximaTransicao = agora;
+        }
+
+        AtomicLong versao = versoes.get(pautaId);
+        String etag = "\"" + instancia + "-" + geral.get() + "-" + (versao != null ? versao.get() : 0)
+                + "-" + fase.ordinal() + "\"";
+
+        if (finalizada) {
+            return new Versao(etag, maxAgeEncerradaSegundos, true);
+        }
+        long ateTransicao = TimeUnit.MILLISECONDS.toSeconds(proximaTransicao - agora);
+        return new Versao(etag, Math.min(maxAgeAoVivoSegundos, ateTransicao), false);
+    }
+
+    /**
+     * Invalida as ETags da pauta após o commit da transação corrente. Pautas sem sessão agendada ou
+     * aberta não ganham versão própria: a alteração invalida as ETags de todas.
+     */
+    public void alterar(long pautaId) {
+        Transacoes.aposCommit(() -> {
+            if (registroSessoes.janela(pautaId) != null) {
+                versoes.computeIfAbsent(pautaId, id -> new AtomicLong()).incrementAndGet();
+            } else {
+                geral.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Invalida as ETags de todas as pautas após o commit (ex.: finalização em lote).
+     */
+    public void alterarTodas() {
+        Transacoes.aposCommit(geral::incrementAndGet);
+    }
+
+    /**
+     * Descarta a versão das pautas cujas sessões foram finalizadas, após o commit. A versão geral é
+     * incrementada para que nenhuma ETag emitida antes da finalização continue válida.
+     */
+    public void encerrar(Collection<Long> pautaIds) {
+        List<Long> encerradas = List.copyOf(pautaIds);
+        Transacoes.aposCommit(() -> {
+            encerradas.forEach(versoes::remove);
+            geral.incrementAndGet();
+        });
+    }
+
+    public void remover(long pautaId) {
+        Transacoes.aposCommit(() -> {
+            geral.incrementAndGet();
+            versoes.remove(pautaId);
+        });
+    }
+
+    public int tamanho() {
+        return versoes.size();
+    }
+
+    private enum Fase {
+        SEM_SESSAO, AGENDADA, ABERTA, APURANDO, ENCERRADA
+    }
+
+    /**
+     * @param maxAgeSegundos validade da resposta em cache; {@code 0} exige revalidação a cada uso
+     * @param imutavel       o resultado da pauta já foi gravado em {@code tb_resultados} e a resposta
+     *                       não muda mais
+     */
+    public record Versao(String etag, long maxAgeSegundos, boolean imutavel) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.sylviavitoria.api_votacao.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sylviavitoria.api_votacao.repository.VotoJdbcRepository;
+import com.sylviavitoria.api_votacao.transacao.Transacoes;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantém, por pauta com sessão agendada ou aberta, o conjunto de associados que já votaram. A
+ * marcação é feita antes do insert e desfeita se a transação for revertida; a constraint
+ * {@code uk_associado_pauta} continua sendo a garantia final. O conjunto é descartado quando a
+ * sessão é finalizada ou a pauta é excluída.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VotantesCache {
+
+    private final VotoJdbcRepository votoJdbcRepository;
+
+    private final Map<Long, BitmapVotantes> votantes = new ConcurrentHashMap<>();
+
+    public boolean carregado(Long pautaId) {
+        return votantes.containsKey(pautaId);
+    }
+
+    public boolean jaVotou(Long pautaId, Long associadoId) {
+        return obter(pautaId).contem(associadoId);
+    }
+
+    public boolean marcar(Long pautaId, Long associadoId) {
+        BitmapVotantes bitmap = obter(pautaId);
+        if (!bitmap.adicionar(associadoId)) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        bitmap.remover(associadoId);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    public void adicionar(Long pautaId, Long associadoId) {
+        BitmapVotantes bitmap = votantes.get(pautaId);
+        if (bitmap != null) {
+            bitmap.adicionar(associadoId);
+        }
+    }
+
+    public void desmarcar(Long pautaId, Long associadoId) {
+        BitmapVotantes bitmap = votantes.get(pautaId);
+        if (bitmap != null) {
+            bitmap.remover(associadoId);
+        }
+    }
+
+    public void inicializar(Long pautaId) {
+        votantes.put(pautaId, carregar(pautaId));
+    }
+
+    /**
+     * Descarta os votantes da pauta após o commit da transação corrente.
+     */
+    public void remover(Long pautaId) {
+        Transacoes.aposCommit(() -> votantes.remove(pautaId));
+    }
+
+    public int pautasCarregadas() {
+        return votantes.size();
+    }
+
+    public long bytesEstimados() {
+        return votantes.values().stream().mapToLong(BitmapVotantes::bytesEstimados).sum();
+    }
+
+    private BitmapVotantes obter(Long pautaId) {
+        return votantes.computeIfAbsent(pautaId, this::carregar);
+    }
+
+    private BitmapVotantes carregar(Long pautaId) {
+        BitmapVotantes bitmap = new BitmapVotantes();
+        votoJdbcRepository.listarVotantes(pautaId, bitmap::adicionar);
+        log.debug("Votantes da pauta ID: {} carregados: {} associados, {} bytes",
+                pautaId, bitmap.tamanho(), bitmap.bytesEstimados());
+        return bitmap;
+    }
+}
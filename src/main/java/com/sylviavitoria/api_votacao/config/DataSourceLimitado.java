@@ -0,0 +1,113 @@
+package com.sylviavitoria.api_votacao.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource que limita quantas threads usam conexões ao mesmo tempo. A thread que passa do limite
+ * espera no semáforo, onde uma thread virtual libera o carrier, e não dentro do pool ou do driver
+ * JDBC; a permissão é devolvida quando a conexão é fechada. Ao fechar, fecha também o DataSource
+ * envolvido (o pool), já que o contêiner só enxerga este objeto.
+ */
+public class DataSourceLimitado extends DelegatingDataSource implements AutoCloseable {
+
+    private final int limite;
+    private final long esperaMaximaMs;
+    private final Semaphore permissoes;
+
+    public DataSourceLimitado(DataSource alvo, int limite, long esperaMaximaMs) {
+        super(alvo);
+        this.limite = limite;
+        this.esperaMaximaMs = esperaMaximaMs;
+        this.permissoes = new Semaphore(limite, true);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        try {
+            return liberarAoFechar(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String usuario, String senha) throws SQLException {
+        adquirir();
+        try {
+            return liberarAoFechar(super.getConnection(usuario, senha));
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+
+    public int disponiveis() {
+        return permissoes.availablePermits();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable alvo) {
+            alvo.close();
+        }
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!permissoes.tryAcquire(esperaMaximaMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("Limite de " + limite
+                        + " conexões simultâneas atingido; tempo de espera de " + esperaMaximaMs + " ms esgotado");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão", e);
+        }
+    }
+
+    private Connection liberarAoFechar(Connection conexao) {
+        AtomicBoolean fechada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, metodo, argumentos) -> {
+                    switch (metodo.getName()) {
+                        case "equals":
+                            return proxy == argumentos[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            if (fechada.compareAndSet(false, true)) {
+                                try {
+                                    return invocar(conexao, metodo, argumentos);
+                                } finally {
+                                    permissoes.release();
+                                }
+                            }
+                            return null;
+                        default:
+                            return invocar(conexao, metodo, argumentos);
+                    }
+                });
+    }
+
+    private static Object invocar(Connection conexao, Method metodo, Object[] argumentos)
+            throws Throwable {
+        try {
+            return metodo.invoke(conexao, argumentos);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.sylviavitoria.api_votacao.config;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sylviavitoria.api_votacao.logs.AmostragemLogs;
+import com.sylviavitoria.api_votacao.logs.LogsAssincronos;
+
+import ch.qos.logback.classic.LoggerContext;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Logs de produção ({@code votacao.logs.assincrono.habilitado=true}, profile {@code producao}). Os
+ * appenders do Spring Boot passam a escrever por uma fila de {@code votacao.logs.tamanho-fila}
+ * eventos, sem bloquear quem loga, e cada mensagem é limitada a
+ * {@code votacao.logs.mensagens-por-segundo} por segundo. Eventos descartados pela fila e suprimidos
+ * pela amostragem viram contadores.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "votacao.logs.assincrono.habilitado", havingValue = "true")
+public class LogsConfig {
+
+    @Bean
+    LogsAssincronos logsAssincronos(@Value("${votacao.logs.tamanho-fila:8192}") int tamanhoFila) {
+        LogsAssincronos logs = new LogsAssincronos((LoggerContext) LoggerFactory.getILoggerFactory(), tamanhoFila);
+        log.info("Logs assíncronos habilitados com fila de {} eventos", tamanhoFila);
+        return logs;
+    }
+
+    @Bean(destroyMethod = "stop")
+    AmostragemLogs amostragemLogs(@Value("${votacao.logs.mensagens-por-segundo:5}") int mensagensPorSegundo) {
+        LoggerContext contexto = (LoggerContext) LoggerFactory.getILoggerFactory();
+        AmostragemLogs amostragem = new AmostragemLogs(mensagensPorSegundo);
+        amostragem.setName("amostragemLogs");
+        amostragem.setContext(contexto);
+        amostragem.start();
+        contexto.addTurboFilter(amostragem);
+        log.info("Amostragem de logs habilitada: até {} mensagens por segundo de cada modelo", mensagensPorSegundo);
+        return amostragem;
+    }
+
+    @Bean
+    MeterBinder metricasLogs(LogsAssincronos logsAssincronos, AmostragemLogs amostragemLogs) {
+        return registry -> {
+            FunctionCounter.builder("votacao.logs.descartados", logsAssincronos, LogsAssincronos::descartados)
+                    .description("Eventos de log descartados com a fila dos appenders assíncronos cheia")
+                    .register(registry);
+            FunctionCounter.builder("votacao.logs.suprimidos", amostragemLogs, AmostragemLogs::suprimidas)
+                    .description("Mensagens de log suprimidas pelo limite por segundo")
+                    .register(registry);
+            Gauge.builder("votacao.logs.fila", logsAssincronos, LogsAssincronos::pendentes)
+                    .description("Eventos de log aguardando escrita")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.sylviavitoria.api_votacao.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sylviavitoria.api_votacao.cache.ContagemVotosCache;
+import com.sylviavitoria.api_votacao.cache.RegistroSessoes;
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
+import com.sylviavitoria.api_votacao.cache.VotantesCache;
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
+import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Gauges das sessões abertas e dos caches em memória. As métricas das requisições HTTP, do pool
+ * do Hikari e dos repositórios Spring Data são registradas pelo Spring Boot; os timers dos serviços
+ * e dos repositórios JDBC vêm das anotações {@code @Timed}.
+ */
+@Configuration
+public class MetricasConfig {
+
+    @Bean
+    MeterBinder metricasSessoes(SessaoVotacaoRepository sessaoVotacaoRepository) {
+        return registry -> Gauge.builder("votacao.sessoes.abertas", sessaoVotacaoRepository,
+                        repositorio -> repositorio.countByStatus(StatusSessao.ABERTA))
+                .description("Sessões de votação com status ABERTA")
+                .register(registry);
+    }
+
+    @Bean
+    MeterBinder metricasCaches(RegistroSessoes registroSessoes, VotantesCache votantesCache,
+            ContagemVotosCache contagemVotosCache, VersoesPautas versoesPautas) {
+        return registry -> {
+            Gauge.builder("votacao.cache.sessoes", registroSessoes, RegistroSessoes::tamanho)
+                    .description("Janelas de votação em memória")
+                    .register(registry);
+            Gauge.builder("votacao.cache.votantes", votantesCache, VotantesCache::pautasCarregadas)
+                    .description("Pautas com votantes em memória")
+                    .register(registry);
+            Gauge.builder("votacao.cache.votantes.bytes", votantesCache, VotantesCache::bytesEstimados)
+                    .description("Memória estimada dos bitmaps de votantes")
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("votacao.cache.placares", contagemVotosCache, ContagemVotosCache::tamanho)
+                    .description("Placares de pautas em memória")
+                    .register(registry);
+            Gauge.builder("votacao.cache.versoes", versoesPautas, VersoesPautas::tamanho)
+                    .description("Versões (ETags) de pautas em memória")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.sylviavitoria.api_votacao.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ajustes do modo com threads virtuais ({@code spring.threads.virtual.enabled=true}, profile
+ * {@code virtual}). Tomcat, {@code @Scheduled} e as respostas assíncronas do MVC passam a usar
+ * threads virtuais, e milhares de requisições podem chegar ao JDBC ao mesmo tempo: o DataSource é
+ * envolvido por um {@link DataSourceLimitado} com {@code votacao.jdbc.limite-concorrencia}
+ * permissões, por padrão o tamanho do pool do Hikari. Só o DataSource principal ({@code dataSource})
+ * é envolvido; outros DataSources declarados na aplicação ficam como estão.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ThreadsVirtuaisConfig {
+
+    private static final String DATASOURCE_PRINCIPAL = "dataSource";
+
+    @Bean
+    static BeanPostProcessor limitadorConexoes(Environment ambiente) {
+        int limite = ambiente.getProperty("votacao.jdbc.limite-concorrencia", Integer.class,
+                ambiente.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        long esperaMaximaMs = ambiente.getProperty("votacao.jdbc.espera-maxima-ms", Long.class,
+                ambiente.getProperty("spring.datasource.hikari.connection-timeout", Long.class, 30000L));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String nome) {
+                if (DATASOURCE_PRINCIPAL.equals(nome) && bean instanceof DataSource dataSource
+                        && !(bean instanceof DataSourceLimitado)) {
+                    log.info("Limitando o DataSource '{}' a {} conexões simultâneas", nome, limite);
+                    return new DataSourceLimitado(dataSource, limite, esperaMaximaMs);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder metricasLimitadorConexoes(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof DataSourceLimitado limitado) {
+                Gauge.builder("votacao.jdbc.limite.disponiveis", limitado, DataSourceLimitado::disponiveis)
+                        .description("Permissões livres do limitador de conexões JDBC")
+                        .register(registry);
+            }
+        };
+    }
+}
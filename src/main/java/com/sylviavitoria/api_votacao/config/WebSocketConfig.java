@@ -0,0 +1,50 @@
+package com.sylviavitoria.api_votacao.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * Endpoint STOMP do painel da assembleia: os clientes conectam em {@code /ws}, assinam os tópicos
+ * {@code /topic/painel} e {@code /topic/pautas/{pautaId}} e obtêm o estado atual em
+ * {@code /app/painel}. Clientes que não consomem as mensagens no ritmo do envio são desconectados
+ * pelos limites de buffer e de tempo de envio.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final String[] origensPermitidas;
+    private final int limiteBufferBytes;
+    private final int limiteEnvioMs;
+
+    public WebSocketConfig(@Value("${votacao.painel.origens-permitidas:http://localhost:5173}") String[] origensPermitidas,
+            @Value("${votacao.painel.limite-buffer-bytes:524288}") int limiteBufferBytes,
+            @Value("${votacao.painel.limite-envio-ms:10000}") int limiteEnvioMs) {
+        this.origensPermitidas = origensPermitidas;
+        this.limiteBufferBytes = limiteBufferBytes;
+        this.limiteEnvioMs = limiteEnvioMs;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOrigins(origensPermitidas);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic");
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+        registry.setSendBufferSizeLimit(limiteBufferBytes)
+                .setSendTimeLimit(limiteEnvioMs);
+    }
+}
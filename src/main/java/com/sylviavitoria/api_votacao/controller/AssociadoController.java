@@ -3,7 +3,10 @@ package com.sylviavitoria.api_votacao.controller;
 import com.sylviavitoria.api_votacao.dto.AssociadoListarResponse;
 import com.sylviavitoria.api_votacao.dto.AssociadoRequest;
 import com.sylviavitoria.api_votacao.dto.AssociadoResponse;
+import com.sylviavitoria.api_votacao.dto.ImportacaoAssociadosResponse;
+import com.sylviavitoria.api_votacao.dto.PaginaCursor;
 import com.sylviavitoria.api_votacao.interfaces.IAssociado;
+import com.sylviavitoria.api_votacao.interfaces.IImportacaoAssociados;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,10 +18,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,6 +36,7 @@ import org.springframework.web.bind.annotation.*;
 public class AssociadoController {
 
     private final IAssociado IAssociado;
+    private final IImportacaoAssociados importacaoAssociados;
 
     @Operation(summary = "Criar um novo associado", description = "Cria um novo associado com os dados fornecidos")
     @ApiResponses(value = {
@@ -42,6 +50,26 @@ public class AssociadoController {
                 .body(IAssociado.criar(request));
     }
 
+    @Operation(summary = "Importar associados", description = "Cadastra associados em massa a partir de um CSV "
+            + "(colunas nome, cpf, email, com cabeçalho opcional) ou NDJSON (um associado por linha). CPFs repetidos no "
+            + "arquivo ou já cadastrados são ignorados; retorna o total de inseridos, duplicados e inválidos",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = {
+                    @Content(mediaType = "text/csv"),
+                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = AssociadoRequest.class))
+            }))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Arquivo processado"),
+            @ApiResponse(responseCode = "400", description = "Cabeçalho do CSV sem as colunas obrigatórias", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    @PostMapping(value = "/importacao", consumes = { "text/csv", MediaType.APPLICATION_NDJSON_VALUE, "application/x-ndjson" })
+    public ResponseEntity<ImportacaoAssociadosResponse> importar(@Parameter(hidden = true) InputStream corpo,
+            @Parameter(hidden = true) @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType tipo) throws IOException {
+        if (tipo.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+            return ResponseEntity.ok(importacaoAssociados.importarCsv(corpo));
+        }
+        return ResponseEntity.ok(importacaoAssociados.importarNdjson(corpo));
+    }
+
     @Operation(summary = "Buscar associado por ID", description = "Retorna um associado com base no ID fornecido")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Associado encontrado com sucesso"),
@@ -66,6 +94,21 @@ public class AssociadoController {
         return ResponseEntity.ok(IAssociado.listarTodos(page, size, sort));
     }
 
+    @GetMapping(params = "limit")
+    @Operation(summary = "Listar associados por cursor", description = "Paginação por cursor (keyset): informe limit e, "
+            + "a partir da segunda página, o cursor recebido em 'proximo' no parâmetro after. Não calcula o total de itens")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Operação bem-sucedida"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido ou ordenação não suportada", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    public ResponseEntity<PaginaCursor<AssociadoListarResponse>> listarPorCursor(
+        @Parameter(description = "Cursor da página anterior (campo proximo)") @RequestParam(required = false) String after,
+        @Parameter(description = "Quantidade de itens (máximo 100)", example = "50") @RequestParam int limit,
+        @Parameter(description = "Campo para ordenação (nome ou id)", example = "nome") @RequestParam(required = false) String sort) {
+
+        return ResponseEntity.ok(IAssociado.listarPorCursor(after, limit, sort));
+    }
+
     @Operation(summary = "Atualizar associado", description = "Atualiza os dados de um associado existente")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Associado atualizado com sucesso"),
@@ -0,0 +1,27 @@
+package com.sylviavitoria.api_votacao.controller;
+
+import java.util.List;
+
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+import com.sylviavitoria.api_votacao.dto.PlacarPautaDTO;
+import com.sylviavitoria.api_votacao.interfaces.IPainelAssembleia;
+
+import lombok.RequiredArgsConstructor;
+
+@Controller
+@RequiredArgsConstructor
+public class PainelAssembleiaController {
+
+    private final IPainelAssembleia painelAssembleia;
+
+    /**
+     * Estado atual de todas as sessões acompanhadas, respondido uma única vez a quem assina
+     * {@code /app/painel}; as alterações seguintes chegam por {@code /topic/painel}.
+     */
+    @SubscribeMapping("/painel")
+    public List<PlacarPautaDTO> listarPlacares() {
+        return painelAssembleia.listarPlacares();
+    }
+}
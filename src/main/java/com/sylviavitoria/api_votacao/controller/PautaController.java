@@ -14,7 +14,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
+
+import com.sylviavitoria.api_votacao.dto.PaginaCursor;
 import com.sylviavitoria.api_votacao.dto.PautaAtualizarRequest;
 import com.sylviavitoria.api_votacao.dto.PautaRequest;
 import com.sylviavitoria.api_votacao.dto.PautaResponse;
@@ -37,6 +41,7 @@ import lombok.RequiredArgsConstructor;
 public class PautaController {
 
     private final IPauta iPauta;
+    private final VersoesPautas versoesPautas;
 
     @Operation(summary = "Criar uma nova pauta", description = "Cria uma nova pauta com os dados fornecidos")
     @ApiResponses(value = {
@@ -50,14 +55,16 @@ public class PautaController {
                 .body(iPauta.criar(request));
     }
 
-    @Operation(summary = "Buscar pauta por ID", description = "Retorna uma pauta com base no ID fornecido")
+    @Operation(summary = "Buscar pauta por ID", description = "Retorna uma pauta com base no ID fornecido. "
+            + "Responde com ETag; envie If-None-Match para receber 304 quando a pauta não mudou")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Pauta encontrada com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Pauta não mudou desde a ETag informada"),
             @ApiResponse(responseCode = "404", description = "Pauta não encontrada", content = @Content(schema = @Schema(implementation = Map.class)))
     })
     @GetMapping("/{id}")
-    public ResponseEntity<PautaResponse> buscarPorId(@PathVariable Long id) {
-        return ResponseEntity.ok(iPauta.buscarPorId(id));
+    public ResponseEntity<PautaResponse> buscarPorId(@PathVariable Long id, WebRequest request) {
+        return RespostaCondicional.responder(request, versoesPautas.obter(id), () -> iPauta.buscarPorId(id));
     }
 
     @GetMapping
@@ -74,6 +81,21 @@ public class PautaController {
         return ResponseEntity.ok(iPauta.listarTodos(page, size, sort));
     }
 
+    @GetMapping(params = "limit")
+    @Operation(summary = "Listar pautas por cursor", description = "Paginação por cursor (keyset): informe limit e, "
+            + "a partir da segunda página, o cursor recebido em 'proximo' no parâmetro after. Não calcula o total de itens")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Operação bem-sucedida"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido ou ordenação não suportada", content = @Content(schema = @Schema(implementation = Map.class)))
+    })
+    public ResponseEntity<PaginaCursor<PautaResponse>> listarPorCursor(
+        @Parameter(description = "Cursor da página anterior (campo proximo)") @RequestParam(required = false) String after,
+        @Parameter(description = "Quantidade de itens (máximo 100)", example = "50") @RequestParam int limit,
+        @Parameter(description = "Campo para ordenação (titulo ou id)", example = "titulo") @RequestParam(required = false) String sort) {
+
+        return ResponseEntity.ok(iPauta.listarPorCursor(after, limit, sort));
+    }
+
     @Operation(summary = "Atualizar pauta", description = "Atualiza os dados de uma pauta existente")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Pauta atualizada com sucesso"),
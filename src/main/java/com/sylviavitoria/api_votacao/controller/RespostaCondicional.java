@@ -0,0 +1,59 @@
+package com.sylviavitoria.api_votacao.controller;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
+
+/**
+ * Respostas condicionais (ETag / If-None-Match) para consultas feitas por polling. A ETag é
+ * calculada antes do corpo, então um 304 não monta nem serializa a resposta; só consulta o banco
+ * se a sessão da pauta ainda não estiver no {@code RegistroSessoes}.
+ */
+final class RespostaCondicional {
+
+    private RespostaCondicional() {
+    }
+
+    /**
+     * Pauta: o cliente guarda a resposta, mas revalida a ETag a cada uso.
+     */
+    static <T> ResponseEntity<T> responder(WebRequest request, VersoesPautas.Versao versao, Supplier<T> corpo) {
+        return responder(request, versao.etag(), CacheControl.noCache().cachePrivate(), corpo);
+    }
+
+    /**
+     * Resultado: {@code immutable} só depois de gravado em {@code tb_resultados}; antes disso,
+     * validade curta e apenas no cliente.
+     */
+    static <T> ResponseEntity<T> responderResultado(WebRequest request, VersoesPautas.Versao versao,
+            Supplier<T> corpo) {
+        return responder(request, versao.etag(), cacheControlResultado(versao), corpo);
+    }
+
+    private static <T> ResponseEntity<T> responder(WebRequest request, String etag, CacheControl cacheControl,
+            Supplier<T> corpo) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(corpo.get());
+    }
+
+    private static CacheControl cacheControlResultado(VersoesPautas.Versao versao) {
+        if (versao.imutavel()) {
+            return CacheControl.maxAge(versao.maxAgeSegundos(), TimeUnit.SECONDS).cachePublic().immutable();
+        }
+        if (versao.maxAgeSegundos() > 0) {
+            return CacheControl.maxAge(versao.maxAgeSegundos(), TimeUnit.SECONDS).cachePrivate().mustRevalidate();
+        }
+        return CacheControl.noCache().cachePrivate();
+    }
+}
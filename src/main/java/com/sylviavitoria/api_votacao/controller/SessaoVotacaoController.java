@@ -14,6 +14,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.sylviavitoria.api_votacao.dto.FinalizacaoSessoesResponse;
+import com.sylviavitoria.api_votacao.dto.PaginaCursor;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoAtualizarRequest;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoRequest;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoResponse;
@@ -89,6 +91,21 @@ public class SessaoVotacaoController {
                 return ResponseEntity.ok(sessaoVotacao.listarTodos(page, size, sort));
         }
 
+        @GetMapping(params = "limit")
+        @Operation(summary = "Listar sessões por cursor", description = "Paginação por cursor (keyset): informe limit e, "
+                        + "a partir da segunda página, o cursor recebido em 'proximo' no parâmetro after. Não calcula o total de itens")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Operação bem-sucedida"),
+                        @ApiResponse(responseCode = "400", description = "Cursor inválido ou ordenação não suportada", content = @Content(schema = @Schema(implementation = Map.class)))
+        })
+        public ResponseEntity<PaginaCursor<SessaoVotacaoResponse>> listarPorCursor(
+                        @Parameter(description = "Cursor da página anterior (campo proximo)") @RequestParam(required = false) String after,
+                        @Parameter(description = "Quantidade de itens (máximo 100)", example = "50") @RequestParam int limit,
+                        @Parameter(description = "Campo para ordenação (dataAbertura ou id)", example = "dataAbertura") @RequestParam(required = false) String sort) {
+
+                return ResponseEntity.ok(sessaoVotacao.listarPorCursor(after, limit, sort));
+        }
+
         @Operation(summary = "Atualizar período da sessão", description = "Permite estender o período de votação", requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(examples = {
                         @ExampleObject(name = "Adicionar Minutos", value = """
                                         {
@@ -113,4 +130,14 @@ public class SessaoVotacaoController {
                         @RequestBody @Valid SessaoVotacaoAtualizarRequest request) {
                 return ResponseEntity.ok(sessaoVotacao.atualizarPeriodo(id, request));
         }
-}
\ No newline at end of file
+
+        @Operation(summary = "Finalizar sessões expiradas", description = "Finaliza em lote todas as sessões cujo fechamento já passou e grava o resultado das pautas. "
+                        + "Executada automaticamente na inicialização; útil após indisponibilidade da aplicação")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Finalização executada; retorna quantidade de sessões e duração")
+        })
+        @PostMapping("/finalizar-expiradas")
+        public ResponseEntity<FinalizacaoSessoesResponse> finalizarExpiradas() {
+                return ResponseEntity.ok(sessaoVotacao.finalizarExpiradas());
+        }
+}
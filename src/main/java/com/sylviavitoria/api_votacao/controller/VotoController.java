@@ -1,15 +1,41 @@
 package com.sylviavitoria.api_votacao.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
+import com.sylviavitoria.api_votacao.dto.ReciboVotoResponse;
 import com.sylviavitoria.api_votacao.dto.ResultadoVotacaoResponse;
 import com.sylviavitoria.api_votacao.dto.VotoAtualizarRequest;
+import com.sylviavitoria.api_votacao.dto.VotoLoteResponse;
 import com.sylviavitoria.api_votacao.dto.VotoRequest;
 import com.sylviavitoria.api_votacao.dto.VotoResponse;
+import com.sylviavitoria.api_votacao.dto.VotoStatusResponse;
+import com.sylviavitoria.api_votacao.enums.FormatoExportacao;
+import com.sylviavitoria.api_votacao.interfaces.IExportacaoVotos;
+import com.sylviavitoria.api_votacao.interfaces.ITransmissaoResultados;
 import com.sylviavitoria.api_votacao.interfaces.IVoto;
+import com.sylviavitoria.api_votacao.interfaces.IVotoAssincrono;
+import com.sylviavitoria.api_votacao.interfaces.IVotoLote;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,20 +49,73 @@ import lombok.RequiredArgsConstructor;
 public class VotoController {
 
     private final IVoto voto;
+    private final IVotoLote votoLote;
+    private final IVotoAssincrono votoAssincrono;
+    private final ITransmissaoResultados transmissaoResultados;
+    private final IExportacaoVotos exportacaoVotos;
+    private final VersoesPautas versoesPautas;
+    private final ObjectMapper objectMapper;
 
-    @Operation(summary = "Registrar voto", description = "Registra o voto de um associado em uma pauta")
+    @Operation(summary = "Registrar voto", description = "Registra o voto de um associado em uma pauta. Com a ingestão "
+            + "assíncrona habilitada, o cabeçalho Prefer: respond-async faz o voto ser enfileirado e retorna um recibo")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Voto registrado com sucesso"),
+            @ApiResponse(responseCode = "202", description = "Voto aceito para gravação assíncrona", content = @Content(schema = @Schema(implementation = ReciboVotoResponse.class))),
             @ApiResponse(responseCode = "400", description = "Dados inválidos"),
             @ApiResponse(responseCode = "404", description = "Associado ou pauta não encontrados"),
-            @ApiResponse(responseCode = "409", description = "Associado já votou nesta pauta")
+            @ApiResponse(responseCode = "409", description = "Associado já votou nesta pauta"),
+            @ApiResponse(responseCode = "503", description = "Fila de votos cheia")
     })
     @PostMapping
-    public ResponseEntity<VotoResponse> votar(@RequestBody @Valid VotoRequest request) {
+    public ResponseEntity<?> votar(@RequestBody @Valid VotoRequest request,
+            @Parameter(description = "Use respond-async para gravação assíncrona") @RequestHeader(value = "Prefer", required = false) String prefer) {
+        if (prefer != null && prefer.contains("respond-async") && votoAssincrono.habilitado()) {
+            ReciboVotoResponse recibo = votoAssincrono.enfileirar(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/votos/recibos/" + recibo.getRecibo()))
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(recibo);
+        }
         VotoResponse response = voto.registrarVoto(request);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/recibos/{recibo}")
+    @Operation(summary = "Consultar recibo", description = "Retorna a situação de um voto aceito para gravação assíncrona")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recibo encontrado"),
+            @ApiResponse(responseCode = "404", description = "Recibo não encontrado ou expirado")
+    })
+    public ResponseEntity<ReciboVotoResponse> consultarRecibo(@PathVariable String recibo) {
+        return ResponseEntity.ok(votoAssincrono.consultarRecibo(recibo));
+    }
+
+    @Operation(summary = "Registrar votos em lote", description = "Recebe um array JSON ou NDJSON (um voto por linha) "
+            + "e retorna o resultado de cada voto na ordem de envio", requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = {
+                    @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, array = @ArraySchema(schema = @Schema(implementation = VotoRequest.class))),
+                    @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = VotoRequest.class))
+            }))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; consulte o resultado de cada item")
+    })
+    @PostMapping(value = "/lote", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public ResponseEntity<VotoLoteResponse> votarEmLote(@Parameter(hidden = true) InputStream corpo) throws IOException {
+        try (MappingIterator<VotoRequest> votos = objectMapper.readerFor(VotoRequest.class).readValues(corpo)) {
+            return ResponseEntity.ok(votoLote.registrarLote(votos));
+        }
+    }
+
+    @GetMapping("/status")
+    @Operation(summary = "Consultar se o associado já votou", description = "Indica se o associado já registrou voto na pauta")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consulta realizada com sucesso")
+    })
+    public ResponseEntity<VotoStatusResponse> consultarStatus(
+            @Parameter(description = "ID do associado", example = "1") @RequestParam Long associadoId,
+            @Parameter(description = "ID da pauta", example = "1") @RequestParam Long pautaId) {
+        return ResponseEntity.ok(voto.consultarStatus(associadoId, pautaId));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar voto por ID", description = "Retorna os detalhes de um voto específico")
     @ApiResponses(value = {
@@ -47,14 +126,59 @@ public class VotoController {
         return ResponseEntity.ok(voto.buscarPorId(id));
     }
 
-    @Operation(summary = "Consultar resultado", description = "Retorna o resultado da votação de uma pauta")
+    @Operation(summary = "Consultar resultado", description = "Retorna o resultado da votação de uma pauta. "
+            + "Responde com ETag; envie If-None-Match para receber 304 quando o resultado não mudou")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Resultado obtido com sucesso"),
+            @ApiResponse(responseCode = "304", description = "Resultado não mudou desde a ETag informada"),
             @ApiResponse(responseCode = "404", description = "Pauta não encontrada")
     })
     @GetMapping("/pautas/{pautaId}/resultado")
-    public ResponseEntity<ResultadoVotacaoResponse> consultarResultado(@PathVariable Long pautaId) {
-        return ResponseEntity.ok(voto.consultarResultado(pautaId));
+    public ResponseEntity<ResultadoVotacaoResponse> consultarResultado(@PathVariable Long pautaId, WebRequest request) {
+        return RespostaCondicional.responderResultado(request, versoesPautas.obter(pautaId),
+                () -> voto.consultarResultado(pautaId));
+    }
+
+    @Operation(summary = "Acompanhar resultado", description = "Transmite o resultado da votação por Server-Sent Events: "
+            + "o evento 'resultado' é enviado a cada mudança (agrupadas em no máximo votacao.transmissao.eventos-por-segundo "
+            + "por segundo) e o evento 'final' quando a sessão é encerrada, fechando a conexão")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Transmissão iniciada", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+            @ApiResponse(responseCode = "404", description = "Pauta não encontrada")
+    })
+    @GetMapping("/pautas/{pautaId}/resultado/stream")
+    public SseEmitter acompanharResultado(@PathVariable Long pautaId) {
+        return transmissaoResultados.assinar(pautaId);
+    }
+
+    @Operation(summary = "Exportar votos", description = "Exporta todos os votos da pauta em CSV ou NDJSON. A resposta "
+            + "é transmitida à medida que os votos são lidos e vem compactada quando o cliente envia Accept-Encoding: gzip")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação iniciada", content = {
+                    @Content(mediaType = "text/csv"), @Content(mediaType = "application/x-ndjson") }),
+            @ApiResponse(responseCode = "400", description = "Formato não suportado"),
+            @ApiResponse(responseCode = "404", description = "Pauta não encontrada")
+    })
+    @GetMapping("/pautas/{pautaId}/export")
+    public ResponseEntity<StreamingResponseBody> exportar(@PathVariable Long pautaId,
+            @Parameter(description = "csv ou ndjson", example = "csv") @RequestParam(defaultValue = "csv") String format,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        FormatoExportacao formato = FormatoExportacao.de(format);
+        StreamingResponseBody votos = exportacaoVotos.exportar(pautaId, formato);
+
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formato.getTipoConteudo() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"votos-pauta-" + pautaId + "." + formato.getExtensao() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || !acceptEncoding.contains("gzip")) {
+            return resposta.body(votos);
+        }
+        return resposta.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(saida -> {
+            GZIPOutputStream gzip = new GZIPOutputStream(saida, 64 * 1024);
+            votos.writeTo(gzip);
+            gzip.finish();
+        });
     }
 
     @PutMapping("/{id}")
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 
@@ -13,6 +14,7 @@ public class AssociadoRequest {
 
    @Schema(description = "Nome completo do associado", example = "João da Silva")
     @NotBlank(message = "O nome é obrigatório")
+    @Size(max = 255, message = "O nome deve ter no máximo 255 caracteres")
     private String nome;
 
     @Schema(description = "CPF do associado (apenas números)", example = "12345678901")
@@ -23,5 +25,6 @@ public class AssociadoRequest {
     @Schema(description = "Email do associado", example = "joao@exemplo.com")
     @NotBlank(message = "O email é obrigatório")
     @Email(message = "Email inválido")
+    @Size(max = 255, message = "O email deve ter no máximo 255 caracteres")
     private String email;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.sylviavitoria.api_votacao.dto;
+
+import java.time.LocalDateTime;
+
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EventoSessaoDTO {
+    private final Long pautaId;
+    private final StatusSessao status;
+    private final LocalDateTime dataAbertura;
+    private final LocalDateTime dataFechamento;
+}
@@ -0,0 +1,22 @@
+package com.sylviavitoria.api_votacao.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@Schema(description = "Relatório da finalização em lote de sessões expiradas")
+public class FinalizacaoSessoesResponse {
+
+    @Schema(description = "Quantidade de sessões finalizadas", example = "120")
+    private int sessoesFinalizadas;
+
+    @Schema(description = "Sessões com fechamento anterior a esta data foram finalizadas", example = "2025-05-20T10:00:00")
+    private LocalDateTime limite;
+
+    @Schema(description = "Duração da finalização em milissegundos", example = "35")
+    private long duracaoMs;
+}
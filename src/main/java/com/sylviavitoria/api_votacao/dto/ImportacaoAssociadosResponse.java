@@ -0,0 +1,28 @@
+package com.sylviavitoria.api_votacao.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@Schema(description = "Resumo da importação de associados")
+public class ImportacaoAssociadosResponse {
+
+    @Schema(description = "Quantidade de registros lidos do arquivo", example = "250000")
+    private long totalLidos;
+
+    @Schema(description = "Quantidade de associados inseridos", example = "249990")
+    private long totalInseridos;
+
+    @Schema(description = "Registros ignorados por CPF repetido no arquivo ou já cadastrado", example = "7")
+    private long totalDuplicados;
+
+    @Schema(description = "Registros rejeitados por dados inválidos", example = "3")
+    private long totalInvalidos;
+
+    @Schema(description = "Detalhe dos primeiros registros inválidos ou repetidos no arquivo")
+    private List<ImportacaoErroResponse> erros;
+}
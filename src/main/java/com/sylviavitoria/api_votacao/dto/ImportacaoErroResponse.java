@@ -0,0 +1,20 @@
+package com.sylviavitoria.api_votacao.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@Schema(description = "Registro do arquivo de importação que não foi inserido")
+public class ImportacaoErroResponse {
+
+    @Schema(description = "Linha do arquivo em que começa o registro", example = "42")
+    private long linha;
+
+    @Schema(description = "CPF informado no registro", example = "12345678901")
+    private String cpf;
+
+    @Schema(description = "Motivo", example = "CPF deve conter 11 dígitos numéricos")
+    private String erro;
+}
@@ -0,0 +1,21 @@
+package com.sylviavitoria.api_votacao.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Value;
+
+@Value
+@Schema(description = "Página de uma listagem paginada por cursor")
+public class PaginaCursor<T> {
+
+    @Schema(description = "Itens da página")
+    private List<T> conteudo;
+
+    @Schema(description = "Quantidade máxima de itens da página", example = "50")
+    private int limite;
+
+    @Schema(description = "Cursor para o parâmetro after da próxima página; nulo na última página",
+            example = "bm9tZR9NYXJpYR80Mg")
+    private String proximo;
+}
@@ -0,0 +1,37 @@
+package com.sylviavitoria.api_votacao.dto;
+
+import java.time.LocalDateTime;
+
+import com.sylviavitoria.api_votacao.enums.StatusPauta;
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Linha da listagem de pautas: pauta, criador, período da sessão e resultado final (quando
+ * houver) lidos em uma única consulta, sem carregar as entidades.
+ */
+@Getter
+@AllArgsConstructor
+public class PautaListagemDTO {
+    private final Long id;
+    private final String titulo;
+    private final String descricao;
+    private final LocalDateTime dataCriacao;
+    private final StatusPauta status;
+    private final Long criadorId;
+    private final String criadorNome;
+    private final LocalDateTime dataAbertura;
+    private final LocalDateTime dataFechamento;
+    private final StatusSessao statusSessao;
+    private final Long resultadoSim;
+    private final Long resultadoNao;
+
+    /**
+     * Totais gravados em {@code tb_resultados}, ou {@code null} enquanto a pauta não foi finalizada.
+     */
+    public VotacaoResumoDTO getResultado() {
+        return resultadoSim == null ? null : new VotacaoResumoDTO(resultadoSim, resultadoNao);
+    }
+}
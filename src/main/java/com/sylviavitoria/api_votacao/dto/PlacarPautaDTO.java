@@ -0,0 +1,15 @@
+package com.sylviavitoria.api_votacao.dto;
+
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PlacarPautaDTO {
+    private final Long pautaId;
+    private final long sim;
+    private final long nao;
+    private final StatusSessao status;
+}
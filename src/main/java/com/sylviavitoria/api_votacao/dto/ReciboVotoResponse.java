@@ -0,0 +1,33 @@
+package com.sylviavitoria.api_votacao.dto;
+
+import java.time.LocalDateTime;
+
+import com.sylviavitoria.api_votacao.enums.StatusRecibo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@Schema(description = "Recibo de um voto aceito para gravação assíncrona")
+public class ReciboVotoResponse {
+
+    @Schema(description = "Identificador do recibo", example = "3f1c2a9e-8d4b-4e0f-9a55-0c7b1f2d6e11")
+    private String recibo;
+
+    @Schema(description = "Situação do voto", example = "PENDENTE")
+    private StatusRecibo status;
+
+    @Schema(description = "ID do associado", example = "1")
+    private Long associadoId;
+
+    @Schema(description = "ID da pauta", example = "1")
+    private Long pautaId;
+
+    @Schema(description = "Data e hora em que o voto foi aceito", example = "2025-05-19T10:00:00")
+    private LocalDateTime dataHora;
+
+    @Schema(description = "Motivo da rejeição", example = "Associado não encontrado")
+    private String erro;
+}
@@ -1,10 +1,12 @@
 package com.sylviavitoria.api_votacao.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class ResultadoVotacaoResponse {
     
     private Long pautaId;
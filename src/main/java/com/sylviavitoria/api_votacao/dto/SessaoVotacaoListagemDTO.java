@@ -0,0 +1,22 @@
+package com.sylviavitoria.api_votacao.dto;
+
+import java.time.LocalDateTime;
+
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Linha da listagem de sessões com o título da pauta, lida em uma única consulta.
+ */
+@Getter
+@AllArgsConstructor
+public class SessaoVotacaoListagemDTO {
+    private final Long id;
+    private final Long pautaId;
+    private final String pautaTitulo;
+    private final LocalDateTime dataAbertura;
+    private final LocalDateTime dataFechamento;
+    private final StatusSessao status;
+}
@@ -0,0 +1,18 @@
+package com.sylviavitoria.api_votacao.dto;
+
+import java.time.LocalDateTime;
+
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class VotoExportacaoDTO {
+    private final long id;
+    private final long associadoId;
+    private final String associadoNome;
+    private final OpcaoVoto opcao;
+    private final LocalDateTime dataHora;
+}
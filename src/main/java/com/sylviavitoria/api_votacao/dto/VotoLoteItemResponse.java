@@ -0,0 +1,28 @@
+package com.sylviavitoria.api_votacao.dto;
+
+import com.sylviavitoria.api_votacao.enums.StatusItemLote;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@Schema(description = "Resultado do processamento de um voto do lote")
+public class VotoLoteItemResponse {
+
+    @Schema(description = "Posição do voto no lote (começa em 0)", example = "0")
+    private int indice;
+
+    @Schema(description = "ID do associado", example = "1")
+    private Long associadoId;
+
+    @Schema(description = "ID da pauta", example = "1")
+    private Long pautaId;
+
+    @Schema(description = "Situação do voto", example = "REGISTRADO")
+    private StatusItemLote status;
+
+    @Schema(description = "Motivo da rejeição", example = "Associado já votou nesta pauta")
+    private String erro;
+}
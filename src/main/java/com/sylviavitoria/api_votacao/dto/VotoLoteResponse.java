@@ -0,0 +1,25 @@
+package com.sylviavitoria.api_votacao.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@Schema(description = "Relatório do processamento de um lote de votos")
+public class VotoLoteResponse {
+
+    @Schema(description = "Quantidade de votos recebidos", example = "1000")
+    private int totalRecebidos;
+
+    @Schema(description = "Quantidade de votos registrados", example = "998")
+    private int totalRegistrados;
+
+    @Schema(description = "Quantidade de votos rejeitados", example = "2")
+    private int totalRejeitados;
+
+    @Schema(description = "Resultado de cada voto, na ordem de envio")
+    private List<VotoLoteItemResponse> itens;
+}
@@ -0,0 +1,20 @@
+package com.sylviavitoria.api_votacao.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+@Schema(description = "Indica se o associado já votou na pauta")
+public class VotoStatusResponse {
+
+    @Schema(description = "ID do associado", example = "1")
+    private Long associadoId;
+
+    @Schema(description = "ID da pauta", example = "1")
+    private Long pautaId;
+
+    @Schema(description = "Se o associado já votou na pauta", example = "true")
+    private boolean votou;
+}
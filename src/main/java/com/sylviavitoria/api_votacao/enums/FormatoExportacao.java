@@ -0,0 +1,33 @@
+package com.sylviavitoria.api_votacao.enums;
+
+import com.sylviavitoria.api_votacao.exception.ParametroInvalidoException;
+
+public enum FormatoExportacao {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String tipoConteudo;
+    private final String extensao;
+
+    FormatoExportacao(String tipoConteudo, String extensao) {
+        this.tipoConteudo = tipoConteudo;
+        this.extensao = extensao;
+    }
+
+    public String getTipoConteudo() {
+        return tipoConteudo;
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    public static FormatoExportacao de(String formato) {
+        for (FormatoExportacao valor : values()) {
+            if (valor.extensao.equalsIgnoreCase(formato)) {
+                return valor;
+            }
+        }
+        throw new ParametroInvalidoException("Formato de exportação não suportado: " + formato + ". Use: csv, ndjson");
+    }
+}
@@ -0,0 +1,6 @@
+package com.sylviavitoria.api_votacao.enums;
+
+public enum StatusItemLote {
+    REGISTRADO,
+    REJEITADO
+}
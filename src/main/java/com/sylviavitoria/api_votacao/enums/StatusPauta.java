@@ -5,5 +5,16 @@ public enum StatusPauta {
     EM_VOTACAO, 
     APROVADA,  
     RECUSADA,  
-    EMPATADA  
+    EMPATADA;
+
+    public static StatusPauta resultado(long votosSim, long votosNao) {
+        if (votosSim > votosNao) {
+            return APROVADA;
+        }
+        return votosNao > votosSim ? RECUSADA : EMPATADA;
+    }
+
+    public boolean encerrada() {
+        return this == APROVADA || this == RECUSADA || this == EMPATADA;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.sylviavitoria.api_votacao.enums;
+
+public enum StatusRecibo {
+    PENDENTE,
+    REGISTRADO,
+    REJEITADO
+}
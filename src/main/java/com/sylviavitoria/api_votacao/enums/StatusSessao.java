@@ -1,7 +1,20 @@
 package com.sylviavitoria.api_votacao.enums;
 
+import java.time.LocalDateTime;
+
 public enum StatusSessao {
     ABERTA,    
     FECHADA,   
-    FINALIZADA
+    FINALIZADA;
+
+    /**
+     * Status da sessão em {@code agora}, derivado do status gravado e do período de votação.
+     */
+    public static StatusSessao derivar(StatusSessao gravado, LocalDateTime abertura, LocalDateTime fechamento,
+            LocalDateTime agora) {
+        if (gravado == FINALIZADA || agora.isAfter(fechamento)) {
+            return FINALIZADA;
+        }
+        return agora.isBefore(abertura) ? FECHADA : ABERTA;
+    }
 }
@@ -0,0 +1,11 @@
+package com.sylviavitoria.api_votacao.exception;
+
+/**
+ * A confirmação do voto não terminou a tempo, mas ele ainda pode ser gravado: o resultado é
+ * desconhecido.
+ */
+public class ConfirmacaoPendenteException extends ServicoIndisponivelException {
+    public ConfirmacaoPendenteException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.sylviavitoria.api_votacao.exception;
+
+public class ParametroInvalidoException extends RuntimeException {
+    public ParametroInvalidoException(String message) {
+        super(message);
+    }
+}
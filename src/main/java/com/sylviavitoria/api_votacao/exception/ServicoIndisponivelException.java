@@ -0,0 +1,7 @@
+package com.sylviavitoria.api_votacao.exception;
+
+public class ServicoIndisponivelException extends RuntimeException {
+    public ServicoIndisponivelException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.sylviavitoria.api_votacao.exception;
+
+public class VotoDuplicadoException extends BusinessException {
+    public VotoDuplicadoException() {
+        super("Associado já votou nesta pauta");
+    }
+}
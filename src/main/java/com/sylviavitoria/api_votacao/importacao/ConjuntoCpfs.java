@@ -0,0 +1,71 @@
+package com.sylviavitoria.api_votacao.importacao;
+
+import java.util.Arrays;
+
+/**
+ * Conjunto de CPFs já vistos em uma importação. Cada CPF (11 dígitos) é guardado como
+ * {@code long} em uma tabela de endereçamento aberto, de 16 a 32 bytes por CPF, em vez de um
+ * {@code HashSet<String>}, que passaria de 100 bytes por CPF em arquivos com centenas de milhares
+ * de associados. Não é thread-safe.
+ */
+public class ConjuntoCpfs {
+
+    private static final long VAZIO = -1L;
+
+    private long[] tabela;
+    private int tamanho;
+
+    public ConjuntoCpfs() {
+        tabela = novaTabela(1024);
+    }
+
+    /**
+     * Adiciona o CPF, que deve ter apenas dígitos; devolve {@code false} se ele já estava no conjunto.
+     */
+    public boolean adicionar(String cpf) {
+        if (tamanho * 2 >= tabela.length) {
+            crescer();
+        }
+        return inserir(tabela, Long.parseLong(cpf));
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    private boolean inserir(long[] destino, long valor) {
+        int mascara = destino.length - 1;
+        int posicao = espalhar(valor) & mascara;
+        while (destino[posicao] != VAZIO) {
+            if (destino[posicao] == valor) {
+                return false;
+            }
+            posicao = (posicao + 1) & mascara;
+        }
+        destino[posicao] = valor;
+        tamanho++;
+        return true;
+    }
+
+    private void crescer() {
+        long[] anterior = tabela;
+        tabela = novaTabela(anterior.length * 2);
+        tamanho = 0;
+        for (long valor : anterior) {
+            if (valor != VAZIO) {
+                inserir(tabela, valor);
+            }
+        }
+    }
+
+    private static long[] novaTabela(int capacidade) {
+        long[] nova = new long[capacidade];
+        Arrays.fill(nova, VAZIO);
+        return nova;
+    }
+
+    private static int espalhar(long valor) {
+        long h = valor * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
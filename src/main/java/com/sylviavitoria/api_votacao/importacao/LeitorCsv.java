@@ -0,0 +1,112 @@
+package com.sylviavitoria.api_votacao.importacao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV (RFC 4180) que devolve um registro por vez: campos entre aspas podem conter
+ * vírgulas, quebras de linha e aspas duplicadas. Linhas em branco são ignoradas e cada campo é
+ * limitado a {@value #TAMANHO_MAXIMO_CAMPO} caracteres, para que um arquivo malformado não seja
+ * carregado inteiro em memória.
+ */
+public class LeitorCsv {
+
+    static final int TAMANHO_MAXIMO_CAMPO = 4096;
+
+    private final Reader entrada;
+    private int linha = 1;
+    private int linhaRegistro;
+    private boolean fim;
+
+    public LeitorCsv(Reader entrada) {
+        this.entrada = entrada instanceof BufferedReader ? entrada : new BufferedReader(entrada, 64 * 1024);
+    }
+
+    /**
+     * Próximo registro, ou {@code null} no fim do arquivo.
+     *
+     * @throws IllegalArgumentException se o registro não puder ser lido; a leitura não continua
+     */
+    public List<String> proximo() throws IOException {
+        while (true) {
+            List<String> campos = ler();
+            if (campos == null || campos.size() > 1 || !campos.get(0).isEmpty()) {
+                return campos;
+            }
+        }
+    }
+
+    /**
+     * Linha do arquivo (começa em 1) em que começa o último registro lido.
+     */
+    public int linhaRegistro() {
+        return linhaRegistro;
+    }
+
+    private List<String> ler() throws IOException {
+        if (fim) {
+            return null;
+        }
+        linhaRegistro = linha;
+        List<String> campos = new ArrayList<>(4);
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        boolean fechouAspas = false;
+
+        while (true) {
+            int c = entrada.read();
+            if (c == -1) {
+                fim = true;
+                if (entreAspas) {
+                    throw new IllegalArgumentException("Aspas não fechadas no registro da linha " + linhaRegistro);
+                }
+                if (campos.isEmpty() && campo.length() == 0) {
+                    return null;
+                }
+                campos.add(campo.toString());
+                return campos;
+            }
+            if (campo.length() >= TAMANHO_MAXIMO_CAMPO) {
+                fim = true;
+                throw new IllegalArgumentException("Campo muito longo no registro da linha " + linhaRegistro);
+            }
+
+            char caractere = (char) c;
+            if (entreAspas) {
+                if (caractere == '"') {
+                    entreAspas = false;
+                    fechouAspas = true;
+                } else {
+                    if (caractere == '\n') {
+                        linha++;
+                    }
+                    campo.append(caractere);
+                }
+                continue;
+            }
+            if (caractere == '"') {
+                // Aspas logo após fechar aspas são uma aspa escapada ("").
+                if (fechouAspas) {
+                    campo.append('"');
+                }
+                entreAspas = true;
+                fechouAspas = false;
+                continue;
+            }
+            fechouAspas = false;
+            if (caractere == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (caractere == '\n') {
+                linha++;
+                campos.add(campo.toString());
+                return campos;
+            } else if (caractere != '\r') {
+                campo.append(caractere);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.sylviavitoria.api_votacao.ingestao;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sylviavitoria.api_votacao.cache.ContagemVotosCache;
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.repository.ContagemVotosJdbcRepository;
+import com.sylviavitoria.api_votacao.repository.ContagemVotosJdbcRepository.Conferencia;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Grava a apuração dos votos aceitos em {@code tb_votos_contagem}, na transação de quem gravou o
+ * voto, e repassa a alteração ao placar em memória, que só a aplica após o commit. Periodicamente
+ * confere os contadores das sessões não finalizadas com os votos de {@code tb_votos}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApuracaoVotos {
+
+    private final ContagemVotosJdbcRepository contagemVotosRepository;
+    private final ContagemVotosCache contagemVotosCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public void inicializar(Long pautaId) {
+        contagemVotosRepository.criarSlots(pautaId);
+        contagemVotosCache.inicializar(pautaId);
+    }
+
+    public void registrar(Long pautaId, OpcaoVoto opcao) {
+        contagemVotosRepository.somar(pautaId, opcao, 1);
+        contagemVotosCache.registrar(pautaId, opcao);
+    }
+
+    public void adicionar(Long pautaId, long votosSim, long votosNao) {
+        // Sempre SIM antes de NAO, para que transações concorrentes travem os slots na mesma ordem.
+        contagemVotosRepository.somar(pautaId, OpcaoVoto.SIM, votosSim);
+        contagemVotosRepository.somar(pautaId, OpcaoVoto.NAO, votosNao);
+        contagemVotosCache.adicionar(pautaId, votosSim, votosNao);
+    }
+
+    public void alterar(Long pautaId, OpcaoVoto anterior, OpcaoVoto nova) {
+        if (anterior == nova) {
+            return;
+        }
+        adicionar(pautaId, nova == OpcaoVoto.SIM ? 1 : -1, nova == OpcaoVoto.NAO ? 1 : -1);
+    }
+
+    /**
+     * Compara, em uma única consulta, os votos de {@code tb_votos} com os contadores de cada sessão
+     * não finalizada e corrige a diferença nos contadores e no placar. Como o voto e o contador são
+     * gravados na mesma transação, a consulta nunca vê um sem o outro: qualquer diferença é real.
+     */
+    @Scheduled(fixedDelayString = "${votacao.apuracao.verificacao-votos-ms:600000}",
+            initialDelayString = "${votacao.apuracao.verificacao-votos-ms:600000}")
+    public void verificarVotos() {
+        for (Conferencia conferencia : contagemVotosRepository.conferirSessoesAbertas()) {
+            VotacaoResumoDTO votos = conferencia.votos();
+            VotacaoResumoDTO contadores = conferencia.contadores();
+            long diferencaSim = votos.getTotalVotosSim() - contadores.getTotalVotosSim();
+            long diferencaNao = votos.getTotalVotosNao() - contadores.getTotalVotosNao();
+            if (diferencaSim == 0 && diferencaNao == 0) {
+                continue;
+            }
+
+            log.warn("Contadores divergentes dos votos para pauta ID: {} - votos SIM: {}, NÃO: {} / contadores SIM: {}, NÃO: {}",
+                    conferencia.pautaId(), votos.getTotalVotosSim(), votos.getTotalVotosNao(),
+                    contadores.getTotalVotosSim(), contadores.getTotalVotosNao());
+            transactionTemplate.executeWithoutResult(
+                    status -> adicionar(conferencia.pautaId(), diferencaSim, diferencaNao));
+        }
+    }
+}
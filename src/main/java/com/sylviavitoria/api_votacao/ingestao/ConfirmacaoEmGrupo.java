@@ -0,0 +1,314 @@
+package com.sylviavitoria.api_votacao.ingestao;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sylviavitoria.api_votacao.dto.VotoRequest;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.exception.BusinessException;
+import com.sylviavitoria.api_votacao.exception.ConfirmacaoPendenteException;
+import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
+import com.sylviavitoria.api_votacao.exception.ServicoIndisponivelException;
+import com.sylviavitoria.api_votacao.exception.VotoDuplicadoException;
+import com.sylviavitoria.api_votacao.repository.VotoJdbcRepository;
+import com.sylviavitoria.api_votacao.repository.VotoJdbcRepository.VotoGravado;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Confirmação em grupo (group commit) do registro síncrono de votos: chamadas concorrentes que
+ * chegam dentro da janela configurada são gravadas em uma única transação, com um INSERT em lote,
+ * e cada chamador é liberado com o próprio resultado depois do commit. Desabilitada, cada voto é
+ * gravado na sua própria transação.
+ */
+@Slf4j
+@Component
+public class ConfirmacaoEmGrupo implements SmartLifecycle {
+
+    private static final long ESPERA_OCIOSA_MS = 100;
+
+    private final VotoJdbcRepository votoJdbcRepository;
+    private final ApuracaoVotos apuracaoVotos;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean habilitada;
+    private final long janelaNanos;
+    private final int maximoVotos;
+    private final long esperaMaximaMs;
+
+    private final LinkedBlockingQueue<Pedido> fila = new LinkedBlockingQueue<>();
+    private final AtomicInteger produtoresAtivos = new AtomicInteger();
+
+    private final Timer latencia;
+    private final Timer duracaoCommits;
+    private final Counter commits;
+    private final DistributionSummary tamanhoGrupos;
+
+    private volatile boolean executando;
+    private Thread confirmador;
+
+    public ConfirmacaoEmGrupo(VotoJdbcRepository votoJdbcRepository, ApuracaoVotos apuracaoVotos,
+            TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+            @Value("${votacao.confirmacao-grupo.habilitada:false}") boolean habilitada,
+            @Value("${votacao.confirmacao-grupo.janela-ms:2}") long janelaMs,
+            @Value("${votacao.confirmacao-grupo.maximo-votos:256}") int maximoVotos,
+            @Value("${votacao.confirmacao-grupo.espera-maxima-ms:5000}") long esperaMaximaMs) {
+        this.votoJdbcRepository = votoJdbcRepository;
+        this.apuracaoVotos = apuracaoVotos;
+        this.transactionTemplate = transactionTemplate;
+        this.habilitada = habilitada;
+        this.janelaNanos = TimeUnit.MILLISECONDS.toNanos(janelaMs);
+        this.maximoVotos = maximoVotos;
+        this.esperaMaximaMs = esperaMaximaMs;
+
+        latencia = Timer.builder("votacao.confirmacao.latencia")
+                .description("Tempo até a confirmação do voto no banco")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        duracaoCommits = Timer.builder("votacao.confirmacao.transacao")
+                .description("Duração das transações de gravação de votos")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        commits = Counter.builder("votacao.confirmacao.commits")
+                .description("Transações de gravação de votos confirmadas")
+                .register(meterRegistry);
+        tamanhoGrupos = DistributionSummary.builder("votacao.confirmacao.grupo")
+                .description("Quantidade de votos por transação")
+                .register(meterRegistry);
+        Gauge.builder("votacao.confirmacao.fila", fila, LinkedBlockingQueue::size)
+                .description("Votos aguardando a próxima transação")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Grava o voto se a sessão estiver aberta em {@code dataHora} e devolve o id gerado com os nomes
+     * do associado e da pauta, bloqueando até o commit da transação que o contém.
+     */
+    public VotoGravado gravar(VotoRequest voto, LocalDateTime dataHora) {
+        long inicio = System.nanoTime();
+        try {
+            return executando ? aguardarGrupo(voto, dataHora) : gravarIndividualmente(voto, dataHora);
+        } finally {
+            latencia.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private VotoGravado aguardarGrupo(VotoRequest voto, LocalDateTime dataHora) {
+        Pedido pedido = new Pedido(voto, dataHora);
+        produtoresAtivos.incrementAndGet();
+        try {
+            if (!executando) {
+                return gravarIndividualmente(voto, dataHora);
+            }
+            fila.add(pedido);
+        } finally {
+            produtoresAtivos.decrementAndGet();
+        }
+
+        try {
+            return pedido.resultado.get(esperaMaximaMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            // O grupo ainda pode ser confirmado depois: o cliente deve consultar o status antes de reenviar.
+            throw new ConfirmacaoPendenteException(
+                    "Confirmação do voto não concluída a tempo. Consulte o status do voto antes de reenviar");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConfirmacaoPendenteException("Confirmação do voto interrompida");
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!habilitada) {
+            return;
+        }
+        executando = true;
+        confirmador = new Thread(this::confirmarContinuamente, "votos-confirmacao-grupo");
+        confirmador.setDaemon(true);
+        confirmador.start();
+        log.info("Confirmação em grupo de votos iniciada: janela de {} µs, até {} votos por transação",
+                TimeUnit.NANOSECONDS.toMicros(janelaNanos), maximoVotos);
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+        if (confirmador == null) {
+            return;
+        }
+        try {
+            confirmador.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        confirmador = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return confirmador != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return FaseIngestao.GRAVACAO_VOTOS;
+    }
+
+    void confirmarContinuamente() {
+        List<Pedido> grupo = new ArrayList<>(maximoVotos);
+        try {
+            while (executando || produtoresAtivos.get() > 0 || !fila.isEmpty()) {
+                Pedido primeiro = fila.poll(ESPERA_OCIOSA_MS, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                grupo.add(primeiro);
+                completarGrupo(grupo);
+                confirmar(grupo);
+                grupo.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Confirmação em grupo interrompida com {} votos no grupo", grupo.size());
+        } finally {
+            // Se a thread sair por interrupção ou erro, novos votos passam a ser gravados individualmente
+            // e os que já estavam esperando são liberados em vez de aguardar até o limite de espera.
+            executando = false;
+            fila.drainTo(grupo);
+            ServicoIndisponivelException erro = new ServicoIndisponivelException("Confirmação em grupo de votos encerrada");
+            grupo.forEach(pedido -> pedido.resultado.completeExceptionally(erro));
+        }
+    }
+
+    private void completarGrupo(List<Pedido> grupo) throws InterruptedException {
+        long limite = System.nanoTime() + janelaNanos;
+        while (grupo.size() < maximoVotos) {
+            fila.drainTo(grupo, maximoVotos - grupo.size());
+            long restante = limite - System.nanoTime();
+            if (grupo.size() >= maximoVotos || restante <= 0) {
+                return;
+            }
+            Pedido proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+            if (proximo == null) {
+                return;
+            }
+            grupo.add(proximo);
+        }
+    }
+
+    void confirmar(List<Pedido> grupo) {
+        tamanhoGrupos.record(grupo.size());
+        List<VotoRequest> votos = grupo.stream().map(Pedido::voto).toList();
+
+        VotoGravado[] gravados;
+        try {
+            gravados = emTransacao(status -> {
+                VotoGravado[] inseridos = votoJdbcRepository.inserirLoteComNomesSeSessaoAberta(votos, i -> grupo.get(i).dataHora());
+                registrarContagem(votos, inseridos);
+                return inseridos;
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Falha ao gravar grupo de {} votos, gravando individualmente: {}", grupo.size(), e.getMessage());
+            grupo.forEach(this::confirmarIndividualmente);
+            return;
+        } catch (RuntimeException e) {
+            log.error("Erro ao gravar grupo de {} votos: {}", grupo.size(), e.getMessage());
+            grupo.forEach(pedido -> pedido.resultado.completeExceptionally(e));
+            return;
+        }
+
+        for (int i = 0; i < grupo.size(); i++) {
+            if (gravados[i] != null) {
+                grupo.get(i).resultado.complete(gravados[i]);
+            } else {
+                grupo.get(i).resultado.completeExceptionally(
+                        new BusinessException("Sessão de votação não está aberta"));
+            }
+        }
+    }
+
+    private void confirmarIndividualmente(Pedido pedido) {
+        try {
+            pedido.resultado.complete(gravarIndividualmente(pedido.voto(), pedido.dataHora()));
+        } catch (RuntimeException e) {
+            pedido.resultado.completeExceptionally(e);
+        }
+    }
+
+    private VotoGravado gravarIndividualmente(VotoRequest voto, LocalDateTime dataHora) {
+        VotoGravado gravado;
+        try {
+            gravado = emTransacao(status -> {
+                VotoGravado inserido = votoJdbcRepository.inserirSeSessaoAberta(voto, dataHora);
+                if (inserido != null) {
+                    apuracaoVotos.registrar(voto.getPautaId(), voto.getOpcao());
+                }
+                return inserido;
+            });
+        } catch (DuplicateKeyException e) {
+            throw new VotoDuplicadoException();
+        } catch (DataIntegrityViolationException e) {
+            if (VotoJdbcRepository.associadoInexistente(e)) {
+                throw new EntityNotFoundException("Associado não encontrado");
+            }
+            throw e;
+        }
+
+        if (gravado == null) {
+            throw new BusinessException("Sessão de votação não está aberta");
+        }
+        return gravado;
+    }
+
+    private <T> T emTransacao(TransactionCallback<T> acao) {
+        long inicio = System.nanoTime();
+        T resultado = transactionTemplate.execute(acao);
+        duracaoCommits.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        commits.increment();
+        return resultado;
+    }
+
+    private void registrarContagem(List<VotoRequest> votos, VotoGravado[] gravados) {
+        Map<Long, long[]> totais = new TreeMap<>();
+        for (int i = 0; i < votos.size(); i++) {
+            if (gravados[i] != null) {
+                long[] total = totais.computeIfAbsent(votos.get(i).getPautaId(), id -> new long[2]);
+                total[votos.get(i).getOpcao() == OpcaoVoto.SIM ? 0 : 1]++;
+            }
+        }
+        totais.forEach((pautaId, total) -> apuracaoVotos.adicionar(pautaId, total[0], total[1]));
+    }
+
+    record Pedido(VotoRequest voto, LocalDateTime dataHora, CompletableFuture<VotoGravado> resultado) {
+        Pedido(VotoRequest voto, LocalDateTime dataHora) {
+            this(voto, dataHora, new CompletableFuture<>());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.sylviavitoria.api_votacao.ingestao;
+
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Fase de ciclo de vida dos componentes que gravam votos em segundo plano.
+ */
+public final class FaseIngestao {
+
+    /**
+     * Depois do servidor web: no desligamento, as gravações pendentes só são esvaziadas quando novas
+     * requisições já não são aceitas.
+     */
+    public static final int GRAVACAO_VOTOS = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private FaseIngestao() {
+    }
+}
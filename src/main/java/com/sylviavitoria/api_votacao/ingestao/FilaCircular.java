@@ -0,0 +1,84 @@
+package com.sylviavitoria.api_votacao.ingestao;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Fila circular limitada e sem locks para vários produtores e um único consumidor. Cada posição
+ * tem um número de sequência que indica se está livre para o próximo produtor ou pronta para o
+ * consumidor; produtores disputam apenas o CAS da cauda.
+ */
+public class FilaCircular<E> {
+
+    private final Object[] elementos;
+    private final AtomicLongArray sequencias;
+    private final int mascara;
+    private final AtomicLong cauda = new AtomicLong();
+    private volatile long cabeca;
+
+    public FilaCircular(int capacidade) {
+        if (capacidade < 2 || Integer.bitCount(capacidade) != 1) {
+            throw new IllegalArgumentException("A capacidade da fila deve ser uma potência de 2");
+        }
+        elementos = new Object[capacidade];
+        sequencias = new AtomicLongArray(capacidade);
+        mascara = capacidade - 1;
+        for (int i = 0; i < capacidade; i++) {
+            sequencias.set(i, i);
+        }
+    }
+
+    public boolean oferecer(E elemento) {
+        long posicao = cauda.get();
+        while (true) {
+            int indice = (int) posicao & mascara;
+            long diferenca = sequencias.get(indice) - posicao;
+            if (diferenca == 0) {
+                if (cauda.compareAndSet(posicao, posicao + 1)) {
+                    elementos[indice] = elemento;
+                    sequencias.lazySet(indice, posicao + 1);
+                    return true;
+                }
+                posicao = cauda.get();
+            } else if (diferenca < 0) {
+                return false;
+            } else {
+                posicao = cauda.get();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public int drenar(Consumer<? super E> consumidor, int limite) {
+        long posicao = cabeca;
+        int drenados = 0;
+        while (drenados < limite) {
+            int indice = (int) posicao & mascara;
+            if (sequencias.get(indice) != posicao + 1) {
+                break;
+            }
+            E elemento = (E) elementos[indice];
+            elementos[indice] = null;
+            sequencias.lazySet(indice, posicao + mascara + 1);
+            posicao++;
+            drenados++;
+            consumidor.accept(elemento);
+        }
+        cabeca = posicao;
+        return drenados;
+    }
+
+    public int tamanho() {
+        long tamanho = cauda.get() - cabeca;
+        return (int) Math.max(0, Math.min(tamanho, elementos.length));
+    }
+
+    public boolean vazia() {
+        return tamanho() == 0;
+    }
+
+    public int capacidade() {
+        return elementos.length;
+    }
+}
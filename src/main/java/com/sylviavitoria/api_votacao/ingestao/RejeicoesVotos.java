@@ -0,0 +1,63 @@
+package com.sylviavitoria.api_votacao.ingestao;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Contador de votos rejeitados ({@code votacao.votos.rejeitados}) com as tags {@code canal}
+ * (síncrono, lote ou assíncrono) e {@code motivo}. O motivo é obtido da mensagem de erro devolvida
+ * ao cliente, que é a mesma nos três canais; mensagens não mapeadas contam como {@code outro}.
+ */
+@Component
+public class RejeicoesVotos {
+
+    public static final String SINCRONO = "sincrono";
+    public static final String LOTE = "lote";
+    public static final String ASSINCRONO = "assincrono";
+
+    static final String OUTRO = "outro";
+
+    private static final Map<String, String> MOTIVOS = Map.of(
+            "Sessão de votação não está aberta", "sessao_fechada",
+            "Não existe sessão de votação para esta pauta", "sessao_inexistente",
+            "Pauta não encontrada", "pauta_inexistente",
+            "Associado já votou nesta pauta", "duplicado",
+            "Associado não encontrado", "associado_inexistente",
+            "Fila de votos cheia. Tente novamente em instantes", "fila_cheia");
+
+    private final Map<String, Map<String, Counter>> contadores = new HashMap<>();
+
+    public RejeicoesVotos(MeterRegistry meterRegistry) {
+        for (String canal : List.of(SINCRONO, LOTE, ASSINCRONO)) {
+            Map<String, Counter> porMotivo = new HashMap<>();
+            for (String motivo : MOTIVOS.values()) {
+                porMotivo.put(motivo, contador(meterRegistry, canal, motivo));
+            }
+            porMotivo.put(OUTRO, contador(meterRegistry, canal, OUTRO));
+            contadores.put(canal, porMotivo);
+        }
+    }
+
+    public void registrar(String canal, String erro) {
+        String motivo = erro != null ? MOTIVOS.getOrDefault(erro, OUTRO) : OUTRO;
+        contadores.get(canal).get(motivo).increment();
+    }
+
+    public void registrar(String canal, RuntimeException erro) {
+        registrar(canal, erro.getMessage());
+    }
+
+    private static Counter contador(MeterRegistry meterRegistry, String canal, String motivo) {
+        return Counter.builder("votacao.votos.rejeitados")
+                .description("Votos rejeitados por canal e motivo")
+                .tag("canal", canal)
+                .tag("motivo", motivo)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,8 @@
+package com.sylviavitoria.api_votacao.ingestao;
+
+import java.time.LocalDateTime;
+
+import com.sylviavitoria.api_votacao.dto.VotoRequest;
+
+public record VotoPendente(String recibo, VotoRequest voto, LocalDateTime dataHora) {
+}
@@ -2,6 +2,7 @@ package com.sylviavitoria.api_votacao.interfaces;
 
 import org.springframework.data.domain.Page;
 
+import com.sylviavitoria.api_votacao.dto.PaginaCursor;
 import com.sylviavitoria.api_votacao.dto.AssociadoListarResponse;
 import com.sylviavitoria.api_votacao.dto.AssociadoRequest;
 import com.sylviavitoria.api_votacao.dto.AssociadoResponse;
@@ -10,6 +11,7 @@ public interface IAssociado {
     AssociadoResponse criar(AssociadoRequest request);
     AssociadoResponse buscarPorId(Long id);
     Page<AssociadoListarResponse> listarTodos(int page, int size, String sort);
+    PaginaCursor<AssociadoListarResponse> listarPorCursor(String cursor, int limite, String sort);
     AssociadoResponse atualizar(Long id, AssociadoRequest request);
     void deletar(Long id);
 }
\ No newline at end of file
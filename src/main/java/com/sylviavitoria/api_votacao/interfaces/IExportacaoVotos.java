@@ -0,0 +1,9 @@
+package com.sylviavitoria.api_votacao.interfaces;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.sylviavitoria.api_votacao.enums.FormatoExportacao;
+
+public interface IExportacaoVotos {
+    StreamingResponseBody exportar(Long pautaId, FormatoExportacao formato);
+}
@@ -0,0 +1,12 @@
+package com.sylviavitoria.api_votacao.interfaces;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.sylviavitoria.api_votacao.dto.ImportacaoAssociadosResponse;
+
+public interface IImportacaoAssociados {
+    ImportacaoAssociadosResponse importarCsv(InputStream corpo) throws IOException;
+
+    ImportacaoAssociadosResponse importarNdjson(InputStream corpo) throws IOException;
+}
@@ -0,0 +1,14 @@
+package com.sylviavitoria.api_votacao.interfaces;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.sylviavitoria.api_votacao.dto.PlacarPautaDTO;
+
+public interface IPainelAssembleia {
+    void acompanhar(Long pautaId);
+
+    void encerrar(Collection<Long> pautaIds);
+
+    List<PlacarPautaDTO> listarPlacares();
+}
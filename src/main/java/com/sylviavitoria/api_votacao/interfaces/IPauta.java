@@ -2,6 +2,7 @@ package com.sylviavitoria.api_votacao.interfaces;
 
 import org.springframework.data.domain.Page;
 
+import com.sylviavitoria.api_votacao.dto.PaginaCursor;
 import com.sylviavitoria.api_votacao.dto.PautaAtualizarRequest;
 import com.sylviavitoria.api_votacao.dto.PautaRequest;
 import com.sylviavitoria.api_votacao.dto.PautaResponse;
@@ -10,6 +11,7 @@ public interface IPauta {
     PautaResponse criar(PautaRequest request);
     PautaResponse buscarPorId(Long id);
     Page<PautaResponse> listarTodos(int page, int size, String sort);
+    PaginaCursor<PautaResponse> listarPorCursor(String cursor, int limite, String sort);
     PautaResponse atualizar(Long id, PautaAtualizarRequest request);
     void deletar(Long id);
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.sylviavitoria.api_votacao.interfaces;
 
+import com.sylviavitoria.api_votacao.dto.PaginaCursor;
+import com.sylviavitoria.api_votacao.dto.FinalizacaoSessoesResponse;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoAtualizarRequest;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoRequest;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoResponse;
@@ -10,5 +12,7 @@ public interface ISessaoVotacao {
     SessaoVotacaoResponse criar(SessaoVotacaoRequest request);
     SessaoVotacaoResponse buscarPorId(Long id);
     Page<SessaoVotacaoResponse> listarTodos(int page, int size, String sort);
+    PaginaCursor<SessaoVotacaoResponse> listarPorCursor(String cursor, int limite, String sort);
     SessaoVotacaoResponse atualizarPeriodo(Long id, SessaoVotacaoAtualizarRequest request);
+    FinalizacaoSessoesResponse finalizarExpiradas();
 }
\ No newline at end of file
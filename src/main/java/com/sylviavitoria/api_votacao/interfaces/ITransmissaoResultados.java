@@ -0,0 +1,7 @@
+package com.sylviavitoria.api_votacao.interfaces;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ITransmissaoResultados {
+    SseEmitter assinar(Long pautaId);
+}
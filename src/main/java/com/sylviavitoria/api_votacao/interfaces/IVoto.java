@@ -4,11 +4,13 @@ import com.sylviavitoria.api_votacao.dto.ResultadoVotacaoResponse;
 import com.sylviavitoria.api_votacao.dto.VotoAtualizarRequest;
 import com.sylviavitoria.api_votacao.dto.VotoRequest;
 import com.sylviavitoria.api_votacao.dto.VotoResponse;
+import com.sylviavitoria.api_votacao.dto.VotoStatusResponse;
 
 
 public interface IVoto {
     VotoResponse registrarVoto(VotoRequest request);
     VotoResponse buscarPorId(Long id); 
+    VotoStatusResponse consultarStatus(Long associadoId, Long pautaId);
     ResultadoVotacaoResponse consultarResultado(Long pautaId);
     VotoResponse atualizarVoto(Long id, VotoAtualizarRequest request);
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.sylviavitoria.api_votacao.interfaces;
+
+import com.sylviavitoria.api_votacao.dto.ReciboVotoResponse;
+import com.sylviavitoria.api_votacao.dto.VotoRequest;
+
+public interface IVotoAssincrono {
+    boolean habilitado();
+    ReciboVotoResponse enfileirar(VotoRequest request);
+    ReciboVotoResponse consultarRecibo(String recibo);
+}
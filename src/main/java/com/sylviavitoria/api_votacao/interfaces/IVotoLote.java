@@ -0,0 +1,10 @@
+package com.sylviavitoria.api_votacao.interfaces;
+
+import java.util.Iterator;
+
+import com.sylviavitoria.api_votacao.dto.VotoLoteResponse;
+import com.sylviavitoria.api_votacao.dto.VotoRequest;
+
+public interface IVotoLote {
+    VotoLoteResponse registrarLote(Iterator<VotoRequest> votos);
+}
@@ -0,0 +1,90 @@
+package com.sylviavitoria.api_votacao.logs;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Limita cada mensagem de log a {@code mensagensPorSegundo} eventos por segundo. A mensagem é
+ * identificada pelo modelo ({@code "Voto registrado: associado ID: {} ..."}), ou seja, pelo ponto
+ * do código que a emite: as mensagens por requisição são amostradas sob carga e as raras passam
+ * sempre. Só vale para os loggers da aplicação abaixo de WARN: avisos, erros e logs de bibliotecas
+ * nunca são suprimidos. Roda antes da montagem do evento, então as mensagens suprimidas não são formatadas nem
+ * enfileiradas; a quantidade fica em {@link #suprimidas()}.
+ */
+public class AmostragemLogs extends TurboFilter {
+
+    /** Modelos acompanhados; mensagens montadas dinamicamente além disso não são limitadas. */
+    static final int MAXIMO_MODELOS = 1_024;
+
+    static final String PACOTE_APLICACAO = "com.sylviavitoria.api_votacao";
+
+    private final int mensagensPorSegundo;
+    private final LongSupplier relogioNanos;
+    private final Map<String, Janela> janelas = new ConcurrentHashMap<>();
+    private final LongAdder suprimidas = new LongAdder();
+
+    public AmostragemLogs(int mensagensPorSegundo) {
+        this(mensagensPorSegundo, System::nanoTime);
+    }
+
+    AmostragemLogs(int mensagensPorSegundo, LongSupplier relogioNanos) {
+        this.mensagensPorSegundo = mensagensPorSegundo;
+        this.relogioNanos = relogioNanos;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String formato, Object[] parametros,
+            Throwable erro) {
+        // Sem modelo é uma consulta isXxxEnabled(); getEffectiveLevel() não chama os TurboFilters de novo.
+        if (!isStarted() || formato == null || mensagensPorSegundo <= 0 || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (level.isGreaterOrEqual(Level.WARN) || !logger.getName().startsWith(PACOTE_APLICACAO)) {
+            return FilterReply.NEUTRAL;
+        }
+        Janela janela = janelas.get(formato);
+        if (janela == null) {
+            if (janelas.size() >= MAXIMO_MODELOS) {
+                return FilterReply.NEUTRAL;
+            }
+            janela = janelas.computeIfAbsent(formato, f -> new Janela());
+        }
+        if (janela.permitir(relogioNanos.getAsLong() / 1_000_000_000L, mensagensPorSegundo)) {
+            return FilterReply.NEUTRAL;
+        }
+        suprimidas.increment();
+        return FilterReply.DENY;
+    }
+
+    public long suprimidas() {
+        return suprimidas.sum();
+    }
+
+    private static final class Janela {
+
+        private volatile long segundo = Long.MIN_VALUE;
+        private final AtomicInteger emitidas = new AtomicInteger();
+
+        boolean permitir(long agora, int limite) {
+            if (segundo != agora) {
+                synchronized (this) {
+                    if (segundo != agora) {
+                        emitidas.set(0);
+                        segundo = agora;
+                    }
+                }
+            }
+            return emitidas.incrementAndGet() <= limite;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.sylviavitoria.api_votacao.logs;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * {@link AsyncAppender} que conta os eventos descartados. Com {@code neverBlock} a thread que loga
+ * nunca espera pela escrita: com a fila acima do limite de descarte os eventos até INFO são
+ * descartados, e com a fila cheia qualquer evento é descartado. O {@code AsyncAppender} descarta
+ * em silêncio; aqui a mesma decisão é tomada antes, para poder contá-la.
+ */
+public class AppenderAssincrono extends AsyncAppender {
+
+    private final LongAdder descartados = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent evento) {
+        if ((isQueueBelowDiscardingThreshold() && isDiscardable(evento))
+                || (isNeverBlock() && getRemainingCapacity() == 0)) {
+            descartados.increment();
+            return;
+        }
+        super.append(evento);
+    }
+
+    public long descartados() {
+        return descartados.sum();
+    }
+}
@@ -0,0 +1,71 @@
+package com.sylviavitoria.api_votacao.logs;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.slf4j.Logger;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+
+/**
+ * Troca cada appender da raiz (os que o Spring Boot configurou: console e, se houver, arquivo) por
+ * um {@link AppenderAssincrono} que escreve nele. Ao fechar, escreve o que ficou nas filas e devolve
+ * os appenders originais à raiz.
+ */
+public class LogsAssincronos implements AutoCloseable {
+
+    private final ch.qos.logback.classic.Logger raiz;
+    private final List<AppenderAssincrono> assincronos = new ArrayList<>();
+
+    public LogsAssincronos(LoggerContext contexto, int tamanhoFila) {
+        this.raiz = contexto.getLogger(Logger.ROOT_LOGGER_NAME);
+
+        List<Appender<ILoggingEvent>> originais = new ArrayList<>();
+        for (Iterator<Appender<ILoggingEvent>> it = raiz.iteratorForAppenders(); it.hasNext();) {
+            Appender<ILoggingEvent> appender = it.next();
+            if (!(appender instanceof AppenderAssincrono)) {
+                originais.add(appender);
+            }
+        }
+
+        for (Appender<ILoggingEvent> original : originais) {
+            AppenderAssincrono assincrono = new AppenderAssincrono();
+            assincrono.setName("ASYNC_" + original.getName());
+            assincrono.setContext(contexto);
+            assincrono.setQueueSize(tamanhoFila);
+            assincrono.setNeverBlock(true);
+            assincrono.addAppender(original);
+            assincrono.start();
+
+            raiz.addAppender(assincrono);
+            raiz.detachAppender(original);
+            assincronos.add(assincrono);
+        }
+    }
+
+    public long descartados() {
+        return assincronos.stream().mapToLong(AppenderAssincrono::descartados).sum();
+    }
+
+    public long pendentes() {
+        return assincronos.stream().mapToLong(AppenderAssincrono::getNumberOfElementsInQueue).sum();
+    }
+
+    @Override
+    public void close() {
+        for (AppenderAssincrono assincrono : assincronos) {
+            Appender<ILoggingEvent> original = assincrono.iteratorForAppenders().next();
+            // stop() escreve o que ainda está na fila e para o appender original, que é reiniciado.
+            assincrono.stop();
+            if (!original.isStarted()) {
+                original.start();
+            }
+            raiz.addAppender(original);
+            raiz.detachAppender(assincrono);
+        }
+        assincronos.clear();
+    }
+}
@@ -1,23 +1,28 @@
 package com.sylviavitoria.api_votacao.mapper;
 
+import java.time.LocalDateTime;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.sylviavitoria.api_votacao.cache.ContagemVotosCache;
 import com.sylviavitoria.api_votacao.dto.AssociadoDTO;
+import com.sylviavitoria.api_votacao.dto.PautaListagemDTO;
 import com.sylviavitoria.api_votacao.dto.PautaRequest;
 import com.sylviavitoria.api_votacao.dto.PautaResponse;
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
+import com.sylviavitoria.api_votacao.enums.StatusPauta;
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
 import com.sylviavitoria.api_votacao.model.Associado;
 import com.sylviavitoria.api_votacao.model.Pauta;
-import com.sylviavitoria.api_votacao.repository.VotoRepository;
-import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public abstract class PautaMapper {
     
     @Autowired
-    protected VotoRepository votoRepository;
+    protected ContagemVotosCache contagemVotosCache;
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "dataCriacao", ignore = true)
@@ -31,13 +36,39 @@ public abstract class PautaMapper {
     @Mapping(target = "totalVotosSim", expression = "java(getVotosSim(pauta))")
     @Mapping(target = "totalVotosNao", expression = "java(getVotosNao(pauta))")
     public abstract PautaResponse toResponse(Pauta pauta);
-    
+
+    @Mapping(target = "id", source = "pauta.id")
+    @Mapping(target = "criador.id", source = "pauta.criadorId")
+    @Mapping(target = "criador.nome", source = "pauta.criadorNome")
+    @Mapping(target = "status", expression = "java(statusDerivado(pauta, resumo))")
+    @Mapping(target = "totalVotosSim", source = "resumo.totalVotosSim")
+    @Mapping(target = "totalVotosNao", source = "resumo.totalVotosNao")
+    public abstract PautaResponse toResponse(PautaListagemDTO pauta, VotacaoResumoDTO resumo);
+
+    /**
+     * Status da pauta derivado do período da sessão e dos totais de votos, para leituras que não
+     * devem persistir transições ainda não gravadas pelo agendador.
+     */
+    protected StatusPauta statusDerivado(PautaListagemDTO pauta, VotacaoResumoDTO resumo) {
+        if (pauta.getStatusSessao() == null) {
+            return pauta.getStatus();
+        }
+        StatusSessao sessao = StatusSessao.derivar(pauta.getStatusSessao(), pauta.getDataAbertura(),
+                pauta.getDataFechamento(), LocalDateTime.now());
+        return switch (sessao) {
+            case FECHADA -> pauta.getStatus();
+            case ABERTA -> StatusPauta.EM_VOTACAO;
+            case FINALIZADA -> pauta.getStatus().encerrada() ? pauta.getStatus()
+                    : StatusPauta.resultado(resumo.getTotalVotosSim(), resumo.getTotalVotosNao());
+        };
+    }
+
     protected Long getVotosSim(Pauta pauta) {
-        return votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM);
+        return contagemVotosCache.obterVotosSim(pauta.getId());
     }
     
     protected Long getVotosNao(Pauta pauta) {
-        return votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO);
+        return contagemVotosCache.obterVotosNao(pauta.getId());
     }
     
     protected AssociadoDTO toAssociadoDTO(Associado associado) {
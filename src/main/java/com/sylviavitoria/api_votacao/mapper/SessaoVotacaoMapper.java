@@ -1,10 +1,14 @@
 package com.sylviavitoria.api_votacao.mapper;
 
+import java.time.LocalDateTime;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
+import com.sylviavitoria.api_votacao.dto.SessaoVotacaoListagemDTO;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoResponse;
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
 import com.sylviavitoria.api_votacao.model.SessaoVotacao;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
@@ -12,6 +16,19 @@ public interface SessaoVotacaoMapper {
     
     @Mapping(target = "pautaId", source = "pauta.id")
     @Mapping(target = "pautaTitulo", source = "pauta.titulo")
+    @Mapping(target = "status", expression = "java(sessao.statusEm(java.time.LocalDateTime.now()))")
     @Mapping(target = "abertaParaVotacao", expression = "java(sessao.estaAberta())")
     SessaoVotacaoResponse toResponse(SessaoVotacao sessao);
+
+    @Mapping(target = "status", expression = "java(statusEm(sessao, java.time.LocalDateTime.now()))")
+    @Mapping(target = "abertaParaVotacao", expression = "java(estaAberta(sessao, java.time.LocalDateTime.now()))")
+    SessaoVotacaoResponse toResponse(SessaoVotacaoListagemDTO sessao);
+
+    default StatusSessao statusEm(SessaoVotacaoListagemDTO sessao, LocalDateTime agora) {
+        return StatusSessao.derivar(sessao.getStatus(), sessao.getDataAbertura(), sessao.getDataFechamento(), agora);
+    }
+
+    default boolean estaAberta(SessaoVotacaoListagemDTO sessao, LocalDateTime agora) {
+        return !agora.isBefore(sessao.getDataAbertura()) && !agora.isAfter(sessao.getDataFechamento());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.sylviavitoria.api_votacao.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import com.sylviavitoria.api_votacao.enums.StatusPauta;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Resultado final de uma pauta, gravado uma única vez quando a sessão é finalizada e nunca
+ * alterado depois.
+ */
+@Entity
+@Immutable
+@Table(name = "tb_resultados")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Resultado {
+
+    @Id
+    @Column(name = "pauta_id")
+    private Long pautaId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "pauta_id")
+    private Pauta pauta;
+
+    @Column(name = "votos_sim", nullable = false)
+    private long votosSim;
+
+    @Column(name = "votos_nao", nullable = false)
+    private long votosNao;
+
+    @Column(name = "total_votos", nullable = false)
+    private long totalVotos;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatusPauta status;
+
+    @Column(name = "data_finalizacao", nullable = false)
+    private LocalDateTime dataFinalizacao;
+
+    public static Resultado de(Pauta pauta, long votosSim, long votosNao, LocalDateTime dataFinalizacao) {
+        Resultado resultado = new Resultado();
+        resultado.setPauta(pauta);
+        resultado.setVotosSim(votosSim);
+        resultado.setVotosNao(votosNao);
+        resultado.setTotalVotos(votosSim + votosNao);
+        resultado.setStatus(StatusPauta.resultado(votosSim, votosNao));
+        resultado.setDataFinalizacao(dataFinalizacao);
+        return resultado;
+    }
+}
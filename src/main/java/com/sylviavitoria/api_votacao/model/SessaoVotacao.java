@@ -46,6 +46,13 @@ public class SessaoVotacao {
                 (agora.isBefore(this.dataFechamento) || agora.isEqual(this.dataFechamento));
     }
 
+    /**
+     * Status da sessão em {@code agora}, derivado do período de votação sem alterar a entidade.
+     */
+    public StatusSessao statusEm(LocalDateTime agora) {
+        return StatusSessao.derivar(this.status, this.dataAbertura, this.dataFechamento, agora);
+    }
+
     public boolean deveSerFinalizada() {
         return this.status == StatusSessao.ABERTA &&
                 LocalDateTime.now().isAfter(this.dataFechamento);
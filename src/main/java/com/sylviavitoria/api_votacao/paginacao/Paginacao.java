@@ -0,0 +1,107 @@
+package com.sylviavitoria.api_votacao.paginacao;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import com.sylviavitoria.api_votacao.dto.PaginaCursor;
+import com.sylviavitoria.api_votacao.exception.ParametroInvalidoException;
+
+/**
+ * Paginação por chave (keyset). O cursor guarda a chave de ordenação, o valor dela e o id do último
+ * item entregue; a página seguinte é lida com {@code chave > valor OR (chave = valor AND id > id)}
+ * sobre um índice {@code (chave, id)}, então o custo não cresce com a profundidade e não há
+ * {@code COUNT(*)}.
+ */
+public final class Paginacao {
+
+    /**
+     * Mesmo teto de {@code spring.data.web.pageable.max-page-size}, aplicado também à paginação por
+     * página, que recebe o tamanho como parâmetro simples.
+     */
+    public static final int LIMITE_MAXIMO = 100;
+
+    private static final char SEPARADOR = '\u001f';
+
+    private Paginacao() {
+    }
+
+    public static int limitar(int tamanho) {
+        return Math.max(1, Math.min(tamanho, LIMITE_MAXIMO));
+    }
+
+    /**
+     * Chave de ordenação pedida, ou a padrão; só são aceitas chaves com índice {@code (chave, id)}.
+     */
+    public static String ordenacao(String sort, String padrao, List<String> suportadas) {
+        String ordenacao = sort == null || sort.isBlank() ? padrao : sort;
+        if (!suportadas.contains(ordenacao)) {
+            throw new ParametroInvalidoException("Ordenação não suportada na paginação por cursor: " + ordenacao
+                    + ". Use: " + String.join(", ", suportadas));
+        }
+        return ordenacao;
+    }
+
+    /**
+     * Posição do cursor, ou {@code null} na primeira página.
+     */
+    public static Cursor decodificar(String cursor, String ordenacao) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String texto;
+        long id;
+        int inicioValor;
+        int fimValor;
+        try {
+            texto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            inicioValor = texto.indexOf(SEPARADOR);
+            fimValor = texto.lastIndexOf(SEPARADOR);
+            id = inicioValor < fimValor ? Long.parseLong(texto.substring(fimValor + 1)) : -1;
+        } catch (IllegalArgumentException e) {
+            throw new ParametroInvalidoException("Cursor inválido");
+        }
+        if (id < 0) {
+            throw new ParametroInvalidoException("Cursor inválido");
+        }
+        if (!texto.substring(0, inicioValor).equals(ordenacao)) {
+            throw new ParametroInvalidoException("O cursor foi gerado para outra ordenação");
+        }
+        return new Cursor(ordenacao, texto.substring(inicioValor + 1, fimValor), id);
+    }
+
+    /**
+     * Monta a página a partir de até {@code limite + 1} itens lidos: o item excedente só indica que
+     * existe uma próxima página.
+     */
+    public static <T> PaginaCursor<T> pagina(List<T> itens, int limite, Function<T, Cursor> cursor) {
+        if (itens.size() <= limite) {
+            return new PaginaCursor<>(itens, limite, null);
+        }
+        List<T> conteudo = itens.subList(0, limite);
+        return new PaginaCursor<>(conteudo, limite, cursor.apply(conteudo.get(limite - 1)).codificar());
+    }
+
+    public record Cursor(String ordenacao, String valor, long id) {
+
+        public static Cursor de(String ordenacao, Object valor, Long id) {
+            return new Cursor(ordenacao, valor != null ? valor.toString() : "", id);
+        }
+
+        public LocalDateTime dataHora() {
+            try {
+                return LocalDateTime.parse(valor);
+            } catch (DateTimeParseException e) {
+                throw new ParametroInvalidoException("Cursor inválido");
+            }
+        }
+
+        public String codificar() {
+            String texto = ordenacao + SEPARADOR + valor + SEPARADOR + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
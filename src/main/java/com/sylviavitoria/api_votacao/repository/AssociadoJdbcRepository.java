@@ -0,0 +1,117 @@
+package com.sylviavitoria.api_votacao.repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.sylviavitoria.api_votacao.dto.AssociadoRequest;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+@Timed(value = "votacao.repositorio.jdbc", description = "Consultas e gravações JDBC", histogram = true)
+public class AssociadoJdbcRepository {
+
+    private static final String CRIAR_TABELA_IMPORTACAO =
+            "CREATE TEMPORARY TABLE tmp_associados_importacao (nome VARCHAR(255), cpf VARCHAR(11), email VARCHAR(255)) "
+                    + "ON COMMIT DROP";
+
+    private static final String COPIAR_IMPORTACAO =
+            "COPY tmp_associados_importacao (nome, cpf, email) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String MESCLAR_IMPORTACAO =
+            "INSERT INTO tb_associados (nome, cpf, email) SELECT nome, cpf, email FROM tmp_associados_importacao "
+                    + "ON CONFLICT (cpf) DO NOTHING";
+
+    private static final String INSERIR_SE_NOVO =
+            "INSERT INTO tb_associados (nome, cpf, email) SELECT ?, ?, ? "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM tb_associados WHERE cpf = ?)";
+
+    private static final String INSERIR_SE_NOVO_POSTGRES =
+            "INSERT INTO tb_associados (nome, cpf, email) VALUES (?, ?, ?) ON CONFLICT (cpf) DO NOTHING";
+
+    private static final String UK_ASSOCIADO_CPF = "uk_associado_cpf";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DialetoBanco dialetoBanco;
+
+    /**
+     * Insere os associados cujo CPF ainda não está cadastrado e devolve quantos foram inseridos.
+     * No PostgreSQL o bloco é enviado com {@code COPY} para uma tabela temporária e mesclado em
+     * {@code tb_associados} por uma única instrução; nos demais bancos, por um batch de inserts.
+     * Deve rodar em uma transação.
+     */
+    public int inserirNovos(List<AssociadoRequest> associados) {
+        if (associados.isEmpty()) {
+            return 0;
+        }
+        if (dialetoBanco.postgres()) {
+            return copiar(associados);
+        }
+        int[][] inseridos = jdbcTemplate.batchUpdate(INSERIR_SE_NOVO, associados, associados.size(),
+                (ps, associado) -> {
+                    ps.setString(1, associado.getNome());
+                    ps.setString(2, associado.getCpf());
+                    ps.setString(3, associado.getEmail());
+                    ps.setString(4, associado.getCpf());
+                });
+        return Arrays.stream(inseridos[0]).sum();
+    }
+
+    /**
+     * Insere um único associado se o CPF ainda não estiver cadastrado, sem a tabela temporária da
+     * importação em bloco, e devolve se ele foi inserido.
+     */
+    public boolean inserirSeNovo(AssociadoRequest associado) {
+        if (dialetoBanco.postgres()) {
+            return jdbcTemplate.update(INSERIR_SE_NOVO_POSTGRES, associado.getNome(), associado.getCpf(),
+                    associado.getEmail()) == 1;
+        }
+        return jdbcTemplate.update(INSERIR_SE_NOVO, associado.getNome(), associado.getCpf(), associado.getEmail(),
+                associado.getCpf()) == 1;
+    }
+
+    /**
+     * Indica se a violação é do CPF único ({@code uk_associado_cpf}); o H2 e o PostgreSQL citam o
+     * nome da restrição na mensagem.
+     */
+    public static boolean cpfCadastrado(DataIntegrityViolationException e) {
+        String mensagem = e.getMostSpecificCause().getMessage();
+        return mensagem != null && mensagem.toLowerCase(Locale.ROOT).contains(UK_ASSOCIADO_CPF);
+    }
+
+    private int copiar(List<AssociadoRequest> associados) {
+        StringBuilder csv = new StringBuilder(associados.size() * 64);
+        for (AssociadoRequest associado : associados) {
+            csv.append(campoCsv(associado.getNome())).append(',')
+                    .append(associado.getCpf()).append(',')
+                    .append(campoCsv(associado.getEmail())).append('\n');
+        }
+
+        jdbcTemplate.execute(CRIAR_TABELA_IMPORTACAO);
+        jdbcTemplate.execute((ConnectionCallback<Long>) con -> {
+            try {
+                return con.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn(COPIAR_IMPORTACAO, new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return jdbcTemplate.update(MESCLAR_IMPORTACAO);
+    }
+
+    private static String campoCsv(String valor) {
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
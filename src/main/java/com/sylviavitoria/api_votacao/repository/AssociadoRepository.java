@@ -1,12 +1,32 @@
 package com.sylviavitoria.api_votacao.repository;
 
+import com.sylviavitoria.api_votacao.dto.AssociadoListarResponse;
 import com.sylviavitoria.api_votacao.model.Associado;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface AssociadoRepository extends JpaRepository<Associado, Long> {
     Optional<Associado> findByCpf(String cpf);
+
+    @Query("SELECT a.id FROM Associado a WHERE a.id IN :ids")
+    List<Long> findIdsExistentes(Collection<Long> ids);
+
+    String LISTAGEM = "SELECT new com.sylviavitoria.api_votacao.dto.AssociadoListarResponse(a.id, a.nome, a.email) " +
+           "FROM Associado a";
+
+    @Query(LISTAGEM + " WHERE a.id > :id ORDER BY a.id")
+    List<AssociadoListarResponse> listarAposId(Long id, Limit limite);
+
+    @Query(LISTAGEM + " ORDER BY a.nome, a.id")
+    List<AssociadoListarResponse> listarPorNome(Limit limite);
+
+    @Query(LISTAGEM + " WHERE a.nome >= :nome AND (a.nome > :nome OR a.id > :id) ORDER BY a.nome, a.id")
+    List<AssociadoListarResponse> listarAposNome(String nome, Long id, Limit limite);
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.sylviavitoria.api_votacao.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Contadores persistidos de votos em {@code tb_votos_contagem}. Cada (pauta, opção) tem vários
+ * slots e cada transação incrementa um slot sorteado, para que votos simultâneos não disputem o
+ * lock da mesma linha; o total é a soma dos slots.
+ */
+@Repository
+@RequiredArgsConstructor
+@Timed(value = "votacao.repositorio.jdbc", description = "Consultas e gravações JDBC", histogram = true)
+public class ContagemVotosJdbcRepository {
+
+    private static final String CRIAR_SLOT =
+            "INSERT INTO tb_votos_contagem (pauta_id, opcao, slot, quantidade) SELECT ?, ?, ?, ? "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM tb_votos_contagem WHERE pauta_id = ? AND opcao = ? AND slot = ?)";
+
+    private static final String CRIAR_SLOT_POSTGRES =
+            "INSERT INTO tb_votos_contagem (pauta_id, opcao, slot, quantidade) VALUES (?, ?, ?, ?) "
+                    + "ON CONFLICT (pauta_id, opcao, slot) DO NOTHING";
+
+    private static final String SOMAR =
+            "UPDATE tb_votos_contagem SET quantidade = quantidade + ? WHERE pauta_id = ? AND opcao = ? AND slot = ?";
+
+    private static final String CONTABILIZAR =
+            "SELECT COALESCE(SUM(CASE WHEN opcao = 'SIM' THEN quantidade END), 0), "
+                    + "COALESCE(SUM(CASE WHEN opcao = 'NAO' THEN quantidade END), 0) "
+                    + "FROM tb_votos_contagem WHERE pauta_id = ?";
+
+    private static final String CONTABILIZAR_PAUTAS =
+            "SELECT pauta_id, COALESCE(SUM(CASE WHEN opcao = 'SIM' THEN quantidade END), 0), "
+                    + "COALESCE(SUM(CASE WHEN opcao = 'NAO' THEN quantidade END), 0) "
+                    + "FROM tb_votos_contagem WHERE pauta_id IN (%s) GROUP BY pauta_id";
+
+    private static final String CONFERIR_SESSOES_ABERTAS =
+            "SELECT s.pauta_id, "
+                    + "(SELECT COUNT(*) FROM tb_votos v WHERE v.pauta_id = s.pauta_id AND v.opcao = 'SIM'), "
+                    + "(SELECT COUNT(*) FROM tb_votos v WHERE v.pauta_id = s.pauta_id AND v.opcao = 'NAO'), "
+                    + "(SELECT COALESCE(SUM(c.quantidade), 0) FROM tb_votos_contagem c WHERE c.pauta_id = s.pauta_id AND c.opcao = 'SIM'), "
+                    + "(SELECT COALESCE(SUM(c.quantidade), 0) FROM tb_votos_contagem c WHERE c.pauta_id = s.pauta_id AND c.opcao = 'NAO') "
+                    + "FROM tb_sessoes_votacao s WHERE s.status <> 'FINALIZADA'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DialetoBanco dialetoBanco;
+
+    @Value("${votacao.contagem.slots:16}")
+    private int slots = 16;
+
+    public void criarSlots(Long pautaId) {
+        List<Object[]> linhas = new ArrayList<>(slots * OpcaoVoto.values().length);
+        for (OpcaoVoto opcao : OpcaoVoto.values()) {
+            for (int slot = 0; slot < slots; slot++) {
+                linhas.add(new Object[] { pautaId, opcao.name(), slot, 0, pautaId, opcao.name(), slot });
+            }
+        }
+        jdbcTemplate.batchUpdate(CRIAR_SLOT, linhas);
+    }
+
+    public void somar(Long pautaId, OpcaoVoto opcao, long quantidade) {
+        if (quantidade == 0) {
+            return;
+        }
+        int slot = ThreadLocalRandom.current().nextInt(slots);
+        if (jdbcTemplate.update(SOMAR, quantidade, pautaId, opcao.name(), slot) == 0
+                && !criarSlot(pautaId, opcao, slot, quantidade)) {
+            // Outra transação criou o slot ao mesmo tempo.
+            jdbcTemplate.update(SOMAR, quantidade, pautaId, opcao.name(), slot);
+        }
+    }
+
+    /**
+     * Cria o slot que falta já com a quantidade; pautas anteriores aos slots, ou a um aumento de
+     * {@code votacao.contagem.slots}, ganham os slots novos conforme recebem votos.
+     */
+    private boolean criarSlot(Long pautaId, OpcaoVoto opcao, int slot, long quantidade) {
+        if (dialetoBanco.postgres()) {
+            return jdbcTemplate.update(CRIAR_SLOT_POSTGRES, pautaId, opcao.name(), slot, quantidade) == 1;
+        }
+        try {
+            return jdbcTemplate.update(CRIAR_SLOT, pautaId, opcao.name(), slot, quantidade,
+                    pautaId, opcao.name(), slot) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public VotacaoResumoDTO contabilizarVotosPorPauta(Long pautaId) {
+        return jdbcTemplate.queryForObject(CONTABILIZAR,
+                (rs, linha) -> new VotacaoResumoDTO(rs.getLong(1), rs.getLong(2)), pautaId);
+    }
+
+    /**
+     * Totais de várias pautas em uma única consulta agrupada; pautas sem contadores ficam de fora.
+     */
+    public Map<Long, VotacaoResumoDTO> contabilizarVotosPorPautas(Collection<Long> pautaIds) {
+        Map<Long, VotacaoResumoDTO> totais = new HashMap<>();
+        if (pautaIds.isEmpty()) {
+            return totais;
+        }
+        String sql = CONTABILIZAR_PAUTAS.formatted(String.join(", ", Collections.nCopies(pautaIds.size(), "?")));
+        jdbcTemplate.query(sql, rs -> {
+            totais.put(rs.getLong(1), new VotacaoResumoDTO(rs.getLong(2), rs.getLong(3)));
+        }, pautaIds.toArray());
+        return totais;
+    }
+
+    /**
+     * Votos de {@code tb_votos} e contadores de cada sessão não finalizada, lidos na mesma consulta.
+     */
+    public List<Conferencia> conferirSessoesAbertas() {
+        return jdbcTemplate.query(CONFERIR_SESSOES_ABERTAS, (rs, linha) -> new Conferencia(rs.getLong(1),
+                new VotacaoResumoDTO(rs.getLong(2), rs.getLong(3)),
+                new VotacaoResumoDTO(rs.getLong(4), rs.getLong(5))));
+    }
+
+    public record Conferencia(Long pautaId, VotacaoResumoDTO votos, VotacaoResumoDTO contadores) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.sylviavitoria.api_votacao.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converte datas nas consultas JDBC da mesma forma que o Hibernate faz com
+ * {@code hibernate.jdbc.time_zone}, para que linhas gravadas pelos dois caminhos sejam comparáveis.
+ */
+@Component
+public class ConversorDataHoraJdbc {
+
+    private final TimeZone fusoHorario;
+
+    public ConversorDataHoraJdbc(@Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}") String fusoHorario) {
+        this.fusoHorario = fusoHorario == null || fusoHorario.isBlank()
+                ? TimeZone.getDefault()
+                : TimeZone.getTimeZone(ZoneId.of(fusoHorario));
+    }
+
+    public Timestamp paraBanco(LocalDateTime dataHora) {
+        return dataHora == null ? null : Timestamp.valueOf(dataHora);
+    }
+
+    public Calendar calendario() {
+        return Calendar.getInstance(fusoHorario);
+    }
+
+    public LocalDateTime doBanco(ResultSet rs, String coluna) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(coluna, calendario());
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,35 @@
+package com.sylviavitoria.api_votacao.repository;
+
+import java.sql.DatabaseMetaData;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Identifica o banco em uso, para as instruções que têm uma versão própria do PostgreSQL.
+ */
+@Component
+@RequiredArgsConstructor
+public class DialetoBanco {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    public boolean postgres() {
+        if (postgres == null) {
+            try {
+                String banco = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                        DatabaseMetaData::getDatabaseProductName);
+                postgres = "PostgreSQL".equalsIgnoreCase(banco);
+            } catch (MetaDataAccessException e) {
+                postgres = false;
+            }
+        }
+        return postgres;
+    }
+}
@@ -1,11 +1,40 @@
 package com.sylviavitoria.api_votacao.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.sylviavitoria.api_votacao.dto.PautaListagemDTO;
 import com.sylviavitoria.api_votacao.model.Pauta;
 
 @Repository
 public interface PautaRepository extends JpaRepository<Pauta, Long> {
     boolean existsByCriadorId(Long criadorId);
+
+    String LISTAGEM = "SELECT new com.sylviavitoria.api_votacao.dto.PautaListagemDTO(" +
+           "p.id, p.titulo, p.descricao, p.dataCriacao, p.status, c.id, c.nome, " +
+           "s.dataAbertura, s.dataFechamento, s.status, r.votosSim, r.votosNao) " +
+           "FROM Pauta p JOIN p.criador c LEFT JOIN SessaoVotacao s ON s.pauta = p " +
+           "LEFT JOIN Resultado r ON r.pauta = p";
+
+    @Query(value = LISTAGEM, countQuery = "SELECT COUNT(p) FROM Pauta p")
+    Page<PautaListagemDTO> listar(Pageable pageable);
+
+    @Query(LISTAGEM + " WHERE p.id = :id")
+    Optional<PautaListagemDTO> buscarListagem(Long id);
+
+    @Query(LISTAGEM + " WHERE p.id > :id ORDER BY p.id")
+    List<PautaListagemDTO> listarAposId(Long id, Limit limite);
+
+    @Query(LISTAGEM + " ORDER BY p.titulo, p.id")
+    List<PautaListagemDTO> listarPorTitulo(Limit limite);
+
+    @Query(LISTAGEM + " WHERE p.titulo >= :titulo AND (p.titulo > :titulo OR p.id > :id) ORDER BY p.titulo, p.id")
+    List<PautaListagemDTO> listarAposTitulo(String titulo, Long id, Limit limite);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.sylviavitoria.api_votacao.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.sylviavitoria.api_votacao.dto.ResultadoVotacaoResponse;
+import com.sylviavitoria.api_votacao.model.Resultado;
+
+@Repository
+public interface ResultadoRepository extends JpaRepository<Resultado, Long> {
+
+    @Query("SELECT new com.sylviavitoria.api_votacao.dto.ResultadoVotacaoResponse(" +
+           "r.pautaId, p.titulo, r.votosSim, r.votosNao, r.totalVotos) " +
+           "FROM Resultado r JOIN r.pauta p WHERE r.pautaId = :pautaId")
+    Optional<ResultadoVotacaoResponse> buscarResposta(Long pautaId);
+}
@@ -0,0 +1,105 @@
+package com.sylviavitoria.api_votacao.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+@Timed(value = "votacao.repositorio.jdbc", description = "Consultas e gravações JDBC", histogram = true)
+public class SessaoVotacaoJdbcRepository {
+
+    private static final String STATUS_FINAL =
+            "CASE WHEN r.sim > r.nao THEN 'APROVADA' WHEN r.nao > r.sim THEN 'RECUSADA' ELSE 'EMPATADA' END";
+
+    // Trava as sessões expiradas antes de somar os contadores: no PostgreSQL espera o commit dos
+    // votos em andamento (que travam a sessão com FOR SHARE), e as instruções seguintes, com um novo
+    // snapshot, já enxergam esses votos.
+    private static final String TRAVAR_EXPIRADAS =
+            "SELECT pauta_id FROM tb_sessoes_votacao WHERE status <> 'FINALIZADA' AND data_fechamento < ? FOR UPDATE";
+
+    // Uma única instrução: finaliza as sessões travadas, soma os contadores por pauta, grava os
+    // resultados e atualiza as pautas, devolvendo os ids delas.
+    private static final String FINALIZAR_EXPIRADAS_POSTGRES =
+            "WITH finalizadas AS ("
+                    + " UPDATE tb_sessoes_votacao SET status = 'FINALIZADA'"
+                    + " WHERE status <> 'FINALIZADA' AND pauta_id = ANY (?)"
+                    + " RETURNING pauta_id"
+                    + "), totais AS ("
+                    + " SELECT c.pauta_id,"
+                    + " SUM(CASE WHEN c.opcao = 'SIM' THEN c.quantidade ELSE 0 END) AS sim,"
+                    + " SUM(CASE WHEN c.opcao = 'NAO' THEN c.quantidade ELSE 0 END) AS nao"
+                    + " FROM tb_votos_contagem c JOIN finalizadas f ON f.pauta_id = c.pauta_id"
+                    + " GROUP BY c.pauta_id"
+                    + "), r AS ("
+                    + " SELECT f.pauta_id, COALESCE(t.sim, 0) AS sim, COALESCE(t.nao, 0) AS nao"
+                    + " FROM finalizadas f LEFT JOIN totais t ON t.pauta_id = f.pauta_id"
+                    + "), resultados AS ("
+                    + " INSERT INTO tb_resultados (pauta_id, votos_sim, votos_nao, total_votos, status, data_finalizacao)"
+                    + " SELECT r.pauta_id, r.sim, r.nao, r.sim + r.nao, " + STATUS_FINAL + ", ? FROM r"
+                    + " ON CONFLICT (pauta_id) DO NOTHING"
+                    + ") "
+                    + "UPDATE tb_pautas p SET status = " + STATUS_FINAL
+                    + " FROM r WHERE p.id = r.pauta_id"
+                    + " RETURNING p.id";
+
+    private static final String TOTAIS_EXPIRADAS =
+            "SELECT s.pauta_id,"
+                    + " COALESCE(SUM(CASE WHEN c.opcao = 'SIM' THEN c.quantidade END), 0) AS sim,"
+                    + " COALESCE(SUM(CASE WHEN c.opcao = 'NAO' THEN c.quantidade END), 0) AS nao"
+                    + " FROM tb_sessoes_votacao s LEFT JOIN tb_votos_contagem c ON c.pauta_id = s.pauta_id"
+                    + " WHERE s.status <> 'FINALIZADA' AND s.data_fechamento < ?"
+                    + " GROUP BY s.pauta_id";
+
+    private static final String GRAVAR_RESULTADOS_EXPIRADAS =
+            "INSERT INTO tb_resultados (pauta_id, votos_sim, votos_nao, total_votos, status, data_finalizacao)"
+                    + " SELECT r.pauta_id, r.sim, r.nao, r.sim + r.nao, " + STATUS_FINAL + ", ?"
+                    + " FROM (" + TOTAIS_EXPIRADAS + ") r"
+                    + " WHERE NOT EXISTS (SELECT 1 FROM tb_resultados x WHERE x.pauta_id = r.pauta_id)";
+
+    private static final String ATUALIZAR_PAUTAS_EXPIRADAS =
+            "MERGE INTO tb_pautas p USING (" + TOTAIS_EXPIRADAS + ") r ON p.id = r.pauta_id "
+                    + "WHEN MATCHED THEN UPDATE SET status = " + STATUS_FINAL;
+
+    private static final String FINALIZAR_SESSOES_EXPIRADAS =
+            "UPDATE tb_sessoes_votacao SET status = 'FINALIZADA' WHERE status <> 'FINALIZADA' AND data_fechamento < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConversorDataHoraJdbc conversorDataHora;
+    private final DialetoBanco dialetoBanco;
+
+    /**
+     * Finaliza todas as sessões não finalizadas com fechamento anterior a {@code limite}, grava o
+     * resultado das pautas em {@code tb_resultados} (uma única vez por pauta) e atualiza o status
+     * delas a partir de {@code tb_votos_contagem}. Deve rodar em uma transação, que mantém as
+     * sessões travadas até o commit. Devolve os ids das pautas finalizadas.
+     */
+    public List<Long> finalizarExpiradas(LocalDateTime limite, LocalDateTime dataFinalizacao) {
+        List<Long> pautaIds = jdbcTemplate.query(TRAVAR_EXPIRADAS,
+                ps -> ps.setTimestamp(1, conversorDataHora.paraBanco(limite), conversorDataHora.calendario()),
+                (rs, linha) -> rs.getLong(1));
+        if (pautaIds.isEmpty()) {
+            return pautaIds;
+        }
+        if (dialetoBanco.postgres()) {
+            return jdbcTemplate.query(FINALIZAR_EXPIRADAS_POSTGRES, ps -> {
+                ps.setArray(1, ps.getConnection().createArrayOf("bigint", pautaIds.toArray()));
+                ps.setTimestamp(2, conversorDataHora.paraBanco(dataFinalizacao), conversorDataHora.calendario());
+            }, (rs, linha) -> rs.getLong(1));
+        }
+        jdbcTemplate.update(GRAVAR_RESULTADOS_EXPIRADAS, ps -> {
+            ps.setTimestamp(1, conversorDataHora.paraBanco(dataFinalizacao), conversorDataHora.calendario());
+            ps.setTimestamp(2, conversorDataHora.paraBanco(limite), conversorDataHora.calendario());
+        });
+        jdbcTemplate.update(ATUALIZAR_PAUTAS_EXPIRADAS,
+                ps -> ps.setTimestamp(1, conversorDataHora.paraBanco(limite), conversorDataHora.calendario()));
+        jdbcTemplate.update(FINALIZAR_SESSOES_EXPIRADAS,
+                ps -> ps.setTimestamp(1, conversorDataHora.paraBanco(limite), conversorDataHora.calendario()));
+        return pautaIds;
+    }
+}
@@ -1,14 +1,24 @@
 package com.sylviavitoria.api_votacao.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.sylviavitoria.api_votacao.dto.SessaoVotacaoListagemDTO;
 import com.sylviavitoria.api_votacao.enums.StatusSessao;
 import com.sylviavitoria.api_votacao.model.SessaoVotacao;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface SessaoVotacaoRepository extends JpaRepository<SessaoVotacao, Long> {
     
@@ -17,4 +27,35 @@ public interface SessaoVotacaoRepository extends JpaRepository<SessaoVotacao, Lo
     boolean existsByPautaId(Long pautaId);
     
     List<SessaoVotacao> findByStatus(StatusSessao status);
+
+    long countByStatus(StatusSessao status);
+
+    List<SessaoVotacao> findByPautaIdIn(Collection<Long> pautaIds);
+
+    /**
+     * Lê a sessão travando a linha até o fim da transação; a finalização espera os votos em andamento.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SessaoVotacao s WHERE s.id = :id")
+    Optional<SessaoVotacao> buscarTravada(Long id);
+
+    String LISTAGEM = "SELECT new com.sylviavitoria.api_votacao.dto.SessaoVotacaoListagemDTO(" +
+           "s.id, p.id, p.titulo, s.dataAbertura, s.dataFechamento, s.status) " +
+           "FROM SessaoVotacao s JOIN s.pauta p";
+
+    @Query(value = LISTAGEM, countQuery = "SELECT COUNT(s) FROM SessaoVotacao s")
+    Page<SessaoVotacaoListagemDTO> listar(Pageable pageable);
+
+    @Query(LISTAGEM + " WHERE s.id = :id")
+    Optional<SessaoVotacaoListagemDTO> buscarListagem(Long id);
+
+    @Query(LISTAGEM + " WHERE s.id > :id ORDER BY s.id")
+    List<SessaoVotacaoListagemDTO> listarAposId(Long id, Limit limite);
+
+    @Query(LISTAGEM + " ORDER BY s.dataAbertura, s.id")
+    List<SessaoVotacaoListagemDTO> listarPorDataAbertura(Limit limite);
+
+    @Query(LISTAGEM + " WHERE s.dataAbertura >= :dataAbertura AND (s.dataAbertura > :dataAbertura OR s.id > :id) " +
+           "ORDER BY s.dataAbertura, s.id")
+    List<SessaoVotacaoListagemDTO> listarAposDataAbertura(LocalDateTime dataAbertura, Long id, Limit limite);
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+package com.sylviavitoria.api_votacao.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.sylviavitoria.api_votacao.dto.VotoExportacaoDTO;
+import com.sylviavitoria.api_votacao.dto.VotoRequest;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+@Timed(value = "votacao.repositorio.jdbc", description = "Consultas e gravações JDBC", histogram = true)
+public class VotoJdbcRepository {
+
+    private static final String INSERIR_VOTO_SESSAO_ABERTA =
+            "INSERT INTO tb_votos (associado_id, pauta_id, opcao, data_hora) "
+                    + "SELECT ?, s.pauta_id, ?, ? FROM tb_sessoes_votacao s "
+                    + "WHERE s.pauta_id = ? AND s.status <> 'FINALIZADA' AND s.data_abertura <= ? AND s.data_fechamento >= ?";
+
+    // No PostgreSQL o voto trava a sessão em modo compartilhado até o commit: a finalização, que
+    // atualiza a sessão, espera os votos em andamento, e os votos seguintes já a veem FINALIZADA.
+    // O H2 não tem FOR SHARE; lá vale apenas a verificação do status.
+    private static final String INSERIR_VOTO_SESSAO_ABERTA_COMPARTILHADA = INSERIR_VOTO_SESSAO_ABERTA + " FOR SHARE";
+
+    private static final String NOMES_VOTOS =
+            "SELECT v.id, a.nome, p.titulo FROM %s v "
+                    + "JOIN tb_associados a ON a.id = v.associado_id JOIN tb_pautas p ON p.id = v.pauta_id";
+
+    // Uma única instrução: grava o voto e devolve o id com os nomes usados na resposta.
+    private static final String INSERIR_VOTO_SESSAO_ABERTA_POSTGRES =
+            "WITH gravado AS (" + INSERIR_VOTO_SESSAO_ABERTA_COMPARTILHADA + " RETURNING id, associado_id, pauta_id) "
+                    + NOMES_VOTOS.formatted("gravado");
+
+    private static final String INSERIR_VOTO_SESSAO_ABERTA_H2 =
+            NOMES_VOTOS.formatted("FINAL TABLE (" + INSERIR_VOTO_SESSAO_ABERTA + ")");
+
+    private static final String BUSCAR_NOMES_VOTOS = NOMES_VOTOS.formatted("tb_votos") + " WHERE v.id IN (%s)";
+
+    private static final String LISTAR_VOTANTES = "SELECT associado_id FROM tb_votos WHERE pauta_id = ?";
+
+    private static final String EXPORTAR_VOTOS =
+            "SELECT v.id, v.associado_id, a.nome, v.opcao, v.data_hora FROM tb_votos v "
+                    + "JOIN tb_associados a ON a.id = v.associado_id WHERE v.pauta_id = ? ORDER BY v.id";
+
+    private static final int TAMANHO_LOTE_LEITURA = 5000;
+
+    private static final String FK_VOTO_ASSOCIADO = "fk_voto_associado";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConversorDataHoraJdbc conversorDataHora;
+    private final DialetoBanco dialetoBanco;
+
+    /**
+     * Grava o voto se a sessão, ainda não finalizada, estiver aberta em {@code dataHora}, devolvendo o id gerado e os nomes
+     * do associado e da pauta na mesma instrução, ou {@code null} se a sessão não estava aberta.
+     */
+    public VotoGravado inserirSeSessaoAberta(VotoRequest voto, LocalDateTime dataHora) {
+        String sql = dialetoBanco.postgres() ? INSERIR_VOTO_SESSAO_ABERTA_POSTGRES : INSERIR_VOTO_SESSAO_ABERTA_H2;
+        List<VotoGravado> gravados = jdbcTemplate.query(sql, ps -> preencherSeSessaoAberta(ps, voto, dataHora),
+                (rs, linha) -> new VotoGravado(rs.getLong(1), rs.getString(2), rs.getString(3)));
+        return gravados.isEmpty() ? null : gravados.get(0);
+    }
+
+    /**
+     * Versão em lote de {@link #inserirSeSessaoAberta}: devolve cada voto gravado, na ordem da
+     * lista, ou {@code null} para os votos cuja sessão não estava aberta. Os nomes de todos os votos
+     * do lote são lidos em uma única consulta.
+     */
+    public VotoGravado[] inserirLoteComNomesSeSessaoAberta(List<VotoRequest> votos,
+            IntFunction<LocalDateTime> dataHora) {
+        return buscarNomes(inserirLoteSeSessaoAberta(votos, dataHora));
+    }
+
+    /**
+     * Grava em lote os votos cuja sessão, ainda não finalizada, estava aberta em {@code dataHora},
+     * devolvendo os ids gerados na ordem da lista, ou {@code null} para os votos não gravados. Cada
+     * chave gerada é associada ao voto pelo par (associado, pauta), único em {@code tb_votos}, e não
+     * pela posição; se as chaves não corresponderem às linhas inseridas, o lote inteiro falha.
+     */
+    public Long[] inserirLoteSeSessaoAberta(List<VotoRequest> votos, IntFunction<LocalDateTime> dataHora) {
+        String sql = dialetoBanco.postgres() ? INSERIR_VOTO_SESSAO_ABERTA_COMPARTILHADA : INSERIR_VOTO_SESSAO_ABERTA;
+        return jdbcTemplate.execute(
+                con -> con.prepareStatement(sql, new String[] { "id", "associado_id", "pauta_id" }),
+                (PreparedStatement ps) -> {
+                    for (int i = 0; i < votos.size(); i++) {
+                        preencherSeSessaoAberta(ps, votos.get(i), dataHora.apply(i));
+                        ps.addBatch();
+                    }
+                    int[] inseridos = ps.executeBatch();
+
+                    Map<List<Long>, Integer> posicoes = new HashMap<>();
+                    int esperados = 0;
+                    boolean semContagem = false;
+                    for (int i = 0; i < inseridos.length; i++) {
+                        if (inseridos[i] == Statement.SUCCESS_NO_INFO) {
+                            semContagem = true;
+                        } else if (inseridos[i] > 0) {
+                            esperados += inseridos[i];
+                        } else {
+                            continue;
+                        }
+                        posicoes.put(List.of(votos.get(i).getAssociadoId(), votos.get(i).getPautaId()), i);
+                    }
+
+                    Long[] ids = new Long[votos.size()];
+                    int chavesLidas = 0;
+                    int correspondidas = 0;
+                    try (ResultSet chaves = ps.getGeneratedKeys()) {
+                        while (chaves.next()) {
+                            chavesLidas++;
+                            Integer posicao = posicoes.get(List.of(chaves.getLong(2), chaves.getLong(3)));
+                            if (posicao != null && ids[posicao] == null) {
+                                ids[posicao] = chaves.getLong(1);
+                                correspondidas++;
+                            }
+                        }
+                    }
+                    if (correspondidas != chavesLidas || (!semContagem && chavesLidas != esperados)) {
+                        throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(sql, esperados, correspondidas);
+                    }
+                    return ids;
+                });
+    }
+
+    /**
+     * Indica se a violação é da chave estrangeira do associado ({@code fk_voto_associado}); o H2 e o
+     * PostgreSQL citam o nome da restrição na mensagem.
+     */
+    public static boolean associadoInexistente(DataIntegrityViolationException e) {
+        String mensagem = e.getMostSpecificCause().getMessage();
+        return mensagem != null && mensagem.toLowerCase(Locale.ROOT).contains(FK_VOTO_ASSOCIADO);
+    }
+
+    private VotoGravado[] buscarNomes(Long[] ids) {
+        Map<Long, VotoGravado> gravados = new HashMap<>();
+        List<Long> inseridos = Arrays.stream(ids).filter(Objects::nonNull).toList();
+        if (!inseridos.isEmpty()) {
+            String sql = BUSCAR_NOMES_VOTOS.formatted(String.join(", ", Collections.nCopies(inseridos.size(), "?")));
+            jdbcTemplate.query(sql, rs -> {
+                gravados.put(rs.getLong(1), new VotoGravado(rs.getLong(1), rs.getString(2), rs.getString(3)));
+            }, inseridos.toArray());
+        }
+
+        VotoGravado[] resultado = new VotoGravado[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            resultado[i] = ids[i] != null ? gravados.get(ids[i]) : null;
+        }
+        return resultado;
+    }
+
+    public void listarVotantes(Long pautaId, LongConsumer consumidor) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(LISTAR_VOTANTES);
+            ps.setFetchSize(TAMANHO_LOTE_LEITURA);
+            ps.setLong(1, pautaId);
+            return ps;
+        }, rs -> {
+            consumidor.accept(rs.getLong(1));
+        });
+    }
+
+    /**
+     * Percorre os votos da pauta em ordem de id com um cursor somente para frente, entregando uma
+     * linha por vez. No PostgreSQL o fetch size só limita a memória dentro de uma transação.
+     */
+    public void exportar(Long pautaId, Consumer<VotoExportacaoDTO> consumidor) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(EXPORTAR_VOTOS, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(TAMANHO_LOTE_LEITURA);
+            ps.setLong(1, pautaId);
+            return ps;
+        }, rs -> {
+            consumidor.accept(new VotoExportacaoDTO(rs.getLong("id"), rs.getLong("associado_id"),
+                    rs.getString("nome"), OpcaoVoto.valueOf(rs.getString("opcao")),
+                    conversorDataHora.doBanco(rs, "data_hora")));
+        });
+    }
+
+    private void preencherSeSessaoAberta(PreparedStatement ps, VotoRequest voto, LocalDateTime dataHora)
+            throws SQLException {
+        Timestamp momento = conversorDataHora.paraBanco(dataHora);
+        ps.setLong(1, voto.getAssociadoId());
+        ps.setString(2, voto.getOpcao().name());
+        ps.setTimestamp(3, momento, conversorDataHora.calendario());
+        ps.setLong(4, voto.getPautaId());
+        ps.setTimestamp(5, momento, conversorDataHora.calendario());
+        ps.setTimestamp(6, momento, conversorDataHora.calendario());
+    }
+
+    public record VotoGravado(Long id, String associadoNome, String pautaTitulo) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.sylviavitoria.api_votacao.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,8 +8,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
-import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
-import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
 import com.sylviavitoria.api_votacao.model.Voto;
 
 @Repository
@@ -18,14 +17,6 @@ public interface VotoRepository extends JpaRepository<Voto, Long> {
     
     Optional<Voto> findByAssociadoIdAndPautaId(Long associadoId, Long pautaId);
     
-    List<Voto> findByPautaId(Long pautaId);
-    
-    @Query("SELECT COUNT(v) FROM Voto v WHERE v.pauta.id = :pautaId AND v.opcao = :opcao")
-    long countByPautaIdAndOpcao(Long pautaId, OpcaoVoto opcao);
-
-    @Query("SELECT new com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO(" +
-           "COUNT(CASE WHEN v.opcao = 'SIM' THEN 1 END), " +
-           "COUNT(CASE WHEN v.opcao = 'NAO' THEN 1 END)) " +
-           "FROM Voto v WHERE v.pauta.id = :pautaId")
-    VotacaoResumoDTO contabilizarVotosPorPauta(Long pautaId);
+    @Query("SELECT v.associado.id FROM Voto v WHERE v.pauta.id = :pautaId AND v.associado.id IN :associadoIds")
+    List<Long> findAssociadoIdsComVoto(Long pautaId, Collection<Long> associadoIds);
 }
\ No newline at end of file
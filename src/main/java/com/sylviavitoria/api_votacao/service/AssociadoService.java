@@ -1,18 +1,25 @@
 package com.sylviavitoria.api_votacao.service;
 
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
 import com.sylviavitoria.api_votacao.dto.AssociadoListarResponse;
 import com.sylviavitoria.api_votacao.dto.AssociadoRequest;
 import com.sylviavitoria.api_votacao.dto.AssociadoResponse;
+import com.sylviavitoria.api_votacao.dto.PaginaCursor;
 import com.sylviavitoria.api_votacao.interfaces.IAssociado;
 import com.sylviavitoria.api_votacao.mapper.AssociadoMapper;
 import com.sylviavitoria.api_votacao.model.Associado;
+import com.sylviavitoria.api_votacao.paginacao.Paginacao;
 import com.sylviavitoria.api_votacao.repository.AssociadoRepository;
 import com.sylviavitoria.api_votacao.repository.PautaRepository;
 
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityExistsException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,9 +35,12 @@ import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
 @RequiredArgsConstructor
 public class AssociadoService implements IAssociado {
 
+    private static final List<String> ORDENACOES_CURSOR = List.of("nome", "id");
+
     private final AssociadoRepository associadoRepository;
     private final AssociadoMapper associadoMapper;
     private final PautaRepository pautaRepository;
+    private final VersoesPautas versoesPautas;
 
     @Override
     @Transactional
@@ -59,20 +69,45 @@ public class AssociadoService implements IAssociado {
 
     @Override
     @Transactional(readOnly = true)
+    @Timed(value = "votacao.listagem", description = "Listagens de cadastros", histogram = true)
     public Page<AssociadoListarResponse> listarTodos(int page, int size, String sort) {
         log.info("Listando associados com paginação: página {}, tamanho {}, ordenação {}", page, size, sort);
 
         Pageable pageable;
         if (sort != null && !sort.isEmpty()) {
-            pageable = PageRequest.of(page, size, Sort.by(sort));
+            pageable = PageRequest.of(page, Paginacao.limitar(size), Sort.by(sort));
         } else {
-            pageable = PageRequest.of(page, size, Sort.by("nome"));
+            pageable = PageRequest.of(page, Paginacao.limitar(size), Sort.by("nome"));
         }
 
         return associadoRepository.findAll(pageable)
                 .map(associadoMapper::toListarResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "votacao.listagem", description = "Listagens de cadastros", histogram = true)
+    public PaginaCursor<AssociadoListarResponse> listarPorCursor(String cursor, int limite, String sort) {
+        log.info("Listando associados por cursor: limite {}, ordenação {}", limite, sort);
+
+        String ordenacao = Paginacao.ordenacao(sort, "nome", ORDENACOES_CURSOR);
+        Paginacao.Cursor posicao = Paginacao.decodificar(cursor, ordenacao);
+        int tamanho = Paginacao.limitar(limite);
+        Limit consulta = Limit.of(tamanho + 1);
+
+        List<AssociadoListarResponse> associados;
+        if ("id".equals(ordenacao)) {
+            associados = associadoRepository.listarAposId(posicao != null ? posicao.id() : 0L, consulta);
+        } else if (posicao == null) {
+            associados = associadoRepository.listarPorNome(consulta);
+        } else {
+            associados = associadoRepository.listarAposNome(posicao.valor(), posicao.id(), consulta);
+        }
+
+        return Paginacao.pagina(associados, tamanho, associado -> Paginacao.Cursor.de(ordenacao,
+                "id".equals(ordenacao) ? null : associado.getNome(), associado.getId()));
+    }
+
     @Override
     @Transactional
     public AssociadoResponse atualizar(Long id, AssociadoRequest request) {
@@ -83,6 +118,8 @@ public class AssociadoService implements IAssociado {
         associadoAtualizado.setNome(request.getNome());
         associadoAtualizado.setEmail(request.getEmail());
         associadoAtualizado.setCpf(request.getCpf());
+        // O nome do criador faz parte das respostas de pauta.
+        versoesPautas.alterarTodas();
 
         return associadoMapper.toResponse(associadoAtualizado);
     }
@@ -0,0 +1,144 @@
+package com.sylviavitoria.api_votacao.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sylviavitoria.api_votacao.enums.FormatoExportacao;
+import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
+import com.sylviavitoria.api_votacao.interfaces.IExportacaoVotos;
+import com.sylviavitoria.api_votacao.repository.PautaRepository;
+import com.sylviavitoria.api_votacao.repository.VotoJdbcRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exportação dos votos de uma pauta em CSV ou NDJSON. As linhas vêm de um cursor JDBC somente para
+ * frente, em uma transação somente leitura, e são escritas direto na resposta, sem carregar
+ * entidades nem acumular a lista: a memória usada não depende da quantidade de votos.
+ */
+@Slf4j
+@Service
+public class ExportacaoVotosService implements IExportacaoVotos {
+
+    private static final String CABECALHO_CSV = "id,associado_id,associado_nome,opcao,data_hora\n";
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final PautaRepository pautaRepository;
+    private final VotoJdbcRepository votoJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate leitura;
+
+    public ExportacaoVotosService(PautaRepository pautaRepository, VotoJdbcRepository votoJdbcRepository,
+            ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.pautaRepository = pautaRepository;
+        this.votoJdbcRepository = votoJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+    }
+
+    /**
+     * Valida a pauta antes de a resposta começar e devolve a escrita dos votos.
+     */
+    @Override
+    public StreamingResponseBody exportar(Long pautaId, FormatoExportacao formato) {
+        log.info("Exportando votos da pauta ID: {} em {}", pautaId, formato);
+
+        if (!pautaRepository.existsById(pautaId)) {
+            throw new EntityNotFoundException("Pauta não encontrada");
+        }
+
+        return saida -> {
+            long inicio = System.nanoTime();
+            Long linhas;
+            try {
+                linhas = leitura.execute(status -> {
+                    try {
+                        return formato == FormatoExportacao.CSV ? escreverCsv(pautaId, saida)
+                                : escreverNdjson(pautaId, saida);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            log.info("Exportação da pauta ID: {} concluída: {} votos em {} ms", pautaId, linhas,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+        };
+    }
+
+    private long escreverCsv(Long pautaId, OutputStream saida) throws IOException {
+        Writer csv = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        csv.write(CABECALHO_CSV);
+
+        long[] linhas = { 0 };
+        votoJdbcRepository.exportar(pautaId, voto -> {
+            try {
+                csv.write(Long.toString(voto.getId()));
+                csv.write(',');
+                csv.write(Long.toString(voto.getAssociadoId()));
+                csv.write(',');
+                csv.write(campoCsv(voto.getAssociadoNome()));
+                csv.write(',');
+                csv.write(voto.getOpcao().name());
+                csv.write(',');
+                csv.write(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(voto.getDataHora()));
+                csv.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            linhas[0]++;
+        });
+        csv.flush();
+        return linhas[0];
+    }
+
+    private long escreverNdjson(Long pautaId, OutputStream saida) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(saida);
+        json.setRootValueSeparator(null);
+
+        long[] linhas = { 0 };
+        votoJdbcRepository.exportar(pautaId, voto -> {
+            try {
+                json.writeStartObject();
+                json.writeNumberField("id", voto.getId());
+                json.writeNumberField("associadoId", voto.getAssociadoId());
+                json.writeStringField("associadoNome", voto.getAssociadoNome());
+                json.writeStringField("opcao", voto.getOpcao().name());
+                json.writeStringField("dataHora", DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(voto.getDataHora()));
+                json.writeEndObject();
+                json.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            linhas[0]++;
+        });
+        json.flush();
+        return linhas[0];
+    }
+
+    private static String campoCsv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
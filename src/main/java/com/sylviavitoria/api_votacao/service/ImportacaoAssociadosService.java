@@ -0,0 +1,338 @@
+package com.sylviavitoria.api_votacao.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sylviavitoria.api_votacao.dto.AssociadoRequest;
+import com.sylviavitoria.api_votacao.dto.ImportacaoAssociadosResponse;
+import com.sylviavitoria.api_votacao.dto.ImportacaoErroResponse;
+import com.sylviavitoria.api_votacao.exception.ParametroInvalidoException;
+import com.sylviavitoria.api_votacao.importacao.ConjuntoCpfs;
+import com.sylviavitoria.api_votacao.importacao.LeitorCsv;
+import com.sylviavitoria.api_votacao.interfaces.IImportacaoAssociados;
+import com.sylviavitoria.api_votacao.repository.AssociadoJdbcRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Importação de associados em massa. O arquivo é lido um registro por vez e os associados válidos
+ * são gravados em blocos de {@code votacao.importacao.tamanho-bloco}, cada um em sua transação; só
+ * o bloco corrente e os CPFs já vistos ficam em memória.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportacaoAssociadosService implements IImportacaoAssociados {
+
+    static final int MAXIMO_ERROS = 100;
+    private static final int TAMANHO_MAXIMO_LINHA = 4096;
+    private static final List<String> COLUNAS = List.of("nome", "cpf", "email");
+
+    private final AssociadoJdbcRepository associadoJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${votacao.importacao.tamanho-bloco:5000}")
+    private int tamanhoBloco = 5000;
+
+    @Override
+    public ImportacaoAssociadosResponse importarCsv(InputStream corpo) throws IOException {
+        log.info("Iniciando importação de associados em CSV");
+        return importar(new FonteCsv(new LeitorCsv(leitor(corpo))));
+    }
+
+    @Override
+    public ImportacaoAssociadosResponse importarNdjson(InputStream corpo) throws IOException {
+        log.info("Iniciando importação de associados em NDJSON");
+        return importar(new FonteNdjson(leitor(corpo), objectMapper));
+    }
+
+    private ImportacaoAssociadosResponse importar(Fonte fonte) throws IOException {
+        long inicio = System.nanoTime();
+        Resumo resumo = new Resumo();
+        ConjuntoCpfs cpfs = new ConjuntoCpfs();
+        List<Registro> bloco = new ArrayList<>(tamanhoBloco);
+
+        while (true) {
+            Registro registro;
+            try {
+                registro = fonte.proximo();
+            } catch (IllegalArgumentException e) {
+                log.warn("Leitura da importação interrompida: {}", e.getMessage());
+                resumo.lidos++;
+                resumo.invalido(new Registro(fonte.linha(), null, e.getMessage()), e.getMessage());
+                break;
+            }
+            if (registro == null) {
+                break;
+            }
+            resumo.lidos++;
+
+            String erro = registro.erro() != null ? registro.erro() : validar(registro.associado());
+            if (erro != null) {
+                resumo.invalido(registro, erro);
+            } else if (!cpfs.adicionar(registro.associado().getCpf())) {
+                resumo.duplicado(registro);
+            } else {
+                bloco.add(registro);
+                if (bloco.size() >= tamanhoBloco) {
+                    gravar(bloco, resumo);
+                    bloco.clear();
+                }
+            }
+        }
+        gravar(bloco, resumo);
+
+        log.info("Importação de associados concluída em {} ms: {} lidos, {} inseridos, {} duplicados, {} inválidos",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio), resumo.lidos, resumo.inseridos,
+                resumo.duplicados, resumo.invalidos);
+
+        return ImportacaoAssociadosResponse.builder()
+                .totalLidos(resumo.lidos)
+                .totalInseridos(resumo.inseridos)
+                .totalDuplicados(resumo.duplicados)
+                .totalInvalidos(resumo.invalidos)
+                .erros(resumo.erros)
+                .build();
+    }
+
+    private String validar(AssociadoRequest associado) {
+        Set<ConstraintViolation<AssociadoRequest>> violacoes = validator.validate(associado);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+        return violacoes.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void gravar(List<Registro> bloco, Resumo resumo) {
+        if (bloco.isEmpty()) {
+            return;
+        }
+        List<AssociadoRequest> associados = bloco.stream().map(Registro::associado).toList();
+        try {
+            int inseridos = transactionTemplate.execute(status -> associadoJdbcRepository.inserirNovos(associados));
+            resumo.inseridos += inseridos;
+            resumo.duplicados += bloco.size() - inseridos;
+        } catch (DataIntegrityViolationException e) {
+            // CPF cadastrado por outra requisição durante a gravação do bloco, ou registro recusado pelo banco.
+            log.warn("Falha ao gravar bloco de {} associados, gravando individualmente: {}", bloco.size(),
+                    e.getMessage());
+            bloco.forEach(registro -> gravarIndividualmente(registro, resumo));
+        }
+    }
+
+    private void gravarIndividualmente(Registro registro, Resumo resumo) {
+        try {
+            if (associadoJdbcRepository.inserirSeNovo(registro.associado())) {
+                resumo.inseridos++;
+                return;
+            }
+        } catch (DataIntegrityViolationException e) {
+            if (!AssociadoJdbcRepository.cpfCadastrado(e)) {
+                log.warn("Associado da linha {} recusado pelo banco: {}", registro.linha(), e.getMessage());
+                resumo.invalido(registro, "Registro recusado pelo banco de dados");
+                return;
+            }
+            log.debug("Associado com CPF {} cadastrado por outra requisição", registro.cpf());
+        }
+        resumo.duplicados++;
+    }
+
+    private static BufferedReader leitor(InputStream corpo) throws IOException {
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8), 64 * 1024);
+        // Planilhas costumam gravar o CSV com BOM.
+        leitor.mark(1);
+        if (leitor.read() != '\uFEFF') {
+            leitor.reset();
+        }
+        return leitor;
+    }
+
+    private static AssociadoRequest associado(String nome, String cpf, String email) {
+        AssociadoRequest associado = new AssociadoRequest();
+        associado.setNome(nome);
+        associado.setCpf(cpf);
+        associado.setEmail(email);
+        return associado;
+    }
+
+    private interface Fonte {
+        /**
+         * Próximo registro, ou {@code null} no fim do arquivo.
+         *
+         * @throws IllegalArgumentException se o arquivo não puder mais ser lido
+         */
+        Registro proximo() throws IOException;
+
+        long linha();
+    }
+
+    private record Registro(long linha, AssociadoRequest associado, String erro) {
+        String cpf() {
+            return associado != null ? associado.getCpf() : null;
+        }
+    }
+
+    /**
+     * CSV com as colunas nome, cpf e email. Se o primeiro registro tiver a coluna {@code cpf}, ele é
+     * o cabeçalho e define a ordem das colunas; senão, a ordem é nome, cpf, email.
+     */
+    private static final class FonteCsv implements Fonte {
+        private final LeitorCsv leitor;
+        private int[] colunas = { 0, 1, 2 };
+        private boolean inicio = true;
+
+        FonteCsv(LeitorCsv leitor) {
+            this.leitor = leitor;
+        }
+
+        @Override
+        public Registro proximo() throws IOException {
+            List<String> campos = leitor.proximo();
+            if (inicio && campos != null) {
+                inicio = false;
+                if (cabecalho(campos)) {
+                    campos = leitor.proximo();
+                }
+            }
+            if (campos == null) {
+                return null;
+            }
+
+            int linha = leitor.linhaRegistro();
+            int necessarios = Math.max(colunas[0], Math.max(colunas[1], colunas[2])) + 1;
+            if (campos.size() < necessarios) {
+                return new Registro(linha, null,
+                        "Registro com " + campos.size() + " campos; esperados: " + String.join(",", COLUNAS));
+            }
+            return new Registro(linha, associado(campos.get(colunas[0]).strip(), campos.get(colunas[1]).strip(),
+                    campos.get(colunas[2]).strip()), null);
+        }
+
+        @Override
+        public long linha() {
+            return leitor.linhaRegistro();
+        }
+
+        private boolean cabecalho(List<String> campos) {
+            List<String> nomes = campos.stream().map(campo -> campo.strip().toLowerCase(Locale.ROOT)).toList();
+            if (!nomes.contains("cpf")) {
+                return false;
+            }
+            colunas = new int[COLUNAS.size()];
+            for (int i = 0; i < COLUNAS.size(); i++) {
+                colunas[i] = nomes.indexOf(COLUNAS.get(i));
+                if (colunas[i] < 0) {
+                    throw new ParametroInvalidoException("O cabeçalho do CSV deve conter as colunas "
+                            + String.join(", ", COLUNAS));
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Um objeto JSON por linha, com os campos de {@link AssociadoRequest}.
+     */
+    private static final class FonteNdjson implements Fonte {
+        private final BufferedReader leitor;
+        private final ObjectMapper objectMapper;
+        private final StringBuilder linhaAtual = new StringBuilder();
+        private long linha;
+
+        FonteNdjson(BufferedReader leitor, ObjectMapper objectMapper) {
+            this.leitor = leitor;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public Registro proximo() throws IOException {
+            String json;
+            do {
+                json = lerLinha();
+                if (json == null) {
+                    return null;
+                }
+            } while (json.isBlank());
+
+            try {
+                return new Registro(linha, objectMapper.readValue(json, AssociadoRequest.class), null);
+            } catch (JsonProcessingException e) {
+                return new Registro(linha, null, "JSON inválido");
+            }
+        }
+
+        @Override
+        public long linha() {
+            return linha;
+        }
+
+        private String lerLinha() throws IOException {
+            linhaAtual.setLength(0);
+            int c = leitor.read();
+            if (c == -1) {
+                return null;
+            }
+            linha++;
+            while (c != -1 && c != '\n') {
+                if (linhaAtual.length() >= TAMANHO_MAXIMO_LINHA) {
+                    throw new IllegalArgumentException("Linha " + linha + " muito longa");
+                }
+                linhaAtual.append((char) c);
+                c = leitor.read();
+            }
+            return linhaAtual.toString();
+        }
+    }
+
+    private static final class Resumo {
+        private long lidos;
+        private long inseridos;
+        private long duplicados;
+        private long invalidos;
+        private final List<ImportacaoErroResponse> erros = new ArrayList<>();
+
+        void invalido(Registro registro, String erro) {
+            invalidos++;
+            detalhar(registro, erro);
+        }
+
+        void duplicado(Registro registro) {
+            duplicados++;
+            detalhar(registro, "CPF repetido no arquivo");
+        }
+
+        private void detalhar(Registro registro, String erro) {
+            if (erros.size() < MAXIMO_ERROS) {
+                erros.add(ImportacaoErroResponse.builder()
+                        .linha(registro.linha())
+                        .cpf(registro.cpf())
+                        .erro(erro)
+                        .build());
+            }
+        }
+    }
+}
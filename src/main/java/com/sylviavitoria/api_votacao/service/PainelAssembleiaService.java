@@ -0,0 +1,267 @@
+package com.sylviavitoria.api_votacao.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sylviavitoria.api_votacao.cache.ContagemVotosCache;
+import com.sylviavitoria.api_votacao.cache.RegistroSessoes;
+import com.sylviavitoria.api_votacao.dto.EventoSessaoDTO;
+import com.sylviavitoria.api_votacao.dto.PlacarPautaDTO;
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
+import com.sylviavitoria.api_votacao.interfaces.IPainelAssembleia;
+import com.sylviavitoria.api_votacao.model.Resultado;
+import com.sylviavitoria.api_votacao.repository.ResultadoRepository;
+import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
+import com.sylviavitoria.api_votacao.transacao.Transacoes;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Painel da assembleia por WebSocket/STOMP. Acompanha as pautas com sessão agendada ou aberta e, a
+ * cada ciclo, envia apenas os placares que mudaram: cada placar é serializado uma única vez e o
+ * mesmo conteúdo vai para {@code /topic/pautas/{pautaId}} e, junto com os demais placares e as
+ * aberturas e encerramentos de sessão do ciclo, em uma única mensagem para {@code /topic/painel}.
+ * O encerramento é avisado por quem finaliza a sessão ({@link #encerrar(Collection)}) e publicado
+ * com o placar final lido de {@code tb_resultados}; uma pauta que some do registro de sessões sem
+ * esse aviso (ex.: finalizada em outra instância) passa pelo mesmo caminho.
+ */
+@Slf4j
+@Service
+public class PainelAssembleiaService implements IPainelAssembleia, SmartLifecycle {
+
+    static final String DESTINO_PAINEL = "/topic/painel";
+    static final String DESTINO_PAUTA = "/topic/pautas/";
+
+    private final SessaoVotacaoRepository sessaoVotacaoRepository;
+    private final ResultadoRepository resultadoRepository;
+    private final RegistroSessoes registroSessoes;
+    private final ContagemVotosCache contagemVotosCache;
+    private final SimpMessageSendingOperations mensagens;
+    private final ObjectMapper objectMapper;
+
+    private final long intervaloMs;
+
+    private final Map<Long, Acompanhamento> acompanhadas = new ConcurrentHashMap<>();
+    private final Counter serializacoes;
+
+    private ScheduledExecutorService relogio;
+
+    public PainelAssembleiaService(SessaoVotacaoRepository sessaoVotacaoRepository,
+            ResultadoRepository resultadoRepository, RegistroSessoes registroSessoes,
+            ContagemVotosCache contagemVotosCache, SimpMessageSendingOperations mensagens, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${votacao.painel.eventos-por-segundo:1}") int eventosPorSegundo) {
+        this.sessaoVotacaoRepository = sessaoVotacaoRepository;
+        this.resultadoRepository = resultadoRepository;
+        this.registroSessoes = registroSessoes;
+        this.contagemVotosCache = contagemVotosCache;
+        this.mensagens = mensagens;
+        this.objectMapper = objectMapper;
+        this.intervaloMs = Math.max(1, 1000 / Math.max(1, eventosPorSegundo));
+        this.serializacoes = meterRegistry.counter("votacao.painel.serializacoes");
+        Gauge.builder("votacao.painel.pautas", acompanhadas, Map::size)
+                .description("Pautas acompanhadas pelo painel")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Passa a acompanhar a pauta após o commit da transação corrente.
+     */
+    @Override
+    public void acompanhar(Long pautaId) {
+        Transacoes.aposCommit(() -> acompanhadas.putIfAbsent(pautaId, new Acompanhamento()));
+    }
+
+    /**
+     * Marca as pautas como finalizadas após o commit da finalização; o próximo ciclo publica o
+     * encerramento com o placar final e deixa de acompanhá-las.
+     */
+    @Override
+    public void encerrar(Collection<Long> pautaIds) {
+        Transacoes.aposCommit(() -> pautaIds.forEach(pautaId -> {
+            Acompanhamento acompanhamento = acompanhadas.get(pautaId);
+            if (acompanhamento != null) {
+                acompanhamento.finalizada = true;
+            }
+        }));
+    }
+
+    @Override
+    public List<PlacarPautaDTO> listarPlacares() {
+        long agora = System.currentTimeMillis();
+        List<PlacarPautaDTO> placares = new ArrayList<>();
+        acompanhadas.forEach((pautaId, acompanhamento) -> {
+            RegistroSessoes.Janela janela = acompanhamento.finalizada ? null : registroSessoes.janela(pautaId);
+            if (janela != null) {
+                placares.add(placar(pautaId, contagemVotosCache.obter(pautaId), status(janela, agora)));
+            }
+        });
+        return placares;
+    }
+
+    /**
+     * Um ciclo: publica os placares alterados e as mudanças de status das sessões acompanhadas.
+     */
+    void transmitir() {
+        long agora = System.currentTimeMillis();
+        List<String> placares = new ArrayList<>();
+        List<String> sessoes = new ArrayList<>();
+        List<Long> finalizadas = new ArrayList<>();
+
+        acompanhadas.forEach((pautaId, acompanhamento) -> {
+            try {
+                RegistroSessoes.Janela janela = acompanhamento.finalizada ? null : registroSessoes.janela(pautaId);
+                if (janela == null) {
+                    finalizadas.add(pautaId);
+                    return;
+                }
+                acompanhamento.janela = janela;
+                StatusSessao status = status(janela, agora);
+                VotacaoResumoDTO resumo = contagemVotosCache.obter(pautaId);
+
+                if (status != acompanhamento.status) {
+                    sessoes.add(serializar(new EventoSessaoDTO(pautaId, status, data(janela.abertura()),
+                            data(janela.fechamento()))));
+                } else if (resumo.getTotalVotosSim() == acompanhamento.sim
+                        && resumo.getTotalVotosNao() == acompanhamento.nao) {
+                    return;
+                }
+                acompanhamento.status = status;
+                acompanhamento.sim = resumo.getTotalVotosSim();
+                acompanhamento.nao = resumo.getTotalVotosNao();
+
+                String placar = serializar(placar(pautaId, resumo, status));
+                placares.add(placar);
+                enviar(DESTINO_PAUTA + pautaId, placar);
+            } catch (RuntimeException e) {
+                log.error("Erro ao transmitir placar da pauta ID: {}: {}", pautaId, e.getMessage());
+            }
+        });
+        if (!finalizadas.isEmpty()) {
+            publicarEncerramentos(finalizadas, placares, sessoes);
+        }
+
+        if (!placares.isEmpty() || !sessoes.isEmpty()) {
+            enviar(DESTINO_PAINEL, "{\"placares\":[" + String.join(",", placares) + "],\"sessoes\":["
+                    + String.join(",", sessoes) + "]}");
+        }
+    }
+
+    /**
+     * Publica o encerramento e o placar final das pautas sem janela de votação, lidos de
+     * {@code tb_resultados} em uma única consulta, e deixa de acompanhá-las. Pautas sem resultado
+     * (ex.: pauta excluída) saem sem evento.
+     */
+    private void publicarEncerramentos(List<Long> pautaIds, List<String> placares, List<String> sessoes) {
+        for (Resultado resultado : resultadoRepository.findAllById(pautaIds)) {
+            Long pautaId = resultado.getPautaId();
+            try {
+                Acompanhamento acompanhamento = acompanhadas.get(pautaId);
+                RegistroSessoes.Janela janela = acompanhamento != null ? acompanhamento.janela : null;
+                sessoes.add(serializar(new EventoSessaoDTO(pautaId, StatusSessao.FINALIZADA,
+                        janela != null ? data(janela.abertura()) : null,
+                        janela != null ? data(janela.fechamento()) : null)));
+                String placar = serializar(new PlacarPautaDTO(pautaId, resultado.getVotosSim(),
+                        resultado.getVotosNao(), StatusSessao.FINALIZADA));
+                placares.add(placar);
+                enviar(DESTINO_PAUTA + pautaId, placar);
+            } catch (RuntimeException e) {
+                log.error("Erro ao transmitir placar final da pauta ID: {}: {}", pautaId, e.getMessage());
+            }
+        }
+        pautaIds.forEach(acompanhadas::remove);
+    }
+
+    @Override
+    public void start() {
+        sessaoVotacaoRepository.findByStatus(StatusSessao.FECHADA)
+                .forEach(sessao -> acompanhadas.putIfAbsent(sessao.getPauta().getId(), new Acompanhamento()));
+        sessaoVotacaoRepository.findByStatus(StatusSessao.ABERTA)
+                .forEach(sessao -> acompanhadas.putIfAbsent(sessao.getPauta().getId(), new Acompanhamento()));
+
+        relogio = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "painel-transmissao");
+            thread.setDaemon(true);
+            return thread;
+        });
+        relogio.scheduleWithFixedDelay(this::transmitir, intervaloMs, intervaloMs, TimeUnit.MILLISECONDS);
+        log.info("Painel da assembleia iniciado com {} pautas acompanhadas", acompanhadas.size());
+    }
+
+    @Override
+    public void stop() {
+        if (relogio == null) {
+            return;
+        }
+        relogio.shutdownNow();
+        relogio = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return relogio != null;
+    }
+
+    private StatusSessao status(RegistroSessoes.Janela janela, long agora) {
+        // A sessão só passa a FINALIZADA quando é finalizada de fato, com o placar definitivo.
+        return agora < janela.abertura() ? StatusSessao.FECHADA : StatusSessao.ABERTA;
+    }
+
+    private static PlacarPautaDTO placar(Long pautaId, VotacaoResumoDTO resumo, StatusSessao status) {
+        return new PlacarPautaDTO(pautaId, resumo.getTotalVotosSim(), resumo.getTotalVotosNao(), status);
+    }
+
+    private void enviar(String destino, String json) {
+        SimpMessageHeaderAccessor cabecalhos = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        cabecalhos.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        cabecalhos.setLeaveMutable(true);
+        mensagens.send(destino, MessageBuilder.createMessage(json.getBytes(StandardCharsets.UTF_8),
+                cabecalhos.getMessageHeaders()));
+    }
+
+    private String serializar(Object conteudo) {
+        try {
+            serializacoes.increment();
+            return objectMapper.writeValueAsString(conteudo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar mensagem do painel", e);
+        }
+    }
+
+    private static LocalDateTime data(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+
+    private static final class Acompanhamento {
+        private volatile boolean finalizada;
+        private RegistroSessoes.Janela janela;
+        private StatusSessao status;
+        private long sim = -1;
+        private long nao = -1;
+    }
+}
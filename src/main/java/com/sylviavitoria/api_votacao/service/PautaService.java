@@ -1,7 +1,9 @@
 package com.sylviavitoria.api_votacao.service;
 
-import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -9,23 +11,28 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.sylviavitoria.api_votacao.cache.ContagemVotosCache;
+import com.sylviavitoria.api_votacao.cache.RegistroSessoes;
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
+import com.sylviavitoria.api_votacao.cache.VotantesCache;
+import com.sylviavitoria.api_votacao.dto.PaginaCursor;
 import com.sylviavitoria.api_votacao.dto.PautaAtualizarRequest;
+import com.sylviavitoria.api_votacao.dto.PautaListagemDTO;
 import com.sylviavitoria.api_votacao.dto.PautaRequest;
 import com.sylviavitoria.api_votacao.dto.PautaResponse;
-import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
 import com.sylviavitoria.api_votacao.enums.StatusPauta;
-import com.sylviavitoria.api_votacao.enums.StatusSessao;
 import com.sylviavitoria.api_votacao.exception.BusinessException;
 import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
 import com.sylviavitoria.api_votacao.interfaces.IPauta;
 import com.sylviavitoria.api_votacao.mapper.PautaMapper;
 import com.sylviavitoria.api_votacao.model.Associado;
 import com.sylviavitoria.api_votacao.model.Pauta;
+import com.sylviavitoria.api_votacao.paginacao.Paginacao;
 import com.sylviavitoria.api_votacao.repository.AssociadoRepository;
 import com.sylviavitoria.api_votacao.repository.PautaRepository;
-import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
-import com.sylviavitoria.api_votacao.repository.VotoRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,11 +41,15 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class PautaService implements IPauta {
 
+    private static final List<String> ORDENACOES_CURSOR = List.of("titulo", "id");
+
     private final PautaRepository pautaRepository;
     private final AssociadoRepository associadoRepository;
     private final PautaMapper pautaMapper;
-    private final SessaoVotacaoRepository sessaoVotacaoRepository;
-    private final VotoRepository votoRepository;
+    private final ContagemVotosCache contagemVotosCache;
+    private final RegistroSessoes registroSessoes;
+    private final VotantesCache votantesCache;
+    private final VersoesPautas versoesPautas;
 
     @Override
     @Transactional
@@ -60,62 +71,64 @@ public class PautaService implements IPauta {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PautaResponse buscarPorId(Long id) {
         log.info("Buscando pauta por ID: {}", id);
-        Pauta pauta = pautaRepository.findById(id)
+        PautaListagemDTO pauta = pautaRepository.buscarListagem(id)
                 .orElseThrow(() -> new EntityNotFoundException("Pauta não encontrada com ID: " + id));
 
-        verificarEAtualizarStatusPauta(pauta);
-
-        return pautaMapper.toResponse(pauta);
-    }
-
-    @Transactional
-    public void verificarEAtualizarStatusPauta(Pauta pauta) {
-        sessaoVotacaoRepository.findByPautaId(pauta.getId()).ifPresent(sessao -> {
-            LocalDateTime agora = LocalDateTime.now();
-
-            if (sessao.getStatus() == StatusSessao.ABERTA && agora.isAfter(sessao.getDataFechamento())) {
-                log.info("Finalizando sessão e contabilizando votos da pauta ID: {}", pauta.getId());
-
-                long votosSim = votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM);
-                long votosNao = votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO);
-
-                if (votosSim > votosNao) {
-                    pauta.setStatus(StatusPauta.APROVADA);
-                } else if (votosNao > votosSim) {
-                    pauta.setStatus(StatusPauta.RECUSADA);
-                } else {
-                    pauta.setStatus(StatusPauta.EMPATADA);
-                }
-
-                pautaRepository.save(pauta);
-
-                sessao.setStatus(StatusSessao.FINALIZADA);
-                sessaoVotacaoRepository.save(sessao);
-
-                log.info("Sessão finalizada. Resultado da votação - SIM: {}, NÃO: {}, Status: {}",
-                        votosSim, votosNao, pauta.getStatus());
-            }
-        });
+        VotacaoResumoDTO resultado = pauta.getResultado();
+        return pautaMapper.toResponse(pauta, resultado != null ? resultado : contagemVotosCache.obter(id));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "votacao.listagem", description = "Listagens de cadastros", histogram = true)
     public Page<PautaResponse> listarTodos(int page, int size, String sort) {
         log.info("Listando pauta com paginação: página {}, tamanho {}, ordenação {}", page, size, sort);
 
         Pageable pageable;
         if (sort != null && !sort.isEmpty()) {
-            pageable = PageRequest.of(page, size, Sort.by(sort));
+            pageable = PageRequest.of(page, Paginacao.limitar(size), Sort.by(sort));
         } else {
-            pageable = PageRequest.of(page, size, Sort.by("titulo"));
+            pageable = PageRequest.of(page, Paginacao.limitar(size), Sort.by("titulo"));
         }
 
-        Page<Pauta> pautas = pautaRepository.findAll(pageable);
+        Page<PautaListagemDTO> pautas = pautaRepository.listar(pageable);
+        Map<Long, VotacaoResumoDTO> totais = totaisEmAndamento(pautas.getContent());
+
+        return pautas.map(pauta -> pautaMapper.toResponse(pauta,
+                pauta.getResultado() != null ? pauta.getResultado() : totais.get(pauta.getId())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "votacao.listagem", description = "Listagens de cadastros", histogram = true)
+    public PaginaCursor<PautaResponse> listarPorCursor(String cursor, int limite, String sort) {
+        log.info("Listando pautas por cursor: limite {}, ordenação {}", limite, sort);
+
+        String ordenacao = Paginacao.ordenacao(sort, "titulo", ORDENACOES_CURSOR);
+        Paginacao.Cursor posicao = Paginacao.decodificar(cursor, ordenacao);
+        int tamanho = Paginacao.limitar(limite);
+        Limit consulta = Limit.of(tamanho + 1);
+
+        List<PautaListagemDTO> pautas;
+        if ("id".equals(ordenacao)) {
+            pautas = pautaRepository.listarAposId(posicao != null ? posicao.id() : 0L, consulta);
+        } else if (posicao == null) {
+            pautas = pautaRepository.listarPorTitulo(consulta);
+        } else {
+            pautas = pautaRepository.listarAposTitulo(posicao.valor(), posicao.id(), consulta);
+        }
 
-        pautas.getContent().forEach(this::verificarEAtualizarStatusPauta);
+        PaginaCursor<PautaListagemDTO> pagina = Paginacao.pagina(pautas, tamanho, pauta -> Paginacao.Cursor.de(
+                ordenacao, "id".equals(ordenacao) ? null : pauta.getTitulo(), pauta.getId()));
+        Map<Long, VotacaoResumoDTO> totais = totaisEmAndamento(pagina.getConteudo());
 
-        return pautas.map(pautaMapper::toResponse);
+        return new PaginaCursor<>(pagina.getConteudo().stream()
+                .map(pauta -> pautaMapper.toResponse(pauta,
+                        pauta.getResultado() != null ? pauta.getResultado() : totais.get(pauta.getId())))
+                .toList(), pagina.getLimite(), pagina.getProximo());
     }
 
     @Override
@@ -133,6 +146,7 @@ public class PautaService implements IPauta {
         pauta.setDescricao(request.getDescricao());
 
         Pauta pautaAtualizada = pautaRepository.save(pauta);
+        versoesPautas.alterar(id);
         log.info("Pauta atualizada com sucesso: ID {}", pautaAtualizada.getId());
 
         return pautaMapper.toResponse(pautaAtualizada);
@@ -150,6 +164,17 @@ public class PautaService implements IPauta {
         }
 
         pautaRepository.delete(pauta);
+        registroSessoes.remover(id);
+        contagemVotosCache.remover(id);
+        votantesCache.remover(id);
+        versoesPautas.remover(id);
         log.info("Pauta deletada com sucesso: ID {}", id);
     }
+
+    private Map<Long, VotacaoResumoDTO> totaisEmAndamento(List<PautaListagemDTO> pautas) {
+        return contagemVotosCache.obterTodos(pautas.stream()
+                .filter(pauta -> pauta.getResultado() == null)
+                .map(PautaListagemDTO::getId)
+                .toList());
+    }
 }
\ No newline at end of file
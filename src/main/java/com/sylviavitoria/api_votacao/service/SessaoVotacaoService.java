@@ -1,7 +1,9 @@
 package com.sylviavitoria.api_votacao.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -9,22 +11,31 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.sylviavitoria.api_votacao.agendamento.AgendadorSessoes;
+import com.sylviavitoria.api_votacao.cache.RegistroSessoes;
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
+import com.sylviavitoria.api_votacao.cache.VotantesCache;
+import com.sylviavitoria.api_votacao.dto.FinalizacaoSessoesResponse;
+import com.sylviavitoria.api_votacao.dto.PaginaCursor;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoAtualizarRequest;
+import com.sylviavitoria.api_votacao.dto.SessaoVotacaoListagemDTO;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoRequest;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoResponse;
-import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
 import com.sylviavitoria.api_votacao.enums.StatusPauta;
 import com.sylviavitoria.api_votacao.enums.StatusSessao;
 import com.sylviavitoria.api_votacao.exception.BusinessException;
 import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
+import com.sylviavitoria.api_votacao.ingestao.ApuracaoVotos;
+import com.sylviavitoria.api_votacao.interfaces.IPainelAssembleia;
 import com.sylviavitoria.api_votacao.interfaces.ISessaoVotacao;
 import com.sylviavitoria.api_votacao.mapper.SessaoVotacaoMapper;
 import com.sylviavitoria.api_votacao.model.Pauta;
 import com.sylviavitoria.api_votacao.model.SessaoVotacao;
+import com.sylviavitoria.api_votacao.paginacao.Paginacao;
 import com.sylviavitoria.api_votacao.repository.PautaRepository;
 import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
-import com.sylviavitoria.api_votacao.repository.VotoRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,10 +44,17 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SessaoVotacaoService implements ISessaoVotacao {
 
+    private static final List<String> ORDENACOES_CURSOR = List.of("dataAbertura", "id");
+
     private final SessaoVotacaoRepository sessaoVotacaoRepository;
     private final PautaRepository pautaRepository;
     private final SessaoVotacaoMapper sessaoVotacaoMapper;
-    private final VotoRepository votoRepository;
+    private final ApuracaoVotos apuracaoVotos;
+    private final VotantesCache votantesCache;
+    private final RegistroSessoes registroSessoes;
+    private final AgendadorSessoes agendadorSessoes;
+    private final VersoesPautas versoesPautas;
+    private final IPainelAssembleia painelAssembleia;
 
     @Override
     @Transactional
@@ -62,7 +80,7 @@ public class SessaoVotacaoService implements ISessaoVotacao {
             }
             sessao.setDataAbertura(request.getDataInicio());
             sessao.setDataFechamento(request.getDataFim());
-            configurarStatusSessao(sessao, agora);
+            sessao.setStatus(StatusSessao.FECHADA);
         } else {
             int duracao = (request.getDuracaoMinutos() != null) ? request.getDuracaoMinutos() : 1;
             sessao.setDataAbertura(agora);
@@ -72,77 +90,65 @@ public class SessaoVotacaoService implements ISessaoVotacao {
         }
 
         SessaoVotacao sessaoSalva = sessaoVotacaoRepository.save(sessao);
+        apuracaoVotos.inicializar(pauta.getId());
+        votantesCache.inicializar(pauta.getId());
+        registroSessoes.registrar(sessaoSalva);
+        versoesPautas.alterar(pauta.getId());
+        agendadorSessoes.agendar(sessaoSalva);
+        painelAssembleia.acompanhar(pauta.getId());
         return sessaoVotacaoMapper.toResponse(sessaoSalva);
     }
 
-    @Transactional
+    @Override
+    @Transactional(readOnly = true)
     public SessaoVotacaoResponse buscarPorId(Long id) {
-        SessaoVotacao sessao = sessaoVotacaoRepository.findById(id)
+        SessaoVotacaoListagemDTO sessao = sessaoVotacaoRepository.buscarListagem(id)
                 .orElseThrow(() -> new EntityNotFoundException("Sessão não encontrada"));
 
-        configurarStatusSessao(sessao, LocalDateTime.now());
-
-        sessaoVotacaoRepository.save(sessao);
-        if (sessao.getPauta() != null) {
-            pautaRepository.save(sessao.getPauta());
-        }
-
         return sessaoVotacaoMapper.toResponse(sessao);
     }
 
-
     @Override
-    @Transactional 
+    @Transactional(readOnly = true)
+    @Timed(value = "votacao.listagem", description = "Listagens de cadastros", histogram = true)
     public Page<SessaoVotacaoResponse> listarTodos(int page, int size, String sort) {
         log.info("Listando sessões com paginação: página {}, tamanho {}, ordenação {}", page, size, sort);
 
         Pageable pageable;
         if (sort != null && !sort.isEmpty()) {
-            pageable = PageRequest.of(page, size, Sort.by(sort));
+            pageable = PageRequest.of(page, Paginacao.limitar(size), Sort.by(sort));
         } else {
-            pageable = PageRequest.of(page, size, Sort.by("dataAbertura"));
+            pageable = PageRequest.of(page, Paginacao.limitar(size), Sort.by("dataAbertura"));
         }
 
-        Page<SessaoVotacao> sessoes = sessaoVotacaoRepository.findAll(pageable);
-        LocalDateTime agora = LocalDateTime.now();
-
-        sessoes.getContent().forEach(sessao -> {
-            configurarStatusSessao(sessao, agora);
-            sessaoVotacaoRepository.save(sessao);
-            if (sessao.getPauta() != null) {
-                pautaRepository.save(sessao.getPauta());
-            }
-        });
-
+        Page<SessaoVotacaoListagemDTO> sessoes = sessaoVotacaoRepository.listar(pageable);
         return sessoes.map(sessaoVotacaoMapper::toResponse);
     }
 
-
-    private void configurarStatusSessao(SessaoVotacao sessao, LocalDateTime agora) {
-        if (agora.isAfter(sessao.getDataFechamento())) {
-            sessao.setStatus(StatusSessao.FINALIZADA);
-
-            long votosSim = votoRepository.countByPautaIdAndOpcao(sessao.getPauta().getId(), OpcaoVoto.SIM);
-            long votosNao = votoRepository.countByPautaIdAndOpcao(sessao.getPauta().getId(), OpcaoVoto.NAO);
-
-            if (votosSim > votosNao) {
-                sessao.getPauta().setStatus(StatusPauta.APROVADA);
-            } else if (votosNao > votosSim) {
-                sessao.getPauta().setStatus(StatusPauta.RECUSADA);
-            } else {
-                sessao.getPauta().setStatus(StatusPauta.EMPATADA);
-            }
-        }
-
-        else if (agora.isAfter(sessao.getDataAbertura()) || agora.isEqual(sessao.getDataAbertura())) {
-            sessao.setStatus(StatusSessao.ABERTA);
-            sessao.getPauta().setStatus(StatusPauta.EM_VOTACAO);
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "votacao.listagem", description = "Listagens de cadastros", histogram = true)
+    public PaginaCursor<SessaoVotacaoResponse> listarPorCursor(String cursor, int limite, String sort) {
+        log.info("Listando sessões por cursor: limite {}, ordenação {}", limite, sort);
+
+        String ordenacao = Paginacao.ordenacao(sort, "dataAbertura", ORDENACOES_CURSOR);
+        Paginacao.Cursor posicao = Paginacao.decodificar(cursor, ordenacao);
+        int tamanho = Paginacao.limitar(limite);
+        Limit consulta = Limit.of(tamanho + 1);
+
+        List<SessaoVotacaoListagemDTO> sessoes;
+        if ("id".equals(ordenacao)) {
+            sessoes = sessaoVotacaoRepository.listarAposId(posicao != null ? posicao.id() : 0L, consulta);
+        } else if (posicao == null) {
+            sessoes = sessaoVotacaoRepository.listarPorDataAbertura(consulta);
         } else {
-            sessao.setStatus(StatusSessao.FECHADA);
+            sessoes = sessaoVotacaoRepository.listarAposDataAbertura(posicao.dataHora(), posicao.id(), consulta);
         }
 
-        log.info("Status da sessão atualizado: {} - Pauta: {} - Horário atual: {}",
-                sessao.getStatus(), sessao.getPauta().getTitulo(), agora);
+        PaginaCursor<SessaoVotacaoListagemDTO> pagina = Paginacao.pagina(sessoes, tamanho, sessao -> Paginacao.Cursor.de(
+                ordenacao, "id".equals(ordenacao) ? null : sessao.getDataAbertura(), sessao.getId()));
+        return new PaginaCursor<>(pagina.getConteudo().stream().map(sessaoVotacaoMapper::toResponse).toList(),
+                pagina.getLimite(), pagina.getProximo());
     }
 
     @Override
@@ -176,9 +182,19 @@ public class SessaoVotacaoService implements ISessaoVotacao {
         }
 
         SessaoVotacao sessaoAtualizada = sessaoVotacaoRepository.save(sessao);
+        registroSessoes.registrar(sessaoAtualizada);
+        versoesPautas.alterar(sessaoAtualizada.getPauta().getId());
+        agendadorSessoes.agendar(sessaoAtualizada);
+        painelAssembleia.acompanhar(sessaoAtualizada.getPauta().getId());
         return sessaoVotacaoMapper.toResponse(sessaoAtualizada);
     }
 
+    @Override
+    public FinalizacaoSessoesResponse finalizarExpiradas() {
+        log.info("Finalizando em lote as sessões expiradas");
+        return agendadorSessoes.finalizarExpiradas();
+    }
+
     private void validarDatasAgendamento(SessaoVotacaoRequest request) {
         LocalDateTime agora = LocalDateTime.now();
 
@@ -0,0 +1,275 @@
+package com.sylviavitoria.api_votacao.service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
+import com.sylviavitoria.api_votacao.dto.ResultadoVotacaoResponse;
+import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
+import com.sylviavitoria.api_votacao.interfaces.ITransmissaoResultados;
+import com.sylviavitoria.api_votacao.interfaces.IVoto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Transmissão do resultado das pautas por Server-Sent Events. Uma thread verifica, no máximo
+ * {@code eventos-por-segundo} vezes por segundo, quais pautas com assinantes mudaram (pela versão
+ * em {@link VersoesPautas}); para cada uma o resultado é consultado e serializado uma única vez e o
+ * mesmo evento é entregue a todos os assinantes. Cada conexão guarda apenas o evento mais recente
+ * ainda não enviado, então um cliente lento recebe menos atualizações em vez de acumular memória, e
+ * é desconectado quando fica {@code maximo-atrasos} ciclos seguidos sem conseguir receber.
+ */
+@Slf4j
+@Service
+public class TransmissaoResultadosService implements ITransmissaoResultados, SmartLifecycle {
+
+    static final String EVENTO_RESULTADO = "resultado";
+    static final String EVENTO_FINAL = "final";
+
+    private final IVoto voto;
+    private final VersoesPautas versoesPautas;
+    private final ObjectMapper objectMapper;
+
+    private final long intervaloMs;
+    private final long timeoutMs;
+    private final int maximoAtrasos;
+
+    private final Map<Long, Canal> canais = new ConcurrentHashMap<>();
+    private volatile ExecutorService envios = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter serializacoes;
+    private final Counter descartados;
+
+    private ScheduledExecutorService relogio;
+
+    public TransmissaoResultadosService(IVoto voto, VersoesPautas versoesPautas, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${votacao.transmissao.eventos-por-segundo:2}") int eventosPorSegundo,
+            @Value("${votacao.transmissao.timeout-ms:1800000}") long timeoutMs,
+            @Value("${votacao.transmissao.maximo-atrasos:20}") int maximoAtrasos) {
+        this.voto = voto;
+        this.versoesPautas = versoesPautas;
+        this.objectMapper = objectMapper;
+        this.intervaloMs = Math.max(1, 1000 / Math.max(1, eventosPorSegundo));
+        this.timeoutMs = timeoutMs;
+        this.maximoAtrasos = maximoAtrasos;
+
+        Gauge.builder("votacao.transmissao.assinantes", canais,
+                        mapa -> mapa.values().stream().mapToInt(canal -> canal.assinantes.size()).sum())
+                .description("Conexões SSE abertas")
+                .register(meterRegistry);
+        serializacoes = meterRegistry.counter("votacao.transmissao.serializacoes");
+        descartados = meterRegistry.counter("votacao.transmissao.descartados");
+    }
+
+    @Override
+    public SseEmitter assinar(Long pautaId) {
+        log.info("Nova assinatura do resultado da pauta ID: {}", pautaId);
+
+        VersoesPautas.Versao versao = versoesPautas.obter(pautaId);
+        ResultadoVotacaoResponse resultado = voto.consultarResultado(pautaId);
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Assinante assinante = new Assinante(pautaId, emitter);
+        String dados = serializar(resultado);
+        if (versao.imutavel()) {
+            assinante.publicar(evento(EVENTO_FINAL, dados), true);
+            return emitter;
+        }
+
+        canais.compute(pautaId, (id, canal) -> {
+            Canal atual = canal != null ? canal : new Canal(versao.etag(), dados);
+            atual.assinantes.add(assinante);
+            return atual;
+        });
+        emitter.onCompletion(() -> remover(pautaId, assinante));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(erro -> remover(pautaId, assinante));
+        // A sessão pode ter sido encerrada entre a primeira leitura da versão e o registro no canal,
+        // depois que o ciclo já enviou o evento final aos assinantes dele.
+        if (versoesPautas.obter(pautaId).imutavel()) {
+            remover(pautaId, assinante);
+            assinante.publicar(evento(EVENTO_FINAL, serializar(voto.consultarResultado(pautaId))), true);
+            return emitter;
+        }
+        assinante.publicar(evento(EVENTO_RESULTADO, dados), false);
+        return emitter;
+    }
+
+    /**
+     * Um ciclo: envia o resultado das pautas que mudaram e encerra as transmissões das sessões
+     * encerradas.
+     */
+    void transmitir() {
+        canais.forEach((pautaId, canal) -> {
+            try {
+                VersoesPautas.Versao versao = versoesPautas.obter(pautaId);
+                if (!versao.imutavel() && versao.etag().equals(canal.ultimaEtag)) {
+                    return;
+                }
+                canal.ultimaEtag = versao.etag();
+
+                String dados = serializar(voto.consultarResultado(pautaId));
+                // A fase da sessão muda a versão sem mudar os totais.
+                if (!versao.imutavel() && dados.equals(canal.ultimosDados)) {
+                    return;
+                }
+                canal.ultimosDados = dados;
+
+                Set<DataWithMediaType> evento = evento(versao.imutavel() ? EVENTO_FINAL : EVENTO_RESULTADO, dados);
+                canal.assinantes.forEach(assinante -> assinante.publicar(evento, versao.imutavel()));
+                if (versao.imutavel()) {
+                    canais.remove(pautaId, canal);
+                }
+            } catch (EntityNotFoundException e) {
+                canais.remove(pautaId, canal);
+                canal.assinantes.forEach(assinante -> assinante.emitter.complete());
+            } catch (RuntimeException e) {
+                log.error("Erro ao transmitir resultado da pauta ID: {}: {}", pautaId, e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void start() {
+        if (envios.isShutdown()) {
+            envios = Executors.newVirtualThreadPerTaskExecutor();
+        }
+        relogio = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "resultados-transmissao");
+            thread.setDaemon(true);
+            return thread;
+        });
+        relogio.scheduleWithFixedDelay(this::transmitir, intervaloMs, intervaloMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (relogio == null) {
+            return;
+        }
+        relogio.shutdownNow();
+        relogio = null;
+        canais.values().forEach(canal -> canal.assinantes.forEach(assinante -> assinante.emitter.complete()));
+        canais.clear();
+        envios.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return relogio != null;
+    }
+
+    private void remover(Long pautaId, Assinante assinante) {
+        canais.computeIfPresent(pautaId, (id, canal) -> {
+            canal.assinantes.remove(assinante);
+            return canal.assinantes.isEmpty() ? null : canal;
+        });
+    }
+
+    private String serializar(ResultadoVotacaoResponse resultado) {
+        try {
+            serializacoes.increment();
+            return objectMapper.writeValueAsString(resultado);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar resultado da pauta ID: " + resultado.getPautaId(), e);
+        }
+    }
+
+    private static Set<DataWithMediaType> evento(String nome, String dados) {
+        return SseEmitter.event().name(nome).data(dados).build();
+    }
+
+    private static final class Canal {
+        private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+        private volatile String ultimaEtag;
+        private volatile String ultimosDados;
+
+        Canal(String ultimaEtag, String ultimosDados) {
+            this.ultimaEtag = ultimaEtag;
+            this.ultimosDados = ultimosDados;
+        }
+    }
+
+    private final class Assinante {
+        private final Long pautaId;
+        private final SseEmitter emitter;
+        private final AtomicReference<Envio> pendente = new AtomicReference<>();
+        private final AtomicBoolean enviando = new AtomicBoolean();
+        private final AtomicBoolean encerrado = new AtomicBoolean();
+        private final AtomicInteger atrasos = new AtomicInteger();
+
+        Assinante(Long pautaId, SseEmitter emitter) {
+            this.pautaId = pautaId;
+            this.emitter = emitter;
+        }
+
+        void publicar(Set<DataWithMediaType> evento, boolean fim) {
+            // O evento final chega uma única vez, mesmo que o ciclo e a assinatura o publiquem.
+            if (fim ? !encerrado.compareAndSet(false, true) : encerrado.get()) {
+                return;
+            }
+            Envio anterior = pendente.getAndSet(new Envio(evento, fim));
+            if (anterior != null && atrasos.incrementAndGet() > maximoAtrasos) {
+                descartados.increment();
+                remover(pautaId, this);
+                emitter.complete();
+                return;
+            }
+            if (enviando.compareAndSet(false, true)) {
+                try {
+                    envios.execute(this::enviar);
+                } catch (RejectedExecutionException e) {
+                    // Transmissão parada.
+                    enviando.set(false);
+                    emitter.complete();
+                }
+            }
+        }
+
+        private void enviar() {
+            do {
+                try {
+                    Envio envio;
+                    while ((envio = pendente.getAndSet(null)) != null) {
+                        emitter.send(envio.evento());
+                        atrasos.set(0);
+                        if (envio.fim()) {
+                            emitter.complete();
+                            return;
+                        }
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                    return;
+                } finally {
+                    enviando.set(false);
+                }
+            } while (pendente.get() != null && enviando.compareAndSet(false, true));
+        }
+    }
+
+    private record Envio(Set<DataWithMediaType> evento, boolean fim) {
+    }
+}
@@ -0,0 +1,353 @@
+package com.sylviavitoria.api_votacao.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sylviavitoria.api_votacao.cache.RegistroSessoes;
+import com.sylviavitoria.api_votacao.cache.VotantesCache;
+import com.sylviavitoria.api_votacao.dto.ReciboVotoResponse;
+import com.sylviavitoria.api_votacao.dto.VotoRequest;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.enums.StatusRecibo;
+import com.sylviavitoria.api_votacao.exception.BusinessException;
+import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
+import com.sylviavitoria.api_votacao.exception.ServicoIndisponivelException;
+import com.sylviavitoria.api_votacao.ingestao.ApuracaoVotos;
+import com.sylviavitoria.api_votacao.ingestao.FaseIngestao;
+import com.sylviavitoria.api_votacao.ingestao.FilaCircular;
+import com.sylviavitoria.api_votacao.ingestao.RejeicoesVotos;
+import com.sylviavitoria.api_votacao.ingestao.VotoPendente;
+import com.sylviavitoria.api_votacao.interfaces.IVotoAssincrono;
+import com.sylviavitoria.api_votacao.repository.VotoJdbcRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ingestão assíncrona de votos: o voto é validado contra o estado em memória (janela da sessão e
+ * votantes), colocado em uma {@link FilaCircular} e confirmado com um recibo. Uma única thread
+ * grava a fila em {@code tb_votos} em lotes.
+ */
+@Slf4j
+@Service
+public class VotoAssincronoService implements IVotoAssincrono, SmartLifecycle {
+
+    private static final long ESPERA_OCIOSA_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int TENTATIVAS_GRAVACAO = 3;
+    private static final String SESSAO_NAO_ABERTA = "Sessão de votação não está aberta";
+
+    private final RegistroSessoes registroSessoes;
+    private final VotantesCache votantesCache;
+    private final ApuracaoVotos apuracaoVotos;
+    private final VotoJdbcRepository votoJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RejeicoesVotos rejeicoesVotos;
+
+    private final boolean habilitada;
+    private final int tamanhoBloco;
+    private final long retencaoRecibosMs;
+
+    private final FilaCircular<VotoPendente> fila;
+    private final Map<String, Recibo> recibos = new ConcurrentHashMap<>();
+    private final AtomicInteger produtoresAtivos = new AtomicInteger();
+
+    private final Counter aceitos;
+    private final Counter registrados;
+    private final Counter rejeitados;
+    private final DistributionSummary tamanhoLotes;
+
+    private volatile boolean aceitando;
+    private volatile boolean executando;
+    private Thread gravador;
+
+    public VotoAssincronoService(RegistroSessoes registroSessoes, VotantesCache votantesCache,
+            ApuracaoVotos apuracaoVotos, VotoJdbcRepository votoJdbcRepository,
+            TransactionTemplate transactionTemplate, MeterRegistry meterRegistry, RejeicoesVotos rejeicoesVotos,
+            @Value("${votacao.ingestao-assincrona.habilitada:false}") boolean habilitada,
+            @Value("${votacao.ingestao-assincrona.capacidade:65536}") int capacidade,
+            @Value("${votacao.ingestao-assincrona.tamanho-bloco:500}") int tamanhoBloco,
+            @Value("${votacao.ingestao-assincrona.retencao-recibos-ms:600000}") long retencaoRecibosMs) {
+        this.registroSessoes = registroSessoes;
+        this.votantesCache = votantesCache;
+        this.apuracaoVotos = apuracaoVotos;
+        this.votoJdbcRepository = votoJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.rejeicoesVotos = rejeicoesVotos;
+        this.habilitada = habilitada;
+        this.tamanhoBloco = tamanhoBloco;
+        this.retencaoRecibosMs = retencaoRecibosMs;
+        this.fila = new FilaCircular<>(capacidade);
+
+        Gauge.builder("votacao.fila.votos.tamanho", fila, FilaCircular::tamanho)
+                .description("Votos aguardando gravação")
+                .register(meterRegistry);
+        Gauge.builder("votacao.fila.votos.capacidade", fila, FilaCircular::capacidade)
+                .register(meterRegistry);
+        aceitos = meterRegistry.counter("votacao.fila.votos.aceitos");
+        registrados = meterRegistry.counter("votacao.fila.votos.registrados");
+        rejeitados = meterRegistry.counter("votacao.fila.votos.rejeitados");
+        tamanhoLotes = DistributionSummary.builder("votacao.fila.votos.lote")
+                .description("Quantidade de votos por gravação")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean habilitado() {
+        return habilitada;
+    }
+
+    @Override
+    public ReciboVotoResponse enfileirar(VotoRequest request) {
+        log.debug("Enfileirando voto do associado ID: {} na pauta ID: {}",
+                request.getAssociadoId(), request.getPautaId());
+
+        try {
+            registroSessoes.verificarAberta(request.getPautaId());
+            return receber(request);
+        } catch (RuntimeException e) {
+            rejeicoesVotos.registrar(RejeicoesVotos.ASSINCRONO, e);
+            throw e;
+        }
+    }
+
+    private ReciboVotoResponse receber(VotoRequest request) {
+        produtoresAtivos.incrementAndGet();
+        try {
+            if (!aceitando) {
+                throw new ServicoIndisponivelException("Recebimento assíncrono de votos indisponível");
+            }
+            if (!votantesCache.marcar(request.getPautaId(), request.getAssociadoId())) {
+                throw new BusinessException("Associado já votou nesta pauta");
+            }
+
+            VotoPendente pendente = new VotoPendente(UUID.randomUUID().toString(), request,
+                    LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+            Recibo recibo = new Recibo(pendente);
+            recibos.put(pendente.recibo(), recibo);
+
+            if (!fila.oferecer(pendente)) {
+                recibos.remove(pendente.recibo());
+                votantesCache.desmarcar(request.getPautaId(), request.getAssociadoId());
+                throw new ServicoIndisponivelException("Fila de votos cheia. Tente novamente em instantes");
+            }
+            aceitos.increment();
+            return recibo.resposta();
+        } finally {
+            produtoresAtivos.decrementAndGet();
+        }
+    }
+
+    @Override
+    public ReciboVotoResponse consultarRecibo(String id) {
+        Recibo recibo = recibos.get(id);
+        if (recibo == null) {
+            throw new EntityNotFoundException("Recibo não encontrado");
+        }
+        return recibo.resposta();
+    }
+
+    @Scheduled(fixedDelayString = "${votacao.ingestao-assincrona.retencao-recibos-ms:600000}")
+    public void removerRecibosExpirados() {
+        long limite = System.currentTimeMillis() - retencaoRecibosMs;
+        recibos.values().removeIf(recibo -> recibo.status != StatusRecibo.PENDENTE && recibo.finalizadoEm < limite);
+    }
+
+    @Override
+    public void start() {
+        if (!habilitada) {
+            return;
+        }
+        iniciarRecebimento();
+        gravador = new Thread(this::gravarContinuamente, "votos-gravador");
+        gravador.setDaemon(true);
+        gravador.start();
+        log.info("Ingestão assíncrona de votos iniciada com capacidade {}", fila.capacidade());
+    }
+
+    @Override
+    public void stop() {
+        aceitando = false;
+        executando = false;
+        if (gravador == null) {
+            return;
+        }
+        log.info("Encerrando ingestão assíncrona: {} votos pendentes na fila", fila.tamanho());
+        try {
+            gravador.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (gravador.isAlive()) {
+            log.error("Ingestão assíncrona encerrada com {} votos ainda na fila", fila.tamanho());
+        }
+        gravador = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return gravador != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return FaseIngestao.GRAVACAO_VOTOS;
+    }
+
+    void iniciarRecebimento() {
+        aceitando = true;
+        executando = true;
+    }
+
+    void gravarContinuamente() {
+        List<VotoPendente> bloco = new ArrayList<>(tamanhoBloco);
+        while (executando || produtoresAtivos.get() > 0 || !fila.vazia()) {
+            fila.drenar(bloco::add, tamanhoBloco);
+            if (bloco.isEmpty()) {
+                LockSupport.parkNanos(ESPERA_OCIOSA_NANOS);
+                continue;
+            }
+            gravar(bloco);
+            bloco.clear();
+        }
+        log.info("Fila de votos drenada");
+    }
+
+    void gravar(List<VotoPendente> bloco) {
+        tamanhoLotes.record(bloco.size());
+        for (int tentativa = 1; tentativa <= TENTATIVAS_GRAVACAO; tentativa++) {
+            try {
+                Long[] ids = gravarBloco(bloco);
+                for (int i = 0; i < bloco.size(); i++) {
+                    if (ids[i] != null) {
+                        finalizar(bloco.get(i), StatusRecibo.REGISTRADO, null);
+                    } else {
+                        rejeitar(bloco.get(i), SESSAO_NAO_ABERTA);
+                    }
+                }
+                return;
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Falha ao gravar bloco de {} votos, gravando individualmente: {}", bloco.size(), e.getMessage());
+                bloco.forEach(this::gravarIndividualmente);
+                return;
+            } catch (RuntimeException e) {
+                log.error("Erro ao gravar bloco de {} votos (tentativa {}): {}", bloco.size(), tentativa, e.getMessage());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100L * tentativa));
+            }
+        }
+        bloco.forEach(pendente -> rejeitar(pendente, "Erro ao gravar o voto"));
+    }
+
+    /**
+     * Grava o bloco com a data de recebimento de cada voto; os votos cuja sessão não estava aberta
+     * nessa data, ou já foi finalizada, não são gravados e ficam com id {@code null}.
+     */
+    private Long[] gravarBloco(List<VotoPendente> bloco) {
+        List<VotoRequest> votos = bloco.stream().map(VotoPendente::voto).toList();
+        return transactionTemplate.execute(status -> {
+            Long[] ids = votoJdbcRepository.inserirLoteSeSessaoAberta(votos, i -> bloco.get(i).dataHora());
+
+            Map<Long, long[]> totais = new TreeMap<>();
+            for (int i = 0; i < votos.size(); i++) {
+                if (ids[i] != null) {
+                    long[] total = totais.computeIfAbsent(votos.get(i).getPautaId(), id -> new long[2]);
+                    total[votos.get(i).getOpcao() == OpcaoVoto.SIM ? 0 : 1]++;
+                }
+            }
+            totais.forEach((pautaId, total) -> apuracaoVotos.adicionar(pautaId, total[0], total[1]));
+            return ids;
+        });
+    }
+
+    private void gravarIndividualmente(VotoPendente pendente) {
+        try {
+            Long[] ids = transactionTemplate.execute(status -> {
+                Long[] inseridos = votoJdbcRepository.inserirLoteSeSessaoAberta(List.of(pendente.voto()),
+                        i -> pendente.dataHora());
+                if (inseridos[0] != null) {
+                    apuracaoVotos.registrar(pendente.voto().getPautaId(), pendente.voto().getOpcao());
+                }
+                return inseridos;
+            });
+            if (ids[0] != null) {
+                finalizar(pendente, StatusRecibo.REGISTRADO, null);
+            } else {
+                rejeitar(pendente, SESSAO_NAO_ABERTA);
+            }
+        } catch (DuplicateKeyException e) {
+            finalizar(pendente, StatusRecibo.REJEITADO, "Associado já votou nesta pauta");
+        } catch (DataIntegrityViolationException e) {
+            if (VotoJdbcRepository.associadoInexistente(e)) {
+                rejeitar(pendente, "Associado não encontrado");
+            } else {
+                log.error("Erro de integridade ao gravar voto do recibo {}: {}", pendente.recibo(), e.getMessage());
+                rejeitar(pendente, "Erro ao gravar o voto");
+            }
+        } catch (RuntimeException e) {
+            log.error("Erro ao gravar voto do recibo {}: {}", pendente.recibo(), e.getMessage());
+            rejeitar(pendente, "Erro ao gravar o voto");
+        }
+    }
+
+    private void rejeitar(VotoPendente pendente, String erro) {
+        votantesCache.desmarcar(pendente.voto().getPautaId(), pendente.voto().getAssociadoId());
+        finalizar(pendente, StatusRecibo.REJEITADO, erro);
+    }
+
+    private void finalizar(VotoPendente pendente, StatusRecibo status, String erro) {
+        if (status == StatusRecibo.REGISTRADO) {
+            registrados.increment();
+        } else {
+            rejeitados.increment();
+            rejeicoesVotos.registrar(RejeicoesVotos.ASSINCRONO, erro);
+        }
+        Recibo recibo = recibos.get(pendente.recibo());
+        if (recibo != null) {
+            recibo.erro = erro;
+            recibo.finalizadoEm = System.currentTimeMillis();
+            recibo.status = status;
+        }
+    }
+
+    private static final class Recibo {
+        private final VotoPendente pendente;
+        private volatile StatusRecibo status = StatusRecibo.PENDENTE;
+        private volatile String erro;
+        private volatile long finalizadoEm;
+
+        Recibo(VotoPendente pendente) {
+            this.pendente = pendente;
+        }
+
+        ReciboVotoResponse resposta() {
+            StatusRecibo atual = status;
+            return ReciboVotoResponse.builder()
+                    .recibo(pendente.recibo())
+                    .status(atual)
+                    .associadoId(pendente.voto().getAssociadoId())
+                    .pautaId(pendente.voto().getPautaId())
+                    .dataHora(pendente.dataHora())
+                    .erro(atual == StatusRecibo.REJEITADO ? erro : null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.sylviavitoria.api_votacao.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sylviavitoria.api_votacao.cache.VotantesCache;
+import com.sylviavitoria.api_votacao.dto.VotoLoteItemResponse;
+import com.sylviavitoria.api_votacao.dto.VotoLoteResponse;
+import com.sylviavitoria.api_votacao.dto.VotoRequest;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.enums.StatusItemLote;
+import com.sylviavitoria.api_votacao.ingestao.ApuracaoVotos;
+import com.sylviavitoria.api_votacao.ingestao.RejeicoesVotos;
+import com.sylviavitoria.api_votacao.interfaces.IVotoLote;
+import com.sylviavitoria.api_votacao.model.SessaoVotacao;
+import com.sylviavitoria.api_votacao.repository.AssociadoRepository;
+import com.sylviavitoria.api_votacao.repository.PautaRepository;
+import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
+import com.sylviavitoria.api_votacao.repository.VotoJdbcRepository;
+import com.sylviavitoria.api_votacao.repository.VotoRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VotoLoteService implements IVotoLote {
+
+    private static final String ERRO_LEITURA = "Erro ao processar a requisição. Verifique o formato dos dados";
+    private static final String SESSAO_NAO_ABERTA = "Sessão de votação não está aberta";
+
+    private final VotoJdbcRepository votoJdbcRepository;
+    private final VotoRepository votoRepository;
+    private final AssociadoRepository associadoRepository;
+    private final PautaRepository pautaRepository;
+    private final SessaoVotacaoRepository sessaoVotacaoRepository;
+    private final ApuracaoVotos apuracaoVotos;
+    private final VotantesCache votantesCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final RejeicoesVotos rejeicoesVotos;
+
+    @Value("${votacao.lote.tamanho-bloco:1000}")
+    private int tamanhoBloco = 1000;
+
+    @Override
+    public VotoLoteResponse registrarLote(Iterator<VotoRequest> votos) {
+        log.info("Iniciando registro de votos em lote");
+
+        ContextoLote contexto = new ContextoLote();
+        List<VotoLoteItemResponse> itens = new ArrayList<>();
+        List<ItemLote> bloco = new ArrayList<>(tamanhoBloco);
+        int indice = 0;
+
+        while (true) {
+            VotoRequest voto;
+            try {
+                if (!votos.hasNext()) {
+                    break;
+                }
+                voto = votos.next();
+            } catch (RuntimeException e) {
+                log.warn("Leitura do lote interrompida no item {}: {}", indice, e.getMessage());
+                processarBloco(bloco, contexto, itens);
+                bloco.clear();
+                itens.add(rejeitado(indice, null, ERRO_LEITURA));
+                break;
+            }
+
+            bloco.add(new ItemLote(indice++, voto));
+            if (bloco.size() >= tamanhoBloco) {
+                processarBloco(bloco, contexto, itens);
+                bloco.clear();
+            }
+        }
+        processarBloco(bloco, contexto, itens);
+
+        itens.sort(Comparator.comparingInt(VotoLoteItemResponse::getIndice));
+        int registrados = 0;
+        for (VotoLoteItemResponse item : itens) {
+            if (item.getStatus() == StatusItemLote.REGISTRADO) {
+                registrados++;
+            } else {
+                rejeicoesVotos.registrar(RejeicoesVotos.LOTE, item.getErro());
+            }
+        }
+
+        log.info("Lote processado: {} recebidos, {} registrados, {} rejeitados",
+                itens.size(), registrados, itens.size() - registrados);
+
+        return VotoLoteResponse.builder()
+                .totalRecebidos(itens.size())
+                .totalRegistrados(registrados)
+                .totalRejeitados(itens.size() - registrados)
+                .itens(itens)
+                .build();
+    }
+
+    private void processarBloco(List<ItemLote> bloco, ContextoLote contexto, List<VotoLoteItemResponse> itens) {
+        if (bloco.isEmpty()) {
+            return;
+        }
+
+        List<ItemLote> validos = new ArrayList<>(bloco.size());
+        for (ItemLote item : bloco) {
+            Set<ConstraintViolation<VotoRequest>> violacoes = validator.validate(item.voto());
+            if (violacoes.isEmpty()) {
+                validos.add(item);
+            } else {
+                String erro = violacoes.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+                itens.add(rejeitado(item, erro));
+            }
+        }
+
+        carregarAssociados(validos, contexto);
+        carregarSessoes(validos, contexto);
+        carregarVotantes(validos, contexto);
+
+        List<ItemLote> aceitos = new ArrayList<>(validos.size());
+        for (ItemLote item : validos) {
+            String erro = validar(item.voto(), contexto);
+            if (erro != null) {
+                itens.add(rejeitado(item, erro));
+            } else {
+                contexto.votantes(item.voto().getPautaId()).add(item.voto().getAssociadoId());
+                aceitos.add(item);
+            }
+        }
+
+        inserir(aceitos, contexto, itens);
+    }
+
+    private String validar(VotoRequest voto, ContextoLote contexto) {
+        if (!contexto.associadosExistentes.contains(voto.getAssociadoId())) {
+            return "Associado não encontrado";
+        }
+        Optional<SessaoVotacao> sessao = contexto.sessoes.get(voto.getPautaId());
+        if (sessao.isEmpty()) {
+            return contexto.pautasInexistentes.contains(voto.getPautaId())
+                    ? "Pauta não encontrada"
+                    : "Não existe sessão de votação para esta pauta";
+        }
+        if (!sessao.get().estaAberta()) {
+            return SESSAO_NAO_ABERTA;
+        }
+        if (contexto.votantes(voto.getPautaId()).contains(voto.getAssociadoId())) {
+            return "Associado já votou nesta pauta";
+        }
+        return null;
+    }
+
+    private void carregarAssociados(List<ItemLote> itens, ContextoLote contexto) {
+        Set<Long> desconhecidos = itens.stream()
+                .map(item -> item.voto().getAssociadoId())
+                .filter(id -> !contexto.associadosExistentes.contains(id) && !contexto.associadosVerificados.contains(id))
+                .collect(Collectors.toSet());
+        if (!desconhecidos.isEmpty()) {
+            contexto.associadosExistentes.addAll(associadoRepository.findIdsExistentes(desconhecidos));
+            contexto.associadosVerificados.addAll(desconhecidos);
+        }
+    }
+
+    private void carregarSessoes(List<ItemLote> itens, ContextoLote contexto) {
+        Set<Long> novas = itens.stream()
+                .map(item -> item.voto().getPautaId())
+                .filter(id -> !contexto.sessoes.containsKey(id))
+                .collect(Collectors.toSet());
+        if (novas.isEmpty()) {
+            return;
+        }
+        sessaoVotacaoRepository.findByPautaIdIn(novas)
+                .forEach(sessao -> contexto.sessoes.put(sessao.getPauta().getId(), Optional.of(sessao)));
+        for (Long pautaId : novas) {
+            if (!contexto.sessoes.containsKey(pautaId)) {
+                contexto.sessoes.put(pautaId, Optional.empty());
+                if (!pautaRepository.existsById(pautaId)) {
+                    contexto.pautasInexistentes.add(pautaId);
+                }
+            }
+        }
+    }
+
+    private void carregarVotantes(List<ItemLote> itens, ContextoLote contexto) {
+        Map<Long, Set<Long>> candidatosPorPauta = itens.stream()
+                .filter(item -> contexto.sessoes.get(item.voto().getPautaId()).isPresent())
+                .filter(item -> !contexto.votantes(item.voto().getPautaId()).contains(item.voto().getAssociadoId()))
+                .collect(Collectors.groupingBy(item -> item.voto().getPautaId(),
+                        Collectors.mapping(item -> item.voto().getAssociadoId(), Collectors.toSet())));
+
+        candidatosPorPauta.forEach((pautaId, associadoIds) -> contexto.votantes(pautaId)
+                .addAll(votoRepository.findAssociadoIdsComVoto(pautaId, associadoIds)));
+    }
+
+    private void inserir(List<ItemLote> aceitos, ContextoLote contexto, List<VotoLoteItemResponse> itens) {
+        if (aceitos.isEmpty()) {
+            return;
+        }
+        LocalDateTime dataHora = LocalDateTime.now();
+        List<VotoRequest> votos = aceitos.stream().map(ItemLote::voto).toList();
+
+        try {
+            // A sessão é verificada de novo no banco, voto a voto: um lote longo que atravessa o
+            // fechamento, ou a finalização, para de gravar naquela pauta.
+            Long[] ids = transactionTemplate.execute(status -> {
+                Long[] inseridos = votoJdbcRepository.inserirLoteSeSessaoAberta(votos, i -> dataHora);
+                registrarContagem(votos, inseridos);
+                return inseridos;
+            });
+            for (int i = 0; i < aceitos.size(); i++) {
+                ItemLote item = aceitos.get(i);
+                if (ids[i] != null) {
+                    votantesCache.adicionar(item.voto().getPautaId(), item.voto().getAssociadoId());
+                    itens.add(registrado(item));
+                } else {
+                    itens.add(rejeitado(item, SESSAO_NAO_ABERTA));
+                }
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Falha ao gravar bloco de {} votos, gravando individualmente: {}", aceitos.size(), e.getMessage());
+            aceitos.forEach(item -> inserirIndividualmente(item, dataHora, contexto, itens));
+        }
+    }
+
+    private void inserirIndividualmente(ItemLote item, LocalDateTime dataHora, ContextoLote contexto,
+            List<VotoLoteItemResponse> itens) {
+        try {
+            Long[] ids = transactionTemplate.execute(status -> {
+                Long[] inseridos = votoJdbcRepository.inserirLoteSeSessaoAberta(List.of(item.voto()), i -> dataHora);
+                if (inseridos[0] != null) {
+                    apuracaoVotos.registrar(item.voto().getPautaId(), item.voto().getOpcao());
+                }
+                return inseridos;
+            });
+            if (ids[0] == null) {
+                itens.add(rejeitado(item, SESSAO_NAO_ABERTA));
+                return;
+            }
+            votantesCache.adicionar(item.voto().getPautaId(), item.voto().getAssociadoId());
+            itens.add(registrado(item));
+        } catch (DuplicateKeyException e) {
+            itens.add(rejeitado(item, "Associado já votou nesta pauta"));
+        } catch (DataIntegrityViolationException e) {
+            contexto.associadosExistentes.remove(item.voto().getAssociadoId());
+            itens.add(rejeitado(item, "Não é possível executar esta operação devido a restrições de integridade de dados"));
+        }
+    }
+
+    private void registrarContagem(List<VotoRequest> votos, Long[] ids) {
+        Map<Long, long[]> totais = new TreeMap<>();
+        for (int i = 0; i < votos.size(); i++) {
+            if (ids[i] != null) {
+                long[] total = totais.computeIfAbsent(votos.get(i).getPautaId(), id -> new long[2]);
+                total[votos.get(i).getOpcao() == OpcaoVoto.SIM ? 0 : 1]++;
+            }
+        }
+        totais.forEach((pautaId, total) -> apuracaoVotos.adicionar(pautaId, total[0], total[1]));
+    }
+
+    private static VotoLoteItemResponse registrado(ItemLote item) {
+        return VotoLoteItemResponse.builder()
+                .indice(item.indice())
+                .associadoId(item.voto().getAssociadoId())
+                .pautaId(item.voto().getPautaId())
+                .status(StatusItemLote.REGISTRADO)
+                .build();
+    }
+
+    private static VotoLoteItemResponse rejeitado(ItemLote item, String erro) {
+        return rejeitado(item.indice(), item.voto(), erro);
+    }
+
+    private static VotoLoteItemResponse rejeitado(int indice, VotoRequest voto, String erro) {
+        return VotoLoteItemResponse.builder()
+                .indice(indice)
+                .associadoId(voto != null ? voto.getAssociadoId() : null)
+                .pautaId(voto != null ? voto.getPautaId() : null)
+                .status(StatusItemLote.REJEITADO)
+                .erro(erro)
+                .build();
+    }
+
+    private record ItemLote(int indice, VotoRequest voto) {
+    }
+
+    private static final class ContextoLote {
+        private final Set<Long> associadosExistentes = new HashSet<>();
+        private final Set<Long> associadosVerificados = new HashSet<>();
+        private final Map<Long, Optional<SessaoVotacao>> sessoes = new HashMap<>();
+        private final Set<Long> pautasInexistentes = new HashSet<>();
+        private final Map<Long, Set<Long>> votantesPorPauta = new HashMap<>();
+
+        Set<Long> votantes(Long pautaId) {
+            return votantesPorPauta.computeIfAbsent(pautaId, id -> new HashSet<>());
+        }
+    }
+}
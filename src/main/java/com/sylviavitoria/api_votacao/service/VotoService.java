@@ -1,26 +1,39 @@
 package com.sylviavitoria.api_votacao.service;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.sylviavitoria.api_votacao.cache.ContagemVotosCache;
+import com.sylviavitoria.api_votacao.cache.RegistroSessoes;
+import com.sylviavitoria.api_votacao.cache.VotantesCache;
 import com.sylviavitoria.api_votacao.dto.ResultadoVotacaoResponse;
 import com.sylviavitoria.api_votacao.dto.VotoAtualizarRequest;
 import com.sylviavitoria.api_votacao.dto.VotoRequest;
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
 import com.sylviavitoria.api_votacao.dto.VotoResponse;
+import com.sylviavitoria.api_votacao.dto.VotoStatusResponse;
 import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
 import com.sylviavitoria.api_votacao.exception.BusinessException;
+import com.sylviavitoria.api_votacao.exception.ConfirmacaoPendenteException;
 import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
+import com.sylviavitoria.api_votacao.exception.VotoDuplicadoException;
+import com.sylviavitoria.api_votacao.ingestao.ApuracaoVotos;
+import com.sylviavitoria.api_votacao.ingestao.ConfirmacaoEmGrupo;
+import com.sylviavitoria.api_votacao.ingestao.RejeicoesVotos;
 import com.sylviavitoria.api_votacao.interfaces.IVoto;
 import com.sylviavitoria.api_votacao.mapper.VotoMapper;
-import com.sylviavitoria.api_votacao.model.Associado;
 import com.sylviavitoria.api_votacao.model.Pauta;
-import com.sylviavitoria.api_votacao.model.SessaoVotacao;
 import com.sylviavitoria.api_votacao.model.Voto;
-import com.sylviavitoria.api_votacao.repository.AssociadoRepository;
 import com.sylviavitoria.api_votacao.repository.PautaRepository;
-import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
+import com.sylviavitoria.api_votacao.repository.ResultadoRepository;
+import com.sylviavitoria.api_votacao.repository.VotoJdbcRepository.VotoGravado;
 import com.sylviavitoria.api_votacao.repository.VotoRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,44 +43,56 @@ import lombok.extern.slf4j.Slf4j;
 public class VotoService implements IVoto {
 
         private final VotoRepository votoRepository;
-        private final AssociadoRepository associadoRepository;
         private final PautaRepository pautaRepository;
-        private final SessaoVotacaoRepository sessaoVotacaoRepository;
+        private final ResultadoRepository resultadoRepository;
+        private final RegistroSessoes registroSessoes;
         private final VotoMapper votoMapper;
+        private final ContagemVotosCache contagemVotosCache;
+        private final VotantesCache votantesCache;
+        private final ApuracaoVotos apuracaoVotos;
+        private final ConfirmacaoEmGrupo confirmacaoEmGrupo;
+        private final RejeicoesVotos rejeicoesVotos;
 
         @Override
-        @Transactional
+        @Timed(value = "votacao.votos.registro", description = "Registro síncrono de votos", histogram = true)
         public VotoResponse registrarVoto(VotoRequest request) {
-                log.info("Registrando voto para associado ID: {} na pauta ID: {}",
-                                request.getAssociadoId(), request.getPautaId());
-
-                Associado associado = associadoRepository.findById(request.getAssociadoId())
-                                .orElseThrow(() -> new EntityNotFoundException("Associado não encontrado"));
-
-                Pauta pauta = pautaRepository.findById(request.getPautaId())
-                                .orElseThrow(() -> new EntityNotFoundException("Pauta não encontrada"));
-
-                SessaoVotacao sessao = sessaoVotacaoRepository.findByPautaId(request.getPautaId())
-                                .orElseThrow(() -> new BusinessException(
-                                                "Não existe sessão de votação para esta pauta"));
-
-                if (!sessao.estaAberta()) {
-                        throw new BusinessException("Sessão de votação não está aberta");
+                try {
+                        registroSessoes.verificarAberta(request.getPautaId());
+
+                        if (!votantesCache.marcar(request.getPautaId(), request.getAssociadoId())) {
+                                throw new VotoDuplicadoException();
+                        }
+                } catch (RuntimeException e) {
+                        rejeicoesVotos.registrar(RejeicoesVotos.SINCRONO, e);
+                        throw e;
                 }
 
-                if (votoRepository.existsByAssociadoIdAndPautaId(request.getAssociadoId(), request.getPautaId())) {
-                        throw new BusinessException("Associado já votou nesta pauta");
+                LocalDateTime dataHora = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+                VotoGravado gravado;
+                try {
+                        gravado = confirmacaoEmGrupo.gravar(request, dataHora);
+                } catch (VotoDuplicadoException | ConfirmacaoPendenteException e) {
+                        // O voto existente está no banco, ou ainda pode ser gravado: o associado continua marcado.
+                        rejeicoesVotos.registrar(RejeicoesVotos.SINCRONO, e);
+                        throw e;
+                } catch (RuntimeException e) {
+                        votantesCache.desmarcar(request.getPautaId(), request.getAssociadoId());
+                        rejeicoesVotos.registrar(RejeicoesVotos.SINCRONO, e);
+                        throw e;
                 }
 
-                Voto voto = new Voto();
-                voto.setAssociado(associado);
-                voto.setPauta(pauta);
-                voto.setOpcao(request.getOpcao());
-
-                Voto votoSalvo = votoRepository.save(voto);
-                log.info("Voto registrado com sucesso");
-
-                return votoMapper.toResponse(votoSalvo);
+                log.info("Voto registrado: associado ID: {} na pauta ID: {}", request.getAssociadoId(),
+                                request.getPautaId());
+
+                return VotoResponse.builder()
+                                .id(gravado.id())
+                                .opcao(request.getOpcao())
+                                .dataHora(dataHora)
+                                .associadoId(request.getAssociadoId())
+                                .associadoNome(gravado.associadoNome())
+                                .pautaId(request.getPautaId())
+                                .pautaTitulo(gravado.pautaTitulo())
+                                .build();
         }
 
         @Override
@@ -81,16 +106,41 @@ public class VotoService implements IVoto {
                 return votoMapper.toResponse(voto);
         }
 
+        @Override
+        public VotoStatusResponse consultarStatus(Long associadoId, Long pautaId) {
+                boolean votou;
+                if (votantesCache.carregado(pautaId) || registroSessoes.janela(pautaId) != null) {
+                        votou = votantesCache.jaVotou(pautaId, associadoId);
+                } else {
+                        // Sessão encerrada ou inexistente: os votantes não são carregados em memória.
+                        votou = registroSessoes.existe(pautaId)
+                                        && votoRepository.existsByAssociadoIdAndPautaId(associadoId, pautaId);
+                }
+
+                return VotoStatusResponse.builder()
+                                .associadoId(associadoId)
+                                .pautaId(pautaId)
+                                .votou(votou)
+                                .build();
+        }
+
         @Override
         @Transactional(readOnly = true)
+        @Timed(value = "votacao.votos.resultado", description = "Consulta do resultado da votação", histogram = true)
         public ResultadoVotacaoResponse consultarResultado(Long pautaId) {
                 log.info("Consultando resultado da votação para pauta ID: {}", pautaId);
 
+                Optional<ResultadoVotacaoResponse> finalizado = resultadoRepository.buscarResposta(pautaId);
+                if (finalizado.isPresent()) {
+                        return finalizado.get();
+                }
+
                 Pauta pauta = pautaRepository.findById(pautaId)
                                 .orElseThrow(() -> new EntityNotFoundException("Pauta não encontrada"));
 
-                long votosSim = votoRepository.countByPautaIdAndOpcao(pautaId, OpcaoVoto.SIM);
-                long votosNao = votoRepository.countByPautaIdAndOpcao(pautaId, OpcaoVoto.NAO);
+                VotacaoResumoDTO resumo = contagemVotosCache.obter(pautaId);
+                long votosSim = resumo.getTotalVotosSim();
+                long votosNao = resumo.getTotalVotosNao();
                 long totalVotos = votosSim + votosNao;
 
                 return ResultadoVotacaoResponse.builder()
@@ -110,16 +160,19 @@ public class VotoService implements IVoto {
                 Voto voto = votoRepository.findById(id)
                                 .orElseThrow(() -> new EntityNotFoundException("Voto não encontrado"));
 
-                SessaoVotacao sessao = sessaoVotacaoRepository.findByPautaId(voto.getPauta().getId())
-                                .orElseThrow(() -> new EntityNotFoundException("Sessão não encontrada"));
+                if (!registroSessoes.existe(voto.getPauta().getId())) {
+                        throw new EntityNotFoundException("Sessão não encontrada");
+                }
 
-                if (!sessao.estaAberta()) {
+                if (!registroSessoes.estaAberta(voto.getPauta().getId())) {
                         throw new BusinessException("Não é possível alterar um voto após o encerramento da sessão");
                 }
 
+                OpcaoVoto opcaoAnterior = voto.getOpcao();
                 voto.setOpcao(request.getOpcao());
 
                 Voto votoAtualizado = votoRepository.save(voto);
+                apuracaoVotos.alterar(voto.getPauta().getId(), opcaoAnterior, votoAtualizado.getOpcao());
                 return votoMapper.toResponse(votoAtualizado);
         }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.sylviavitoria.api_votacao.transacao;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Ações sobre o estado em memória que só podem valer depois que a transação corrente for
+ * confirmada (caches, registros de sessão, agendamentos).
+ */
+public final class Transacoes {
+
+    private Transacoes() {
+    }
+
+    /**
+     * Executa a ação após o commit da transação corrente, ou imediatamente se não houver transação.
+     * Se a transação for revertida, a ação não é executada.
+     */
+    public static void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+CREATE TABLE tb_votos_contagem (
+    pauta_id BIGINT NOT NULL,
+    opcao VARCHAR(3) NOT NULL,
+    slot SMALLINT NOT NULL,
+    quantidade BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_votos_contagem PRIMARY KEY (pauta_id, opcao, slot),
+    CONSTRAINT fk_votos_contagem_pauta FOREIGN KEY (pauta_id) REFERENCES tb_pautas (id) ON DELETE CASCADE
+);
+
+INSERT INTO tb_votos_contagem (pauta_id, opcao, slot, quantidade)
+SELECT s.pauta_id, o.opcao, 0,
+       (SELECT COUNT(*) FROM tb_votos v WHERE v.pauta_id = s.pauta_id AND v.opcao = o.opcao)
+FROM tb_sessoes_votacao s
+CROSS JOIN (SELECT 'SIM' AS opcao UNION ALL SELECT 'NAO' AS opcao) o;
@@ -0,0 +1,23 @@
+CREATE TABLE tb_resultados (
+    pauta_id BIGINT PRIMARY KEY,
+    votos_sim BIGINT NOT NULL,
+    votos_nao BIGINT NOT NULL,
+    total_votos BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    data_finalizacao TIMESTAMP NOT NULL,
+    CONSTRAINT fk_resultado_pauta FOREIGN KEY (pauta_id) REFERENCES tb_pautas (id) ON DELETE CASCADE
+);
+
+INSERT INTO tb_resultados (pauta_id, votos_sim, votos_nao, total_votos, status, data_finalizacao)
+SELECT r.pauta_id, r.sim, r.nao, r.sim + r.nao,
+       CASE WHEN r.sim > r.nao THEN 'APROVADA' WHEN r.nao > r.sim THEN 'RECUSADA' ELSE 'EMPATADA' END,
+       r.data_fechamento
+FROM (
+    SELECT s.pauta_id, s.data_fechamento,
+           COALESCE(SUM(CASE WHEN c.opcao = 'SIM' THEN c.quantidade END), 0) AS sim,
+           COALESCE(SUM(CASE WHEN c.opcao = 'NAO' THEN c.quantidade END), 0) AS nao
+    FROM tb_sessoes_votacao s
+    LEFT JOIN tb_votos_contagem c ON c.pauta_id = s.pauta_id
+    WHERE s.status = 'FINALIZADA'
+    GROUP BY s.pauta_id, s.data_fechamento
+) r;
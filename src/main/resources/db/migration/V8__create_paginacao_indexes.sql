@@ -0,0 +1,6 @@
+-- Índices da paginação por cursor: chave de ordenação + id como desempate.
+CREATE INDEX idx_associados_nome_id ON tb_associados (nome, id);
+
+CREATE INDEX idx_pautas_titulo_id ON tb_pautas (titulo, id);
+
+CREATE INDEX idx_sessoes_data_abertura_id ON tb_sessoes_votacao (data_abertura, id);
@@ -0,0 +1,2 @@
+-- Leitura dos votos de uma pauta na ordem do id (exportação e carga dos votantes) sem ordenar em memória.
+CREATE INDEX idx_votos_pauta_id ON tb_votos (pauta_id, id);
@@ -0,0 +1,206 @@
+package com.sylviavitoria.api_votacao.agendamento;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
+import com.sylviavitoria.api_votacao.cache.ContagemVotosCache;
+import com.sylviavitoria.api_votacao.cache.RegistroSessoes;
+import com.sylviavitoria.api_votacao.cache.VotantesCache;
+import com.sylviavitoria.api_votacao.dto.FinalizacaoSessoesResponse;
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
+import com.sylviavitoria.api_votacao.enums.StatusPauta;
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
+import com.sylviavitoria.api_votacao.interfaces.IPainelAssembleia;
+import com.sylviavitoria.api_votacao.model.Pauta;
+import com.sylviavitoria.api_votacao.model.Resultado;
+import com.sylviavitoria.api_votacao.model.SessaoVotacao;
+import com.sylviavitoria.api_votacao.repository.ContagemVotosJdbcRepository;
+import com.sylviavitoria.api_votacao.repository.ResultadoRepository;
+import com.sylviavitoria.api_votacao.repository.SessaoVotacaoJdbcRepository;
+import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AgendadorSessoesTest {
+
+    @Mock
+    private VersoesPautas versoesPautas;
+
+    @Mock
+    private SessaoVotacaoRepository sessaoVotacaoRepository;
+
+    @Mock
+    private SessaoVotacaoJdbcRepository sessaoVotacaoJdbcRepository;
+
+    @Mock
+    private ResultadoRepository resultadoRepository;
+
+    @Mock
+    private ContagemVotosJdbcRepository contagemVotosRepository;
+
+    @Mock
+    private ContagemVotosCache contagemVotosCache;
+
+    @Mock
+    private RegistroSessoes registroSessoes;
+
+    @Mock
+    private VotantesCache votantesCache;
+
+    @Mock
+    private IPainelAssembleia painelAssembleia;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private AgendadorSessoes agendador;
+
+    @BeforeEach
+    void setUp() {
+        agendador = new AgendadorSessoes(sessaoVotacaoRepository, sessaoVotacaoJdbcRepository, resultadoRepository,
+                contagemVotosRepository, contagemVotosCache, registroSessoes, votantesCache, versoesPautas, painelAssembleia, transactionTemplate, true, true, 8, 10, 0);
+        lenient().doAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class)
+                .doInTransaction(mock(TransactionStatus.class)))
+                .when(transactionTemplate).execute(any());
+    }
+
+    @Test
+    @DisplayName("Deve abrir a sessão agendada quando chega a data de abertura")
+    void abrirSessao() {
+
+        SessaoVotacao sessao = sessao(StatusSessao.FECHADA, LocalDateTime.now().minusSeconds(1),
+                LocalDateTime.now().plusMinutes(5));
+        when(sessaoVotacaoRepository.buscarTravada(1L)).thenReturn(Optional.of(sessao));
+
+        agendador.atualizarStatus(1L);
+
+        assertEquals(StatusSessao.ABERTA, sessao.getStatus());
+        assertEquals(StatusPauta.EM_VOTACAO, sessao.getPauta().getStatus());
+        verifyNoInteractions(contagemVotosRepository, contagemVotosCache);
+    }
+
+    @Test
+    @DisplayName("Deve finalizar a sessão e calcular o resultado da pauta uma única vez")
+    void finalizarSessao() {
+
+        SessaoVotacao sessao = sessao(StatusSessao.ABERTA, LocalDateTime.now().minusMinutes(5),
+                LocalDateTime.now().minusSeconds(1));
+        when(sessaoVotacaoRepository.buscarTravada(1L)).thenReturn(Optional.of(sessao));
+        when(contagemVotosRepository.contabilizarVotosPorPauta(10L)).thenReturn(new VotacaoResumoDTO(3L, 1L));
+
+        agendador.atualizarStatus(1L);
+        agendador.atualizarStatus(1L);
+
+        assertEquals(StatusSessao.FINALIZADA, sessao.getStatus());
+        assertEquals(StatusPauta.APROVADA, sessao.getPauta().getStatus());
+        verify(contagemVotosRepository, times(1)).contabilizarVotosPorPauta(10L);
+        verify(contagemVotosCache, never()).obter(any());
+        verify(resultadoRepository, times(1)).save(argThat((Resultado resultado) ->
+                resultado.getPauta() == sessao.getPauta() && resultado.getTotalVotos() == 4L
+                        && resultado.getStatus() == StatusPauta.APROVADA));
+        verify(registroSessoes, times(1)).encerrar(List.of(10L));
+        verify(contagemVotosCache, times(1)).remover(10L);
+        verify(votantesCache, times(1)).remover(10L);
+        verify(versoesPautas, times(1)).encerrar(List.of(10L));
+        verify(painelAssembleia, times(1)).encerrar(List.of(10L));
+    }
+
+    @Test
+    @DisplayName("Não deve finalizar sessão cujo fechamento foi adiado")
+    void sessaoProrrogada() {
+
+        SessaoVotacao sessao = sessao(StatusSessao.ABERTA, LocalDateTime.now().minusMinutes(5),
+                LocalDateTime.now().plusMinutes(30));
+        when(sessaoVotacaoRepository.buscarTravada(1L)).thenReturn(Optional.of(sessao));
+
+        agendador.atualizarStatus(1L);
+
+        assertEquals(StatusSessao.ABERTA, sessao.getStatus());
+        verifyNoInteractions(contagemVotosRepository, contagemVotosCache);
+    }
+
+    @Test
+    @DisplayName("Deve finalizar no prazo as sessões recuperadas na inicialização")
+    void reconstruirNaInicializacao() {
+
+        SessaoVotacao sessao = sessao(StatusSessao.ABERTA, LocalDateTime.now().minusMinutes(5),
+                LocalDateTime.now().plusNanos(50_000_000));
+        when(sessaoVotacaoRepository.findByStatus(StatusSessao.FECHADA)).thenReturn(List.of());
+        when(sessaoVotacaoRepository.findByStatus(StatusSessao.ABERTA)).thenReturn(List.of(sessao));
+        when(sessaoVotacaoRepository.buscarTravada(1L)).thenReturn(Optional.of(sessao));
+        when(contagemVotosRepository.contabilizarVotosPorPauta(10L)).thenReturn(new VotacaoResumoDTO(0L, 2L));
+
+        when(sessaoVotacaoJdbcRepository.finalizarExpiradas(any(), any())).thenReturn(List.of());
+
+        agendador.start();
+        try {
+            verify(contagemVotosRepository, timeout(2_000)).contabilizarVotosPorPauta(10L);
+        } finally {
+            agendador.stop();
+        }
+
+        assertEquals(StatusSessao.FINALIZADA, sessao.getStatus());
+        assertEquals(StatusPauta.RECUSADA, sessao.getPauta().getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve finalizar em lote as sessões expiradas antes de reconstruir a roda")
+    void finalizarExpiradasNaInicializacao() {
+
+        when(sessaoVotacaoJdbcRepository.finalizarExpiradas(any(), any())).thenReturn(List.of(1L, 2L, 3L));
+        when(sessaoVotacaoRepository.findByStatus(any())).thenReturn(List.of());
+
+        agendador.start();
+        agendador.stop();
+
+        var ordem = inOrder(sessaoVotacaoJdbcRepository, sessaoVotacaoRepository);
+        ordem.verify(sessaoVotacaoJdbcRepository).finalizarExpiradas(any(), any());
+        ordem.verify(sessaoVotacaoRepository).findByStatus(StatusSessao.FECHADA);
+    }
+
+    @Test
+    @DisplayName("Deve informar quantas sessões foram finalizadas em lote")
+    void finalizarExpiradas() {
+
+        List<Long> pautaIds = LongStream.rangeClosed(1, 120).boxed().toList();
+        when(sessaoVotacaoJdbcRepository.finalizarExpiradas(any(), any())).thenReturn(pautaIds);
+
+        FinalizacaoSessoesResponse resposta = agendador.finalizarExpiradas();
+
+        assertEquals(120, resposta.getSessoesFinalizadas());
+        verify(registroSessoes).encerrar(pautaIds);
+        verify(painelAssembleia).encerrar(pautaIds);
+        assertFalse(resposta.getLimite().isAfter(LocalDateTime.now()));
+        assertTrue(resposta.getDuracaoMs() >= 0);
+    }
+
+    private static SessaoVotacao sessao(StatusSessao status, LocalDateTime abertura, LocalDateTime fechamento) {
+        Pauta pauta = new Pauta();
+        pauta.setId(10L);
+        pauta.setStatus(status == StatusSessao.ABERTA ? StatusPauta.EM_VOTACAO : StatusPauta.CRIADA);
+
+        SessaoVotacao sessao = new SessaoVotacao();
+        sessao.setId(1L);
+        sessao.setPauta(pauta);
+        sessao.setStatus(status);
+        sessao.setDataAbertura(abertura);
+        sessao.setDataFechamento(fechamento);
+        return sessao;
+    }
+}
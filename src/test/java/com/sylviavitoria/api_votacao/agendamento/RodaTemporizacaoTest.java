@@ -0,0 +1,70 @@
+package com.sylviavitoria.api_votacao.agendamento;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RodaTemporizacaoTest {
+
+    @Test
+    @DisplayName("Não deve disparar antes do prazo e deve disparar até um tick depois")
+    void disparaNoPrazo() {
+
+        RodaTemporizacao<String> roda = new RodaTemporizacao<>(8, 100, 0);
+        List<String> vencidos = new ArrayList<>();
+        roda.agendar(250, "a");
+
+        roda.avancar(299, vencidos::add);
+        assertTrue(vencidos.isEmpty());
+
+        roda.avancar(300, vencidos::add);
+        assertEquals(List.of("a"), vencidos);
+        assertEquals(0, roda.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve manter no balde os itens de voltas futuras")
+    void itensDeVoltasFuturas() {
+
+        RodaTemporizacao<String> roda = new RodaTemporizacao<>(4, 10, 0);
+        List<String> vencidos = new ArrayList<>();
+        roda.agendar(20, "primeira volta");
+        roda.agendar(60, "segunda volta");
+
+        roda.avancar(20, vencidos::add);
+        assertEquals(List.of("primeira volta"), vencidos);
+        assertEquals(1, roda.tamanho());
+
+        roda.avancar(59, vencidos::add);
+        assertEquals(1, vencidos.size());
+
+        roda.avancar(60, vencidos::add);
+        assertEquals(List.of("primeira volta", "segunda volta"), vencidos);
+    }
+
+    @Test
+    @DisplayName("Deve disparar no próximo tick os itens com prazo já vencido")
+    void prazoVencido() {
+
+        RodaTemporizacao<String> roda = new RodaTemporizacao<>(8, 100, 0);
+        List<String> vencidos = new ArrayList<>();
+        roda.avancar(1_000, vencidos::add);
+
+        roda.agendar(50, "atrasado");
+        assertEquals(1_100, roda.proximoTickMs());
+
+        roda.avancar(1_100, vencidos::add);
+        assertEquals(List.of("atrasado"), vencidos);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar quantidade de baldes que não é potência de 2")
+    void baldesInvalidos() {
+
+        assertThrows(IllegalArgumentException.class, () -> new RodaTemporizacao<String>(6, 100, 0));
+    }
+}
@@ -0,0 +1,43 @@
+package com.sylviavitoria.api_votacao.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Executa os benchmarks JMH do pacote ({@code *Benchmark}), com aquecimento, medição e fork
+ * definidos em cada classe, e o profiler de GC, que acrescenta a alocação por operação
+ * ({@code gc.alloc.rate.norm}) a cada resultado. O relatório é impresso e
+ * gravado em {@code target/jmh-resultado.json}. Executar com
+ * {@code mvn test -Dtest=JmhBenchmarkTest -Dbenchmark=true}; {@code -Djmh.incluir=<regex>} limita
+ * os benchmarks executados.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JmhBenchmarkTest {
+
+    @Test
+    @DisplayName("Benchmarks JMH do domínio de votação")
+    void executar() throws RunnerException {
+        Options opcoes = new OptionsBuilder()
+                .include(System.getProperty("jmh.incluir", getClass().getPackageName() + "\\..*Benchmark"))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-resultado.json")
+                .build();
+
+        Collection<RunResult> resultados = new Runner(opcoes).run();
+
+        assertFalse(resultados.isEmpty());
+    }
+}
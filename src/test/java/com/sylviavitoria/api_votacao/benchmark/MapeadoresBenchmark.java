@@ -0,0 +1,78 @@
+package com.sylviavitoria.api_votacao.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sylviavitoria.api_votacao.dto.PautaListagemDTO;
+import com.sylviavitoria.api_votacao.dto.PautaResponse;
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
+import com.sylviavitoria.api_votacao.dto.VotoResponse;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.enums.StatusPauta;
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
+import com.sylviavitoria.api_votacao.mapper.PautaMapper;
+import com.sylviavitoria.api_votacao.mapper.PautaMapperImpl;
+import com.sylviavitoria.api_votacao.mapper.VotoMapper;
+import com.sylviavitoria.api_votacao.mapper.VotoMapperImpl;
+import com.sylviavitoria.api_votacao.model.Associado;
+import com.sylviavitoria.api_votacao.model.Pauta;
+import com.sylviavitoria.api_votacao.model.Voto;
+
+/**
+ * Mapeadores gerados pelo MapStruct nos caminhos quentes: a linha da listagem de pautas com os
+ * totais ({@link PautaMapper#toResponse(PautaListagemDTO, VotacaoResumoDTO)}) e o voto
+ * ({@link VotoMapper#toResponse(Voto)}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapeadoresBenchmark {
+
+    private final PautaMapper pautaMapper = new PautaMapperImpl();
+    private final VotoMapper votoMapper = new VotoMapperImpl();
+
+    private PautaListagemDTO pauta;
+    private VotacaoResumoDTO resumo;
+    private Voto voto;
+
+    @Setup
+    public void preparar() {
+        LocalDateTime agora = LocalDateTime.now();
+        pauta = new PautaListagemDTO(1L, "Assembleia Geral", "Aprovação das contas do exercício", agora.minusDays(1),
+                StatusPauta.EM_VOTACAO, 7L, "Maria Silva", agora.minusMinutes(5), agora.plusHours(1),
+                StatusSessao.ABERTA, null, null);
+        resumo = new VotacaoResumoDTO(1_234L, 567L);
+
+        Associado associado = new Associado();
+        associado.setId(7L);
+        associado.setNome("Maria Silva");
+        Pauta entidade = new Pauta();
+        entidade.setId(1L);
+        entidade.setTitulo("Assembleia Geral");
+        voto = new Voto(10L, associado, entidade, OpcaoVoto.SIM, agora);
+    }
+
+    @Benchmark
+    public PautaResponse pautaListagemParaResposta() {
+        return pautaMapper.toResponse(pauta, resumo);
+    }
+
+    @Benchmark
+    public VotoResponse votoParaResposta() {
+        return votoMapper.toResponse(voto);
+    }
+}
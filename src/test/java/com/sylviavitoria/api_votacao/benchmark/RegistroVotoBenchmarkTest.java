@@ -0,0 +1,161 @@
+package com.sylviavitoria.api_votacao.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sylviavitoria.api_votacao.dto.SessaoVotacaoRequest;
+import com.sylviavitoria.api_votacao.dto.VotoRequest;
+import com.sylviavitoria.api_votacao.dto.VotoResponse;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.interfaces.ISessaoVotacao;
+import com.sylviavitoria.api_votacao.interfaces.IVoto;
+import com.sylviavitoria.api_votacao.mapper.VotoMapper;
+import com.sylviavitoria.api_votacao.model.Associado;
+import com.sylviavitoria.api_votacao.model.Pauta;
+import com.sylviavitoria.api_votacao.model.SessaoVotacao;
+import com.sylviavitoria.api_votacao.model.Voto;
+import com.sylviavitoria.api_votacao.repository.AssociadoRepository;
+import com.sylviavitoria.api_votacao.repository.PautaRepository;
+import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
+import com.sylviavitoria.api_votacao.repository.VotoRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compara votos/s do registro via JPA (fluxo anterior: quatro SELECTs, flush e insert IDENTITY)
+ * com o registro via JDBC em um único INSERT ... SELECT. Executar com
+ * {@code mvn test -Dtest=RegistroVotoBenchmarkTest -Dbenchmark=true}.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.com.sylviavitoria.api_votacao=WARN",
+        "logging.level.com.sylviavitoria.api_votacao.benchmark=INFO",
+        "votacao.confirmacao-grupo.habilitada=false"
+})
+@DirtiesContext
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Slf4j
+class RegistroVotoBenchmarkTest {
+
+    private static final int ASSOCIADOS = 5_000;
+    private static final int AQUECIMENTO = 1_000;
+
+    @Autowired
+    private IVoto votoService;
+
+    @Autowired
+    private ISessaoVotacao sessaoVotacaoService;
+
+    @Autowired
+    private AssociadoRepository associadoRepository;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoVotacaoRepository sessaoVotacaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private VotoMapper votoMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<Long> associadoIds;
+
+    @BeforeEach
+    void setUp() {
+        if (associadoIds != null) {
+            return;
+        }
+        List<Object[]> linhas = new ArrayList<>(ASSOCIADOS);
+        for (int i = 0; i < ASSOCIADOS; i++) {
+            linhas.add(new Object[] { "Associado " + i, String.format("9%010d", i), "bench" + i + "@email.com" });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tb_associados (nome, cpf, email) VALUES (?, ?, ?)", linhas);
+        associadoIds = jdbcTemplate.queryForList(
+                "SELECT id FROM tb_associados WHERE email LIKE 'bench%' ORDER BY id", Long.class);
+    }
+
+    @Test
+    @DisplayName("Benchmark: registro de voto via JPA x JDBC")
+    void compararRegistroDeVotos() {
+
+        medir("aquecimento JPA", criarPauta(), AQUECIMENTO, this::registrarViaJpa);
+        medir("aquecimento JDBC", criarPauta(), AQUECIMENTO, votoService::registrarVoto);
+
+        double antes = medir("JPA (antes)", criarPauta(), ASSOCIADOS, this::registrarViaJpa);
+        double depois = medir("JDBC (depois)", criarPauta(), ASSOCIADOS, votoService::registrarVoto);
+
+        log.info("Registro de voto: {} votos/s antes, {} votos/s depois ({}x)",
+                "%.0f".formatted(antes), "%.0f".formatted(depois), "%.2f".formatted(depois / antes));
+        assertTrue(depois > 0);
+    }
+
+    private double medir(String nome, Long pautaId, int quantidade, Function<VotoRequest, VotoResponse> registrar) {
+        long inicio = System.nanoTime();
+        for (int i = 0; i < quantidade; i++) {
+            VotoRequest request = new VotoRequest();
+            request.setAssociadoId(associadoIds.get(i));
+            request.setPautaId(pautaId);
+            request.setOpcao(i % 2 == 0 ? OpcaoVoto.SIM : OpcaoVoto.NAO);
+            assertNotNull(registrar.apply(request).getId());
+        }
+        double votosPorSegundo = quantidade / ((System.nanoTime() - inicio) / 1_000_000_000.0);
+        log.info("{}", "%-18s %6d votos  %10.0f votos/s".formatted(nome, quantidade, votosPorSegundo));
+        return votosPorSegundo;
+    }
+
+    private Long criarPauta() {
+        Long pautaId = transactionTemplate.execute(status -> {
+            Pauta pauta = new Pauta();
+            pauta.setTitulo("Pauta benchmark");
+            pauta.setCriador(associadoRepository.getReferenceById(associadoIds.get(0)));
+            return pautaRepository.save(pauta).getId();
+        });
+
+        SessaoVotacaoRequest sessao = new SessaoVotacaoRequest();
+        sessao.setPautaId(pautaId);
+        sessao.setDuracaoMinutos(60);
+        sessaoVotacaoService.criar(sessao);
+        return pautaId;
+    }
+
+    private VotoResponse registrarViaJpa(VotoRequest request) {
+        return transactionTemplate.execute(status -> {
+            Associado associado = associadoRepository.findById(request.getAssociadoId()).orElseThrow();
+            Pauta pauta = pautaRepository.findById(request.getPautaId()).orElseThrow();
+            SessaoVotacao sessao = sessaoVotacaoRepository.findByPautaId(request.getPautaId()).orElseThrow();
+            if (!sessao.estaAberta()
+                    || votoRepository.existsByAssociadoIdAndPautaId(request.getAssociadoId(), request.getPautaId())) {
+                throw new IllegalStateException("Voto não permitido");
+            }
+
+            Voto voto = new Voto();
+            voto.setAssociado(associado);
+            voto.setPauta(pauta);
+            voto.setOpcao(request.getOpcao());
+            return votoMapper.toResponse(votoRepository.save(voto));
+        });
+    }
+}
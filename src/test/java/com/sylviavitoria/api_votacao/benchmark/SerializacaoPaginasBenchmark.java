@@ -0,0 +1,87 @@
+package com.sylviavitoria.api_votacao.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sylviavitoria.api_votacao.dto.AssociadoDTO;
+import com.sylviavitoria.api_votacao.dto.PaginaCursor;
+import com.sylviavitoria.api_votacao.dto.PautaResponse;
+import com.sylviavitoria.api_votacao.enums.StatusPauta;
+
+/**
+ * Serialização em JSON de uma página de {@link PautaResponse}, como devolvida pela listagem
+ * paginada ({@link Page}) e pela listagem por cursor ({@link PaginaCursor}). O ObjectMapper tem o
+ * fuso e o formato de data configurados em {@code spring.jackson.*}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializacaoPaginasBenchmark {
+
+    @Param({ "20", "100" })
+    private int tamanhoPagina;
+
+    private ObjectMapper objectMapper;
+    private Page<PautaResponse> pagina;
+    private PaginaCursor<PautaResponse> paginaCursor;
+
+    @Setup
+    public void preparar() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .timeZone(TimeZone.getTimeZone("America/Sao_Paulo"))
+                .simpleDateFormat("yyyy-MM-dd'T'HH:mm:ss")
+                .build();
+
+        LocalDateTime agora = LocalDateTime.now();
+        List<PautaResponse> pautas = new ArrayList<>(tamanhoPagina);
+        for (long i = 1; i <= tamanhoPagina; i++) {
+            pautas.add(PautaResponse.builder()
+                    .id(i)
+                    .titulo("Pauta " + i)
+                    .descricao("Discussão sobre os resultados financeiros do exercício " + i)
+                    .dataCriacao(agora.minusMinutes(i))
+                    .status(StatusPauta.EM_VOTACAO)
+                    .totalVotosSim(1_000 + i)
+                    .totalVotosNao(500 + i)
+                    .criador(AssociadoDTO.builder().id(i).nome("Associado " + i).build())
+                    .build());
+        }
+        pagina = new PageImpl<>(pautas, PageRequest.of(0, tamanhoPagina, Sort.by("id")), 10_000);
+        paginaCursor = new PaginaCursor<>(pautas, tamanhoPagina, "aWQfMjA");
+    }
+
+    @Benchmark
+    public byte[] paginaNumerada() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+
+    @Benchmark
+    public byte[] paginaPorCursor() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(paginaCursor);
+    }
+}
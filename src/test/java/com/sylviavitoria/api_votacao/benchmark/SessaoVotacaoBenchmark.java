@@ -0,0 +1,74 @@
+package com.sylviavitoria.api_votacao.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sylviavitoria.api_votacao.cache.RegistroSessoes;
+import com.sylviavitoria.api_votacao.model.Pauta;
+import com.sylviavitoria.api_votacao.model.SessaoVotacao;
+
+/**
+ * Verificação da janela de votação: pela entidade ({@link SessaoVotacao#estaAberta()}, com
+ * {@code LocalDateTime.now()}) e pela tabela em memória usada no registro do voto
+ * ({@link RegistroSessoes#estaAberta(long)}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SessaoVotacaoBenchmark {
+
+    private SessaoVotacao sessao;
+    private RegistroSessoes registroSessoes;
+    private long pautaId;
+
+    @Setup
+    public void preparar() {
+        Pauta pauta = new Pauta();
+        pauta.setId(42L);
+        pautaId = pauta.getId();
+
+        sessao = new SessaoVotacao();
+        sessao.setPauta(pauta);
+        sessao.setDataAbertura(LocalDateTime.now().minusMinutes(5));
+        sessao.setDataFechamento(LocalDateTime.now().plusHours(1));
+
+        // Fora de transação o registro é aplicado na hora, sem consultar os repositórios.
+        registroSessoes = new RegistroSessoes(null, null);
+        // Sem repositórios, as janelas não podem vencer durante a medição.
+        ReflectionTestUtils.setField(registroSessoes, "validadeMs", TimeUnit.DAYS.toMillis(1));
+        for (long id = 1; id <= 1_000; id++) {
+            Pauta outra = new Pauta();
+            outra.setId(id);
+            SessaoVotacao outraSessao = new SessaoVotacao();
+            outraSessao.setPauta(outra);
+            outraSessao.setDataAbertura(sessao.getDataAbertura());
+            outraSessao.setDataFechamento(sessao.getDataFechamento());
+            registroSessoes.registrar(outraSessao);
+        }
+    }
+
+    @Benchmark
+    public boolean sessaoEstaAberta() {
+        return sessao.estaAberta();
+    }
+
+    @Benchmark
+    public boolean registroSessoesEstaAberta() {
+        return registroSessoes.estaAberta(pautaId);
+    }
+}
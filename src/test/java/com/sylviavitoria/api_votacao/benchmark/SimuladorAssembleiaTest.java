@@ -0,0 +1,467 @@
+package com.sylviavitoria.api_votacao.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sylviavitoria.api_votacao.ApiVotacaoApplication;
+
+/**
+ * Simulador de carga de uma assembleia pela API, sobre loopback. Cadastra os associados pela
+ * importação em massa, cria as pautas, abre as sessões e envia um voto de cada associado em cada
+ * pauta, com chegadas de Poisson espalhadas pela sessão ou em rajada na abertura, enquanto consulta
+ * o resultado em paralelo. O relatório (vazão, latências p50/p99/p999, erros por resposta,
+ * rejeições por motivo e chamadas ao banco lidas do Actuator) é gravado em JSON em
+ * {@code target/simulador-assembleia.json} ({@code -Dsimulador.relatorio}). Executar com
+ * {@code mvn test -Dtest=SimuladorAssembleiaTest -Dbenchmark=true}; sem {@code -Dsimulador.url} a
+ * aplicação sobe embarcada, com H2 em memória. Os parâmetros {@code simulador.*} estão no README.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SimuladorAssembleiaTest {
+
+    private static final String POISSON = "poisson";
+    private static final String RAJADA = "rajada";
+    private static final int LIMITE_PAGINA = 100;
+    private static final List<String> MOTIVOS_REJEICAO = List.of("sessao_fechada", "sessao_inexistente",
+            "pauta_inexistente", "duplicado", "associado_inexistente", "fila_cheia", "outro");
+
+    private final String urlExterna = System.getProperty("simulador.url");
+    private final String profiles = System.getProperty("simulador.profiles");
+    private final int associados = Integer.getInteger("simulador.associados", 200_000);
+    private final int pautas = Integer.getInteger("simulador.pautas", 1);
+    private final String perfil = System.getProperty("simulador.perfil", POISSON);
+    private final Integer duracaoMinutos = Integer.getInteger("simulador.duracao-minutos");
+    private final String taxa = System.getProperty("simulador.taxa");
+    private final int conexoes = Integer.getInteger("simulador.conexoes", 256);
+    private final int consultasPorSegundo = Integer.getInteger("simulador.consultas-por-segundo", 20);
+    private final long semente = Long.getLong("simulador.semente", 42L);
+    private final String relatorio = System.getProperty("simulador.relatorio", "target/simulador-assembleia.json");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HttpClient http;
+    private String base;
+
+    private final Map<String, LongAdder> errosVotos = new ConcurrentHashMap<>();
+    private final LongAdder aceitos = new LongAdder();
+
+    private final Map<String, LongAdder> errosConsultas = new ConcurrentHashMap<>();
+    private final Map<Long, String> etags = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Long> latenciasConsultas = new ConcurrentLinkedQueue<>();
+    private final LongAdder naoModificadas = new LongAdder();
+
+    @Test
+    @DisplayName("Simulação de assembleia pela API")
+    void simular() throws Exception {
+        assertTrue(POISSON.equals(perfil) || RAJADA.equals(perfil), "simulador.perfil deve ser poisson ou rajada");
+
+        try (ConfigurableApplicationContext contexto = urlExterna == null ? subirAplicacao() : null;
+                ExecutorService clientes = Executors.newVirtualThreadPerTaskExecutor();
+                HttpClient cliente = HttpClient.newBuilder()
+                        .executor(clientes)
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(30))
+                        .build()) {
+            http = cliente;
+            base = urlExterna != null ? urlExterna
+                    : "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port");
+
+            JsonNode importacao = importarAssociados();
+            long[] associadoIds = listarAssociados();
+            long[] pautaIds = new long[pautas];
+            for (int i = 0; i < pautas; i++) {
+                pautaIds[i] = criarPauta(associadoIds[0], i);
+            }
+
+            Map<String, Double> metricasAntes = metricas();
+            double sessaoSegundos = 0;
+            for (long pautaId : pautaIds) {
+                sessaoSegundos = abrirSessao(pautaId);
+            }
+
+            int total = associadoIds.length * pautaIds.length;
+            double votosPorSegundo = taxa != null ? Double.parseDouble(taxa) : total / sessaoSegundos;
+            Random aleatorio = new Random(semente);
+            int[] ordem = embaralhar(total, aleatorio);
+            long[] chegadas = chegadas(total, votosPorSegundo, aleatorio);
+            long[] latencias = new long[total];
+            long[] latenciasDesdeChegada = new long[total];
+
+            ScheduledExecutorService relogio = Executors.newSingleThreadScheduledExecutor();
+            if (consultasPorSegundo > 0) {
+                AtomicInteger proxima = new AtomicInteger();
+                relogio.scheduleAtFixedRate(
+                        () -> clientes.execute(() -> consultar(pautaIds[proxima.getAndIncrement() % pautaIds.length])),
+                        0, 1_000_000_000L / consultasPorSegundo, TimeUnit.NANOSECONDS);
+            }
+
+            Semaphore emAndamento = new Semaphore(conexoes);
+            CountDownLatch pendentes = new CountDownLatch(total);
+            long inicio = System.nanoTime();
+            for (int k = 0; k < total; k++) {
+                long previsto = inicio + chegadas[k];
+                long espera = previsto - System.nanoTime();
+                if (espera > 0) {
+                    LockSupport.parkNanos(espera);
+                }
+                emAndamento.acquire();
+                int evento = ordem[k];
+                int indice = k;
+                clientes.execute(() -> {
+                    try {
+                        votar(associadoIds[evento % associadoIds.length], pautaIds[evento / associadoIds.length],
+                                evento % 2 == 0 ? "SIM" : "NAO", previsto, indice, latencias, latenciasDesdeChegada);
+                    } finally {
+                        emAndamento.release();
+                        pendentes.countDown();
+                    }
+                });
+            }
+            pendentes.await();
+            double segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+            relogio.shutdownNow();
+
+            long apurados = 0;
+            for (long pautaId : pautaIds) {
+                apurados += objectMapper.readTree(get("/api/v1/votos/pautas/" + pautaId + "/resultado").body())
+                        .path("totalVotos").asLong();
+            }
+            Map<String, Double> metricasDepois = metricas();
+
+            Map<String, Object> resultado = new LinkedHashMap<>();
+            resultado.put("data", Instant.now().toString());
+            Map<String, Object> ambiente = new LinkedHashMap<>();
+            ambiente.put("java", Runtime.version().toString());
+            ambiente.put("processadores", Runtime.getRuntime().availableProcessors());
+            ambiente.put("api", urlExterna != null ? urlExterna : "embarcada" + (profiles != null ? " (" + profiles + ")" : ""));
+            resultado.put("ambiente", ambiente);
+            Map<String, Object> configuracao = new LinkedHashMap<>();
+            configuracao.put("perfil", perfil);
+            configuracao.put("associados", associadoIds.length);
+            configuracao.put("pautas", pautaIds.length);
+            configuracao.put("sessaoSegundos", sessaoSegundos);
+            configuracao.put("taxaVotosPorSegundo", RAJADA.equals(perfil) ? null : arredondar(votosPorSegundo));
+            configuracao.put("conexoes", conexoes);
+            configuracao.put("consultasPorSegundo", consultasPorSegundo);
+            configuracao.put("semente", semente);
+            resultado.put("configuracao", configuracao);
+            Map<String, Object> associadosImportados = new LinkedHashMap<>();
+            associadosImportados.put("inseridos", importacao.path("totalInseridos").asLong());
+            associadosImportados.put("duplicados", importacao.path("totalDuplicados").asLong());
+            resultado.put("importacao", associadosImportados);
+
+            Map<String, Object> votos = new LinkedHashMap<>();
+            votos.put("enviados", total);
+            votos.put("aceitos", aceitos.sum());
+            votos.put("duracaoSegundos", arredondar(segundos));
+            votos.put("aceitosPorSegundo", arredondar(aceitos.sum() / segundos));
+            votos.put("latenciaMs", percentis(latencias));
+            votos.put("latenciaDesdeChegadaMs", percentis(latenciasDesdeChegada));
+            votos.put("erros", somar(errosVotos));
+            resultado.put("votos", votos);
+
+            Map<String, Object> consultas = new LinkedHashMap<>();
+            consultas.put("concluidas", latenciasConsultas.size());
+            consultas.put("naoModificadas", naoModificadas.sum());
+            consultas.put("latenciaMs", percentis(latenciasConsultas.stream().mapToLong(Long::longValue).toArray()));
+            consultas.put("erros", somar(errosConsultas));
+            resultado.put("consultas", consultas);
+
+            Map<String, Long> rejeicoes = new LinkedHashMap<>();
+            for (String motivo : MOTIVOS_REJEICAO) {
+                long quantidade = diferenca(metricasAntes, metricasDepois, "rejeitados." + motivo);
+                if (quantidade > 0) {
+                    rejeicoes.put(motivo, quantidade);
+                }
+            }
+            resultado.put("rejeicoesServidor", rejeicoes);
+
+            long chamadasRepositorios = diferenca(metricasAntes, metricasDepois, "repositorios");
+            long chamadasJdbc = diferenca(metricasAntes, metricasDepois, "jdbc");
+            Map<String, Object> banco = new LinkedHashMap<>();
+            banco.put("chamadasRepositorios", chamadasRepositorios);
+            banco.put("chamadasJdbc", chamadasJdbc);
+            banco.put("conexoes", diferenca(metricasAntes, metricasDepois, "conexoes"));
+            banco.put("chamadasPorVotoAceito", aceitos.sum() == 0 ? null
+                    : arredondar((double) (chamadasRepositorios + chamadasJdbc) / aceitos.sum()));
+            resultado.put("banco", banco);
+            Map<String, Object> apuracao = new LinkedHashMap<>();
+            apuracao.put("totalApurado", apurados);
+            apuracao.put("consistente", apurados == aceitos.sum());
+            resultado.put("apuracao", apuracao);
+
+            File arquivo = new File(relatorio);
+            if (arquivo.getParentFile() != null) {
+                arquivo.getParentFile().mkdirs();
+            }
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(arquivo, resultado);
+
+            assertEquals(aceitos.sum(), apurados, "votos aceitos e apurados divergem");
+        }
+    }
+
+    private ConfigurableApplicationContext subirAplicacao() {
+        // Argumentos e não properties(): as propriedades padrão não sobrepõem o application.properties.
+        // O handler de exceções registra cada rejeição em ERROR; no console isso mediria o terminal.
+        List<String> argumentos = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=jdbc:h2:mem:simulador",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.com.sylviavitoria.api_votacao=WARN",
+                "--logging.level.com.sylviavitoria.api_votacao.exception=OFF"));
+        if (profiles != null) {
+            argumentos.add("--spring.profiles.active=h2," + profiles);
+        }
+        return new SpringApplicationBuilder(ApiVotacaoApplication.class).run(argumentos.toArray(String[]::new));
+    }
+
+    private JsonNode importarAssociados() throws IOException, InterruptedException {
+        StringBuilder csv = new StringBuilder(associados * 56).append("nome,cpf,email\n");
+        for (int i = 0; i < associados; i++) {
+            csv.append("Associado Simulador ").append(i).append(',').append(String.format("7%010d", i))
+                    .append(",simulador").append(i).append("@email.com\n");
+        }
+        HttpResponse<String> resposta = http.send(HttpRequest.newBuilder(URI.create(base + "/api/v1/associados/importacao"))
+                .header("Content-Type", "text/csv")
+                .POST(HttpRequest.BodyPublishers.ofString(csv.toString()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, resposta.statusCode(), resposta.body());
+        return objectMapper.readTree(resposta.body());
+    }
+
+    private long[] listarAssociados() throws IOException, InterruptedException {
+        long[] ids = new long[associados];
+        int lidos = 0;
+        String cursor = null;
+        do {
+            HttpResponse<String> resposta = get("/api/v1/associados?sort=id&limit=" + LIMITE_PAGINA
+                    + (cursor != null ? "&after=" + cursor : ""));
+            assertEquals(200, resposta.statusCode(), resposta.body());
+            JsonNode pagina = objectMapper.readTree(resposta.body());
+            for (JsonNode associado : pagina.path("conteudo")) {
+                if (lidos < ids.length) {
+                    ids[lidos++] = associado.path("id").asLong();
+                }
+            }
+            cursor = pagina.path("proximo").isTextual() ? pagina.path("proximo").asText() : null;
+        } while (cursor != null && lidos < ids.length);
+        assertEquals(associados, lidos, "associados cadastrados insuficientes");
+        return ids;
+    }
+
+    private long criarPauta(long criadorId, int numero) throws IOException, InterruptedException {
+        HttpResponse<String> resposta = post("/api/v1/pautas", objectMapper.writeValueAsString(Map.of(
+                "titulo", "Assembleia simulada " + numero,
+                "descricao", "Pauta criada pelo simulador de carga",
+                "criadorId", criadorId)));
+        assertEquals(201, resposta.statusCode(), resposta.body());
+        return objectMapper.readTree(resposta.body()).path("id").asLong();
+    }
+
+    private double abrirSessao(long pautaId) throws IOException, InterruptedException {
+        Map<String, Object> sessao = new LinkedHashMap<>();
+        sessao.put("pautaId", pautaId);
+        if (duracaoMinutos != null) {
+            sessao.put("duracaoMinutos", duracaoMinutos);
+        }
+        HttpResponse<String> resposta = post("/api/v1/sessoes", objectMapper.writeValueAsString(sessao));
+        assertEquals(201, resposta.statusCode(), resposta.body());
+        JsonNode corpo = objectMapper.readTree(resposta.body());
+        return Duration.between(LocalDateTime.parse(corpo.path("dataAbertura").asText()),
+                LocalDateTime.parse(corpo.path("dataFechamento").asText())).toMillis() / 1_000.0;
+    }
+
+    private void votar(long associadoId, long pautaId, String opcao, long previsto, int indice, long[] latencias,
+            long[] latenciasDesdeChegada) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/api/v1/votos"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"associadoId\":" + associadoId + ",\"pautaId\":" + pautaId
+                        + ",\"opcao\":\"" + opcao + "\"}"))
+                .build();
+        long envio = System.nanoTime();
+        try {
+            HttpResponse<String> resposta = http.send(request, HttpResponse.BodyHandlers.ofString());
+            long fim = System.nanoTime();
+            latencias[indice] = fim - envio;
+            latenciasDesdeChegada[indice] = fim - previsto;
+            if (resposta.statusCode() == 200) {
+                aceitos.increment();
+            } else {
+                contar(errosVotos, erro(resposta));
+            }
+        } catch (IOException | InterruptedException e) {
+            latencias[indice] = -1;
+            latenciasDesdeChegada[indice] = -1;
+            contar(errosVotos, e.getClass().getSimpleName());
+        }
+    }
+
+    private void consultar(long pautaId) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(base + "/api/v1/votos/pautas/" + pautaId + "/resultado"));
+        String etag = etags.get(pautaId);
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        long envio = System.nanoTime();
+        try {
+            HttpResponse<String> resposta = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            latenciasConsultas.add(System.nanoTime() - envio);
+            if (resposta.statusCode() == 200) {
+                resposta.headers().firstValue("ETag").ifPresent(valor -> etags.put(pautaId, valor));
+            } else if (resposta.statusCode() == 304) {
+                naoModificadas.increment();
+            } else {
+                contar(errosConsultas, erro(resposta));
+            }
+        } catch (IOException | InterruptedException e) {
+            contar(errosConsultas, e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Contadores do Actuator usados no relatório: chamadas aos repositórios Spring Data e JDBC,
+     * conexões obtidas do pool e votos rejeitados no registro síncrono, por motivo.
+     */
+    private Map<String, Double> metricas() throws IOException, InterruptedException {
+        Map<String, Double> metricas = new LinkedHashMap<>();
+        metricas.put("repositorios", contagem("spring.data.repository.invocations"));
+        metricas.put("jdbc", contagem("votacao.repositorio.jdbc"));
+        metricas.put("conexoes", contagem("hikaricp.connections.usage"));
+        for (String motivo : MOTIVOS_REJEICAO) {
+            metricas.put("rejeitados." + motivo,
+                    contagem("votacao.votos.rejeitados?tag=canal:sincrono&tag=motivo:" + motivo));
+        }
+        return metricas;
+    }
+
+    private double contagem(String metrica) throws IOException, InterruptedException {
+        HttpResponse<String> resposta = get("/actuator/metrics/" + metrica);
+        if (resposta.statusCode() != 200) {
+            return 0;
+        }
+        for (JsonNode medida : objectMapper.readTree(resposta.body()).path("measurements")) {
+            if ("COUNT".equals(medida.path("statistic").asText())) {
+                return medida.path("value").asDouble();
+            }
+        }
+        return 0;
+    }
+
+    private long[] chegadas(int total, double votosPorSegundo, Random aleatorio) {
+        long[] chegadas = new long[total];
+        if (RAJADA.equals(perfil)) {
+            return chegadas;
+        }
+        double instante = 0;
+        for (int i = 0; i < total; i++) {
+            instante += -Math.log(1 - aleatorio.nextDouble()) / votosPorSegundo;
+            chegadas[i] = (long) (instante * 1_000_000_000L);
+        }
+        return chegadas;
+    }
+
+    private static int[] embaralhar(int total, Random aleatorio) {
+        int[] ordem = new int[total];
+        for (int i = 0; i < total; i++) {
+            ordem[i] = i;
+        }
+        for (int i = total - 1; i > 0; i--) {
+            int j = aleatorio.nextInt(i + 1);
+            int troca = ordem[i];
+            ordem[i] = ordem[j];
+            ordem[j] = troca;
+        }
+        return ordem;
+    }
+
+    private HttpResponse<String> get(String caminho) throws IOException, InterruptedException {
+        return http.send(HttpRequest.newBuilder(URI.create(base + caminho)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String caminho, String corpo) throws IOException, InterruptedException {
+        return http.send(HttpRequest.newBuilder(URI.create(base + caminho))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String erro(HttpResponse<String> resposta) {
+        try {
+            JsonNode erro = objectMapper.readTree(resposta.body()).path("erro");
+            return erro.isTextual() ? resposta.statusCode() + " " + erro.asText() : String.valueOf(resposta.statusCode());
+        } catch (IOException e) {
+            return String.valueOf(resposta.statusCode());
+        }
+    }
+
+    private static void contar(Map<String, LongAdder> erros, String chave) {
+        erros.computeIfAbsent(chave, c -> new LongAdder()).increment();
+    }
+
+    private static Map<String, Long> somar(Map<String, LongAdder> erros) {
+        Map<String, Long> soma = new LinkedHashMap<>();
+        erros.forEach((chave, quantidade) -> soma.put(chave, quantidade.sum()));
+        return soma;
+    }
+
+    private static long diferenca(Map<String, Double> antes, Map<String, Double> depois, String chave) {
+        return Math.round(depois.get(chave) - antes.get(chave));
+    }
+
+    private static Map<String, Double> percentis(long[] nanos) {
+        long[] ordenadas = Arrays.stream(nanos).filter(valor -> valor >= 0).sorted().toArray();
+        Map<String, Double> percentis = new LinkedHashMap<>();
+        if (ordenadas.length > 0) {
+            percentis.put("p50", milissegundos(ordenadas, 0.50));
+            percentis.put("p99", milissegundos(ordenadas, 0.99));
+            percentis.put("p999", milissegundos(ordenadas, 0.999));
+            percentis.put("max", milissegundos(ordenadas, 1.0));
+        }
+        return percentis;
+    }
+
+    private static double milissegundos(long[] ordenadas, double quantil) {
+        int indice = Math.max(0, Math.min(ordenadas.length - 1, (int) Math.ceil(quantil * ordenadas.length) - 1));
+        return arredondar(ordenadas[indice] / 1_000_000.0);
+    }
+
+    private static double arredondar(double valor) {
+        return Math.round(valor * 1_000) / 1_000.0;
+    }
+}
@@ -0,0 +1,190 @@
+package com.sylviavitoria.api_votacao.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sylviavitoria.api_votacao.ApiVotacaoApplication;
+import com.sylviavitoria.api_votacao.dto.PautaRequest;
+import com.sylviavitoria.api_votacao.dto.SessaoVotacaoRequest;
+import com.sylviavitoria.api_votacao.interfaces.IPauta;
+import com.sylviavitoria.api_votacao.interfaces.ISessaoVotacao;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Teste de carga do registro de votos por HTTP com as threads de plataforma do Tomcat e com o
+ * profile {@code virtual}. Sobe a aplicação uma vez em cada modo, com o mesmo pool do Hikari,
+ * dispara {@value #CLIENTES} clientes simultâneos e compara votos/s, latência, pico de threads de
+ * plataforma e heap usado. Executar com
+ * {@code mvn test -Dtest=ThreadsVirtuaisCargaTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Slf4j
+class ThreadsVirtuaisCargaTest {
+
+    private static final int ASSOCIADOS = 20_000;
+    private static final int AQUECIMENTO = 2_000;
+    private static final int CLIENTES = 1_000;
+    private static final int TAMANHO_POOL = 20;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+
+    @Test
+    @DisplayName("Carga: threads de plataforma x threads virtuais")
+    void compararModos() throws Exception {
+        Medicao plataforma = executar(false);
+        Medicao virtuais = executar(true);
+
+        log.info("{}", "%-12s %10s %9s %9s %9s %10s".formatted("modo", "votos/s", "p50 ms", "p99 ms", "threads",
+                "heap MB"));
+        plataforma.imprimir("plataforma");
+        virtuais.imprimir("virtuais");
+        log.info("Threads virtuais: {}x votos/s, {} threads de plataforma a menos no pico",
+                "%.2f".formatted(virtuais.votosPorSegundo / plataforma.votosPorSegundo),
+                plataforma.picoThreads - virtuais.picoThreads);
+
+        assertEquals(ASSOCIADOS, plataforma.registrados);
+        assertEquals(ASSOCIADOS, virtuais.registrados);
+    }
+
+    private Medicao executar(boolean virtual) throws Exception {
+        String modo = virtual ? "virtual" : "plataforma";
+        SpringApplicationBuilder aplicacao = new SpringApplicationBuilder(ApiVotacaoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:carga-" + modo,
+                        "spring.datasource.hikari.maximum-pool-size=" + TAMANHO_POOL,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.com.sylviavitoria.api_votacao=WARN",
+                        "logging.level.com.sylviavitoria.api_votacao.benchmark=INFO");
+        if (virtual) {
+            aplicacao.profiles("virtual");
+        }
+
+        try (ConfigurableApplicationContext contexto = aplicacao.run();
+                ExecutorService clientes = Executors.newVirtualThreadPerTaskExecutor();
+                HttpClient http = HttpClient.newBuilder()
+                        .executor(clientes)
+                        .connectTimeout(Duration.ofSeconds(30))
+                        .build()) {
+
+            String votos = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port")
+                    + "/api/v1/votos";
+            List<Long> associados = criarAssociados(contexto.getBean(JdbcTemplate.class));
+
+            disparar(http, clientes, votos, criarPauta(contexto, associados.get(0)), associados.subList(0, AQUECIMENTO));
+            System.gc();
+            return disparar(http, clientes, votos, criarPauta(contexto, associados.get(0)), associados);
+        }
+    }
+
+    private Medicao disparar(HttpClient http, ExecutorService clientes, String url, Long pautaId,
+            List<Long> associados) throws Exception {
+        threads.resetPeakThreadCount();
+        AtomicLong heapMaximo = new AtomicLong();
+        AtomicInteger registrados = new AtomicInteger();
+        long[] latencias = new long[associados.size()];
+
+        Thread amostragem = Thread.ofPlatform().daemon().start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                heapMaximo.accumulateAndGet(memoria.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long inicio = System.nanoTime();
+        List<Future<?>> envios = new ArrayList<>(CLIENTES);
+        for (int cliente = 0; cliente < CLIENTES; cliente++) {
+            int primeiro = cliente;
+            envios.add(clientes.submit(() -> {
+                for (int i = primeiro; i < associados.size(); i += CLIENTES) {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"associadoId\":" + associados.get(i)
+                                    + ",\"pautaId\":" + pautaId + ",\"opcao\":\"" + (i % 2 == 0 ? "SIM" : "NAO") + "\"}"))
+                            .build();
+                    long envio = System.nanoTime();
+                    HttpResponse<Void> resposta = http.send(request, HttpResponse.BodyHandlers.discarding());
+                    latencias[i] = System.nanoTime() - envio;
+                    if (resposta.statusCode() == 200) {
+                        registrados.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> envio : envios) {
+            envio.get();
+        }
+        double segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+        amostragem.interrupt();
+
+        Arrays.sort(latencias);
+        return new Medicao(registrados.get() / segundos, latencias[latencias.length / 2] / 1_000_000.0,
+                latencias[latencias.length * 99 / 100] / 1_000_000.0, threads.getPeakThreadCount(),
+                heapMaximo.get() / (1024 * 1024), registrados.get());
+    }
+
+    private static List<Long> criarAssociados(JdbcTemplate jdbcTemplate) {
+        List<Object[]> linhas = new ArrayList<>(ASSOCIADOS);
+        for (int i = 0; i < ASSOCIADOS; i++) {
+            linhas.add(new Object[] { "Associado " + i, String.format("8%010d", i), "carga" + i + "@email.com" });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tb_associados (nome, cpf, email) VALUES (?, ?, ?)", linhas);
+        return jdbcTemplate.queryForList("SELECT id FROM tb_associados WHERE email LIKE 'carga%' ORDER BY id",
+                Long.class);
+    }
+
+    private static Long criarPauta(ConfigurableApplicationContext contexto, Long criadorId) {
+        PautaRequest pauta = new PautaRequest();
+        pauta.setTitulo("Pauta carga");
+        pauta.setDescricao("Teste de carga");
+        pauta.setCriadorId(criadorId);
+        Long pautaId = contexto.getBean(IPauta.class).criar(pauta).getId();
+
+        SessaoVotacaoRequest sessao = new SessaoVotacaoRequest();
+        sessao.setPautaId(pautaId);
+        sessao.setDuracaoMinutos(60);
+        contexto.getBean(ISessaoVotacao.class).criar(sessao);
+        return pautaId;
+    }
+
+    private record Medicao(double votosPorSegundo, double p50Ms, double p99Ms, int picoThreads, long heapMb,
+            int registrados) {
+
+        void imprimir(String modo) {
+            log.info("{}", "%-12s %10.0f %9.1f %9.1f %9d %10d".formatted(modo, votosPorSegundo, p50Ms, p99Ms,
+                    picoThreads, heapMb));
+        }
+    }
+}
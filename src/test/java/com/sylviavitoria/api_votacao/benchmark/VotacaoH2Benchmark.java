@@ -0,0 +1,123 @@
+package com.sylviavitoria.api_votacao.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sylviavitoria.api_votacao.ApiVotacaoApplication;
+import com.sylviavitoria.api_votacao.dto.PautaRequest;
+import com.sylviavitoria.api_votacao.dto.ResultadoVotacaoResponse;
+import com.sylviavitoria.api_votacao.dto.SessaoVotacaoRequest;
+import com.sylviavitoria.api_votacao.dto.VotoRequest;
+import com.sylviavitoria.api_votacao.dto.VotoResponse;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.interfaces.IPauta;
+import com.sylviavitoria.api_votacao.interfaces.ISessaoVotacao;
+import com.sylviavitoria.api_votacao.interfaces.IVoto;
+
+/**
+ * Registro de voto e consulta de resultado pelos serviços, com a aplicação inteira (sem o servidor
+ * web) sobre H2 em memória. A confirmação em grupo fica desligada para medir o caminho de um voto
+ * por vez, sem a espera da janela; cada iteração vota em uma pauta nova.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 10, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VotacaoH2Benchmark {
+
+    private static final int ASSOCIADOS = 200_000;
+
+    private ConfigurableApplicationContext contexto;
+    private IVoto votoService;
+    private IPauta pautaService;
+    private ISessaoVotacao sessaoVotacaoService;
+
+    private long[] associados;
+    private int proximo;
+    private Long pautaId;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        // Como argumentos, e não como propriedades padrão, para prevalecer sobre application.properties.
+        contexto = new SpringApplicationBuilder(ApiVotacaoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.main.banner-mode=off",
+                        "--spring.datasource.url=jdbc:h2:mem:jmh",
+                        "--spring.jpa.show-sql=false",
+                        "--votacao.confirmacao-grupo.habilitada=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.com.sylviavitoria.api_votacao=WARN");
+        votoService = contexto.getBean(IVoto.class);
+        pautaService = contexto.getBean(IPauta.class);
+        sessaoVotacaoService = contexto.getBean(ISessaoVotacao.class);
+
+        JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+        List<Object[]> linhas = new ArrayList<>(ASSOCIADOS);
+        for (int i = 0; i < ASSOCIADOS; i++) {
+            linhas.add(new Object[] { "Associado " + i, String.format("7%010d", i), "jmh" + i + "@email.com" });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tb_associados (nome, cpf, email) VALUES (?, ?, ?)", linhas);
+        associados = jdbcTemplate.queryForList("SELECT id FROM tb_associados ORDER BY id", Long.class).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    @Setup(Level.Iteration)
+    public void novaPauta() {
+        PautaRequest pauta = new PautaRequest();
+        pauta.setTitulo("Pauta JMH");
+        pauta.setDescricao("Benchmark do registro de votos");
+        pauta.setCriadorId(associados[0]);
+        pautaId = pautaService.criar(pauta).getId();
+
+        SessaoVotacaoRequest sessao = new SessaoVotacaoRequest();
+        sessao.setPautaId(pautaId);
+        sessao.setDuracaoMinutos(60);
+        sessaoVotacaoService.criar(sessao);
+        proximo = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public VotoResponse registrarVoto() {
+        if (proximo == associados.length) {
+            novaPauta();
+        }
+        VotoRequest voto = new VotoRequest();
+        voto.setAssociadoId(associados[proximo]);
+        voto.setPautaId(pautaId);
+        voto.setOpcao((proximo++ & 1) == 0 ? OpcaoVoto.SIM : OpcaoVoto.NAO);
+        return votoService.registrarVoto(voto);
+    }
+
+    @Benchmark
+    public ResultadoVotacaoResponse consultarResultado() {
+        return votoService.consultarResultado(pautaId);
+    }
+}
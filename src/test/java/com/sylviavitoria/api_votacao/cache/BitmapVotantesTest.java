@@ -0,0 +1,58 @@
+package com.sylviavitoria.api_votacao.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BitmapVotantesTest {
+
+    @Test
+    @DisplayName("Deve adicionar, consultar e remover IDs")
+    void adicionarERemover() {
+
+        BitmapVotantes bitmap = new BitmapVotantes();
+
+        assertTrue(bitmap.adicionar(10L));
+        assertFalse(bitmap.adicionar(10L));
+        assertTrue(bitmap.adicionar(70_000L));
+        assertTrue(bitmap.adicionar(Long.MAX_VALUE));
+
+        assertTrue(bitmap.contem(10L));
+        assertTrue(bitmap.contem(70_000L));
+        assertTrue(bitmap.contem(Long.MAX_VALUE));
+        assertFalse(bitmap.contem(11L));
+        assertFalse(bitmap.contem(10L + 65_536L));
+        assertEquals(3, bitmap.tamanho());
+
+        assertTrue(bitmap.remover(10L));
+        assertFalse(bitmap.remover(10L));
+        assertFalse(bitmap.contem(10L));
+        assertEquals(2, bitmap.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve converter bloco denso para bitmap e voltar para array ao esvaziar")
+    void converterBlocoDenso() {
+
+        BitmapVotantes bitmap = new BitmapVotantes();
+        for (long id = 0; id < 10_000; id += 2) {
+            bitmap.adicionar(id);
+        }
+
+        assertEquals(5_000, bitmap.tamanho());
+        assertEquals(8_192, bitmap.bytesEstimados());
+        assertTrue(bitmap.contem(9_998L));
+        assertFalse(bitmap.contem(9_999L));
+
+        for (long id = 0; id < 6_000; id += 2) {
+            bitmap.remover(id);
+        }
+
+        assertEquals(2_000, bitmap.tamanho());
+        assertTrue(bitmap.bytesEstimados() < 8_192);
+        assertFalse(bitmap.contem(4_000L));
+        assertTrue(bitmap.contem(6_000L));
+        assertTrue(bitmap.contem(9_998L));
+    }
+}
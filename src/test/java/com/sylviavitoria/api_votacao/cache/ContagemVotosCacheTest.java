@@ -0,0 +1,163 @@
+package com.sylviavitoria.api_votacao.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.repository.ContagemVotosJdbcRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ContagemVotosCacheTest {
+
+    private static final RegistroSessoes.Janela JANELA_ABERTA = new RegistroSessoes.Janela(0, Long.MAX_VALUE);
+
+    @Mock
+    private VersoesPautas versoesPautas;
+
+    @Mock
+    private ContagemVotosJdbcRepository contagemVotosRepository;
+
+    @Mock
+    private RegistroSessoes registroSessoes;
+
+    @InjectMocks
+    private ContagemVotosCache cache;
+
+    @Test
+    @DisplayName("Deve carregar a contagem do banco apenas na primeira leitura")
+    void obterCarregaUmaVez() {
+
+        when(registroSessoes.janela(1L)).thenReturn(JANELA_ABERTA);
+        when(contagemVotosRepository.contabilizarVotosPorPauta(1L)).thenReturn(new VotacaoResumoDTO(3L, 2L));
+
+        VotacaoResumoDTO primeira = cache.obter(1L);
+        VotacaoResumoDTO segunda = cache.obter(1L);
+
+        assertEquals(3L, primeira.getTotalVotosSim());
+        assertEquals(2L, primeira.getTotalVotosNao());
+        assertEquals(3L, segunda.getTotalVotosSim());
+        assertEquals(2L, segunda.getTotalVotosNao());
+
+        verify(contagemVotosRepository, times(1)).contabilizarVotosPorPauta(1L);
+        verifyNoMoreInteractions(contagemVotosRepository);
+    }
+
+    @Test
+    @DisplayName("Deve carregar em uma única consulta apenas as pautas ausentes da memória")
+    void obterTodosCarregaAusentesEmLote() {
+
+        when(registroSessoes.janela(anyLong())).thenReturn(JANELA_ABERTA);
+        when(contagemVotosRepository.contabilizarVotosPorPauta(1L)).thenReturn(new VotacaoResumoDTO(1L, 0L));
+        when(contagemVotosRepository.contabilizarVotosPorPautas(List.of(2L, 3L)))
+                .thenReturn(Map.of(2L, new VotacaoResumoDTO(4L, 5L)));
+        cache.obter(1L);
+
+        Map<Long, VotacaoResumoDTO> totais = cache.obterTodos(List.of(1L, 2L, 3L));
+
+        assertEquals(1L, totais.get(1L).getTotalVotosSim());
+        assertEquals(5L, totais.get(2L).getTotalVotosNao());
+        assertEquals(0L, totais.get(3L).getTotalVotosSim());
+        cache.obterTodos(List.of(2L, 3L));
+        verify(contagemVotosRepository, times(1)).contabilizarVotosPorPautas(List.of(2L, 3L));
+        verifyNoMoreInteractions(contagemVotosRepository);
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o placar ao registrar e adicionar votos, sem gravar no banco")
+    void registrarEAdicionar() {
+
+        when(contagemVotosRepository.contabilizarVotosPorPauta(1L)).thenReturn(new VotacaoResumoDTO(0L, 0L));
+        cache.inicializar(1L);
+
+        cache.registrar(1L, OpcaoVoto.SIM);
+        cache.registrar(1L, OpcaoVoto.SIM);
+        cache.registrar(1L, OpcaoVoto.NAO);
+        cache.adicionar(1L, -1L, 1L);
+
+        assertEquals(1L, cache.obterVotosSim(1L));
+        assertEquals(2L, cache.obterVotosNao(1L));
+
+        verify(contagemVotosRepository, times(1)).contabilizarVotosPorPauta(1L);
+        verifyNoMoreInteractions(contagemVotosRepository);
+    }
+
+    @Test
+    @DisplayName("Não deve criar placar ao registrar voto de pauta ainda não carregada")
+    void registrarSemPlacarCarregado() {
+
+        cache.registrar(1L, OpcaoVoto.SIM);
+
+        verifyNoInteractions(contagemVotosRepository);
+    }
+
+    @Test
+    @DisplayName("Deve corrigir a contagem após divergência confirmada em duas verificações")
+    void verificarConsistenciaCorrigeDivergencia() {
+
+        when(registroSessoes.janela(1L)).thenReturn(JANELA_ABERTA);
+        when(contagemVotosRepository.contabilizarVotosPorPauta(1L))
+                .thenReturn(new VotacaoResumoDTO(1L, 0L))
+                .thenReturn(new VotacaoResumoDTO(5L, 4L));
+        cache.inicializar(1L);
+
+        cache.verificarConsistencia();
+        assertEquals(1L, cache.obterVotosSim(1L));
+
+        cache.verificarConsistencia();
+        assertEquals(5L, cache.obterVotosSim(1L));
+        assertEquals(4L, cache.obterVotosNao(1L));
+    }
+
+    @Test
+    @DisplayName("Não deve manter em memória o placar de pautas sem sessão agendada ou aberta")
+    void naoGuardarPautasEncerradas() {
+
+        when(contagemVotosRepository.contabilizarVotosPorPauta(1L)).thenReturn(new VotacaoResumoDTO(7L, 3L));
+
+        assertEquals(7L, cache.obter(1L).getTotalVotosSim());
+        assertEquals(3L, cache.obter(1L).getTotalVotosNao());
+
+        assertEquals(0, cache.tamanho());
+        verify(contagemVotosRepository, times(2)).contabilizarVotosPorPauta(1L);
+    }
+
+    @Test
+    @DisplayName("Deve descartar o placar ao remover e ignorar na verificação as sessões que saíram do registro")
+    void descartarPlacares() {
+
+        when(contagemVotosRepository.contabilizarVotosPorPauta(anyLong())).thenReturn(new VotacaoResumoDTO(1L, 1L));
+        cache.inicializar(1L);
+        cache.inicializar(2L);
+        assertEquals(2, cache.tamanho());
+
+        cache.remover(1L);
+        cache.verificarConsistencia();
+
+        assertEquals(0, cache.tamanho());
+        verify(contagemVotosRepository, times(2)).contabilizarVotosPorPauta(anyLong());
+        verify(versoesPautas, never()).alterar(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve retornar zero para pauta sem ID")
+    void obterPautaSemId() {
+
+        VotacaoResumoDTO resumo = cache.obter(null);
+
+        assertEquals(0L, resumo.getTotalVotosSim());
+        assertEquals(0L, resumo.getTotalVotosNao());
+        verifyNoInteractions(contagemVotosRepository);
+    }
+}
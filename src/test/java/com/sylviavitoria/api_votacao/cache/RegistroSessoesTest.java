@@ -0,0 +1,192 @@
+package com.sylviavitoria.api_votacao.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
+import com.sylviavitoria.api_votacao.exception.BusinessException;
+import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
+import com.sylviavitoria.api_votacao.model.Pauta;
+import com.sylviavitoria.api_votacao.model.SessaoVotacao;
+import com.sylviavitoria.api_votacao.repository.PautaRepository;
+import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RegistroSessoesTest {
+
+    @Mock
+    private SessaoVotacaoRepository sessaoVotacaoRepository;
+
+    @Mock
+    private PautaRepository pautaRepository;
+
+    @InjectMocks
+    private RegistroSessoes registro;
+
+    @Test
+    @DisplayName("Deve carregar a sessão do banco apenas na primeira verificação")
+    void estaAbertaCarregaUmaVez() {
+
+        LocalDateTime agora = LocalDateTime.now();
+        when(sessaoVotacaoRepository.findByPautaId(1L))
+                .thenReturn(Optional.of(sessao(1L, agora.minusMinutes(5), agora.plusMinutes(5))));
+
+        assertTrue(registro.estaAberta(1L));
+        assertTrue(registro.existe(1L));
+        assertTrue(registro.estaAberta(1L));
+        assertFalse(registro.estaAberta(1L, epochMilli(agora.plusMinutes(6))));
+        assertFalse(registro.estaAberta(1L, epochMilli(agora.minusMinutes(6))));
+
+        verify(sessaoVotacaoRepository, times(1)).findByPautaId(1L);
+    }
+
+    @Test
+    @DisplayName("Deve substituir a janela ao registrar sessão alterada")
+    void registrarSubstituiJanela() {
+
+        LocalDateTime agora = LocalDateTime.now();
+        registro.registrar(sessao(1L, agora.minusMinutes(10), agora.minusMinutes(5)));
+        assertFalse(registro.estaAberta(1L));
+
+        registro.registrar(sessao(1L, agora.minusMinutes(10), agora.plusMinutes(5)));
+        assertTrue(registro.estaAberta(1L));
+
+        verifyNoInteractions(sessaoVotacaoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve manter várias pautas e consultar o banco após remoção")
+    void registrarVariasPautasERemover() {
+
+        LocalDateTime agora = LocalDateTime.now();
+        for (long pautaId = 1; pautaId <= 100; pautaId++) {
+            registro.registrar(sessao(pautaId, agora.minusMinutes(1), agora.plusMinutes(pautaId)));
+        }
+        for (long pautaId = 1; pautaId <= 100; pautaId++) {
+            assertTrue(registro.estaAberta(pautaId));
+        }
+
+        registro.remover(50L);
+        when(sessaoVotacaoRepository.findByPautaId(50L)).thenReturn(Optional.empty());
+
+        assertFalse(registro.existe(50L));
+        assertTrue(registro.existe(51L));
+        verify(sessaoVotacaoRepository).findByPautaId(50L);
+        verifyNoMoreInteractions(sessaoVotacaoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve guardar em cache negativo as pautas sem sessão e as sessões finalizadas")
+    void cacheNegativo() {
+
+        LocalDateTime agora = LocalDateTime.now();
+        SessaoVotacao finalizada = sessao(2L, agora.minusMinutes(10), agora.minusMinutes(5));
+        finalizada.setStatus(StatusSessao.FINALIZADA);
+        when(sessaoVotacaoRepository.findByPautaId(1L)).thenReturn(Optional.empty());
+        when(sessaoVotacaoRepository.findByPautaId(2L)).thenReturn(Optional.of(finalizada));
+
+        for (int i = 0; i < 3; i++) {
+            assertFalse(registro.estaAberta(1L));
+            assertNull(registro.janela(1L));
+            assertFalse(registro.existe(1L));
+
+            assertFalse(registro.estaAberta(2L));
+            assertNull(registro.janela(2L));
+            assertTrue(registro.existe(2L));
+            assertTrue(registro.encerrada(2L));
+        }
+
+        assertEquals(0, registro.tamanho());
+        verify(sessaoVotacaoRepository, times(1)).findByPautaId(1L);
+        verify(sessaoVotacaoRepository, times(1)).findByPautaId(2L);
+    }
+
+    @Test
+    @DisplayName("Deve reler do banco as entradas vencidas, vendo sessões abertas ou finalizadas por outra instância")
+    void relerEntradasVencidas() {
+        ReflectionTestUtils.setField(registro, "validadeMs", 0L);
+        LocalDateTime agora = LocalDateTime.now();
+        SessaoVotacao sessao = sessao(1L, agora.minusMinutes(1), agora.plusMinutes(5));
+        when(sessaoVotacaoRepository.findByPautaId(1L)).thenReturn(Optional.empty(), Optional.of(sessao));
+
+        assertFalse(registro.existe(1L));
+        assertTrue(registro.estaAberta(1L));
+
+        sessao.setStatus(StatusSessao.FINALIZADA);
+        when(sessaoVotacaoRepository.findByPautaId(1L)).thenReturn(Optional.of(sessao));
+
+        assertNull(registro.janela(1L));
+        assertEquals(0, registro.tamanho());
+        verify(sessaoVotacaoRepository, times(3)).findByPautaId(1L);
+    }
+
+    @Test
+    @DisplayName("Deve retirar da tabela as sessões encerradas e voltar a aceitá-las se registradas de novo")
+    void encerrarERegistrar() {
+
+        LocalDateTime agora = LocalDateTime.now();
+        registro.registrar(sessao(1L, agora.minusMinutes(1), agora.plusMinutes(5)));
+        registro.registrar(sessao(2L, agora.minusMinutes(1), agora.plusMinutes(5)));
+
+        registro.encerrar(List.of(1L));
+
+        assertEquals(1, registro.tamanho());
+        assertNull(registro.janela(1L));
+        assertFalse(registro.estaAberta(1L));
+        assertTrue(registro.encerrada(1L));
+        assertTrue(registro.estaAberta(2L));
+
+        registro.registrar(sessao(1L, agora.minusMinutes(1), agora.plusMinutes(5)));
+
+        assertTrue(registro.estaAberta(1L));
+        assertFalse(registro.encerrada(1L));
+        verifyNoInteractions(sessaoVotacaoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve identificar o motivo da sessão indisponível")
+    void verificarAberta() {
+
+        LocalDateTime agora = LocalDateTime.now();
+        registro.registrar(sessao(1L, agora.minusMinutes(10), agora.minusMinutes(5)));
+        when(sessaoVotacaoRepository.findByPautaId(anyLong())).thenReturn(Optional.empty());
+        when(pautaRepository.existsById(2L)).thenReturn(true);
+        when(pautaRepository.existsById(3L)).thenReturn(false);
+
+        assertEquals("Sessão de votação não está aberta",
+                assertThrows(BusinessException.class, () -> registro.verificarAberta(1L)).getMessage());
+        assertEquals("Não existe sessão de votação para esta pauta",
+                assertThrows(BusinessException.class, () -> registro.verificarAberta(2L)).getMessage());
+        assertEquals("Pauta não encontrada",
+                assertThrows(EntityNotFoundException.class, () -> registro.verificarAberta(3L)).getMessage());
+    }
+
+    private static SessaoVotacao sessao(Long pautaId, LocalDateTime abertura, LocalDateTime fechamento) {
+        Pauta pauta = new Pauta();
+        pauta.setId(pautaId);
+
+        SessaoVotacao sessao = new SessaoVotacao();
+        sessao.setPauta(pauta);
+        sessao.setDataAbertura(abertura);
+        sessao.setDataFechamento(fechamento);
+        return sessao;
+    }
+
+    private static long epochMilli(LocalDateTime dataHora) {
+        return dataHora.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,97 @@
+package com.sylviavitoria.api_votacao.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VersoesPautasTest {
+
+    @Mock
+    private RegistroSessoes registroSessoes;
+
+    private VersoesPautas versoes;
+
+    @BeforeEach
+    void setUp() {
+        versoes = new VersoesPautas(registroSessoes, 500, 5, 3600);
+    }
+
+    @Test
+    @DisplayName("Deve manter a ETag enquanto a pauta não muda e trocá-la após uma alteração")
+    void etagMudaAposAlteracao() {
+        long agora = System.currentTimeMillis();
+        when(registroSessoes.janela(1L)).thenReturn(new RegistroSessoes.Janela(agora - 60_000, agora + 60_000));
+
+        String inicial = versoes.obter(1L).etag();
+        assertEquals(inicial, versoes.obter(1L).etag());
+
+        versoes.alterar(1L);
+
+        assertNotEquals(inicial, versoes.obter(1L).etag());
+    }
+
+    @Test
+    @DisplayName("Deve trocar a ETag quando a sessão fecha, mesmo sem escrita, sem marcá-la imutável")
+    void etagMudaNoFechamento() {
+        long agora = System.currentTimeMillis();
+        when(registroSessoes.janela(1L))
+                .thenReturn(new RegistroSessoes.Janela(agora - 60_000, agora + 60_000))
+                .thenReturn(new RegistroSessoes.Janela(agora - 60_000, agora - 1_000));
+
+        VersoesPautas.Versao aberta = versoes.obter(1L);
+        VersoesPautas.Versao encerrada = versoes.obter(1L);
+
+        assertNotEquals(aberta.etag(), encerrada.etag());
+        assertFalse(aberta.imutavel());
+        assertEquals(5, aberta.maxAgeSegundos());
+        assertFalse(encerrada.imutavel());
+        assertEquals(0, encerrada.maxAgeSegundos());
+    }
+
+    @Test
+    @DisplayName("Deve marcar imutável apenas a pauta com resultado gravado")
+    void imutavelAposFinalizacao() {
+        when(registroSessoes.encerrada(1L)).thenReturn(true);
+
+        VersoesPautas.Versao versao = versoes.obter(1L);
+
+        assertTrue(versao.imutavel());
+        assertEquals(3600, versao.maxAgeSegundos());
+    }
+
+    @Test
+    @DisplayName("Deve guardar versão própria apenas de pautas com sessão ativa e descartá-la na finalização")
+    void descartarVersoesDePautasEncerradas() {
+        long agora = System.currentTimeMillis();
+        when(registroSessoes.janela(1L)).thenReturn(new RegistroSessoes.Janela(agora - 60_000, agora + 60_000));
+        when(registroSessoes.janela(2L)).thenReturn(null);
+
+        versoes.alterar(1L);
+        versoes.alterar(2L);
+        assertEquals(1, versoes.tamanho());
+
+        String antes = versoes.obter(2L).etag();
+        versoes.encerrar(List.of(1L));
+
+        assertEquals(0, versoes.tamanho());
+        assertNotEquals(antes, versoes.obter(2L).etag());
+    }
+
+    @Test
+    @DisplayName("Não deve permitir cache além do próximo horário de transição da sessão")
+    void maxAgeLimitadoPeloFechamento() {
+        long agora = System.currentTimeMillis();
+        when(registroSessoes.janela(1L)).thenReturn(new RegistroSessoes.Janela(agora - 60_000, agora + 2_500));
+
+        assertTrue(versoes.obter(1L).maxAgeSegundos() <= 2);
+    }
+}
@@ -0,0 +1,81 @@
+package com.sylviavitoria.api_votacao.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.mock.env.MockEnvironment;
+
+class DataSourceLimitadoTest {
+
+    private final DataSource alvo = mock(DataSource.class);
+
+    @Test
+    @DisplayName("Deve devolver a permissão uma única vez quando a conexão é fechada")
+    void liberarAoFechar() throws Exception {
+        Connection conexao = mock(Connection.class);
+        when(alvo.getConnection()).thenReturn(conexao);
+        DataSourceLimitado dataSource = new DataSourceLimitado(alvo, 2, 10);
+
+        Connection primeira = dataSource.getConnection();
+        dataSource.getConnection();
+        assertEquals(0, dataSource.disponiveis());
+
+        primeira.close();
+        primeira.close();
+
+        assertEquals(1, dataSource.disponiveis());
+        verify(conexao, times(1)).close();
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando nenhuma permissão é liberada dentro da espera máxima")
+    void esperaEsgotada() throws Exception {
+        when(alvo.getConnection()).thenReturn(mock(Connection.class));
+        DataSourceLimitado dataSource = new DataSourceLimitado(alvo, 1, 10);
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão quando o pool não entrega a conexão")
+    void liberarQuandoPoolFalha() throws Exception {
+        when(alvo.getConnection()).thenThrow(new SQLException("pool esgotado"));
+        DataSourceLimitado dataSource = new DataSourceLimitado(alvo, 1, 10);
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertEquals(1, dataSource.disponiveis());
+    }
+
+    @Test
+    @DisplayName("Deve fechar o pool envolvido quando o DataSource é fechado")
+    void fecharPool() throws Exception {
+        DataSource pool = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+        DataSourceLimitado dataSource = new DataSourceLimitado(pool, 1, 10);
+
+        dataSource.close();
+
+        verify((AutoCloseable) pool).close();
+    }
+
+    @Test
+    @DisplayName("Deve envolver apenas o DataSource principal")
+    void envolverApenasPrincipal() {
+        MockEnvironment ambiente = new MockEnvironment();
+        BeanPostProcessor limitador = ThreadsVirtuaisConfig.limitadorConexoes(ambiente);
+        DataSource outro = mock(DataSource.class);
+
+        assertInstanceOf(DataSourceLimitado.class, limitador.postProcessAfterInitialization(alvo, "dataSource"));
+        assertSame(outro, limitador.postProcessAfterInitialization(outro, "relatoriosDataSource"));
+    }
+}
@@ -4,9 +4,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sylviavitoria.api_votacao.dto.AssociadoListarResponse;
 import com.sylviavitoria.api_votacao.dto.AssociadoRequest;
 import com.sylviavitoria.api_votacao.dto.AssociadoResponse;
+import com.sylviavitoria.api_votacao.dto.ImportacaoAssociadosResponse;
+import com.sylviavitoria.api_votacao.dto.PaginaCursor;
 import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
 import com.sylviavitoria.api_votacao.exception.GlobalExceptionHandler;
+import com.sylviavitoria.api_votacao.exception.ParametroInvalidoException;
 import com.sylviavitoria.api_votacao.interfaces.IAssociado;
+import com.sylviavitoria.api_votacao.interfaces.IImportacaoAssociados;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 
@@ -25,6 +29,7 @@ import jakarta.persistence.EntityExistsException;
 
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -38,6 +43,9 @@ public class AssociadoControllerTest {
     @MockBean
     private IAssociado iAssociado;
 
+    @MockBean
+    private IImportacaoAssociados importacaoAssociados;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -140,6 +148,37 @@ public class AssociadoControllerTest {
         verifyNoMoreInteractions(iAssociado);
     }
 
+    @Test
+    @DisplayName("Deve listar associados por cursor quando o limit é informado")
+    void listarPorCursorSucesso() throws Exception {
+
+        when(iAssociado.listarPorCursor("abc", 50, null))
+                .thenReturn(new PaginaCursor<>(List.of(associadoListarResponse), 50, "def"));
+
+        mockMvc.perform(get("/api/v1/associados")
+                .param("after", "abc")
+                .param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[0].id").value(associadoListarResponse.getId()))
+                .andExpect(jsonPath("$.proximo").value("def"));
+
+        verify(iAssociado).listarPorCursor("abc", 50, null);
+        verifyNoMoreInteractions(iAssociado);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 para cursor inválido")
+    void listarPorCursorInvalido() throws Exception {
+
+        when(iAssociado.listarPorCursor("abc", 50, null)).thenThrow(new ParametroInvalidoException("Cursor inválido"));
+
+        mockMvc.perform(get("/api/v1/associados")
+                .param("after", "abc")
+                .param("limit", "50"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.erro").value("Cursor inválido"));
+    }
+
     @Test
     @DisplayName("Deve atualizar um associado com sucesso")
     void atualizarAssociadoSucesso() throws Exception {
@@ -212,4 +251,27 @@ public class AssociadoControllerTest {
         verify(iAssociado).criar(associadoRequest);
         verifyNoMoreInteractions(iAssociado);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve importar associados a partir de CSV")
+    void importarAssociadosCsv() throws Exception {
+        when(importacaoAssociados.importarCsv(any())).thenReturn(ImportacaoAssociadosResponse.builder()
+                .totalLidos(2)
+                .totalInseridos(1)
+                .totalDuplicados(1)
+                .totalInvalidos(0)
+                .erros(List.of())
+                .build());
+
+        mockMvc.perform(post("/api/v1/associados/importacao")
+                .contentType("text/csv")
+                .content("nome,cpf,email\nAna,12345678901,ana@exemplo.com\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalInseridos").value(1))
+                .andExpect(jsonPath("$.totalDuplicados").value(1));
+
+        verify(importacaoAssociados).importarCsv(any());
+        verifyNoMoreInteractions(importacaoAssociados);
+        verifyNoInteractions(iAssociado);
+    }
+}
@@ -1,6 +1,7 @@
 package com.sylviavitoria.api_votacao.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
 import com.sylviavitoria.api_votacao.dto.AssociadoDTO;
 import com.sylviavitoria.api_votacao.dto.PautaAtualizarRequest;
 import com.sylviavitoria.api_votacao.dto.PautaRequest;
@@ -31,6 +32,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
@@ -47,6 +49,9 @@ public class PautaControllerTest {
     @MockBean
     private IPauta iPauta;
 
+    @MockBean
+    private VersoesPautas versoesPautas;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -58,6 +63,7 @@ public class PautaControllerTest {
     @BeforeEach
     void setUp() {
         dataCriacao = LocalDateTime.now();
+        when(versoesPautas.obter(anyLong())).thenReturn(new VersoesPautas.Versao("\"v1\"", 1, false));
 
         pautaRequest = new PautaRequest();
         pautaRequest.setTitulo("Assembleia Geral 2025");
@@ -83,7 +89,7 @@ public class PautaControllerTest {
         pautaAtualizarRequest.setDescricao("Discussão atualizada sobre os resultados financeiros de 2024");
 
         mockMvc = MockMvcBuilders
-                .standaloneSetup(new PautaController(iPauta))
+                .standaloneSetup(new PautaController(iPauta, versoesPautas))
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .setMessageConverters(new MappingJackson2HttpMessageConverter())
                 .build();
@@ -142,12 +148,25 @@ public class PautaControllerTest {
 
         mockMvc.perform(get("/api/v1/pautas/{id}", id))
                 .andDo(print())
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"));
 
         verify(iPauta).buscarPorId(id);
         verifyNoMoreInteractions(iPauta);
     }
 
+    @Test
+    @DisplayName("Deve responder 304 sem consultar a pauta quando a ETag não mudou")
+    void buscarPautaPorIdNaoModificada() throws Exception {
+        mockMvc.perform(get("/api/v1/pautas/{id}", 1L).header("If-None-Match", "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"v1\""))
+                .andExpect(content().string(""));
+
+        verifyNoInteractions(iPauta);
+    }
+
     @Test
     @DisplayName("Deve retornar not found quando buscar pauta com ID inexistente")
     void buscarPautaPorIdInexistente() throws Exception {
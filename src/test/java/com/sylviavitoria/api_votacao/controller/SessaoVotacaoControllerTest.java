@@ -24,6 +24,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sylviavitoria.api_votacao.dto.FinalizacaoSessoesResponse;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoRequest;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoResponse;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoAtualizarRequest;
@@ -242,4 +243,22 @@ class SessaoVotacaoControllerTest {
                 verifyNoInteractions(sessaoVotacao);
         }
 
-}
\ No newline at end of file
+        @Test
+        @DisplayName("Deve finalizar sessões expiradas e informar a quantidade")
+        void finalizarExpiradas() throws Exception {
+
+                when(sessaoVotacao.finalizarExpiradas()).thenReturn(FinalizacaoSessoesResponse.builder()
+                                .sessoesFinalizadas(3)
+                                .limite(agora)
+                                .duracaoMs(12)
+                                .build());
+
+                mockMvc.perform(post("/api/v1/sessoes/finalizar-expiradas"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.sessoesFinalizadas").value(3))
+                                .andExpect(jsonPath("$.duracaoMs").value(12));
+
+                verify(sessaoVotacao).finalizarExpiradas();
+        }
+
+}
@@ -1,9 +1,15 @@
 package com.sylviavitoria.api_votacao.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,17 +19,30 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
+import com.sylviavitoria.api_votacao.dto.ReciboVotoResponse;
 import com.sylviavitoria.api_votacao.dto.ResultadoVotacaoResponse;
 import com.sylviavitoria.api_votacao.dto.VotoAtualizarRequest;
+import com.sylviavitoria.api_votacao.dto.VotoLoteItemResponse;
+import com.sylviavitoria.api_votacao.dto.VotoLoteResponse;
 import com.sylviavitoria.api_votacao.dto.VotoRequest;
 import com.sylviavitoria.api_votacao.dto.VotoResponse;
+import com.sylviavitoria.api_votacao.dto.VotoStatusResponse;
+import com.sylviavitoria.api_votacao.enums.FormatoExportacao;
 import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.enums.StatusItemLote;
+import com.sylviavitoria.api_votacao.enums.StatusRecibo;
 import com.sylviavitoria.api_votacao.exception.BusinessException;
 import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
 import com.sylviavitoria.api_votacao.exception.GlobalExceptionHandler;
+import com.sylviavitoria.api_votacao.interfaces.IExportacaoVotos;
+import com.sylviavitoria.api_votacao.interfaces.ITransmissaoResultados;
 import com.sylviavitoria.api_votacao.interfaces.IVoto;
+import com.sylviavitoria.api_votacao.interfaces.IVotoAssincrono;
+import com.sylviavitoria.api_votacao.interfaces.IVotoLote;
 
 @WebMvcTest({VotoController.class, GlobalExceptionHandler.class})
 class VotoControllerTest {
@@ -37,6 +56,21 @@ class VotoControllerTest {
     @MockBean
     private IVoto votoService;
 
+    @MockBean
+    private IVotoLote votoLoteService;
+
+    @MockBean
+    private IVotoAssincrono votoAssincronoService;
+
+    @MockBean
+    private VersoesPautas versoesPautas;
+
+    @MockBean
+    private ITransmissaoResultados transmissaoResultados;
+
+    @MockBean
+    private IExportacaoVotos exportacaoVotos;
+
     private VotoRequest votoRequest;
     private VotoResponse votoResponse;
     private ResultadoVotacaoResponse resultadoResponse;
@@ -88,6 +122,45 @@ class VotoControllerTest {
         verifyNoMoreInteractions(votoService);
     }
 
+    @Test
+    @DisplayName("Deve aceitar voto assíncrono e retornar recibo")
+    void registrarVotoAssincrono() throws Exception {
+        ReciboVotoResponse recibo = ReciboVotoResponse.builder()
+                .recibo("abc")
+                .status(StatusRecibo.PENDENTE)
+                .associadoId(1L)
+                .pautaId(1L)
+                .build();
+        when(votoAssincronoService.habilitado()).thenReturn(true);
+        when(votoAssincronoService.enfileirar(any(VotoRequest.class))).thenReturn(recibo);
+
+        mockMvc.perform(post("/api/v1/votos")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(votoRequest)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/votos/recibos/abc"))
+                .andExpect(jsonPath("$.recibo").value("abc"))
+                .andExpect(jsonPath("$.status").value("PENDENTE"));
+
+        verifyNoInteractions(votoService);
+    }
+
+    @Test
+    @DisplayName("Deve consultar recibo de voto assíncrono")
+    void consultarRecibo() throws Exception {
+        when(votoAssincronoService.consultarRecibo("abc")).thenReturn(ReciboVotoResponse.builder()
+                .recibo("abc")
+                .status(StatusRecibo.REJEITADO)
+                .erro("Associado não encontrado")
+                .build());
+
+        mockMvc.perform(get("/api/v1/votos/recibos/{recibo}", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("REJEITADO"))
+                .andExpect(jsonPath("$.erro").value("Associado não encontrado"));
+    }
+
     @Test
     @DisplayName("Deve buscar voto por ID com sucesso")
     void buscarVotoPorIdSucesso() throws Exception {
@@ -121,11 +194,45 @@ class VotoControllerTest {
         verifyNoMoreInteractions(votoService);
     }
 
+    @Test
+    @DisplayName("Deve consultar se o associado já votou na pauta")
+    void consultarStatusSucesso() throws Exception {
+        when(votoService.consultarStatus(1L, 2L)).thenReturn(VotoStatusResponse.builder()
+                .associadoId(1L)
+                .pautaId(2L)
+                .votou(true)
+                .build());
+
+        mockMvc.perform(get("/api/v1/votos/status")
+                .param("associadoId", "1")
+                .param("pautaId", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.associadoId").value(1))
+                .andExpect(jsonPath("$.pautaId").value(2))
+                .andExpect(jsonPath("$.votou").value(true));
+
+        verify(votoService).consultarStatus(1L, 2L);
+        verifyNoMoreInteractions(votoService);
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 com cache imutável para resultado de sessão encerrada")
+    void consultarResultadoNaoModificado() throws Exception {
+        when(versoesPautas.obter(1L)).thenReturn(new VersoesPautas.Versao("\"v7\"", 86400, true));
+
+        mockMvc.perform(get("/api/v1/votos/pautas/{pautaId}/resultado", 1L).header("If-None-Match", "\"v7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Cache-Control", "max-age=86400, public, immutable"));
+
+        verifyNoInteractions(votoService);
+    }
+
     @Test
     @DisplayName("Deve consultar resultado da votação com sucesso")
     void consultarResultadoSucesso() throws Exception {
         
         Long pautaId = 1L;
+        when(versoesPautas.obter(pautaId)).thenReturn(new VersoesPautas.Versao("\"v1\"", 1, false));
         when(votoService.consultarResultado(pautaId)).thenReturn(resultadoResponse);
 
         mockMvc.perform(get("/api/v1/votos/pautas/{pautaId}/resultado", pautaId))
@@ -134,12 +241,40 @@ class VotoControllerTest {
                 .andExpect(jsonPath("$.pautaTitulo").value(resultadoResponse.getPautaTitulo()))
                 .andExpect(jsonPath("$.votosSim").value(resultadoResponse.getVotosSim()))
                 .andExpect(jsonPath("$.votosNao").value(resultadoResponse.getVotosNao()))
-                .andExpect(jsonPath("$.totalVotos").value(resultadoResponse.getTotalVotos()));
+                .andExpect(jsonPath("$.totalVotos").value(resultadoResponse.getTotalVotos()))
+                .andExpect(header().string("Cache-Control", "max-age=1, must-revalidate, private"));
 
         verify(votoService).consultarResultado(pautaId);
         verifyNoMoreInteractions(votoService);
     }
 
+    @Test
+    @DisplayName("Deve exportar os votos da pauta como anexo CSV")
+    void exportarVotosCsv() throws Exception {
+        when(exportacaoVotos.exportar(1L, FormatoExportacao.CSV))
+                .thenReturn(saida -> saida.write("id,associado_id\n1,1\n".getBytes()));
+
+        MvcResult resultado = mockMvc.perform(get("/api/v1/votos/pautas/{pautaId}/export", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"votos-pauta-1.csv\""))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(content().string("id,associado_id\n1,1\n"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar bad request para formato de exportação não suportado")
+    void exportarVotosFormatoInvalido() throws Exception {
+        mockMvc.perform(get("/api/v1/votos/pautas/{pautaId}/export", 1L).param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(exportacaoVotos);
+    }
+
     @Test
     @DisplayName("Deve atualizar voto com sucesso")
     void atualizarVotoSucesso() throws Exception {
@@ -193,4 +328,74 @@ class VotoControllerTest {
         ));
         verifyNoMoreInteractions(votoService);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve registrar votos em lote a partir de array JSON")
+    void registrarLoteJsonSucesso() throws Exception {
+
+        List<VotoRequest> recebidos = new ArrayList<>();
+        when(votoLoteService.registrarLote(any())).thenAnswer(invocation -> {
+            Iterator<VotoRequest> votos = invocation.getArgument(0);
+            votos.forEachRemaining(recebidos::add);
+            return relatorioLote(recebidos.size());
+        });
+
+        mockMvc.perform(post("/api/v1/votos/lote")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(votoRequest, votoRequest))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRecebidos").value(2))
+                .andExpect(jsonPath("$.totalRegistrados").value(2))
+                .andExpect(jsonPath("$.itens[1].status").value("REGISTRADO"));
+
+        verify(votoLoteService).registrarLote(any());
+        verifyNoMoreInteractions(votoLoteService);
+        verifyNoInteractions(votoService);
+        assertEquals(2, recebidos.size());
+        assertEquals(OpcaoVoto.SIM, recebidos.get(0).getOpcao());
+    }
+
+    @Test
+    @DisplayName("Deve registrar votos em lote a partir de NDJSON")
+    void registrarLoteNdjsonSucesso() throws Exception {
+
+        List<VotoRequest> recebidos = new ArrayList<>();
+        when(votoLoteService.registrarLote(any())).thenAnswer(invocation -> {
+            Iterator<VotoRequest> votos = invocation.getArgument(0);
+            votos.forEachRemaining(recebidos::add);
+            return relatorioLote(recebidos.size());
+        });
+
+        String ndjson = objectMapper.writeValueAsString(votoRequest) + "\n"
+                + objectMapper.writeValueAsString(votoRequest) + "\n"
+                + objectMapper.writeValueAsString(votoRequest) + "\n";
+
+        mockMvc.perform(post("/api/v1/votos/lote")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRecebidos").value(3));
+
+        verify(votoLoteService).registrarLote(any());
+        verifyNoMoreInteractions(votoLoteService);
+        assertEquals(3, recebidos.size());
+    }
+
+    private VotoLoteResponse relatorioLote(int quantidade) {
+        List<VotoLoteItemResponse> itens = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            itens.add(VotoLoteItemResponse.builder()
+                    .indice(i)
+                    .associadoId(1L)
+                    .pautaId(1L)
+                    .status(StatusItemLote.REGISTRADO)
+                    .build());
+        }
+        return VotoLoteResponse.builder()
+                .totalRecebidos(quantidade)
+                .totalRegistrados(quantidade)
+                .totalRejeitados(0)
+                .itens(itens)
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.sylviavitoria.api_votacao.importacao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LeitorCsvTest {
+
+    @Test
+    @DisplayName("Deve ler campos entre aspas com vírgulas, aspas e quebras de linha")
+    void lerCamposEntreAspas() throws Exception {
+        LeitorCsv leitor = new LeitorCsv(new StringReader(
+                "nome,cpf\r\n\"Silva, Maria\",123\n\n\"João \"\"Jota\"\"\",\"linha 1\nlinha 2\"\nAna,"));
+
+        assertEquals(List.of("nome", "cpf"), leitor.proximo());
+        assertEquals(List.of("Silva, Maria", "123"), leitor.proximo());
+        assertEquals(2, leitor.linhaRegistro());
+        assertEquals(List.of("João \"Jota\"", "linha 1\nlinha 2"), leitor.proximo());
+        assertEquals(4, leitor.linhaRegistro());
+        assertEquals(List.of("Ana", ""), leitor.proximo());
+        assertEquals(6, leitor.linhaRegistro());
+        assertNull(leitor.proximo());
+    }
+
+    @Test
+    @DisplayName("Deve interromper a leitura quando as aspas não são fechadas")
+    void aspasNaoFechadas() throws Exception {
+        LeitorCsv leitor = new LeitorCsv(new StringReader("Ana,1\n\"Bia,2\nCris,3\n"));
+
+        assertEquals(List.of("Ana", "1"), leitor.proximo());
+        IllegalArgumentException erro = assertThrows(IllegalArgumentException.class, leitor::proximo);
+        assertEquals("Aspas não fechadas no registro da linha 2", erro.getMessage());
+        assertNull(leitor.proximo());
+    }
+
+    @Test
+    @DisplayName("Deve interromper a leitura quando um campo passa do tamanho máximo")
+    void campoMuitoLongo() {
+        LeitorCsv leitor = new LeitorCsv(new StringReader("x".repeat(LeitorCsv.TAMANHO_MAXIMO_CAMPO + 1)));
+
+        assertThrows(IllegalArgumentException.class, leitor::proximo);
+    }
+}
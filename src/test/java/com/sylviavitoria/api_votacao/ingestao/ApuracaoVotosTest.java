@@ -0,0 +1,74 @@
+package com.sylviavitoria.api_votacao.ingestao;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sylviavitoria.api_votacao.cache.ContagemVotosCache;
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.repository.ContagemVotosJdbcRepository;
+import com.sylviavitoria.api_votacao.repository.ContagemVotosJdbcRepository.Conferencia;
+
+@ExtendWith(MockitoExtension.class)
+class ApuracaoVotosTest {
+
+    @Mock
+    private ContagemVotosJdbcRepository contagemVotosRepository;
+
+    @Mock
+    private ContagemVotosCache contagemVotosCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ApuracaoVotos apuracaoVotos;
+
+    @Test
+    @DisplayName("Deve gravar a troca de opção nos contadores, SIM antes de NAO, e repassá-la ao placar")
+    void alterar() {
+
+        apuracaoVotos.alterar(1L, OpcaoVoto.SIM, OpcaoVoto.NAO);
+        apuracaoVotos.alterar(1L, OpcaoVoto.NAO, OpcaoVoto.NAO);
+
+        InOrder ordem = inOrder(contagemVotosRepository, contagemVotosCache);
+        ordem.verify(contagemVotosRepository).somar(1L, OpcaoVoto.SIM, -1);
+        ordem.verify(contagemVotosRepository).somar(1L, OpcaoVoto.NAO, 1);
+        ordem.verify(contagemVotosCache).adicionar(1L, -1, 1);
+        verifyNoMoreInteractions(contagemVotosRepository, contagemVotosCache);
+    }
+
+    @Test
+    @DisplayName("Deve corrigir apenas as pautas cujos contadores divergem dos votos")
+    void verificarVotosCorrigeDivergencia() {
+
+        when(contagemVotosRepository.conferirSessoesAbertas()).thenReturn(List.of(
+                new Conferencia(1L, new VotacaoResumoDTO(3L, 2L), new VotacaoResumoDTO(3L, 2L)),
+                new Conferencia(2L, new VotacaoResumoDTO(5L, 1L), new VotacaoResumoDTO(4L, 2L))));
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        apuracaoVotos.verificarVotos();
+
+        verify(contagemVotosRepository).somar(2L, OpcaoVoto.SIM, 1);
+        verify(contagemVotosRepository).somar(2L, OpcaoVoto.NAO, -1);
+        verify(contagemVotosCache).adicionar(2L, 1, -1);
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        verifyNoMoreInteractions(contagemVotosCache);
+    }
+}
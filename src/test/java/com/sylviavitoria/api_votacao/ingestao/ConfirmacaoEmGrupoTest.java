@@ -0,0 +1,232 @@
+package com.sylviavitoria.api_votacao.ingestao;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sylviavitoria.api_votacao.dto.VotoRequest;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.exception.BusinessException;
+import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
+import com.sylviavitoria.api_votacao.exception.ConfirmacaoPendenteException;
+import com.sylviavitoria.api_votacao.exception.ServicoIndisponivelException;
+import com.sylviavitoria.api_votacao.repository.VotoJdbcRepository;
+import com.sylviavitoria.api_votacao.repository.VotoJdbcRepository.VotoGravado;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ConfirmacaoEmGrupoTest {
+
+    @Mock
+    private VotoJdbcRepository votoJdbcRepository;
+
+    @Mock
+    private ApuracaoVotos apuracaoVotos;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private final LocalDateTime dataHora = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executarTransacoes();
+    }
+
+    @Test
+    @DisplayName("Deve gravar o voto na própria transação quando desabilitada")
+    void gravarDesabilitada() {
+
+        ConfirmacaoEmGrupo confirmacao = criar(false, 2, 256);
+        VotoRequest voto = voto(1L, OpcaoVoto.SIM);
+        when(votoJdbcRepository.inserirSeSessaoAberta(voto, dataHora)).thenReturn(gravado(10L));
+
+        assertEquals(10L, confirmacao.gravar(voto, dataHora).id());
+
+        verify(apuracaoVotos).registrar(1L, OpcaoVoto.SIM);
+        verify(votoJdbcRepository, never()).inserirLoteComNomesSeSessaoAberta(anyList(), any());
+        assertEquals(1.0, meterRegistry.counter("votacao.confirmacao.commits").count());
+        assertEquals(1L, meterRegistry.timer("votacao.confirmacao.latencia").count());
+    }
+
+    @Test
+    @DisplayName("Deve traduzir as falhas de gravação individual")
+    void gravarIndividualFalhas() {
+
+        ConfirmacaoEmGrupo confirmacao = criar(false, 2, 256);
+        VotoRequest duplicado = voto(1L, OpcaoVoto.SIM);
+        VotoRequest inexistente = voto(2L, OpcaoVoto.SIM);
+        VotoRequest foraDaJanela = voto(3L, OpcaoVoto.NAO);
+        VotoRequest pautaRemovida = voto(4L, OpcaoVoto.NAO);
+        when(votoJdbcRepository.inserirSeSessaoAberta(duplicado, dataHora))
+                .thenThrow(new DuplicateKeyException("uk_associado_pauta"));
+        when(votoJdbcRepository.inserirSeSessaoAberta(inexistente, dataHora))
+                .thenThrow(new DataIntegrityViolationException("fk_voto_associado"));
+        when(votoJdbcRepository.inserirSeSessaoAberta(foraDaJanela, dataHora)).thenReturn(null);
+        DataIntegrityViolationException outraRestricao = new DataIntegrityViolationException("fk_voto_pauta");
+        when(votoJdbcRepository.inserirSeSessaoAberta(pautaRemovida, dataHora)).thenThrow(outraRestricao);
+
+        assertEquals("Associado já votou nesta pauta",
+                assertThrows(BusinessException.class, () -> confirmacao.gravar(duplicado, dataHora)).getMessage());
+        assertEquals("Associado não encontrado",
+                assertThrows(EntityNotFoundException.class, () -> confirmacao.gravar(inexistente, dataHora)).getMessage());
+        assertEquals("Sessão de votação não está aberta",
+                assertThrows(BusinessException.class, () -> confirmacao.gravar(foraDaJanela, dataHora)).getMessage());
+        assertSame(outraRestricao,
+                assertThrows(DataIntegrityViolationException.class, () -> confirmacao.gravar(pautaRemovida, dataHora)));
+        verifyNoInteractions(apuracaoVotos);
+    }
+
+    @Test
+    @DisplayName("Deve gravar o grupo em uma transação e liberar cada chamador com o próprio resultado")
+    void confirmarGrupo() {
+
+        ConfirmacaoEmGrupo confirmacao = criar(true, 2, 256);
+        ConfirmacaoEmGrupo.Pedido sim = new ConfirmacaoEmGrupo.Pedido(voto(1L, OpcaoVoto.SIM), dataHora);
+        ConfirmacaoEmGrupo.Pedido nao = new ConfirmacaoEmGrupo.Pedido(voto(2L, OpcaoVoto.NAO), dataHora);
+        ConfirmacaoEmGrupo.Pedido foraDaJanela = new ConfirmacaoEmGrupo.Pedido(voto(3L, OpcaoVoto.SIM), dataHora);
+        when(votoJdbcRepository.inserirLoteComNomesSeSessaoAberta(anyList(), any())).thenReturn(new VotoGravado[] { gravado(10L), gravado(11L), null });
+
+        confirmacao.confirmar(List.of(sim, nao, foraDaJanela));
+
+        assertEquals(10L, sim.resultado().join().id());
+        assertEquals(11L, nao.resultado().join().id());
+        CompletionException erro = assertThrows(CompletionException.class, () -> foraDaJanela.resultado().join());
+        assertEquals("Sessão de votação não está aberta", erro.getCause().getMessage());
+
+        verify(apuracaoVotos).adicionar(1L, 1, 1);
+        verify(votoJdbcRepository, never()).inserirSeSessaoAberta(any(), any());
+        assertEquals(1.0, meterRegistry.counter("votacao.confirmacao.commits").count());
+    }
+
+    @Test
+    @DisplayName("Deve gravar individualmente quando o grupo viola uma constraint")
+    void confirmarGrupoComViolacao() {
+
+        ConfirmacaoEmGrupo confirmacao = criar(true, 2, 256);
+        ConfirmacaoEmGrupo.Pedido valido = new ConfirmacaoEmGrupo.Pedido(voto(1L, OpcaoVoto.SIM), dataHora);
+        ConfirmacaoEmGrupo.Pedido duplicado = new ConfirmacaoEmGrupo.Pedido(voto(2L, OpcaoVoto.SIM), dataHora);
+        when(votoJdbcRepository.inserirLoteComNomesSeSessaoAberta(anyList(), any()))
+                .thenThrow(new DuplicateKeyException("uk_associado_pauta"));
+        when(votoJdbcRepository.inserirSeSessaoAberta(valido.voto(), dataHora)).thenReturn(gravado(10L));
+        when(votoJdbcRepository.inserirSeSessaoAberta(duplicado.voto(), dataHora))
+                .thenThrow(new DuplicateKeyException("uk_associado_pauta"));
+
+        confirmacao.confirmar(List.of(valido, duplicado));
+
+        assertEquals(10L, valido.resultado().join().id());
+        CompletionException erro = assertThrows(CompletionException.class, () -> duplicado.resultado().join());
+        assertInstanceOf(BusinessException.class, erro.getCause());
+        verify(apuracaoVotos).registrar(1L, OpcaoVoto.SIM);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar chamadas concorrentes em uma única gravação")
+    void agruparChamadasConcorrentes() {
+
+        ConfirmacaoEmGrupo confirmacao = criar(true, 5_000, 2);
+        when(votoJdbcRepository.inserirLoteComNomesSeSessaoAberta(anyList(), any())).thenReturn(new VotoGravado[] { gravado(10L), gravado(11L) });
+        confirmacao.start();
+
+        CompletableFuture<VotoGravado> primeiro = CompletableFuture.supplyAsync(
+                () -> confirmacao.gravar(voto(1L, OpcaoVoto.SIM), dataHora));
+        CompletableFuture<VotoGravado> segundo = CompletableFuture.supplyAsync(
+                () -> confirmacao.gravar(voto(2L, OpcaoVoto.SIM), dataHora));
+
+        assertEquals(List.of(10L, 11L), List.of(primeiro.join().id(), segundo.join().id()).stream().sorted().toList());
+        confirmacao.stop();
+
+        verify(votoJdbcRepository).inserirLoteComNomesSeSessaoAberta(argThat(votos -> votos.size() == 2), any());
+        verify(apuracaoVotos).adicionar(eq(1L), eq(2L), eq(0L));
+        assertEquals(2.0, meterRegistry.summary("votacao.confirmacao.grupo").totalAmount());
+    }
+
+    @Test
+    @DisplayName("Deve responder indisponível quando a confirmação passa da espera máxima")
+    void esperaMaximaEsgotada() {
+
+        ConfirmacaoEmGrupo confirmacao = criar(true, 500, 2, 50);
+        when(votoJdbcRepository.inserirLoteComNomesSeSessaoAberta(anyList(), any())).thenReturn(new VotoGravado[] { gravado(10L) });
+        confirmacao.start();
+        try {
+            assertThrows(ConfirmacaoPendenteException.class,
+                    () -> confirmacao.gravar(voto(1L, OpcaoVoto.SIM), dataHora));
+        } finally {
+            confirmacao.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve liberar os votos pendentes e gravar individualmente quando a thread de confirmação é interrompida")
+    void interrupcaoLiberaPendentes() throws InterruptedException {
+
+        ConfirmacaoEmGrupo confirmacao = criar(true, 10_000, 2, 10_000);
+        when(votoJdbcRepository.inserirSeSessaoAberta(any(), eq(dataHora))).thenReturn(gravado(20L));
+        confirmacao.start();
+
+        CompletableFuture<VotoGravado> pendente = CompletableFuture.supplyAsync(
+                () -> confirmacao.gravar(voto(1L, OpcaoVoto.SIM), dataHora));
+        Thread.sleep(200);
+        Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("votos-confirmacao-grupo"))
+                .forEach(Thread::interrupt);
+
+        CompletionException erro = assertThrows(CompletionException.class, pendente::join);
+        assertInstanceOf(ServicoIndisponivelException.class, erro.getCause());
+        assertEquals(20L, confirmacao.gravar(voto(2L, OpcaoVoto.NAO), dataHora).id());
+        confirmacao.stop();
+        verify(votoJdbcRepository, never()).inserirLoteComNomesSeSessaoAberta(anyList(), any());
+    }
+
+    private ConfirmacaoEmGrupo criar(boolean habilitada, long janelaMs, int maximoVotos) {
+        return criar(habilitada, janelaMs, maximoVotos, 5_000);
+    }
+
+    private ConfirmacaoEmGrupo criar(boolean habilitada, long janelaMs, int maximoVotos, long esperaMaximaMs) {
+        return new ConfirmacaoEmGrupo(votoJdbcRepository, apuracaoVotos, transactionTemplate, meterRegistry,
+                habilitada, janelaMs, maximoVotos, esperaMaximaMs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void executarTransacoes() {
+        lenient().doAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class)
+                .doInTransaction(mock(TransactionStatus.class)))
+                .when(transactionTemplate).execute(any());
+    }
+
+    private static VotoGravado gravado(long id) {
+        return new VotoGravado(id, "Associado", "Pauta");
+    }
+
+    private static VotoRequest voto(Long associadoId, OpcaoVoto opcao) {
+        VotoRequest voto = new VotoRequest();
+        voto.setAssociadoId(associadoId);
+        voto.setPautaId(1L);
+        voto.setOpcao(opcao);
+        return voto;
+    }
+}
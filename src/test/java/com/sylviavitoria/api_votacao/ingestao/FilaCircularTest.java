@@ -0,0 +1,87 @@
+package com.sylviavitoria.api_votacao.ingestao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FilaCircularTest {
+
+    @Test
+    @DisplayName("Deve recusar elementos quando cheia e liberar espaço ao drenar")
+    void oferecerEDrenar() {
+
+        FilaCircular<Integer> fila = new FilaCircular<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(fila.oferecer(i));
+        }
+        assertFalse(fila.oferecer(99));
+        assertEquals(4, fila.tamanho());
+
+        List<Integer> drenados = new ArrayList<>();
+        assertEquals(3, fila.drenar(drenados::add, 3));
+        assertEquals(List.of(0, 1, 2), drenados);
+
+        assertTrue(fila.oferecer(4));
+        assertEquals(2, fila.drenar(drenados::add, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4), drenados);
+        assertTrue(fila.vazia());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar capacidade que não seja potência de 2")
+    void capacidadeInvalida() {
+
+        assertThrows(IllegalArgumentException.class, () -> new FilaCircular<>(100));
+    }
+
+    @Test
+    @DisplayName("Deve entregar cada elemento exatamente uma vez com vários produtores")
+    void variosProdutores() throws InterruptedException {
+
+        int produtores = 4;
+        int porProdutor = 50_000;
+        FilaCircular<Integer> fila = new FilaCircular<>(1024);
+        CountDownLatch inicio = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < produtores; p++) {
+            int base = p * porProdutor;
+            Thread thread = new Thread(() -> {
+                try {
+                    inicio.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < porProdutor; i++) {
+                    while (!fila.oferecer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        BitSet recebidos = new BitSet(produtores * porProdutor);
+        int[] total = new int[1];
+        inicio.countDown();
+        while (total[0] < produtores * porProdutor) {
+            total[0] += fila.drenar(valor -> {
+                assertFalse(recebidos.get(valor));
+                recebidos.set(valor);
+            }, 256);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(produtores * porProdutor, recebidos.cardinality());
+        assertTrue(fila.vazia());
+    }
+}
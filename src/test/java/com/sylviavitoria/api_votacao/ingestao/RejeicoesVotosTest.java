@@ -0,0 +1,42 @@
+package com.sylviavitoria.api_votacao.ingestao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sylviavitoria.api_votacao.exception.BusinessException;
+import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RejeicoesVotosTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RejeicoesVotos rejeicoes = new RejeicoesVotos(meterRegistry);
+
+    @Test
+    @DisplayName("Deve contar rejeições por canal e motivo a partir da mensagem de erro")
+    void registrarPorMotivo() {
+
+        rejeicoes.registrar(RejeicoesVotos.SINCRONO, new BusinessException("Sessão de votação não está aberta"));
+        rejeicoes.registrar(RejeicoesVotos.SINCRONO, new BusinessException("Associado já votou nesta pauta"));
+        rejeicoes.registrar(RejeicoesVotos.SINCRONO, new EntityNotFoundException("Associado não encontrado"));
+        rejeicoes.registrar(RejeicoesVotos.LOTE, "Associado já votou nesta pauta");
+        rejeicoes.registrar(RejeicoesVotos.LOTE, "A opção de voto é obrigatória");
+        rejeicoes.registrar(RejeicoesVotos.ASSINCRONO, (String) null);
+
+        assertEquals(1, contagem(RejeicoesVotos.SINCRONO, "sessao_fechada"));
+        assertEquals(1, contagem(RejeicoesVotos.SINCRONO, "duplicado"));
+        assertEquals(1, contagem(RejeicoesVotos.SINCRONO, "associado_inexistente"));
+        assertEquals(1, contagem(RejeicoesVotos.LOTE, "duplicado"));
+        assertEquals(1, contagem(RejeicoesVotos.LOTE, RejeicoesVotos.OUTRO));
+        assertEquals(1, contagem(RejeicoesVotos.ASSINCRONO, RejeicoesVotos.OUTRO));
+        assertEquals(0, contagem(RejeicoesVotos.ASSINCRONO, "duplicado"));
+    }
+
+    private double contagem(String canal, String motivo) {
+        return meterRegistry.get("votacao.votos.rejeitados").tag("canal", canal).tag("motivo", motivo).counter()
+                .count();
+    }
+}
@@ -0,0 +1,98 @@
+package com.sylviavitoria.api_votacao.logs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+class AmostragemLogsTest {
+
+    private final AtomicLong relogio = new AtomicLong();
+    private final LoggerContext contexto = new LoggerContext();
+    private final ListAppender<ILoggingEvent> emitidos = new ListAppender<>();
+    private AmostragemLogs amostragem;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        amostragem = new AmostragemLogs(3, relogio::get);
+        amostragem.setContext(contexto);
+        amostragem.start();
+        contexto.addTurboFilter(amostragem);
+
+        emitidos.setContext(contexto);
+        emitidos.start();
+        logger = contexto.getLogger(AmostragemLogs.PACOTE_APLICACAO + ".service.VotoService");
+        logger.setLevel(Level.INFO);
+        logger.addAppender(emitidos);
+    }
+
+    @Test
+    @DisplayName("Deve limitar cada modelo de mensagem por segundo e contar as suprimidas")
+    void limitarPorModelo() {
+
+        for (long id = 1; id <= 5; id++) {
+            logger.info("Voto registrado: associado ID: {}", id);
+        }
+
+        assertEquals(3, emitidos.list.size());
+        assertEquals("Voto registrado: associado ID: 3", emitidos.list.get(2).getFormattedMessage());
+        assertEquals(2, amostragem.suprimidas());
+    }
+
+    @Test
+    @DisplayName("Não deve amostrar avisos, erros nem loggers de bibliotecas")
+    void ignorarAvisosEBibliotecas() {
+        Logger biblioteca = contexto.getLogger("com.zaxxer.hikari.pool.HikariPool");
+        biblioteca.setLevel(Level.INFO);
+        biblioteca.addAppender(emitidos);
+
+        for (int i = 0; i < 5; i++) {
+            logger.warn("Fila de votos cheia");
+            logger.error("Falha ao gravar voto: {}", i);
+            biblioteca.info("Pool stats: {}", i);
+        }
+
+        assertEquals(15, emitidos.list.size());
+        assertEquals(0, amostragem.suprimidas());
+    }
+
+    @Test
+    @DisplayName("Deve liberar o modelo no segundo seguinte")
+    void liberarNoSegundoSeguinte() {
+
+        for (int i = 0; i < 4; i++) {
+            logger.info("Consultando resultado da votação para pauta ID: {}", 1);
+        }
+        relogio.addAndGet(1_000_000_000L);
+        logger.info("Consultando resultado da votação para pauta ID: {}", 1);
+
+        assertEquals(4, emitidos.list.size());
+        assertEquals(1, amostragem.suprimidas());
+    }
+
+    @Test
+    @DisplayName("Não deve consumir o limite com níveis desabilitados nem com o filtro parado")
+    void ignorarNivelDesabilitadoEFiltroParado() {
+
+        for (int i = 0; i < 10; i++) {
+            logger.debug("Votantes da pauta ID: {} carregados", i);
+        }
+        amostragem.stop();
+        for (int i = 0; i < 10; i++) {
+            logger.info("Listando pautas por cursor: limite {}", i);
+        }
+
+        assertEquals(10, emitidos.list.size());
+        assertEquals(0, amostragem.suprimidas());
+    }
+}
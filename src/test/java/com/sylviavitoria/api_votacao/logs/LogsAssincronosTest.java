@@ -0,0 +1,89 @@
+package com.sylviavitoria.api_votacao.logs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+
+class LogsAssincronosTest {
+
+    private final LoggerContext contexto = new LoggerContext();
+    private final Logger raiz = contexto.getLogger(Logger.ROOT_LOGGER_NAME);
+    private final ListAppender<ILoggingEvent> console = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        // A fila monta o evento para escrita posterior, o que lê o MDC do contexto.
+        contexto.setMDCAdapter(new LogbackMDCAdapter());
+        console.setName("CONSOLE");
+        console.setContext(contexto);
+        console.start();
+        raiz.addAppender(console);
+    }
+
+    @Test
+    @DisplayName("Deve escrever pela fila e devolver o appender original ao fechar")
+    void envolverERestaurar() {
+
+        LogsAssincronos logs = new LogsAssincronos(contexto, 256);
+
+        assertNull(raiz.getAppender("CONSOLE"));
+        assertInstanceOf(AppenderAssincrono.class, raiz.getAppender("ASYNC_CONSOLE"));
+
+        for (int i = 0; i < 100; i++) {
+            raiz.warn("Evento {}", i);
+        }
+        logs.close();
+
+        assertEquals(100, console.list.size());
+        assertSame(console, raiz.getAppender("CONSOLE"));
+        assertNull(raiz.getAppender("ASYNC_CONSOLE"));
+        assertTrue(console.isStarted());
+        assertEquals(0, logs.descartados());
+    }
+
+    @Test
+    @DisplayName("Deve descartar e contar eventos com a fila cheia sem bloquear quem loga")
+    void contarDescartados() throws InterruptedException {
+        CountDownLatch escrevendo = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        AppenderBase<ILoggingEvent> lento = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent evento) {
+                escrevendo.countDown();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        lento.setName("LENTO");
+        lento.setContext(contexto);
+        lento.start();
+        raiz.detachAppender(console);
+        raiz.addAppender(lento);
+
+        LogsAssincronos logs = new LogsAssincronos(contexto, 1);
+        raiz.error("Primeiro");
+        assertTrue(escrevendo.await(5, TimeUnit.SECONDS));
+        raiz.error("Na fila");
+        raiz.error("Descartado");
+        raiz.info("Descartado");
+
+        assertEquals(2, logs.descartados());
+        liberar.countDown();
+        logs.close();
+    }
+}
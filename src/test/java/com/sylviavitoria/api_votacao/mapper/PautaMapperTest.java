@@ -14,20 +14,22 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.sylviavitoria.api_votacao.cache.ContagemVotosCache;
 import com.sylviavitoria.api_votacao.dto.AssociadoDTO;
+import com.sylviavitoria.api_votacao.dto.PautaListagemDTO;
 import com.sylviavitoria.api_votacao.dto.PautaRequest;
 import com.sylviavitoria.api_votacao.dto.PautaResponse;
-import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
 import com.sylviavitoria.api_votacao.enums.StatusPauta;
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
 import com.sylviavitoria.api_votacao.model.Associado;
 import com.sylviavitoria.api_votacao.model.Pauta;
-import com.sylviavitoria.api_votacao.repository.VotoRepository;
 
 @ExtendWith(MockitoExtension.class)
 class PautaMapperTest {
 
     @Mock
-    private VotoRepository votoRepository;
+    private ContagemVotosCache contagemVotosCache;
 
     @Spy
     @InjectMocks
@@ -72,15 +74,15 @@ class PautaMapperTest {
         assertEquals(StatusPauta.CRIADA, result.getStatus());
         assertNull(result.getCriador());
 
-        verifyNoInteractions(votoRepository);
+        verifyNoInteractions(contagemVotosCache);
     }
 
     @Test
     @DisplayName("Deve converter Entity para PautaResponse")
     void toResponseTest() {
 
-        when(votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM)).thenReturn(3L);
-        when(votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO)).thenReturn(2L);
+        when(contagemVotosCache.obterVotosSim(pauta.getId())).thenReturn(3L);
+        when(contagemVotosCache.obterVotosNao(pauta.getId())).thenReturn(2L);
 
         PautaResponse result = mapper.toResponse(pauta);
 
@@ -98,9 +100,52 @@ class PautaMapperTest {
         assertEquals(associado.getId(), criadorDTO.getId());
         assertEquals(associado.getNome(), criadorDTO.getNome());
 
-        verify(votoRepository).countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM);
-        verify(votoRepository).countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO);
-        verifyNoMoreInteractions(votoRepository);
+        verify(contagemVotosCache).obterVotosSim(pauta.getId());
+        verify(contagemVotosCache).obterVotosNao(pauta.getId());
+        verifyNoMoreInteractions(contagemVotosCache);
+    }
+
+    @Test
+    @DisplayName("Deve converter linha da listagem com criador e totais informados")
+    void toResponseListagemTest() {
+
+        PautaListagemDTO linha = listagem(StatusPauta.CRIADA, null, null, null);
+
+        PautaResponse result = mapper.toResponse(linha, new VotacaoResumoDTO(2L, 1L));
+
+        assertEquals(pauta.getId(), result.getId());
+        assertEquals(pauta.getTitulo(), result.getTitulo());
+        assertEquals(StatusPauta.CRIADA, result.getStatus());
+        assertEquals(2L, result.getTotalVotosSim());
+        assertEquals(1L, result.getTotalVotosNao());
+        assertEquals(associado.getId(), result.getCriador().getId());
+        assertEquals(associado.getNome(), result.getCriador().getNome());
+        verifyNoInteractions(contagemVotosCache);
+    }
+
+    @Test
+    @DisplayName("Deve derivar o resultado da pauta de sessão expirada ainda não finalizada")
+    void toResponseSessaoExpiradaTest() {
+
+        PautaListagemDTO linha = listagem(StatusPauta.EM_VOTACAO, LocalDateTime.now().minusMinutes(10),
+                LocalDateTime.now().minusMinutes(1), StatusSessao.ABERTA);
+
+        PautaResponse result = mapper.toResponse(linha, new VotacaoResumoDTO(1L, 4L));
+
+        assertEquals(StatusPauta.RECUSADA, result.getStatus());
+        verifyNoInteractions(contagemVotosCache);
+    }
+
+    @Test
+    @DisplayName("Deve derivar EM_VOTACAO quando a sessão agendada já começou")
+    void toResponseSessaoIniciadaTest() {
+
+        PautaListagemDTO linha = listagem(StatusPauta.CRIADA, LocalDateTime.now().minusMinutes(1),
+                LocalDateTime.now().plusMinutes(10), StatusSessao.FECHADA);
+
+        PautaResponse result = mapper.toResponse(linha, new VotacaoResumoDTO(0L, 0L));
+
+        assertEquals(StatusPauta.EM_VOTACAO, result.getStatus());
     }
 
     @Test
@@ -111,7 +156,7 @@ class PautaMapperTest {
 
         assertNull(result);
 
-        verifyNoInteractions(votoRepository);
+        verifyNoInteractions(contagemVotosCache);
     }
 
     @Test
@@ -124,6 +169,12 @@ class PautaMapperTest {
         assertEquals(associado.getId(), result.getId());
         assertEquals(associado.getNome(), result.getNome());
 
-        verifyNoInteractions(votoRepository);
+        verifyNoInteractions(contagemVotosCache);
+    }
+
+    private PautaListagemDTO listagem(StatusPauta status, LocalDateTime abertura, LocalDateTime fechamento,
+            StatusSessao statusSessao) {
+        return new PautaListagemDTO(pauta.getId(), pauta.getTitulo(), pauta.getDescricao(), pauta.getDataCriacao(),
+                status, associado.getId(), associado.getNome(), abertura, fechamento, statusSessao, null, null);
     }
-}
\ No newline at end of file
+}
@@ -143,4 +143,37 @@ class SessaoVotacaoTest {
 
         assertEquals(StatusSessao.FINALIZADA, sessao.getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve derivar status FECHADA antes da abertura")
+    void statusEmAntesDaAbertura() {
+
+        sessao.setDataAbertura(agora.plusMinutes(5));
+        sessao.setDataFechamento(agora.plusMinutes(30));
+
+        assertEquals(StatusSessao.FECHADA, sessao.statusEm(agora));
+    }
+
+    @Test
+    @DisplayName("Deve derivar status ABERTA durante o período sem alterar a sessão")
+    void statusEmDuranteOPeriodo() {
+
+        sessao.setDataAbertura(agora.minusMinutes(5));
+        sessao.setDataFechamento(agora.plusMinutes(30));
+
+        assertEquals(StatusSessao.ABERTA, sessao.statusEm(agora));
+        assertEquals(StatusSessao.FECHADA, sessao.getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve derivar status FINALIZADA após o fechamento")
+    void statusEmAposFechamento() {
+
+        sessao.setStatus(StatusSessao.ABERTA);
+        sessao.setDataAbertura(agora.minusMinutes(30));
+        sessao.setDataFechamento(agora.minusMinutes(1));
+
+        assertEquals(StatusSessao.FINALIZADA, sessao.statusEm(agora));
+        assertEquals(StatusSessao.ABERTA, sessao.getStatus());
+    }
+}
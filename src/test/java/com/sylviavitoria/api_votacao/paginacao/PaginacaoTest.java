@@ -0,0 +1,68 @@
+package com.sylviavitoria.api_votacao.paginacao;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sylviavitoria.api_votacao.dto.PaginaCursor;
+import com.sylviavitoria.api_votacao.exception.ParametroInvalidoException;
+
+class PaginacaoTest {
+
+    @Test
+    @DisplayName("Deve decodificar o cursor com o valor e o id do último item")
+    void codificarEDecodificar() {
+        String cursor = Paginacao.Cursor.de("nome", "Maria | Silva", 42L).codificar();
+
+        Paginacao.Cursor posicao = Paginacao.decodificar(cursor, "nome");
+
+        assertEquals("Maria | Silva", posicao.valor());
+        assertEquals(42L, posicao.id());
+        assertNull(Paginacao.decodificar(null, "nome"));
+    }
+
+    @Test
+    @DisplayName("Deve preservar data e hora com frações de segundo no cursor")
+    void cursorComDataHora() {
+        LocalDateTime abertura = LocalDateTime.of(2025, 5, 20, 10, 0, 0, 123_456_000);
+        String cursor = Paginacao.Cursor.de("dataAbertura", abertura, 7L).codificar();
+
+        assertEquals(abertura, Paginacao.decodificar(cursor, "dataAbertura").dataHora());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor malformado ou gerado para outra ordenação")
+    void cursorInvalido() {
+        String cursorPorNome = Paginacao.Cursor.de("nome", "Maria", 42L).codificar();
+
+        assertThrows(ParametroInvalidoException.class, () -> Paginacao.decodificar("@@@", "nome"));
+        assertThrows(ParametroInvalidoException.class, () -> Paginacao.decodificar("bm9tZQ", "nome"));
+        assertThrows(ParametroInvalidoException.class, () -> Paginacao.decodificar(cursorPorNome, "id"));
+        assertThrows(ParametroInvalidoException.class,
+                () -> Paginacao.ordenacao("email", "nome", List.of("nome", "id")));
+    }
+
+    @Test
+    @DisplayName("Deve gerar o próximo cursor apenas quando há item excedente")
+    void montarPagina() {
+        PaginaCursor<Long> comProxima = Paginacao.pagina(List.of(1L, 2L, 3L), 2,
+                id -> Paginacao.Cursor.de("id", null, id));
+        PaginaCursor<Long> ultima = Paginacao.pagina(List.of(3L), 2, id -> Paginacao.Cursor.de("id", null, id));
+
+        assertEquals(List.of(1L, 2L), comProxima.getConteudo());
+        assertEquals(2L, Paginacao.decodificar(comProxima.getProximo(), "id").id());
+        assertNull(ultima.getProximo());
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página ao máximo permitido")
+    void limitarTamanho() {
+        assertEquals(Paginacao.LIMITE_MAXIMO, Paginacao.limitar(10_000));
+        assertEquals(1, Paginacao.limitar(0));
+        assertEquals(50, Paginacao.limitar(50));
+    }
+}
@@ -0,0 +1,71 @@
+package com.sylviavitoria.api_votacao.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+
+/**
+ * Contadores de votos executados no H2 com as migrações do Flyway.
+ */
+@JdbcTest
+@Import({ ContagemVotosJdbcRepository.class, DialetoBanco.class })
+@TestPropertySource(properties = "votacao.contagem.slots=4")
+class ContagemVotosJdbcRepositoryTest {
+
+    private static final long PAUTA_ID = 1L;
+
+    @Autowired
+    private ContagemVotosJdbcRepository contagemVotosRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO tb_associados (id, nome, cpf, email) VALUES (1, 'Ana', '10000000001', 'ana@exemplo.com')");
+        jdbcTemplate.update("INSERT INTO tb_pautas (id, titulo, data_criacao, status, criador_id) "
+                + "VALUES (?, 'Pauta', CURRENT_TIMESTAMP, 'EM_VOTACAO', 1)", PAUTA_ID);
+    }
+
+    @Test
+    @DisplayName("Deve criar os slots que faltam conforme a pauta recebe votos")
+    void somarCriandoSlots() {
+
+        // Pauta anterior aos slots: só o slot 0, como na migração dos contadores.
+        jdbcTemplate.update("INSERT INTO tb_votos_contagem (pauta_id, opcao, slot, quantidade) VALUES (?, 'SIM', 0, 5)",
+                PAUTA_ID);
+
+        for (int i = 0; i < 100; i++) {
+            contagemVotosRepository.somar(PAUTA_ID, OpcaoVoto.SIM, 1);
+        }
+        contagemVotosRepository.somar(PAUTA_ID, OpcaoVoto.NAO, 2);
+
+        VotacaoResumoDTO totais = contagemVotosRepository.contabilizarVotosPorPauta(PAUTA_ID);
+        assertEquals(105, totais.getTotalVotosSim());
+        assertEquals(2, totais.getTotalVotosNao());
+        assertEquals(4, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tb_votos_contagem WHERE pauta_id = ? AND opcao = 'SIM'", Integer.class, PAUTA_ID));
+    }
+
+    @Test
+    @DisplayName("Deve criar todos os slots da pauta uma única vez")
+    void criarSlots() {
+
+        contagemVotosRepository.criarSlots(PAUTA_ID);
+        contagemVotosRepository.criarSlots(PAUTA_ID);
+
+        assertEquals(8, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tb_votos_contagem WHERE pauta_id = ?", Integer.class, PAUTA_ID));
+        assertEquals(0, contagemVotosRepository.contabilizarVotosPorPauta(PAUTA_ID).getTotalVotosSim());
+    }
+}
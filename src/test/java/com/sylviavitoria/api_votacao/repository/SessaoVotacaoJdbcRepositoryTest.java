@@ -0,0 +1,115 @@
+package com.sylviavitoria.api_votacao.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Finalização das sessões expiradas executada no H2 com as migrações do Flyway.
+ */
+@JdbcTest
+@Import({ SessaoVotacaoJdbcRepository.class, ConversorDataHoraJdbc.class, DialetoBanco.class })
+class SessaoVotacaoJdbcRepositoryTest {
+
+    private static final long PAUTA_APROVADA = 1L;
+    private static final long PAUTA_SEM_VOTOS = 2L;
+    private static final long PAUTA_ABERTA = 3L;
+
+    @Autowired
+    private SessaoVotacaoJdbcRepository sessaoVotacaoJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ConversorDataHoraJdbc conversorDataHora;
+
+    private final LocalDateTime agora = LocalDateTime.of(2025, 5, 10, 10, 0);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO tb_associados (id, nome, cpf, email) VALUES (1, 'Ana', '10000000001', 'ana@exemplo.com')");
+        sessao(PAUTA_APROVADA, agora.minusMinutes(1));
+        sessao(PAUTA_SEM_VOTOS, agora.minusMinutes(1));
+        sessao(PAUTA_ABERTA, agora.plusMinutes(5));
+        contador(PAUTA_APROVADA, "SIM", 0, 2);
+        contador(PAUTA_APROVADA, "SIM", 1, 1);
+        contador(PAUTA_APROVADA, "NAO", 0, 1);
+        contador(PAUTA_ABERTA, "NAO", 0, 4);
+    }
+
+    @Test
+    @DisplayName("Deve finalizar as sessões expiradas gravando o resultado a partir dos contadores")
+    void finalizarExpiradas() {
+
+        List<Long> finalizadas = sessaoVotacaoJdbcRepository.finalizarExpiradas(agora, agora);
+
+        assertEquals(List.of(PAUTA_APROVADA, PAUTA_SEM_VOTOS), finalizadas.stream().sorted().toList());
+        Map<String, Object> aprovada = jdbcTemplate.queryForMap(
+                "SELECT votos_sim, votos_nao, total_votos, status FROM tb_resultados WHERE pauta_id = ?", PAUTA_APROVADA);
+        assertEquals(3L, ((Number) aprovada.get("VOTOS_SIM")).longValue());
+        assertEquals(1L, ((Number) aprovada.get("VOTOS_NAO")).longValue());
+        assertEquals(4L, ((Number) aprovada.get("TOTAL_VOTOS")).longValue());
+        assertEquals("APROVADA", aprovada.get("STATUS"));
+        assertEquals("EMPATADA", statusResultado(PAUTA_SEM_VOTOS));
+        assertEquals("APROVADA", statusPauta(PAUTA_APROVADA));
+        assertEquals("EMPATADA", statusPauta(PAUTA_SEM_VOTOS));
+        assertEquals("FINALIZADA", statusSessao(PAUTA_APROVADA));
+        assertEquals("FINALIZADA", statusSessao(PAUTA_SEM_VOTOS));
+
+        assertEquals("EM_VOTACAO", statusPauta(PAUTA_ABERTA));
+        assertEquals("ABERTA", statusSessao(PAUTA_ABERTA));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tb_resultados WHERE pauta_id = ?", Integer.class, PAUTA_ABERTA));
+    }
+
+    @Test
+    @DisplayName("Deve finalizar cada sessão uma única vez")
+    void finalizarExpiradasUmaVez() {
+
+        sessaoVotacaoJdbcRepository.finalizarExpiradas(agora, agora);
+
+        assertTrue(sessaoVotacaoJdbcRepository.finalizarExpiradas(agora.plusMinutes(1), agora.plusMinutes(1)).isEmpty());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_resultados", Integer.class));
+    }
+
+    private void sessao(long pautaId, LocalDateTime fechamento) {
+        jdbcTemplate.update("INSERT INTO tb_pautas (id, titulo, data_criacao, status, criador_id) "
+                + "VALUES (?, ?, CURRENT_TIMESTAMP, 'EM_VOTACAO', 1)", pautaId, "Pauta " + pautaId);
+        // Datas gravadas como o repositório as grava, no fuso de hibernate.jdbc.time_zone.
+        jdbcTemplate.update("INSERT INTO tb_sessoes_votacao (pauta_id, data_abertura, data_fechamento, status) "
+                + "VALUES (?, ?, ?, 'ABERTA')", ps -> {
+                    ps.setLong(1, pautaId);
+                    ps.setTimestamp(2, conversorDataHora.paraBanco(agora.minusMinutes(10)), conversorDataHora.calendario());
+                    ps.setTimestamp(3, conversorDataHora.paraBanco(fechamento), conversorDataHora.calendario());
+                });
+    }
+
+    private void contador(long pautaId, String opcao, int slot, long quantidade) {
+        jdbcTemplate.update("INSERT INTO tb_votos_contagem (pauta_id, opcao, slot, quantidade) VALUES (?, ?, ?, ?)",
+                pautaId, opcao, slot, quantidade);
+    }
+
+    private String statusResultado(long pautaId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM tb_resultados WHERE pauta_id = ?", String.class, pautaId);
+    }
+
+    private String statusPauta(long pautaId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM tb_pautas WHERE id = ?", String.class, pautaId);
+    }
+
+    private String statusSessao(long pautaId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM tb_sessoes_votacao WHERE pauta_id = ?", String.class,
+                pautaId);
+    }
+}
@@ -0,0 +1,143 @@
+package com.sylviavitoria.api_votacao.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.sylviavitoria.api_votacao.dto.VotoRequest;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.repository.VotoJdbcRepository.VotoGravado;
+
+/**
+ * Instruções de gravação de votos executadas no H2 com as migrações do Flyway.
+ */
+@JdbcTest
+@Import({ VotoJdbcRepository.class, ConversorDataHoraJdbc.class, DialetoBanco.class })
+class VotoJdbcRepositoryTest {
+
+    private static final long PAUTA_ABERTA = 1L;
+    private static final long PAUTA_ENCERRADA = 2L;
+    private static final long PAUTA_FINALIZADA = 3L;
+
+    @Autowired
+    private VotoJdbcRepository votoJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ConversorDataHoraJdbc conversorDataHora;
+
+    private final LocalDateTime agora = LocalDateTime.of(2025, 5, 10, 10, 0);
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.update("INSERT INTO tb_associados (id, nome, cpf, email) VALUES (?, ?, ?, ?)",
+                    id, "Associado " + id, "1000000000" + id, "associado" + id + "@exemplo.com");
+        }
+        sessao(PAUTA_ABERTA, agora.minusMinutes(5), agora.plusMinutes(5), "ABERTA");
+        sessao(PAUTA_ENCERRADA, agora.minusMinutes(10), agora.minusMinutes(1), "ABERTA");
+        sessao(PAUTA_FINALIZADA, agora.minusMinutes(5), agora.plusMinutes(5), "FINALIZADA");
+    }
+
+    @Test
+    @DisplayName("Deve gravar o voto e devolver os nomes apenas quando a sessão está aberta")
+    void inserirSeSessaoAberta() {
+
+        VotoGravado gravado = votoJdbcRepository.inserirSeSessaoAberta(voto(1L, PAUTA_ABERTA), agora);
+
+        assertNotNull(gravado.id());
+        assertEquals("Associado 1", gravado.associadoNome());
+        assertEquals("Pauta " + PAUTA_ABERTA, gravado.pautaTitulo());
+        assertNull(votoJdbcRepository.inserirSeSessaoAberta(voto(1L, PAUTA_ENCERRADA), agora));
+        assertNull(votoJdbcRepository.inserirSeSessaoAberta(voto(1L, PAUTA_FINALIZADA), agora));
+        assertNull(votoJdbcRepository.inserirSeSessaoAberta(voto(2L, PAUTA_ABERTA), agora.minusMinutes(6)));
+        assertEquals(1, contarVotos());
+    }
+
+    @Test
+    @DisplayName("Deve distinguir voto duplicado de associado inexistente")
+    void inserirSeSessaoAbertaRestricoes() {
+
+        votoJdbcRepository.inserirSeSessaoAberta(voto(1L, PAUTA_ABERTA), agora);
+
+        assertThrows(DuplicateKeyException.class,
+                () -> votoJdbcRepository.inserirSeSessaoAberta(voto(1L, PAUTA_ABERTA), agora));
+        DataIntegrityViolationException erro = assertThrows(DataIntegrityViolationException.class,
+                () -> votoJdbcRepository.inserirSeSessaoAberta(voto(99L, PAUTA_ABERTA), agora));
+        assertTrue(VotoJdbcRepository.associadoInexistente(erro));
+    }
+
+    @Test
+    @DisplayName("Deve gravar em lote só os votos de sessões abertas, devolvendo ids na ordem da lista")
+    void inserirLoteSeSessaoAberta() {
+
+        List<VotoRequest> votos = List.of(voto(1L, PAUTA_ABERTA), voto(1L, PAUTA_ENCERRADA),
+                voto(2L, PAUTA_FINALIZADA), voto(3L, PAUTA_ABERTA));
+
+        Long[] ids = votoJdbcRepository.inserirLoteSeSessaoAberta(votos, i -> agora);
+
+        assertNotNull(ids[0]);
+        assertNull(ids[1]);
+        assertNull(ids[2]);
+        assertNotNull(ids[3]);
+        assertEquals(1L, associadoDoVoto(ids[0]));
+        assertEquals(3L, associadoDoVoto(ids[3]));
+        assertEquals(2, contarVotos());
+    }
+
+    @Test
+    @DisplayName("Deve devolver os nomes dos votos gravados em lote")
+    void inserirLoteComNomesSeSessaoAberta() {
+
+        List<VotoRequest> votos = List.of(voto(2L, PAUTA_ABERTA), voto(3L, PAUTA_ENCERRADA), voto(3L, PAUTA_ABERTA));
+
+        VotoGravado[] gravados = votoJdbcRepository.inserirLoteComNomesSeSessaoAberta(votos, i -> agora);
+
+        assertEquals("Associado 2", gravados[0].associadoNome());
+        assertNull(gravados[1]);
+        assertEquals("Associado 3", gravados[2].associadoNome());
+        assertEquals("Pauta " + PAUTA_ABERTA, gravados[2].pautaTitulo());
+    }
+
+    private void sessao(long pautaId, LocalDateTime abertura, LocalDateTime fechamento, String status) {
+        jdbcTemplate.update("INSERT INTO tb_pautas (id, titulo, data_criacao, status, criador_id) "
+                + "VALUES (?, ?, CURRENT_TIMESTAMP, 'EM_VOTACAO', 1)", pautaId, "Pauta " + pautaId);
+        // Datas gravadas como o repositório as grava, no fuso de hibernate.jdbc.time_zone.
+        jdbcTemplate.update("INSERT INTO tb_sessoes_votacao (pauta_id, data_abertura, data_fechamento, status) "
+                + "VALUES (?, ?, ?, ?)", ps -> {
+                    ps.setLong(1, pautaId);
+                    ps.setTimestamp(2, conversorDataHora.paraBanco(abertura), conversorDataHora.calendario());
+                    ps.setTimestamp(3, conversorDataHora.paraBanco(fechamento), conversorDataHora.calendario());
+                    ps.setString(4, status);
+                });
+    }
+
+    private int contarVotos() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_votos", Integer.class);
+    }
+
+    private long associadoDoVoto(Long id) {
+        return jdbcTemplate.queryForObject("SELECT associado_id FROM tb_votos WHERE id = ?", Long.class, id);
+    }
+
+    private static VotoRequest voto(Long associadoId, Long pautaId) {
+        VotoRequest voto = new VotoRequest();
+        voto.setAssociadoId(associadoId);
+        voto.setPautaId(pautaId);
+        voto.setOpcao(OpcaoVoto.SIM);
+        return voto;
+    }
+}
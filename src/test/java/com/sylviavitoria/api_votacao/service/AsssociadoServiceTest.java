@@ -1,11 +1,14 @@
 package com.sylviavitoria.api_votacao.service;
 
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
 import com.sylviavitoria.api_votacao.dto.AssociadoListarResponse;
 import com.sylviavitoria.api_votacao.dto.AssociadoRequest;
 import com.sylviavitoria.api_votacao.dto.AssociadoResponse;
+import com.sylviavitoria.api_votacao.dto.PaginaCursor;
 import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
 import com.sylviavitoria.api_votacao.mapper.AssociadoMapper;
 import com.sylviavitoria.api_votacao.model.Associado;
+import com.sylviavitoria.api_votacao.paginacao.Paginacao;
 import com.sylviavitoria.api_votacao.repository.AssociadoRepository;
 import com.sylviavitoria.api_votacao.repository.PautaRepository;
 
@@ -29,6 +32,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class AsssociadoServiceTest {
     
+    @Mock
+    private VersoesPautas versoesPautas;
+
     @Mock
     private AssociadoRepository associadoRepository;
     
@@ -196,6 +202,38 @@ public class AsssociadoServiceTest {
         verifyNoMoreInteractions(associadoRepository, associadoMapper);
     }
     
+    @Test
+    @DisplayName("Deve limitar o tamanho da página ao máximo permitido")
+    void listarTodosLimitandoTamanho() {
+
+        Pageable pageable = PageRequest.of(0, Paginacao.LIMITE_MAXIMO, Sort.by("nome"));
+        when(associadoRepository.findAll(pageable)).thenReturn(Page.empty(pageable));
+
+        associadoService.listarTodos(0, 1_000_000, null);
+
+        verify(associadoRepository).findAll(pageable);
+    }
+
+    @Test
+    @DisplayName("Deve listar associados a partir do cursor, sem contar o total")
+    void listarPorCursor() {
+
+        String cursor = Paginacao.Cursor.de("nome", "João da Silva", 1L).codificar();
+        List<AssociadoListarResponse> associados = List.of(
+                new AssociadoListarResponse(3L, "Maria", "maria@exemplo.com"),
+                new AssociadoListarResponse(2L, "Pedro", "pedro@exemplo.com"));
+        when(associadoRepository.listarAposNome("João da Silva", 1L, Limit.of(2))).thenReturn(associados);
+
+        PaginaCursor<AssociadoListarResponse> resultado = associadoService.listarPorCursor(cursor, 1, null);
+
+        assertEquals(1, resultado.getConteudo().size());
+        assertEquals("Maria", resultado.getConteudo().get(0).getNome());
+        Paginacao.Cursor proximo = Paginacao.decodificar(resultado.getProximo(), "nome");
+        assertEquals("Maria", proximo.valor());
+        assertEquals(3L, proximo.id());
+        verify(associadoRepository, never()).count();
+    }
+
     @Test
     @DisplayName("Deve atualizar um associado com sucesso")
     void atualizarAssociadoSucesso() {
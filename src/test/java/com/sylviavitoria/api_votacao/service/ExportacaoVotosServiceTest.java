@@ -0,0 +1,103 @@
+package com.sylviavitoria.api_votacao.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sylviavitoria.api_votacao.dto.VotoExportacaoDTO;
+import com.sylviavitoria.api_votacao.enums.FormatoExportacao;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
+import com.sylviavitoria.api_votacao.repository.PautaRepository;
+import com.sylviavitoria.api_votacao.repository.VotoJdbcRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ExportacaoVotosServiceTest {
+
+    @Mock
+    private PautaRepository pautaRepository;
+
+    @Mock
+    private VotoJdbcRepository votoJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExportacaoVotosService exportacao;
+
+    @BeforeEach
+    void setUp() {
+        exportacao = new ExportacaoVotosService(pautaRepository, votoJdbcRepository, new ObjectMapper(),
+                transactionManager);
+    }
+
+    @Test
+    @DisplayName("Deve exportar os votos em CSV escapando os nomes")
+    void exportarCsv() throws Exception {
+        when(pautaRepository.existsById(1L)).thenReturn(true);
+        simularVotos();
+
+        String csv = escrever(FormatoExportacao.CSV);
+
+        assertEquals("id,associado_id,associado_nome,opcao,data_hora\n"
+                + "1,10,\"Silva, Maria\",SIM,2025-05-20T10:01:00\n"
+                + "2,11,\"João \"\"Jota\"\"\",NAO,2025-05-20T10:02:30\n", csv);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve exportar um voto por linha em NDJSON")
+    void exportarNdjson() throws Exception {
+        when(pautaRepository.existsById(1L)).thenReturn(true);
+        simularVotos();
+
+        String ndjson = escrever(FormatoExportacao.NDJSON);
+
+        assertEquals("{\"id\":1,\"associadoId\":10,\"associadoNome\":\"Silva, Maria\",\"opcao\":\"SIM\","
+                + "\"dataHora\":\"2025-05-20T10:01:00\"}\n"
+                + "{\"id\":2,\"associadoId\":11,\"associadoNome\":\"João \\\"Jota\\\"\",\"opcao\":\"NAO\","
+                + "\"dataHora\":\"2025-05-20T10:02:30\"}\n", ndjson);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção antes de iniciar a exportação quando a pauta não existe")
+    void exportarPautaInexistente() {
+        when(pautaRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> exportacao.exportar(99L, FormatoExportacao.CSV));
+
+        verifyNoInteractions(votoJdbcRepository, transactionManager);
+    }
+
+    private void simularVotos() {
+        doAnswer(invocation -> {
+            Consumer<VotoExportacaoDTO> consumidor = invocation.getArgument(1);
+            consumidor.accept(new VotoExportacaoDTO(1L, 10L, "Silva, Maria", OpcaoVoto.SIM,
+                    LocalDateTime.of(2025, 5, 20, 10, 1)));
+            consumidor.accept(new VotoExportacaoDTO(2L, 11L, "João \"Jota\"", OpcaoVoto.NAO,
+                    LocalDateTime.of(2025, 5, 20, 10, 2, 30)));
+            return null;
+        }).when(votoJdbcRepository).exportar(eq(1L), any());
+    }
+
+    private String escrever(FormatoExportacao formato) throws Exception {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        exportacao.exportar(1L, formato).writeTo(saida);
+        return saida.toString(StandardCharsets.UTF_8);
+    }
+}
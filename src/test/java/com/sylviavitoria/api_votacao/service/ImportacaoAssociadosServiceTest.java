@@ -0,0 +1,173 @@
+package com.sylviavitoria.api_votacao.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sylviavitoria.api_votacao.dto.AssociadoRequest;
+import com.sylviavitoria.api_votacao.dto.ImportacaoAssociadosResponse;
+import com.sylviavitoria.api_votacao.exception.ParametroInvalidoException;
+import com.sylviavitoria.api_votacao.repository.AssociadoJdbcRepository;
+
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+class ImportacaoAssociadosServiceTest {
+
+    @Mock
+    private AssociadoJdbcRepository associadoJdbcRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ImportacaoAssociadosService importacao;
+
+    private final List<String> cpfsGravados = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        importacao = new ImportacaoAssociadosService(associadoJdbcRepository, transactionTemplate,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Deve importar CSV com cabeçalho ignorando CPFs repetidos e registros inválidos")
+    void importarCsv() throws Exception {
+        simularGravacao(1);
+        String csv = "\uFEFFcpf,nome,email\n"
+                + "12345678901,\"Silva, Maria\",maria@exemplo.com\n"
+                + "123,João,joao@exemplo.com\n"
+                + "12345678901,Maria de novo,maria2@exemplo.com\n"
+                + "98765432100,Ana,ana@exemplo.com\n";
+
+        ImportacaoAssociadosResponse resumo = importacao.importarCsv(corpo(csv));
+
+        assertEquals(4, resumo.getTotalLidos());
+        assertEquals(1, resumo.getTotalInseridos());
+        // Um CPF repetido no arquivo e um já cadastrado.
+        assertEquals(2, resumo.getTotalDuplicados());
+        assertEquals(1, resumo.getTotalInvalidos());
+        assertEquals(List.of("12345678901", "98765432100"), cpfsGravados);
+        assertEquals(3, resumo.getErros().get(0).getLinha());
+        assertEquals("CPF deve conter 11 dígitos numéricos", resumo.getErros().get(0).getErro());
+        assertEquals("CPF repetido no arquivo", resumo.getErros().get(1).getErro());
+    }
+
+    @Test
+    @DisplayName("Deve gravar a importação em blocos")
+    void importarEmBlocos() throws Exception {
+        simularGravacao(Integer.MAX_VALUE);
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 12_000; i++) {
+            csv.append("Associado ").append(i).append(',').append(10_000_000_000L + i).append(",a").append(i)
+                    .append("@exemplo.com\n");
+        }
+
+        ImportacaoAssociadosResponse resumo = importacao.importarCsv(corpo(csv.toString()));
+
+        assertEquals(12_000, resumo.getTotalInseridos());
+        verify(associadoJdbcRepository, times(3)).inserirNovos(anyList());
+    }
+
+    @Test
+    @DisplayName("Deve gravar individualmente quando o bloco falha e separar CPFs já cadastrados de registros recusados")
+    @SuppressWarnings("unchecked")
+    void gravarIndividualmenteAposFalhaDoBloco() throws Exception {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Integer>) invocation.getArgument(0))
+                        .doInTransaction(null));
+        when(associadoJdbcRepository.inserirNovos(anyList()))
+                .thenThrow(new DataIntegrityViolationException("uk_associado_cpf"));
+        when(associadoJdbcRepository.inserirSeNovo(argThat(associado -> associado != null
+                && associado.getCpf().equals("11111111111")))).thenReturn(true);
+        when(associadoJdbcRepository.inserirSeNovo(argThat(associado -> associado != null
+                && associado.getCpf().equals("22222222222")))).thenReturn(false);
+        when(associadoJdbcRepository.inserirSeNovo(argThat(associado -> associado != null
+                && associado.getCpf().equals("33333333333"))))
+                .thenThrow(new DuplicateKeyException("Unique index or primary key violation: \"UK_ASSOCIADO_CPF\""));
+        when(associadoJdbcRepository.inserirSeNovo(argThat(associado -> associado != null
+                && associado.getCpf().equals("44444444444"))))
+                .thenThrow(new DataIntegrityViolationException("value too long for column \"NOME\""));
+        String csv = "Ana,11111111111,ana@exemplo.com\n"
+                + "Bia,22222222222,bia@exemplo.com\n"
+                + "Cris,33333333333,cris@exemplo.com\n"
+                + "Davi,44444444444,davi@exemplo.com\n";
+
+        ImportacaoAssociadosResponse resumo = importacao.importarCsv(corpo(csv));
+
+        assertEquals(1, resumo.getTotalInseridos());
+        assertEquals(2, resumo.getTotalDuplicados());
+        assertEquals(1, resumo.getTotalInvalidos());
+        assertEquals(4, resumo.getErros().get(0).getLinha());
+        assertEquals("44444444444", resumo.getErros().get(0).getCpf());
+        assertEquals("Registro recusado pelo banco de dados", resumo.getErros().get(0).getErro());
+        verify(associadoJdbcRepository, times(4)).inserirSeNovo(any());
+    }
+
+    @Test
+    @DisplayName("Deve importar NDJSON e contar linhas com JSON inválido")
+    void importarNdjson() throws Exception {
+        simularGravacao(Integer.MAX_VALUE);
+        String ndjson = "{\"nome\":\"Ana\",\"cpf\":\"12345678901\",\"email\":\"ana@exemplo.com\"}\n"
+                + "{\"nome\":\"Bia\",\n"
+                + "\n"
+                + "{\"nome\":\"Cris\",\"cpf\":\"98765432100\",\"email\":\"invalido\"}\n";
+
+        ImportacaoAssociadosResponse resumo = importacao.importarNdjson(corpo(ndjson));
+
+        assertEquals(3, resumo.getTotalLidos());
+        assertEquals(1, resumo.getTotalInseridos());
+        assertEquals(2, resumo.getTotalInvalidos());
+        assertEquals(2, resumo.getErros().get(0).getLinha());
+        assertEquals("JSON inválido", resumo.getErros().get(0).getErro());
+        assertEquals("Email inválido", resumo.getErros().get(1).getErro());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CSV com cabeçalho sem as colunas obrigatórias")
+    void cabecalhoIncompleto() {
+        assertThrows(ParametroInvalidoException.class,
+                () -> importacao.importarCsv(corpo("nome,cpf\nAna,12345678901\n")));
+
+        verifyNoInteractions(associadoJdbcRepository, transactionTemplate);
+    }
+
+    /**
+     * Grava os CPFs recebidos e considera já cadastrados os que passarem de {@code limite} por bloco.
+     */
+    @SuppressWarnings("unchecked")
+    private void simularGravacao(int limite) {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Integer>) invocation.getArgument(0))
+                        .doInTransaction(null));
+        when(associadoJdbcRepository.inserirNovos(anyList())).thenAnswer(invocation -> {
+            List<AssociadoRequest> bloco = invocation.getArgument(0);
+            bloco.forEach(associado -> cpfsGravados.add(associado.getCpf()));
+            return Math.min(limite, bloco.size());
+        });
+    }
+
+    private static InputStream corpo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,165 @@
+package com.sylviavitoria.api_votacao.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sylviavitoria.api_votacao.cache.ContagemVotosCache;
+import com.sylviavitoria.api_votacao.cache.RegistroSessoes;
+import com.sylviavitoria.api_votacao.dto.PlacarPautaDTO;
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
+import com.sylviavitoria.api_votacao.enums.StatusSessao;
+import com.sylviavitoria.api_votacao.model.Pauta;
+import com.sylviavitoria.api_votacao.model.Resultado;
+import com.sylviavitoria.api_votacao.repository.ResultadoRepository;
+import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class PainelAssembleiaServiceTest {
+
+    @Mock
+    private SessaoVotacaoRepository sessaoVotacaoRepository;
+
+    @Mock
+    private ResultadoRepository resultadoRepository;
+
+    @Mock
+    private RegistroSessoes registroSessoes;
+
+    @Mock
+    private ContagemVotosCache contagemVotosCache;
+
+    @Mock
+    private SimpMessageSendingOperations mensagens;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PainelAssembleiaService painel;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        painel = new PainelAssembleiaService(sessaoVotacaoRepository, resultadoRepository, registroSessoes,
+                contagemVotosCache, mensagens, new ObjectMapper().findAndRegisterModules(), meterRegistry, 1);
+    }
+
+    @Test
+    @DisplayName("Deve agrupar os placares alterados do ciclo em uma única mensagem do painel")
+    void agruparPlacaresPorCiclo() {
+        long agora = System.currentTimeMillis();
+        when(registroSessoes.janela(anyLong())).thenReturn(new RegistroSessoes.Janela(agora - 60_000, agora + 60_000));
+        when(contagemVotosCache.obter(1L)).thenReturn(new VotacaoResumoDTO(3L, 1L));
+        when(contagemVotosCache.obter(2L)).thenReturn(new VotacaoResumoDTO(0L, 2L), new VotacaoResumoDTO(0L, 2L),
+                new VotacaoResumoDTO(1L, 2L));
+        painel.acompanhar(1L);
+        painel.acompanhar(2L);
+
+        painel.transmitir();
+        painel.transmitir();
+        painel.transmitir();
+
+        List<String> mensagensPainel = enviadas(PainelAssembleiaService.DESTINO_PAINEL);
+        assertEquals(2, mensagensPainel.size());
+        assertTrue(mensagensPainel.get(0).contains("\"sim\":3"));
+        assertTrue(mensagensPainel.get(0).contains("\"status\":\"ABERTA\""));
+        assertEquals("{\"placares\":[{\"pautaId\":2,\"sim\":1,\"nao\":2,\"status\":\"ABERTA\"}],\"sessoes\":[]}",
+                mensagensPainel.get(1));
+        assertEquals(1, enviadas(PainelAssembleiaService.DESTINO_PAUTA + 1).size());
+        assertEquals(2, enviadas(PainelAssembleiaService.DESTINO_PAUTA + 2).size());
+        // 2 eventos de abertura + 3 placares alterados, independentemente do número de assinantes.
+        assertEquals(5, meterRegistry.counter("votacao.painel.serializacoes").count());
+    }
+
+    @Test
+    @DisplayName("Deve publicar o encerramento com o placar final quando a sessão é finalizada")
+    void encerrarSessao() {
+        long agora = System.currentTimeMillis();
+        when(registroSessoes.janela(1L)).thenReturn(new RegistroSessoes.Janela(agora - 60_000, agora - 1_000));
+        when(contagemVotosCache.obter(1L)).thenReturn(new VotacaoResumoDTO(3L, 1L));
+        when(resultadoRepository.findAllById(List.of(1L))).thenReturn(List.of(resultado(1L, 4L, 1L)));
+        painel.acompanhar(1L);
+
+        painel.transmitir();
+        painel.encerrar(List.of(1L));
+        painel.transmitir();
+        painel.transmitir();
+
+        List<String> mensagensPainel = enviadas(PainelAssembleiaService.DESTINO_PAINEL);
+        assertEquals(2, mensagensPainel.size());
+        // Fechada, mas ainda não finalizada: o placar segue como ABERTA até a finalização.
+        assertTrue(mensagensPainel.get(0).contains("\"status\":\"ABERTA\""));
+        assertTrue(mensagensPainel.get(1).contains("{\"pautaId\":1,\"sim\":4,\"nao\":1,\"status\":\"FINALIZADA\"}"));
+        assertTrue(mensagensPainel.get(1).contains("\"sessoes\":[{\"pautaId\":1,\"status\":\"FINALIZADA\""));
+        assertTrue(painel.listarPlacares().isEmpty());
+        verify(registroSessoes, times(1)).janela(1L);
+    }
+
+    @Test
+    @DisplayName("Deve publicar o placar final quando a janela some do registro sem aviso de encerramento")
+    void encerrarSessaoSemJanela() {
+        long agora = System.currentTimeMillis();
+        when(registroSessoes.janela(1L)).thenReturn(new RegistroSessoes.Janela(agora - 60_000, agora + 60_000),
+                (RegistroSessoes.Janela) null);
+        when(contagemVotosCache.obter(1L)).thenReturn(new VotacaoResumoDTO(3L, 1L));
+        when(resultadoRepository.findAllById(List.of(1L))).thenReturn(List.of(resultado(1L, 3L, 2L)));
+        painel.acompanhar(1L);
+
+        painel.transmitir();
+        painel.transmitir();
+        painel.transmitir();
+
+        List<String> mensagensPainel = enviadas(PainelAssembleiaService.DESTINO_PAINEL);
+        assertEquals(2, mensagensPainel.size());
+        assertTrue(mensagensPainel.get(1).contains("{\"pautaId\":1,\"sim\":3,\"nao\":2,\"status\":\"FINALIZADA\"}"));
+        assertEquals(2, enviadas(PainelAssembleiaService.DESTINO_PAUTA + 1).size());
+        verify(resultadoRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Deve listar o placar atual das sessões acompanhadas")
+    void listarPlacares() {
+        long agora = System.currentTimeMillis();
+        when(registroSessoes.janela(1L)).thenReturn(new RegistroSessoes.Janela(agora + 60_000, agora + 120_000));
+        when(contagemVotosCache.obter(1L)).thenReturn(new VotacaoResumoDTO(0L, 0L));
+        painel.acompanhar(1L);
+
+        List<PlacarPautaDTO> placares = painel.listarPlacares();
+
+        assertEquals(1, placares.size());
+        assertEquals(StatusSessao.FECHADA, placares.get(0).getStatus());
+        verifyNoInteractions(mensagens);
+    }
+
+    private static Resultado resultado(Long pautaId, long sim, long nao) {
+        Resultado resultado = Resultado.de(new Pauta(), sim, nao, LocalDateTime.now());
+        resultado.setPautaId(pautaId);
+        return resultado;
+    }
+
+    private List<String> enviadas(String destino) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(mensagens, atLeast(0)).send(eq(destino), captor.capture());
+        return captor.getAllValues().stream()
+                .map(mensagem -> new String(mensagem.getPayload(), StandardCharsets.UTF_8))
+                .toList();
+    }
+}
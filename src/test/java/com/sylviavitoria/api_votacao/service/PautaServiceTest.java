@@ -1,22 +1,23 @@
 package com.sylviavitoria.api_votacao.service;
 
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
+import com.sylviavitoria.api_votacao.cache.ContagemVotosCache;
+import com.sylviavitoria.api_votacao.cache.RegistroSessoes;
+import com.sylviavitoria.api_votacao.cache.VotantesCache;
 import com.sylviavitoria.api_votacao.dto.AssociadoDTO;
 import com.sylviavitoria.api_votacao.dto.PautaAtualizarRequest;
+import com.sylviavitoria.api_votacao.dto.PautaListagemDTO;
 import com.sylviavitoria.api_votacao.dto.PautaRequest;
 import com.sylviavitoria.api_votacao.dto.PautaResponse;
-import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
 import com.sylviavitoria.api_votacao.enums.StatusPauta;
-import com.sylviavitoria.api_votacao.enums.StatusSessao;
 import com.sylviavitoria.api_votacao.exception.BusinessException;
 import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
 import com.sylviavitoria.api_votacao.mapper.PautaMapper;
 import com.sylviavitoria.api_votacao.model.Associado;
 import com.sylviavitoria.api_votacao.model.Pauta;
-import com.sylviavitoria.api_votacao.model.SessaoVotacao;
 import com.sylviavitoria.api_votacao.repository.AssociadoRepository;
 import com.sylviavitoria.api_votacao.repository.PautaRepository;
-import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
-import com.sylviavitoria.api_votacao.repository.VotoRepository;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,16 +29,23 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class PautaServiceTest {
 
+    @Mock
+    private VersoesPautas versoesPautas;
+
     @Mock
     private PautaRepository pautaRepository;
 
@@ -48,10 +56,13 @@ public class PautaServiceTest {
     private PautaMapper pautaMapper;
 
     @Mock
-    private SessaoVotacaoRepository sessaoVotacaoRepository;
+    private ContagemVotosCache contagemVotosCache;
+
+    @Mock
+    private RegistroSessoes registroSessoes;
 
     @Mock
-    private VotoRepository votoRepository;
+    private VotantesCache votantesCache;
 
     @InjectMocks
     private PautaService pautaService;
@@ -145,9 +156,11 @@ public class PautaServiceTest {
     @DisplayName("Deve buscar pauta por ID com sucesso")
     void buscarPorIdSucesso() {
         Long id = 1L;
-        when(pautaRepository.findById(id)).thenReturn(Optional.of(pauta));
-        when(pautaMapper.toResponse(pauta)).thenReturn(pautaResponse);
-        when(sessaoVotacaoRepository.findByPautaId(id)).thenReturn(Optional.empty()); 
+        PautaListagemDTO listagem = listagem(pauta);
+        VotacaoResumoDTO resumo = new VotacaoResumoDTO(0L, 0L);
+        when(pautaRepository.buscarListagem(id)).thenReturn(Optional.of(listagem));
+        when(contagemVotosCache.obter(id)).thenReturn(resumo);
+        when(pautaMapper.toResponse(listagem, resumo)).thenReturn(pautaResponse);
 
         PautaResponse resultado = pautaService.buscarPorId(id);
 
@@ -157,25 +170,24 @@ public class PautaServiceTest {
         assertEquals(pauta.getDescricao(), resultado.getDescricao());
         assertEquals(pauta.getStatus(), resultado.getStatus());
 
-        verify(pautaRepository).findById(id);
-        verify(sessaoVotacaoRepository).findByPautaId(id); 
-        verify(pautaMapper).toResponse(pauta);
-        verifyNoMoreInteractions(pautaRepository, pautaMapper, sessaoVotacaoRepository);
-        verifyNoInteractions(associadoRepository, votoRepository);
+        verify(pautaRepository).buscarListagem(id);
+        verify(pautaMapper).toResponse(listagem, resumo);
+        verifyNoMoreInteractions(pautaRepository, pautaMapper);
+        verifyNoInteractions(associadoRepository);
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao buscar pauta com ID inexistente")
     void buscarPorIdInexistente() {
         Long id = 99L;
-        when(pautaRepository.findById(id)).thenReturn(Optional.empty());
+        when(pautaRepository.buscarListagem(id)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
             pautaService.buscarPorId(id);
         });
 
         assertEquals("Pauta não encontrada com ID: " + id, exception.getMessage());
-        verify(pautaRepository).findById(id);
+        verify(pautaRepository).buscarListagem(id);
         verifyNoMoreInteractions(pautaRepository);
         verifyNoInteractions(pautaMapper, associadoRepository);
     }
@@ -188,11 +200,13 @@ public class PautaServiceTest {
         String sort = "titulo";
         Pageable pageable = PageRequest.of(page, size, Sort.by(sort));
 
-        List<Pauta> pautas = Arrays.asList(pauta);
-        Page<Pauta> pagePautas = new PageImpl<>(pautas, pageable, pautas.size());
+        PautaListagemDTO listagem = listagem(pauta);
+        VotacaoResumoDTO resumo = new VotacaoResumoDTO(0L, 0L);
+        Page<PautaListagemDTO> pagePautas = new PageImpl<>(List.of(listagem), pageable, 1);
 
-        when(pautaRepository.findAll(pageable)).thenReturn(pagePautas);
-        when(pautaMapper.toResponse(pauta)).thenReturn(pautaResponse);
+        when(pautaRepository.listar(pageable)).thenReturn(pagePautas);
+        when(contagemVotosCache.obterTodos(List.of(pauta.getId()))).thenReturn(Map.of(pauta.getId(), resumo));
+        when(pautaMapper.toResponse(listagem, resumo)).thenReturn(pautaResponse);
 
         Page<PautaResponse> resultado = pautaService.listarTodos(page, size, sort);
 
@@ -200,8 +214,8 @@ public class PautaServiceTest {
         assertEquals(1, resultado.getTotalElements());
         assertEquals(1, resultado.getContent().size());
 
-        verify(pautaRepository).findAll(pageable);
-        verify(pautaMapper).toResponse(pauta);
+        verify(pautaRepository).listar(pageable);
+        verify(pautaMapper).toResponse(listagem, resumo);
         verifyNoMoreInteractions(pautaRepository, pautaMapper);
         verifyNoInteractions(associadoRepository);
     }
@@ -214,11 +228,13 @@ public class PautaServiceTest {
         String sort = null;
         Pageable pageable = PageRequest.of(page, size, Sort.by("titulo"));
 
-        List<Pauta> pautas = Arrays.asList(pauta);
-        Page<Pauta> pagePautas = new PageImpl<>(pautas, pageable, pautas.size());
+        PautaListagemDTO listagem = listagem(pauta);
+        VotacaoResumoDTO resumo = new VotacaoResumoDTO(0L, 0L);
+        Page<PautaListagemDTO> pagePautas = new PageImpl<>(List.of(listagem), pageable, 1);
 
-        when(pautaRepository.findAll(pageable)).thenReturn(pagePautas);
-        when(pautaMapper.toResponse(pauta)).thenReturn(pautaResponse);
+        when(pautaRepository.listar(pageable)).thenReturn(pagePautas);
+        when(contagemVotosCache.obterTodos(List.of(pauta.getId()))).thenReturn(Map.of(pauta.getId(), resumo));
+        when(pautaMapper.toResponse(listagem, resumo)).thenReturn(pautaResponse);
 
         Page<PautaResponse> resultado = pautaService.listarTodos(page, size, sort);
 
@@ -226,8 +242,8 @@ public class PautaServiceTest {
         assertEquals(1, resultado.getTotalElements());
         assertEquals(1, resultado.getContent().size());
 
-        verify(pautaRepository).findAll(pageable);
-        verify(pautaMapper).toResponse(pauta);
+        verify(pautaRepository).listar(pageable);
+        verify(pautaMapper).toResponse(listagem, resumo);
         verifyNoMoreInteractions(pautaRepository, pautaMapper);
         verifyNoInteractions(associadoRepository);
     }
@@ -316,6 +332,10 @@ public class PautaServiceTest {
 
         verify(pautaRepository).findById(id);
         verify(pautaRepository).delete(pauta);
+        verify(registroSessoes).remover(id);
+        verify(contagemVotosCache).remover(id);
+        verify(votantesCache).remover(id);
+        verify(versoesPautas).remover(id);
         verifyNoMoreInteractions(pautaRepository);
         verifyNoInteractions(pautaMapper, associadoRepository);
     }
@@ -355,120 +375,61 @@ public class PautaServiceTest {
     }
 
     @Test
-    @DisplayName("Deve atualizar status da pauta para APROVADA quando tiver mais votos SIM")
-    void verificarEAtualizarStatusPautaAprovada() {
-
-        LocalDateTime agora = LocalDateTime.now();
-        SessaoVotacao sessao = new SessaoVotacao();
-        sessao.setStatus(StatusSessao.ABERTA);
-        sessao.setDataFechamento(agora.minusMinutes(1));
-        sessao.setPauta(pauta);
-
-        when(sessaoVotacaoRepository.findByPautaId(pauta.getId())).thenReturn(Optional.of(sessao));
-        when(votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM)).thenReturn(3L);
-        when(votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO)).thenReturn(1L);
-
-        pautaService.verificarEAtualizarStatusPauta(pauta);
-
-        assertEquals(StatusPauta.APROVADA, pauta.getStatus());
-        assertEquals(StatusSessao.FINALIZADA, sessao.getStatus());
-
-        verify(sessaoVotacaoRepository).findByPautaId(pauta.getId());
-        verify(votoRepository).countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM);
-        verify(votoRepository).countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO);
-        verify(pautaRepository).save(pauta);
-        verify(sessaoVotacaoRepository).save(sessao);
-        verifyNoMoreInteractions(pautaRepository, sessaoVotacaoRepository, votoRepository);
-    }
-
-    @Test
-    @DisplayName("Deve atualizar status da pauta para RECUSADA quando tiver mais votos NÃO")
-    void verificarEAtualizarStatusPautaRecusada() {
-
-        LocalDateTime agora = LocalDateTime.now();
-        SessaoVotacao sessao = new SessaoVotacao();
-        sessao.setStatus(StatusSessao.ABERTA);
-        sessao.setDataFechamento(agora.minusMinutes(1));
-        sessao.setPauta(pauta);
-
-        when(sessaoVotacaoRepository.findByPautaId(pauta.getId())).thenReturn(Optional.of(sessao));
-        when(votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM)).thenReturn(1L);
-        when(votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO)).thenReturn(3L);
-
-        pautaService.verificarEAtualizarStatusPauta(pauta);
-
-        assertEquals(StatusPauta.RECUSADA, pauta.getStatus());
-        assertEquals(StatusSessao.FINALIZADA, sessao.getStatus());
-
-        verify(sessaoVotacaoRepository).findByPautaId(pauta.getId());
-        verify(votoRepository).countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM);
-        verify(votoRepository).countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO);
-        verify(pautaRepository).save(pauta);
-        verify(sessaoVotacaoRepository).save(sessao);
-        verifyNoMoreInteractions(pautaRepository, sessaoVotacaoRepository, votoRepository);
+    @DisplayName("Deve montar a página com uma consulta de pautas e uma carga de totais em lote")
+    void listarTodosSemConsultasPorPauta() {
+        Pauta outra = new Pauta();
+        outra.setId(2L);
+        outra.setCriador(associado);
+        outra.setStatus(StatusPauta.EM_VOTACAO);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("titulo"));
+        VotacaoResumoDTO resumoOutra = new VotacaoResumoDTO(3L, 1L);
+
+        when(pautaRepository.listar(pageable))
+                .thenReturn(new PageImpl<>(List.of(listagem(pauta), listagem(outra)), pageable, 2));
+        when(contagemVotosCache.obterTodos(List.of(1L, 2L)))
+                .thenReturn(Map.of(1L, new VotacaoResumoDTO(0L, 0L), 2L, resumoOutra));
+        when(pautaMapper.toResponse(any(PautaListagemDTO.class), any(VotacaoResumoDTO.class)))
+                .thenReturn(pautaResponse);
+
+        pautaService.listarTodos(0, 10, null);
+
+        verify(pautaRepository, times(1)).listar(pageable);
+        verify(contagemVotosCache, times(1)).obterTodos(anyCollection());
+        verify(pautaMapper).toResponse(argThat(linha -> linha.getId() == 2L), eq(resumoOutra));
+        verifyNoMoreInteractions(pautaRepository, contagemVotosCache);
     }
 
     @Test
-    @DisplayName("Deve atualizar status da pauta para EMPATADA quando tiver mesma quantidade de votos")
-    void verificarEAtualizarStatusPautaEmpatada() {
-
-        LocalDateTime agora = LocalDateTime.now();
-        SessaoVotacao sessao = new SessaoVotacao();
-        sessao.setStatus(StatusSessao.ABERTA);
-        sessao.setDataFechamento(agora.minusMinutes(1));
-        sessao.setPauta(pauta);
-
-        when(sessaoVotacaoRepository.findByPautaId(pauta.getId())).thenReturn(Optional.of(sessao));
-        when(votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM)).thenReturn(2L);
-        when(votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO)).thenReturn(2L);
-
-        pautaService.verificarEAtualizarStatusPauta(pauta);
-
-        assertEquals(StatusPauta.EMPATADA, pauta.getStatus());
-        assertEquals(StatusSessao.FINALIZADA, sessao.getStatus());
-
-        verify(sessaoVotacaoRepository).findByPautaId(pauta.getId());
-        verify(votoRepository).countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM);
-        verify(votoRepository).countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO);
-        verify(pautaRepository).save(pauta);
-        verify(sessaoVotacaoRepository).save(sessao);
-        verifyNoMoreInteractions(pautaRepository, sessaoVotacaoRepository, votoRepository);
+    @DisplayName("Deve usar o resultado gravado das pautas finalizadas sem consultar os contadores")
+    void listarTodosComResultadoFinal() {
+        Pauta outra = new Pauta();
+        outra.setId(2L);
+        outra.setCriador(associado);
+        outra.setStatus(StatusPauta.EM_VOTACAO);
+        pauta.setStatus(StatusPauta.APROVADA);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("titulo"));
+
+        when(pautaRepository.listar(pageable))
+                .thenReturn(new PageImpl<>(List.of(listagem(pauta, 7L, 2L), listagem(outra)), pageable, 2));
+        when(contagemVotosCache.obterTodos(List.of(2L))).thenReturn(Map.of(2L, new VotacaoResumoDTO(1L, 0L)));
+        when(pautaMapper.toResponse(any(PautaListagemDTO.class), any(VotacaoResumoDTO.class)))
+                .thenReturn(pautaResponse);
+
+        pautaService.listarTodos(0, 10, null);
+
+        verify(contagemVotosCache).obterTodos(List.of(2L));
+        verify(pautaMapper).toResponse(argThat(linha -> linha.getId() == 1L),
+                argThat(resumo -> resumo.getTotalVotosSim() == 7L && resumo.getTotalVotosNao() == 2L));
+        verifyNoMoreInteractions(contagemVotosCache);
     }
 
-    @Test
-    @DisplayName("Não deve alterar status quando sessão não estiver finalizada")
-    void naoDeveAlterarStatusQuandoSessaoNaoFinalizada() {
-
-        LocalDateTime agora = LocalDateTime.now();
-        SessaoVotacao sessao = new SessaoVotacao();
-        sessao.setStatus(StatusSessao.ABERTA);
-        sessao.setDataFechamento(agora.plusMinutes(30));
-        sessao.setPauta(pauta);
-
-        when(sessaoVotacaoRepository.findByPautaId(pauta.getId())).thenReturn(Optional.of(sessao));
-
-        pautaService.verificarEAtualizarStatusPauta(pauta);
-
-        assertEquals(StatusPauta.CRIADA, pauta.getStatus());
-        assertEquals(StatusSessao.ABERTA, sessao.getStatus());
-
-        verify(sessaoVotacaoRepository).findByPautaId(pauta.getId());
-        verifyNoInteractions(votoRepository, pautaRepository);
-        verifyNoMoreInteractions(sessaoVotacaoRepository);
+    private static PautaListagemDTO listagem(Pauta pauta) {
+        return listagem(pauta, null, null);
     }
 
-    @Test
-    @DisplayName("Não deve alterar status quando não encontrar sessão")
-    void naoDeveAlterarStatusQuandoSessaoNaoEncontrada() {
-
-        when(sessaoVotacaoRepository.findByPautaId(pauta.getId())).thenReturn(Optional.empty());
-
-        pautaService.verificarEAtualizarStatusPauta(pauta);
-
-        assertEquals(StatusPauta.CRIADA, pauta.getStatus());
-
-        verify(sessaoVotacaoRepository).findByPautaId(pauta.getId());
-        verifyNoMoreInteractions(sessaoVotacaoRepository);
-        verifyNoInteractions(votoRepository, pautaRepository);
+    private static PautaListagemDTO listagem(Pauta pauta, Long resultadoSim, Long resultadoNao) {
+        return new PautaListagemDTO(pauta.getId(), pauta.getTitulo(), pauta.getDescricao(), pauta.getDataCriacao(),
+                pauta.getStatus(), pauta.getCriador().getId(), pauta.getCriador().getNome(), null, null, null,
+                resultadoSim, resultadoNao);
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,12 @@
 package com.sylviavitoria.api_votacao.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,23 +22,31 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import com.sylviavitoria.api_votacao.agendamento.AgendadorSessoes;
+import com.sylviavitoria.api_votacao.cache.RegistroSessoes;
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
+import com.sylviavitoria.api_votacao.cache.VotantesCache;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoAtualizarRequest;
+import com.sylviavitoria.api_votacao.dto.SessaoVotacaoListagemDTO;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoRequest;
 import com.sylviavitoria.api_votacao.dto.SessaoVotacaoResponse;
-import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
 import com.sylviavitoria.api_votacao.enums.StatusPauta;
 import com.sylviavitoria.api_votacao.enums.StatusSessao;
 import com.sylviavitoria.api_votacao.exception.BusinessException;
+import com.sylviavitoria.api_votacao.ingestao.ApuracaoVotos;
+import com.sylviavitoria.api_votacao.interfaces.IPainelAssembleia;
 import com.sylviavitoria.api_votacao.mapper.SessaoVotacaoMapper;
 import com.sylviavitoria.api_votacao.model.Pauta;
 import com.sylviavitoria.api_votacao.model.SessaoVotacao;
 import com.sylviavitoria.api_votacao.repository.PautaRepository;
 import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
-import com.sylviavitoria.api_votacao.repository.VotoRepository;
 
 @ExtendWith(MockitoExtension.class)
 public class SessaoVotacaoServiceTest {
 
+    @Mock
+    private VersoesPautas versoesPautas;
+
     @Mock
     private SessaoVotacaoRepository sessaoVotacaoRepository;
 
@@ -48,7 +57,19 @@ public class SessaoVotacaoServiceTest {
     private SessaoVotacaoMapper sessaoVotacaoMapper;
 
     @Mock
-    private VotoRepository votoRepository;
+    private ApuracaoVotos apuracaoVotos;
+
+    @Mock
+    private VotantesCache votantesCache;
+
+    @Mock
+    private RegistroSessoes registroSessoes;
+
+    @Mock
+    private AgendadorSessoes agendadorSessoes;
+
+    @Mock
+    private IPainelAssembleia painelAssembleia;
 
     @InjectMocks
     private SessaoVotacaoService sessaoVotacaoService;
@@ -112,8 +133,13 @@ public class SessaoVotacaoServiceTest {
         verify(sessaoVotacaoRepository).existsByPautaId(sessaoRequest.getPautaId());
         verify(sessaoVotacaoRepository).save(argThat(s -> s.getPauta().equals(pauta)));
         verify(sessaoVotacaoMapper).toResponse(sessao);
-        verifyNoMoreInteractions(pautaRepository, sessaoVotacaoRepository, sessaoVotacaoMapper);
-        verifyNoInteractions(votoRepository);
+        verify(apuracaoVotos).inicializar(pauta.getId());
+        verify(votantesCache).inicializar(pauta.getId());
+        verify(registroSessoes).registrar(sessao);
+        verify(agendadorSessoes).agendar(sessao);
+        verify(painelAssembleia).acompanhar(pauta.getId());
+        verifyNoMoreInteractions(pautaRepository, sessaoVotacaoRepository, sessaoVotacaoMapper, apuracaoVotos,
+                votantesCache, registroSessoes);
     }
 
     @Test
@@ -138,8 +164,12 @@ public class SessaoVotacaoServiceTest {
         verify(sessaoVotacaoRepository).existsByPautaId(sessaoRequest.getPautaId());
         verify(sessaoVotacaoRepository).save(argThat(s -> s.getStatus() == StatusSessao.ABERTA));
         verify(sessaoVotacaoMapper).toResponse(sessao);
-        verifyNoMoreInteractions(pautaRepository, sessaoVotacaoRepository, sessaoVotacaoMapper);
-        verifyNoInteractions(votoRepository);
+        verify(apuracaoVotos).inicializar(pauta.getId());
+        verify(votantesCache).inicializar(pauta.getId());
+        verify(registroSessoes).registrar(sessao);
+        verify(agendadorSessoes).agendar(sessao);
+        verifyNoMoreInteractions(pautaRepository, sessaoVotacaoRepository, sessaoVotacaoMapper, apuracaoVotos,
+                votantesCache, registroSessoes);
     }
 
     @Test
@@ -147,20 +177,19 @@ public class SessaoVotacaoServiceTest {
     void buscarPorIdSucesso() {
 
         Long id = 1L;
-        when(sessaoVotacaoRepository.findById(id)).thenReturn(Optional.of(sessao));
-        when(sessaoVotacaoMapper.toResponse(sessao)).thenReturn(sessaoResponse);
+        SessaoVotacaoListagemDTO listagem = listagem(sessao);
+        when(sessaoVotacaoRepository.buscarListagem(id)).thenReturn(Optional.of(listagem));
+        when(sessaoVotacaoMapper.toResponse(listagem)).thenReturn(sessaoResponse);
 
         SessaoVotacaoResponse resultado = sessaoVotacaoService.buscarPorId(id);
 
         assertNotNull(resultado);
         assertEquals(sessaoResponse, resultado);
 
-        verify(sessaoVotacaoRepository).findById(id);
-        verify(sessaoVotacaoRepository).save(sessao);
-        verify(sessaoVotacaoMapper).toResponse(sessao);
-        verify(pautaRepository).save(sessao.getPauta());
-        verifyNoMoreInteractions(sessaoVotacaoRepository, sessaoVotacaoMapper, pautaRepository);
-        verifyNoInteractions(votoRepository);
+        verify(sessaoVotacaoRepository).buscarListagem(id);
+        verify(sessaoVotacaoMapper).toResponse(listagem);
+        verifyNoMoreInteractions(sessaoVotacaoRepository, sessaoVotacaoMapper);
+        verifyNoInteractions(pautaRepository, apuracaoVotos);
     }
 
     @Test
@@ -184,8 +213,10 @@ public class SessaoVotacaoServiceTest {
         verify(sessaoVotacaoRepository).findById(id);
         verify(sessaoVotacaoRepository).save(argThat(s -> s.getDataFechamento().equals(novaDataFim)));
         verify(sessaoVotacaoMapper).toResponse(sessao);
-        verifyNoMoreInteractions(sessaoVotacaoRepository, sessaoVotacaoMapper);
-        verifyNoInteractions(pautaRepository, votoRepository);
+        verify(registroSessoes).registrar(sessao);
+        verify(agendadorSessoes).agendar(sessao);
+        verifyNoMoreInteractions(sessaoVotacaoRepository, sessaoVotacaoMapper, registroSessoes);
+        verifyNoInteractions(pautaRepository, apuracaoVotos);
     }
 
     @Test
@@ -197,10 +228,11 @@ public class SessaoVotacaoServiceTest {
         String sort = "dataAbertura";
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(sort));
-        Page<SessaoVotacao> pageSessoes = new PageImpl<>(Arrays.asList(sessao));
+        SessaoVotacaoListagemDTO listagem = listagem(sessao);
+        Page<SessaoVotacaoListagemDTO> pageSessoes = new PageImpl<>(List.of(listagem));
 
-        when(sessaoVotacaoRepository.findAll(pageable)).thenReturn(pageSessoes);
-        when(sessaoVotacaoMapper.toResponse(sessao)).thenReturn(sessaoResponse);
+        when(sessaoVotacaoRepository.listar(pageable)).thenReturn(pageSessoes);
+        when(sessaoVotacaoMapper.toResponse(listagem)).thenReturn(sessaoResponse);
 
         Page<SessaoVotacaoResponse> resultado = sessaoVotacaoService.listarTodos(page, size, sort);
 
@@ -208,139 +240,31 @@ public class SessaoVotacaoServiceTest {
         assertEquals(1, resultado.getTotalElements());
         assertEquals(sessaoResponse, resultado.getContent().get(0));
 
-        verify(sessaoVotacaoRepository).findAll(pageable);
-        verify(sessaoVotacaoRepository).save(sessao);
-        verify(sessaoVotacaoMapper).toResponse(sessao);
-        verify(pautaRepository).save(sessao.getPauta());
-        verifyNoMoreInteractions(sessaoVotacaoRepository, sessaoVotacaoMapper, pautaRepository);
-        verifyNoInteractions(votoRepository);
-    }
-
-    @Test
-    @DisplayName("Deve configurar status como FINALIZADA quando a sessão estiver após o fechamento")
-    void configurarStatusSessaoFinalizada() {
-
-        LocalDateTime agora = LocalDateTime.now();
-        sessao.setDataAbertura(agora.minusHours(2));
-        sessao.setDataFechamento(agora.minusHours(1));
-        sessao.setStatus(StatusSessao.ABERTA);
-        pauta.setStatus(StatusPauta.EM_VOTACAO);
-
-        when(votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM)).thenReturn(3L);
-        when(votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO)).thenReturn(1L);
-        when(sessaoVotacaoRepository.findById(1L)).thenReturn(Optional.of(sessao));
-        when(sessaoVotacaoMapper.toResponse(sessao)).thenReturn(sessaoResponse);
-
-        SessaoVotacaoResponse response = sessaoVotacaoService.buscarPorId(1L);
-
-        assertEquals(StatusSessao.FINALIZADA, sessao.getStatus());
-        assertEquals(StatusPauta.APROVADA, sessao.getPauta().getStatus());
-
-        verify(votoRepository).countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM);
-        verify(votoRepository).countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO);
-        verify(sessaoVotacaoRepository).save(sessao);
-        verify(pautaRepository).save(sessao.getPauta());
-        verifyNoMoreInteractions(votoRepository);
-    }
-
-    @Test
-    @DisplayName("Deve configurar status como RECUSADA quando tiver mais votos NÃO")
-    void configurarStatusSessaoRecusada() {
-
-        LocalDateTime agora = LocalDateTime.now();
-        sessao.setDataAbertura(agora.minusHours(2));
-        sessao.setDataFechamento(agora.minusHours(1));
-        sessao.setStatus(StatusSessao.ABERTA);
-        pauta.setStatus(StatusPauta.EM_VOTACAO);
-
-        when(votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM)).thenReturn(1L);
-        when(votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO)).thenReturn(3L);
-        when(sessaoVotacaoRepository.findById(1L)).thenReturn(Optional.of(sessao));
-        when(sessaoVotacaoMapper.toResponse(sessao)).thenReturn(sessaoResponse);
-
-        SessaoVotacaoResponse response = sessaoVotacaoService.buscarPorId(1L);
-
-        assertEquals(StatusSessao.FINALIZADA, sessao.getStatus());
-        assertEquals(StatusPauta.RECUSADA, sessao.getPauta().getStatus());
-
-        verify(votoRepository).countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM);
-        verify(votoRepository).countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO);
-        verify(sessaoVotacaoRepository).save(sessao);
-        verify(pautaRepository).save(sessao.getPauta());
-        verifyNoMoreInteractions(votoRepository);
+        verify(sessaoVotacaoRepository).listar(pageable);
+        verify(sessaoVotacaoMapper).toResponse(listagem);
+        verifyNoMoreInteractions(sessaoVotacaoRepository, sessaoVotacaoMapper);
+        verifyNoInteractions(pautaRepository, apuracaoVotos);
     }
 
     @Test
-    @DisplayName("Deve configurar status como EMPATADA quando tiver mesma quantidade de votos")
-    void configurarStatusSessaoEmpatada() {
+    @DisplayName("Não deve alterar nem salvar sessão expirada ao consultar")
+    void buscarPorIdSessaoExpiradaSemEfeitosColaterais() {
 
-        LocalDateTime agora = LocalDateTime.now();
         sessao.setDataAbertura(agora.minusHours(2));
         sessao.setDataFechamento(agora.minusHours(1));
         sessao.setStatus(StatusSessao.ABERTA);
         pauta.setStatus(StatusPauta.EM_VOTACAO);
 
-        when(votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM)).thenReturn(2L);
-        when(votoRepository.countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO)).thenReturn(2L);
-        when(sessaoVotacaoRepository.findById(1L)).thenReturn(Optional.of(sessao));
-        when(sessaoVotacaoMapper.toResponse(sessao)).thenReturn(sessaoResponse);
-
-        SessaoVotacaoResponse response = sessaoVotacaoService.buscarPorId(1L);
-
-        assertEquals(StatusSessao.FINALIZADA, sessao.getStatus());
-        assertEquals(StatusPauta.EMPATADA, sessao.getPauta().getStatus());
-
-        verify(votoRepository).countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.SIM);
-        verify(votoRepository).countByPautaIdAndOpcao(pauta.getId(), OpcaoVoto.NAO);
-        verify(sessaoVotacaoRepository).save(sessao);
-        verify(pautaRepository).save(sessao.getPauta());
-        verifyNoMoreInteractions(votoRepository);
-    }
+        SessaoVotacaoListagemDTO listagem = listagem(sessao);
+        when(sessaoVotacaoRepository.buscarListagem(1L)).thenReturn(Optional.of(listagem));
+        when(sessaoVotacaoMapper.toResponse(listagem)).thenReturn(sessaoResponse);
 
-    @Test
-    @DisplayName("Deve configurar status como ABERTA quando estiver no período de votação")
-    void configurarStatusSessaoAberta() {
-
-        LocalDateTime agora = LocalDateTime.now();
-        sessao.setDataAbertura(agora.minusMinutes(30));
-        sessao.setDataFechamento(agora.plusMinutes(30));
-        sessao.setStatus(StatusSessao.FECHADA);
-        pauta.setStatus(StatusPauta.CRIADA);
-
-        when(sessaoVotacaoRepository.findById(1L)).thenReturn(Optional.of(sessao));
-        when(sessaoVotacaoMapper.toResponse(sessao)).thenReturn(sessaoResponse);
-
-        SessaoVotacaoResponse response = sessaoVotacaoService.buscarPorId(1L);
+        sessaoVotacaoService.buscarPorId(1L);
 
         assertEquals(StatusSessao.ABERTA, sessao.getStatus());
-        assertEquals(StatusPauta.EM_VOTACAO, sessao.getPauta().getStatus());
-
-        verify(sessaoVotacaoRepository).save(sessao);
-        verify(pautaRepository).save(sessao.getPauta());
-        verifyNoInteractions(votoRepository);
-    }
-
-    @Test
-    @DisplayName("Deve manter status como FECHADA quando ainda não iniciou")
-    void configurarStatusSessaoFechada() {
-
-        LocalDateTime agora = LocalDateTime.now();
-        sessao.setDataAbertura(agora.plusMinutes(30));
-        sessao.setDataFechamento(agora.plusMinutes(60));
-        sessao.setStatus(StatusSessao.FECHADA);
-        pauta.setStatus(StatusPauta.CRIADA);
-
-        when(sessaoVotacaoRepository.findById(1L)).thenReturn(Optional.of(sessao));
-        when(sessaoVotacaoMapper.toResponse(sessao)).thenReturn(sessaoResponse);
-
-        SessaoVotacaoResponse response = sessaoVotacaoService.buscarPorId(1L);
-
-        assertEquals(StatusSessao.FECHADA, sessao.getStatus());
-        assertEquals(StatusPauta.CRIADA, sessao.getPauta().getStatus());
-
-        verify(sessaoVotacaoRepository).save(sessao);
-        verify(pautaRepository).save(sessao.getPauta());
-        verifyNoInteractions(votoRepository);
+        assertEquals(StatusPauta.EM_VOTACAO, pauta.getStatus());
+        verify(sessaoVotacaoRepository, never()).save(any());
+        verifyNoInteractions(pautaRepository, apuracaoVotos);
     }
 
     @Test
@@ -365,7 +289,7 @@ public class SessaoVotacaoServiceTest {
         verify(pautaRepository).findById(sessaoRequest.getPautaId());
         verify(sessaoVotacaoRepository).existsByPautaId(sessaoRequest.getPautaId());
         verifyNoMoreInteractions(pautaRepository, sessaoVotacaoRepository);
-        verifyNoInteractions(sessaoVotacaoMapper, votoRepository);
+        verifyNoInteractions(sessaoVotacaoMapper, apuracaoVotos);
     }
 
     @Test
@@ -390,7 +314,7 @@ public class SessaoVotacaoServiceTest {
         verify(pautaRepository).findById(sessaoRequest.getPautaId());
         verify(sessaoVotacaoRepository).existsByPautaId(sessaoRequest.getPautaId());
         verifyNoMoreInteractions(pautaRepository, sessaoVotacaoRepository);
-        verifyNoInteractions(sessaoVotacaoMapper, votoRepository);
+        verifyNoInteractions(sessaoVotacaoMapper, apuracaoVotos);
     }
 
     @Test
@@ -415,7 +339,7 @@ public class SessaoVotacaoServiceTest {
         verify(pautaRepository).findById(sessaoRequest.getPautaId());
         verify(sessaoVotacaoRepository).existsByPautaId(sessaoRequest.getPautaId());
         verifyNoMoreInteractions(pautaRepository, sessaoVotacaoRepository);
-        verifyNoInteractions(sessaoVotacaoMapper, votoRepository);
+        verifyNoInteractions(sessaoVotacaoMapper, apuracaoVotos);
     }
 
     @Test
@@ -440,7 +364,7 @@ public class SessaoVotacaoServiceTest {
         verify(pautaRepository).findById(sessaoRequest.getPautaId());
         verify(sessaoVotacaoRepository).existsByPautaId(sessaoRequest.getPautaId());
         verifyNoMoreInteractions(pautaRepository, sessaoVotacaoRepository);
-        verifyNoInteractions(sessaoVotacaoMapper, votoRepository);
+        verifyNoInteractions(sessaoVotacaoMapper, apuracaoVotos);
     }
 
     @Test
@@ -466,6 +390,11 @@ public class SessaoVotacaoServiceTest {
         verify(pautaRepository).findById(sessaoRequest.getPautaId());
         verify(sessaoVotacaoRepository).existsByPautaId(sessaoRequest.getPautaId());
         verifyNoMoreInteractions(pautaRepository, sessaoVotacaoRepository);
-        verifyNoInteractions(sessaoVotacaoMapper, votoRepository);
+        verifyNoInteractions(sessaoVotacaoMapper, apuracaoVotos);
+    }
+
+    private static SessaoVotacaoListagemDTO listagem(SessaoVotacao sessao) {
+        return new SessaoVotacaoListagemDTO(sessao.getId(), sessao.getPauta().getId(), sessao.getPauta().getTitulo(),
+                sessao.getDataAbertura(), sessao.getDataFechamento(), sessao.getStatus());
     }
-}
\ No newline at end of file
+}
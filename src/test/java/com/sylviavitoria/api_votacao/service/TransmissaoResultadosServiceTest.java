@@ -0,0 +1,99 @@
+package com.sylviavitoria.api_votacao.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sylviavitoria.api_votacao.cache.VersoesPautas;
+import com.sylviavitoria.api_votacao.dto.ResultadoVotacaoResponse;
+import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
+import com.sylviavitoria.api_votacao.interfaces.IVoto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TransmissaoResultadosServiceTest {
+
+    @Mock
+    private IVoto voto;
+
+    @Mock
+    private VersoesPautas versoesPautas;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransmissaoResultadosService transmissao;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transmissao = new TransmissaoResultadosService(voto, versoesPautas, new ObjectMapper(), meterRegistry,
+                2, 60_000, 20);
+        lenient().when(voto.consultarResultado(1L)).thenReturn(ResultadoVotacaoResponse.builder()
+                .pautaId(1L).pautaTitulo("Pauta").votosSim(3).votosNao(1).totalVotos(4).build());
+    }
+
+    @Test
+    @DisplayName("Deve consultar e serializar o resultado uma vez por ciclo, independentemente dos assinantes")
+    void umEventoPorCicloParaTodosAssinantes() {
+        when(versoesPautas.obter(1L)).thenReturn(versao("a"), versao("a"), versao("a"), versao("a"),
+                versao("a"), versao("a"), versao("b"), versao("b"));
+
+        transmissao.assinar(1L);
+        transmissao.assinar(1L);
+        transmissao.assinar(1L);
+        transmissao.transmitir();
+        transmissao.transmitir();
+
+        verify(voto, times(4)).consultarResultado(1L);
+        assertEquals(4, meterRegistry.counter("votacao.transmissao.serializacoes").count());
+        assertEquals(3, meterRegistry.get("votacao.transmissao.assinantes").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve enviar o evento final e encerrar a transmissão quando a sessão é encerrada")
+    void eventoFinalEncerraTransmissao() {
+        when(versoesPautas.obter(1L)).thenReturn(versao("a"), versao("a"),
+                new VersoesPautas.Versao("\"b\"", 86400, true));
+
+        transmissao.assinar(1L);
+        transmissao.transmitir();
+        transmissao.transmitir();
+
+        verify(voto, times(2)).consultarResultado(1L);
+        assertEquals(0, meterRegistry.get("votacao.transmissao.assinantes").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve enviar o evento final na assinatura quando a sessão é encerrada durante o registro")
+    void sessaoEncerradaDuranteAssinatura() {
+        when(versoesPautas.obter(1L)).thenReturn(versao("a"), new VersoesPautas.Versao("\"b\"", 86400, true));
+
+        transmissao.assinar(1L);
+        transmissao.transmitir();
+
+        verify(voto, times(2)).consultarResultado(1L);
+        verify(versoesPautas, times(2)).obter(1L);
+        assertEquals(0, meterRegistry.get("votacao.transmissao.assinantes").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Não deve abrir transmissão para pauta inexistente")
+    void pautaInexistente() {
+        when(versoesPautas.obter(99L)).thenReturn(versao("a"));
+        when(voto.consultarResultado(99L)).thenThrow(new EntityNotFoundException("Pauta não encontrada"));
+
+        assertThrows(EntityNotFoundException.class, () -> transmissao.assinar(99L));
+        assertEquals(0, meterRegistry.get("votacao.transmissao.assinantes").gauge().value());
+    }
+
+    private static VersoesPautas.Versao versao(String etag) {
+        return new VersoesPautas.Versao("\"" + etag + "\"", 1, false);
+    }
+}
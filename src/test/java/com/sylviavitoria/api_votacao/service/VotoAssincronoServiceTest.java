@@ -0,0 +1,185 @@
+package com.sylviavitoria.api_votacao.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sylviavitoria.api_votacao.cache.RegistroSessoes;
+import com.sylviavitoria.api_votacao.cache.VotantesCache;
+import com.sylviavitoria.api_votacao.dto.ReciboVotoResponse;
+import com.sylviavitoria.api_votacao.dto.VotoRequest;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.enums.StatusRecibo;
+import com.sylviavitoria.api_votacao.exception.BusinessException;
+import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
+import com.sylviavitoria.api_votacao.exception.ServicoIndisponivelException;
+import com.sylviavitoria.api_votacao.ingestao.ApuracaoVotos;
+import com.sylviavitoria.api_votacao.ingestao.RejeicoesVotos;
+import com.sylviavitoria.api_votacao.repository.VotoJdbcRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class VotoAssincronoServiceTest {
+
+    @Mock
+    private RegistroSessoes registroSessoes;
+
+    @Mock
+    private VotantesCache votantesCache;
+
+    @Mock
+    private ApuracaoVotos apuracaoVotos;
+
+    @Mock
+    private VotoJdbcRepository votoJdbcRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private VotoAssincronoService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new VotoAssincronoService(registroSessoes, votantesCache, apuracaoVotos, votoJdbcRepository,
+                transactionTemplate, meterRegistry, new RejeicoesVotos(meterRegistry), true, 2, 10, 60_000);
+    }
+
+    @Test
+    @DisplayName("Deve enfileirar voto e gravar o lote ao encerrar")
+    void enfileirarEGravar() {
+
+        executarTransacoes();
+        when(votantesCache.marcar(any(), any())).thenReturn(true);
+        when(votoJdbcRepository.inserirLoteSeSessaoAberta(anyList(), any())).thenReturn(new Long[] { 100L });
+        service.start();
+
+        ReciboVotoResponse recibo = service.enfileirar(voto(1L, 1L, OpcaoVoto.SIM));
+        assertNotNull(recibo.getRecibo());
+        assertEquals(1L, recibo.getAssociadoId());
+
+        service.stop();
+
+        assertEquals(StatusRecibo.REGISTRADO, service.consultarRecibo(recibo.getRecibo()).getStatus());
+        verify(votoJdbcRepository).inserirLoteSeSessaoAberta(argThat(votos -> votos.size() == 1), any());
+        verify(apuracaoVotos).adicionar(1L, 1L, 0L);
+        assertEquals(0.0, meterRegistry.get("votacao.fila.votos.tamanho").gauge().value());
+        assertEquals(1.0, meterRegistry.get("votacao.fila.votos.registrados").counter().count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar voto duplicado e voto com fila cheia")
+    void enfileirarRecusado() {
+
+        when(votantesCache.marcar(eq(1L), any())).thenReturn(true);
+        when(votantesCache.marcar(1L, 9L)).thenReturn(false);
+
+        assertThrows(ServicoIndisponivelException.class, () -> service.enfileirar(voto(1L, 1L, OpcaoVoto.SIM)));
+
+        service.iniciarRecebimento();
+        assertEquals("Associado já votou nesta pauta",
+                assertThrows(BusinessException.class, () -> service.enfileirar(voto(9L, 1L, OpcaoVoto.SIM))).getMessage());
+
+        service.enfileirar(voto(1L, 1L, OpcaoVoto.SIM));
+        service.enfileirar(voto(2L, 1L, OpcaoVoto.SIM));
+        assertThrows(ServicoIndisponivelException.class, () -> service.enfileirar(voto(3L, 1L, OpcaoVoto.NAO)));
+        verify(votantesCache).desmarcar(1L, 3L);
+        assertEquals(1, rejeitados("duplicado"));
+        assertEquals(1, rejeitados("fila_cheia"));
+        assertEquals(1, rejeitados("outro"));
+    }
+
+    @Test
+    @DisplayName("Deve gravar individualmente e rejeitar recibos quando o lote viola restrições")
+    void gravarComFalhaDeIntegridade() {
+
+        executarTransacoes();
+        when(votantesCache.marcar(any(), any())).thenReturn(true);
+        service.iniciarRecebimento();
+        ReciboVotoResponse ok = service.enfileirar(voto(1L, 1L, OpcaoVoto.SIM));
+        ReciboVotoResponse duplicado = service.enfileirar(voto(2L, 1L, OpcaoVoto.SIM));
+
+        when(votoJdbcRepository.inserirLoteSeSessaoAberta(anyList(), any()))
+                .thenThrow(new DataIntegrityViolationException("lote"))
+                .thenReturn(new Long[] { 100L })
+                .thenThrow(new DuplicateKeyException("uk_associado_pauta"));
+
+        service.stop();
+        service.gravarContinuamente();
+
+        assertEquals(StatusRecibo.REGISTRADO, service.consultarRecibo(ok.getRecibo()).getStatus());
+        ReciboVotoResponse rejeitado = service.consultarRecibo(duplicado.getRecibo());
+        assertEquals(StatusRecibo.REJEITADO, rejeitado.getStatus());
+        assertEquals("Associado já votou nesta pauta", rejeitado.getErro());
+        verify(apuracaoVotos).registrar(1L, OpcaoVoto.SIM);
+        verify(votantesCache, never()).desmarcar(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar os recibos dos votos cuja sessão foi finalizada antes da gravação")
+    void rejeitarVotoDeSessaoFinalizada() {
+
+        executarTransacoes();
+        when(votantesCache.marcar(any(), any())).thenReturn(true);
+        service.iniciarRecebimento();
+        ReciboVotoResponse gravado = service.enfileirar(voto(1L, 1L, OpcaoVoto.SIM));
+        ReciboVotoResponse atrasado = service.enfileirar(voto(2L, 2L, OpcaoVoto.NAO));
+        when(votoJdbcRepository.inserirLoteSeSessaoAberta(anyList(), any())).thenReturn(new Long[] { 100L, null });
+
+        service.stop();
+        service.gravarContinuamente();
+
+        assertEquals(StatusRecibo.REGISTRADO, service.consultarRecibo(gravado.getRecibo()).getStatus());
+        ReciboVotoResponse rejeitado = service.consultarRecibo(atrasado.getRecibo());
+        assertEquals(StatusRecibo.REJEITADO, rejeitado.getStatus());
+        assertEquals("Sessão de votação não está aberta", rejeitado.getErro());
+        verify(apuracaoVotos).adicionar(1L, 1L, 0L);
+        verify(apuracaoVotos, never()).adicionar(eq(2L), anyLong(), anyLong());
+        verify(votantesCache).desmarcar(2L, 2L);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao consultar recibo inexistente")
+    void consultarReciboInexistente() {
+
+        assertThrows(EntityNotFoundException.class, () -> service.consultarRecibo("inexistente"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private double rejeitados(String motivo) {
+        return meterRegistry.get("votacao.votos.rejeitados").tag("canal", "assincrono").tag("motivo", motivo).counter()
+                .count();
+    }
+
+    private void executarTransacoes() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation
+                .getArgument(0, TransactionCallback.class).doInTransaction(mock(TransactionStatus.class)));
+    }
+
+    private static VotoRequest voto(Long associadoId, Long pautaId, OpcaoVoto opcao) {
+        VotoRequest voto = new VotoRequest();
+        voto.setAssociadoId(associadoId);
+        voto.setPautaId(pautaId);
+        voto.setOpcao(opcao);
+        return voto;
+    }
+}
@@ -0,0 +1,219 @@
+package com.sylviavitoria.api_votacao.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sylviavitoria.api_votacao.cache.VotantesCache;
+import com.sylviavitoria.api_votacao.dto.VotoLoteResponse;
+import com.sylviavitoria.api_votacao.dto.VotoRequest;
+import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
+import com.sylviavitoria.api_votacao.enums.StatusItemLote;
+import com.sylviavitoria.api_votacao.ingestao.ApuracaoVotos;
+import com.sylviavitoria.api_votacao.ingestao.RejeicoesVotos;
+import com.sylviavitoria.api_votacao.model.Pauta;
+import com.sylviavitoria.api_votacao.model.SessaoVotacao;
+import com.sylviavitoria.api_votacao.repository.AssociadoRepository;
+import com.sylviavitoria.api_votacao.repository.PautaRepository;
+import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
+import com.sylviavitoria.api_votacao.repository.VotoJdbcRepository;
+import com.sylviavitoria.api_votacao.repository.VotoRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+class VotoLoteServiceTest {
+
+    @Mock
+    private VotoJdbcRepository votoJdbcRepository;
+
+    @Mock
+    private VotoRepository votoRepository;
+
+    @Mock
+    private AssociadoRepository associadoRepository;
+
+    @Mock
+    private PautaRepository pautaRepository;
+
+    @Mock
+    private SessaoVotacaoRepository sessaoVotacaoRepository;
+
+    @Mock
+    private ApuracaoVotos apuracaoVotos;
+
+    @Mock
+    private VotantesCache votantesCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private VotoLoteService votoLoteService;
+
+    private SessaoVotacao sessao;
+
+    @BeforeEach
+    void setUp() {
+        votoLoteService = new VotoLoteService(votoJdbcRepository, votoRepository, associadoRepository,
+                pautaRepository, sessaoVotacaoRepository, apuracaoVotos, votantesCache, transactionTemplate,
+                Validation.buildDefaultValidatorFactory().getValidator(), new RejeicoesVotos(meterRegistry));
+
+        Pauta pauta = new Pauta();
+        pauta.setId(1L);
+
+        sessao = new SessaoVotacao();
+        sessao.setPauta(pauta);
+        sessao.setDataAbertura(LocalDateTime.now().minusMinutes(5));
+        sessao.setDataFechamento(LocalDateTime.now().plusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Deve registrar votos válidos e rejeitar duplicados, inexistentes e inválidos")
+    void registrarLoteComRejeicoes() {
+
+        executarTransacoes();
+        when(associadoRepository.findIdsExistentes(anyCollection())).thenReturn(List.of(1L, 2L, 3L));
+        when(sessaoVotacaoRepository.findByPautaIdIn(anyCollection())).thenReturn(List.of(sessao));
+        when(votoRepository.findAssociadoIdsComVoto(eq(1L), anyCollection())).thenReturn(List.of(3L));
+        when(votoJdbcRepository.inserirLoteSeSessaoAberta(anyList(), any())).thenReturn(new Long[] { 10L, 11L });
+
+        List<VotoRequest> votos = List.of(
+                voto(1L, 1L, OpcaoVoto.SIM),
+                voto(2L, 1L, OpcaoVoto.NAO),
+                voto(1L, 1L, OpcaoVoto.NAO),
+                voto(3L, 1L, OpcaoVoto.SIM),
+                voto(9L, 1L, OpcaoVoto.SIM),
+                voto(2L, 1L, null));
+
+        VotoLoteResponse resultado = votoLoteService.registrarLote(votos.iterator());
+
+        assertEquals(6, resultado.getTotalRecebidos());
+        assertEquals(2, resultado.getTotalRegistrados());
+        assertEquals(4, resultado.getTotalRejeitados());
+        assertEquals(StatusItemLote.REGISTRADO, resultado.getItens().get(0).getStatus());
+        assertEquals(StatusItemLote.REGISTRADO, resultado.getItens().get(1).getStatus());
+        assertEquals("Associado já votou nesta pauta", resultado.getItens().get(2).getErro());
+        assertEquals("Associado já votou nesta pauta", resultado.getItens().get(3).getErro());
+        assertEquals("Associado não encontrado", resultado.getItens().get(4).getErro());
+        assertEquals("A opção de voto é obrigatória", resultado.getItens().get(5).getErro());
+        assertEquals(2, rejeitados("duplicado"));
+        assertEquals(1, rejeitados("associado_inexistente"));
+        assertEquals(1, rejeitados("outro"));
+
+        verify(votoJdbcRepository).inserirLoteSeSessaoAberta(argThat(lista -> lista.size() == 2), any());
+        verify(apuracaoVotos).adicionar(1L, 1L, 1L);
+        verify(votantesCache).adicionar(1L, 1L);
+        verify(votantesCache).adicionar(1L, 2L);
+        verify(sessaoVotacaoRepository, times(1)).findByPautaIdIn(anyCollection());
+        verifyNoMoreInteractions(votoJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar votos de pauta sem sessão aberta")
+    void registrarLoteSessaoEncerrada() {
+
+        sessao.setDataAbertura(LocalDateTime.now().minusHours(2));
+        sessao.setDataFechamento(LocalDateTime.now().minusHours(1));
+        when(associadoRepository.findIdsExistentes(anyCollection())).thenReturn(List.of(1L));
+        when(sessaoVotacaoRepository.findByPautaIdIn(anyCollection())).thenReturn(List.of(sessao));
+
+        VotoLoteResponse resultado = votoLoteService.registrarLote(List.of(voto(1L, 1L, OpcaoVoto.SIM)).iterator());
+
+        assertEquals(0, resultado.getTotalRegistrados());
+        assertEquals("Sessão de votação não está aberta", resultado.getItens().get(0).getErro());
+        verifyNoInteractions(votoJdbcRepository, apuracaoVotos, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve processar em blocos e registrar erro de leitura no item inválido")
+    void registrarLoteComErroDeLeitura() {
+
+        executarTransacoes();
+        when(associadoRepository.findIdsExistentes(anyCollection())).thenReturn(List.of(1L));
+        when(sessaoVotacaoRepository.findByPautaIdIn(anyCollection())).thenReturn(List.of(sessao));
+        when(votoJdbcRepository.inserirLoteSeSessaoAberta(anyList(), any())).thenReturn(new Long[] { 10L });
+
+        Iterator<VotoRequest> votos = new Iterator<>() {
+            private int lidos;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public VotoRequest next() {
+                if (lidos++ == 0) {
+                    return voto(1L, 1L, OpcaoVoto.SIM);
+                }
+                throw new NoSuchElementException("JSON inválido");
+            }
+        };
+
+        VotoLoteResponse resultado = votoLoteService.registrarLote(votos);
+
+        assertEquals(2, resultado.getTotalRecebidos());
+        assertEquals(1, resultado.getTotalRegistrados());
+        assertEquals(StatusItemLote.REJEITADO, resultado.getItens().get(1).getStatus());
+        verify(votoJdbcRepository).inserirLoteSeSessaoAberta(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar os votos que o banco não grava porque a sessão fechou durante o lote")
+    void registrarLoteSessaoFechadaDuranteGravacao() {
+
+        executarTransacoes();
+        when(associadoRepository.findIdsExistentes(anyCollection())).thenReturn(List.of(1L, 2L));
+        when(sessaoVotacaoRepository.findByPautaIdIn(anyCollection())).thenReturn(List.of(sessao));
+        when(votoJdbcRepository.inserirLoteSeSessaoAberta(anyList(), any())).thenReturn(new Long[] { 10L, null });
+
+        VotoLoteResponse resultado = votoLoteService.registrarLote(
+                List.of(voto(1L, 1L, OpcaoVoto.SIM), voto(2L, 1L, OpcaoVoto.SIM)).iterator());
+
+        assertEquals(1, resultado.getTotalRegistrados());
+        assertEquals("Sessão de votação não está aberta", resultado.getItens().get(1).getErro());
+        verify(apuracaoVotos).adicionar(1L, 1L, 0L);
+        verify(votantesCache).adicionar(1L, 1L);
+        verify(votantesCache, never()).adicionar(1L, 2L);
+        assertEquals(1, rejeitados("sessao_fechada"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private double rejeitados(String motivo) {
+        return meterRegistry.get("votacao.votos.rejeitados").tag("canal", "lote").tag("motivo", motivo).counter().count();
+    }
+
+    private void executarTransacoes() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation
+                .getArgument(0, TransactionCallback.class).doInTransaction(mock(TransactionStatus.class)));
+    }
+
+    private static VotoRequest voto(Long associadoId, Long pautaId, OpcaoVoto opcao) {
+        VotoRequest voto = new VotoRequest();
+        voto.setAssociadoId(associadoId);
+        voto.setPautaId(pautaId);
+        voto.setOpcao(opcao);
+        return voto;
+    }
+}
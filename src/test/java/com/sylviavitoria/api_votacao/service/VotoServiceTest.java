@@ -3,6 +3,7 @@ package com.sylviavitoria.api_votacao.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
@@ -16,23 +17,31 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.sylviavitoria.api_votacao.cache.ContagemVotosCache;
+import com.sylviavitoria.api_votacao.cache.RegistroSessoes;
+import com.sylviavitoria.api_votacao.cache.VotantesCache;
 import com.sylviavitoria.api_votacao.dto.ResultadoVotacaoResponse;
+import com.sylviavitoria.api_votacao.dto.VotacaoResumoDTO;
 import com.sylviavitoria.api_votacao.dto.VotoAtualizarRequest;
 import com.sylviavitoria.api_votacao.dto.VotoRequest;
 import com.sylviavitoria.api_votacao.dto.VotoResponse;
+import com.sylviavitoria.api_votacao.dto.VotoStatusResponse;
 import com.sylviavitoria.api_votacao.enums.OpcaoVoto;
 import com.sylviavitoria.api_votacao.enums.StatusPauta;
-import com.sylviavitoria.api_votacao.enums.StatusSessao;
 import com.sylviavitoria.api_votacao.exception.BusinessException;
+import com.sylviavitoria.api_votacao.exception.ConfirmacaoPendenteException;
 import com.sylviavitoria.api_votacao.exception.EntityNotFoundException;
+import com.sylviavitoria.api_votacao.exception.VotoDuplicadoException;
+import com.sylviavitoria.api_votacao.ingestao.ApuracaoVotos;
+import com.sylviavitoria.api_votacao.ingestao.ConfirmacaoEmGrupo;
+import com.sylviavitoria.api_votacao.ingestao.RejeicoesVotos;
 import com.sylviavitoria.api_votacao.mapper.VotoMapper;
 import com.sylviavitoria.api_votacao.model.Associado;
 import com.sylviavitoria.api_votacao.model.Pauta;
-import com.sylviavitoria.api_votacao.model.SessaoVotacao;
 import com.sylviavitoria.api_votacao.model.Voto;
-import com.sylviavitoria.api_votacao.repository.AssociadoRepository;
 import com.sylviavitoria.api_votacao.repository.PautaRepository;
-import com.sylviavitoria.api_votacao.repository.SessaoVotacaoRepository;
+import com.sylviavitoria.api_votacao.repository.ResultadoRepository;
+import com.sylviavitoria.api_votacao.repository.VotoJdbcRepository.VotoGravado;
 import com.sylviavitoria.api_votacao.repository.VotoRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,24 +51,38 @@ class VotoServiceTest {
     private VotoRepository votoRepository;
 
     @Mock
-    private AssociadoRepository associadoRepository;
+    private PautaRepository pautaRepository;
 
     @Mock
-    private PautaRepository pautaRepository;
+    private ResultadoRepository resultadoRepository;
 
     @Mock
-    private SessaoVotacaoRepository sessaoVotacaoRepository;
+    private RegistroSessoes registroSessoes;
 
     @Mock
     private VotoMapper votoMapper;
 
+    @Mock
+    private ContagemVotosCache contagemVotosCache;
+
+    @Mock
+    private VotantesCache votantesCache;
+
+    @Mock
+    private ApuracaoVotos apuracaoVotos;
+
+    @Mock
+    private ConfirmacaoEmGrupo confirmacaoEmGrupo;
+
+    @Mock
+    private RejeicoesVotos rejeicoesVotos;
+
     @InjectMocks
     private VotoService votoService;
 
     private VotoRequest votoRequest;
     private Associado associado;
     private Pauta pauta;
-    private SessaoVotacao sessao;
     private Voto voto;
     private VotoResponse votoResponse;
 
@@ -79,13 +102,6 @@ class VotoServiceTest {
         pauta.setTitulo("Pauta Teste");
         pauta.setStatus(StatusPauta.EM_VOTACAO);
 
-        sessao = new SessaoVotacao();
-        sessao.setId(1L);
-        sessao.setPauta(pauta);
-        sessao.setDataAbertura(LocalDateTime.now().minusMinutes(30));
-        sessao.setDataFechamento(LocalDateTime.now().plusMinutes(30));
-        sessao.setStatus(StatusSessao.ABERTA);
-
         voto = new Voto();
         voto.setId(1L);
         voto.setAssociado(associado);
@@ -103,46 +119,144 @@ class VotoServiceTest {
     @DisplayName("Deve registrar voto com sucesso")
     void registrarVotoSucesso() {
 
-        when(associadoRepository.findById(votoRequest.getAssociadoId())).thenReturn(Optional.of(associado));
-        when(pautaRepository.findById(votoRequest.getPautaId())).thenReturn(Optional.of(pauta));
-        when(sessaoVotacaoRepository.findByPautaId(votoRequest.getPautaId())).thenReturn(Optional.of(sessao));
-        when(votoRepository.existsByAssociadoIdAndPautaId(votoRequest.getAssociadoId(), votoRequest.getPautaId()))
-                .thenReturn(false);
-        when(votoRepository.save(any(Voto.class))).thenReturn(voto);
-        when(votoMapper.toResponse(voto)).thenReturn(votoResponse);
+        when(votantesCache.marcar(votoRequest.getPautaId(), votoRequest.getAssociadoId())).thenReturn(true);
+        when(confirmacaoEmGrupo.gravar(eq(votoRequest), any(LocalDateTime.class)))
+                .thenReturn(new VotoGravado(1L, "Maria", "Pauta Teste"));
 
         VotoResponse resultado = votoService.registrarVoto(votoRequest);
 
         assertNotNull(resultado);
-        assertEquals(votoResponse, resultado);
+        assertEquals(1L, resultado.getId());
+        assertEquals(OpcaoVoto.SIM, resultado.getOpcao());
+        assertEquals("Maria", resultado.getAssociadoNome());
+        assertEquals("Pauta Teste", resultado.getPautaTitulo());
+        assertEquals(votoRequest.getPautaId(), resultado.getPautaId());
+
+        verify(registroSessoes).verificarAberta(votoRequest.getPautaId());
+        verify(votantesCache).marcar(votoRequest.getPautaId(), votoRequest.getAssociadoId());
+        verify(confirmacaoEmGrupo).gravar(eq(votoRequest), any(LocalDateTime.class));
+        verifyNoMoreInteractions(registroSessoes, votantesCache, confirmacaoEmGrupo);
+        verifyNoInteractions(votoRepository, pautaRepository, votoMapper, contagemVotosCache);
+    }
 
-        verify(associadoRepository).findById(votoRequest.getAssociadoId());
-        verify(pautaRepository).findById(votoRequest.getPautaId());
-        verify(sessaoVotacaoRepository).findByPautaId(votoRequest.getPautaId());
-        verify(votoRepository).existsByAssociadoIdAndPautaId(votoRequest.getAssociadoId(), votoRequest.getPautaId());
-        verify(votoRepository).save(argThat(v -> v.getAssociado().equals(associado) &&
-                v.getPauta().equals(pauta) &&
-                v.getOpcao().equals(votoRequest.getOpcao())));
-        verify(votoMapper).toResponse(voto);
-        verifyNoMoreInteractions(votoRepository, associadoRepository, pautaRepository, sessaoVotacaoRepository,
-                votoMapper);
+    @Test
+    @DisplayName("Deve lançar exceção ao registrar voto de associado que já votou")
+    void registrarVotoDuplicado() {
+
+        when(votantesCache.marcar(votoRequest.getPautaId(), votoRequest.getAssociadoId())).thenReturn(false);
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> {
+            votoService.registrarVoto(votoRequest);
+        });
+
+        assertEquals("Associado já votou nesta pauta", exception.getMessage());
+        verifyNoInteractions(votoRepository, votoMapper, confirmacaoEmGrupo);
+        verify(rejeicoesVotos).registrar(RejeicoesVotos.SINCRONO, exception);
+    }
+
+    @Test
+    @DisplayName("Deve desmarcar o votante quando a gravação do voto falha")
+    void registrarVotoSessaoEncerradaNoBanco() {
+
+        when(votantesCache.marcar(votoRequest.getPautaId(), votoRequest.getAssociadoId())).thenReturn(true);
+        when(confirmacaoEmGrupo.gravar(eq(votoRequest), any(LocalDateTime.class)))
+                .thenThrow(new BusinessException("Sessão de votação não está aberta"));
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> {
+            votoService.registrarVoto(votoRequest);
+        });
+
+        assertEquals("Sessão de votação não está aberta", exception.getMessage());
+        verify(votantesCache).desmarcar(votoRequest.getPautaId(), votoRequest.getAssociadoId());
+        verify(rejeicoesVotos).registrar(RejeicoesVotos.SINCRONO, exception);
     }
 
     @Test
-    @DisplayName("Deve lançar exceção ao registrar voto com associado inexistente")
-    void registrarVotoAssociadoInexistente() {
+    @DisplayName("Deve lançar exceção ao registrar voto em pauta sem sessão")
+    void registrarVotoPautaSemSessao() {
 
-        when(associadoRepository.findById(votoRequest.getAssociadoId())).thenReturn(Optional.empty());
+        doThrow(new BusinessException("Não existe sessão de votação para esta pauta"))
+                .when(registroSessoes).verificarAberta(votoRequest.getPautaId());
 
-        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
+        BusinessException exception = assertThrows(BusinessException.class, () -> {
             votoService.registrarVoto(votoRequest);
         });
 
-        assertEquals("Associado não encontrado", exception.getMessage());
+        assertEquals("Não existe sessão de votação para esta pauta", exception.getMessage());
+        verifyNoInteractions(votantesCache, confirmacaoEmGrupo);
+    }
+
+    @Test
+    @DisplayName("Deve consultar se o associado já votou na pauta")
+    void consultarStatus() {
+
+        when(votantesCache.carregado(1L)).thenReturn(true);
+        when(votantesCache.jaVotou(1L, 2L)).thenReturn(true);
+
+        VotoStatusResponse resultado = votoService.consultarStatus(2L, 1L);
+
+        assertTrue(resultado.isVotou());
+        assertEquals(2L, resultado.getAssociadoId());
+        assertEquals(1L, resultado.getPautaId());
+        verifyNoInteractions(votoRepository, registroSessoes);
+    }
+
+    @Test
+    @DisplayName("Não deve carregar votantes de pauta sem sessão ao consultar status")
+    void consultarStatusPautaSemSessao() {
+
+        when(votantesCache.carregado(1L)).thenReturn(false);
+        when(registroSessoes.existe(1L)).thenReturn(false);
+
+        VotoStatusResponse resultado = votoService.consultarStatus(2L, 1L);
+
+        assertFalse(resultado.isVotou());
+        verify(votantesCache, never()).jaVotou(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve consultar no banco o status de pauta com sessão encerrada")
+    void consultarStatusSessaoEncerrada() {
+
+        when(votantesCache.carregado(1L)).thenReturn(false);
+        when(registroSessoes.existe(1L)).thenReturn(true);
+        when(votoRepository.existsByAssociadoIdAndPautaId(2L, 1L)).thenReturn(true);
+
+        VotoStatusResponse resultado = votoService.consultarStatus(2L, 1L);
+
+        assertTrue(resultado.isVotou());
+        verify(votantesCache, never()).jaVotou(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve manter o associado marcado quando o banco já tem o voto dele")
+    void registrarVotoDuplicadoNoBanco() {
+
+        when(votantesCache.marcar(votoRequest.getPautaId(), votoRequest.getAssociadoId())).thenReturn(true);
+        when(confirmacaoEmGrupo.gravar(eq(votoRequest), any(LocalDateTime.class)))
+                .thenThrow(new VotoDuplicadoException());
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> votoService.registrarVoto(votoRequest));
+
+        assertEquals("Associado já votou nesta pauta", exception.getMessage());
+        verify(votantesCache, never()).desmarcar(any(), any());
+        verify(rejeicoesVotos).registrar(RejeicoesVotos.SINCRONO, exception);
+    }
+
+    @Test
+    @DisplayName("Deve manter o associado marcado quando a confirmação do voto não termina a tempo")
+    void registrarVotoConfirmacaoPendente() {
+
+        when(votantesCache.marcar(votoRequest.getPautaId(), votoRequest.getAssociadoId())).thenReturn(true);
+        when(confirmacaoEmGrupo.gravar(eq(votoRequest), any(LocalDateTime.class)))
+                .thenThrow(new ConfirmacaoPendenteException("Confirmação do voto não concluída a tempo"));
+
+        ConfirmacaoPendenteException exception = assertThrows(ConfirmacaoPendenteException.class,
+                () -> votoService.registrarVoto(votoRequest));
 
-        verify(associadoRepository).findById(votoRequest.getAssociadoId());
-        verifyNoMoreInteractions(associadoRepository);
-        verifyNoInteractions(pautaRepository, sessaoVotacaoRepository, votoRepository, votoMapper);
+        verify(votantesCache, never()).desmarcar(any(), any());
+        verify(rejeicoesVotos).registrar(RejeicoesVotos.SINCRONO, exception);
     }
 
     @Test
@@ -161,7 +275,7 @@ class VotoServiceTest {
         verify(votoRepository).findById(id);
         verify(votoMapper).toResponse(voto);
         verifyNoMoreInteractions(votoRepository, votoMapper);
-        verifyNoInteractions(associadoRepository, pautaRepository, sessaoVotacaoRepository);
+        verifyNoInteractions(pautaRepository, registroSessoes);
     }
 
     @Test
@@ -169,9 +283,9 @@ class VotoServiceTest {
     void consultarResultadoSucesso() {
 
         Long pautaId = 1L;
+        when(resultadoRepository.buscarResposta(pautaId)).thenReturn(Optional.empty());
         when(pautaRepository.findById(pautaId)).thenReturn(Optional.of(pauta));
-        when(votoRepository.countByPautaIdAndOpcao(pautaId, OpcaoVoto.SIM)).thenReturn(3L);
-        when(votoRepository.countByPautaIdAndOpcao(pautaId, OpcaoVoto.NAO)).thenReturn(2L);
+        when(contagemVotosCache.obter(pautaId)).thenReturn(new VotacaoResumoDTO(3L, 2L));
 
         ResultadoVotacaoResponse resultado = votoService.consultarResultado(pautaId);
 
@@ -183,10 +297,25 @@ class VotoServiceTest {
         assertEquals(5L, resultado.getTotalVotos());
 
         verify(pautaRepository).findById(pautaId);
-        verify(votoRepository).countByPautaIdAndOpcao(pautaId, OpcaoVoto.SIM);
-        verify(votoRepository).countByPautaIdAndOpcao(pautaId, OpcaoVoto.NAO);
-        verifyNoMoreInteractions(pautaRepository, votoRepository);
-        verifyNoInteractions(associadoRepository, sessaoVotacaoRepository, votoMapper);
+        verify(contagemVotosCache).obter(pautaId);
+        verifyNoMoreInteractions(pautaRepository, contagemVotosCache);
+        verifyNoInteractions(votoRepository);
+        verifyNoInteractions(registroSessoes, votoMapper);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o resultado gravado de pauta finalizada sem recontar votos")
+    void consultarResultadoFinalizado() {
+
+        Long pautaId = 1L;
+        ResultadoVotacaoResponse gravado = new ResultadoVotacaoResponse(pautaId, pauta.getTitulo(), 4L, 1L, 5L);
+        when(resultadoRepository.buscarResposta(pautaId)).thenReturn(Optional.of(gravado));
+
+        ResultadoVotacaoResponse resultado = votoService.consultarResultado(pautaId);
+
+        assertEquals(gravado, resultado);
+        verify(resultadoRepository).buscarResposta(pautaId);
+        verifyNoInteractions(pautaRepository, contagemVotosCache, votoRepository);
     }
 
     @Test
@@ -198,7 +327,8 @@ class VotoServiceTest {
         request.setOpcao(OpcaoVoto.NAO);
 
         when(votoRepository.findById(id)).thenReturn(Optional.of(voto));
-        when(sessaoVotacaoRepository.findByPautaId(voto.getPauta().getId())).thenReturn(Optional.of(sessao));
+        when(registroSessoes.existe(voto.getPauta().getId())).thenReturn(true);
+        when(registroSessoes.estaAberta(voto.getPauta().getId())).thenReturn(true);
         when(votoRepository.save(voto)).thenReturn(voto);
         when(votoMapper.toResponse(voto)).thenReturn(votoResponse);
 
@@ -208,11 +338,13 @@ class VotoServiceTest {
         assertEquals(votoResponse, resultado);
 
         verify(votoRepository).findById(id);
-        verify(sessaoVotacaoRepository).findByPautaId(voto.getPauta().getId());
+        verify(registroSessoes).existe(voto.getPauta().getId());
+        verify(registroSessoes).estaAberta(voto.getPauta().getId());
         verify(votoRepository).save(argThat(v -> v.getOpcao().equals(request.getOpcao())));
         verify(votoMapper).toResponse(voto);
-        verifyNoMoreInteractions(votoRepository, sessaoVotacaoRepository, votoMapper);
-        verifyNoInteractions(associadoRepository, pautaRepository);
+        verify(apuracaoVotos).alterar(pauta.getId(), OpcaoVoto.SIM, OpcaoVoto.NAO);
+        verifyNoMoreInteractions(votoRepository, registroSessoes, votoMapper, apuracaoVotos);
+        verifyNoInteractions(pautaRepository);
     }
 
     @Test
@@ -223,12 +355,9 @@ class VotoServiceTest {
         VotoAtualizarRequest request = new VotoAtualizarRequest();
         request.setOpcao(OpcaoVoto.NAO);
 
-        sessao.setStatus(StatusSessao.FINALIZADA);
-        sessao.setDataAbertura(LocalDateTime.now().minusHours(2)); 
-        sessao.setDataFechamento(LocalDateTime.now().minusHours(1)); 
-
         when(votoRepository.findById(id)).thenReturn(Optional.of(voto));
-        when(sessaoVotacaoRepository.findByPautaId(voto.getPauta().getId())).thenReturn(Optional.of(sessao));
+        when(registroSessoes.existe(voto.getPauta().getId())).thenReturn(true);
+        when(registroSessoes.estaAberta(voto.getPauta().getId())).thenReturn(false);
 
         BusinessException exception = assertThrows(BusinessException.class, () -> {
             votoService.atualizarVoto(id, request);
@@ -237,8 +366,9 @@ class VotoServiceTest {
         assertEquals("Não é possível alterar um voto após o encerramento da sessão", exception.getMessage());
 
         verify(votoRepository).findById(id);
-        verify(sessaoVotacaoRepository).findByPautaId(voto.getPauta().getId());
-        verifyNoMoreInteractions(votoRepository, sessaoVotacaoRepository);
-        verifyNoInteractions(votoMapper, associadoRepository, pautaRepository);
+        verify(registroSessoes).existe(voto.getPauta().getId());
+        verify(registroSessoes).estaAberta(voto.getPauta().getId());
+        verifyNoMoreInteractions(votoRepository, registroSessoes);
+        verifyNoInteractions(votoMapper, pautaRepository);
     }
 }
\ No newline at end of file